@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.id;
+
+import io.gravitee.common.http.IdGenerator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random 128-bit identifiers without the UUID layout: 32 hexadecimal digits, or 22 base62 digits for the shortest ids
+ * safe to use in headers and URLs.
+ *
+ * @author GraviteeSource Team
+ */
+public class CompactIdGenerator implements IdGenerator {
+
+    private final Encoding encoding;
+
+    public CompactIdGenerator(Encoding encoding) {
+        this.encoding = encoding;
+    }
+
+    @Override
+    public String randomString() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long high = random.nextLong();
+        final long low = random.nextLong();
+
+        if (encoding == Encoding.BASE62) {
+            final byte[] bytes = new byte[IdEncoding.BASE62_LENGTH];
+            IdEncoding.writeBase62(high, low, bytes, 0);
+            return IdEncoding.ascii(bytes);
+        }
+
+        final byte[] bytes = new byte[32];
+        IdEncoding.writeHex(high, 16, bytes, 0);
+        IdEncoding.writeHex(low, 16, bytes, 16);
+        return IdEncoding.ascii(bytes);
+    }
+
+    public enum Encoding {
+        HEX,
+        BASE62,
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.id;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formats identifiers straight into pre-sized byte arrays, turned into compact latin-1 strings without any intermediate copy.
+ *
+ * @author GraviteeSource Team
+ */
+public final class IdEncoding {
+
+    public static final int UUID_LENGTH = 36;
+    public static final int BASE62_LENGTH = 22;
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] BASE62_DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".getBytes(
+        StandardCharsets.ISO_8859_1
+    );
+    private static final long LIMB_MASK = 0xFFFFFFFFL;
+
+    private IdEncoding() {}
+
+    /**
+     * Writes the <code>digits</code> lowest hexadecimal digits of a value, in lower case.
+     */
+    public static void writeHex(long value, int digits, byte[] destination, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            destination[i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * Writes the 128-bit unsigned value <code>high:low</code> as {@link #BASE62_LENGTH} base62 digits, left padded with zeros.
+     */
+    public static void writeBase62(long high, long low, byte[] destination, int offset) {
+        // Long division by 62 of the value split in four 32-bit limbs, so that each step fits in a long.
+        long limb0 = high >>> 32;
+        long limb1 = high & LIMB_MASK;
+        long limb2 = low >>> 32;
+        long limb3 = low & LIMB_MASK;
+
+        for (int i = offset + BASE62_LENGTH - 1; i >= offset; i--) {
+            long current = limb0;
+            limb0 = current / 62;
+            current = ((current % 62) << 32) | limb1;
+            limb1 = current / 62;
+            current = ((current % 62) << 32) | limb2;
+            limb2 = current / 62;
+            current = ((current % 62) << 32) | limb3;
+            limb3 = current / 62;
+            destination[i] = BASE62_DIGITS[(int) (current % 62)];
+        }
+    }
+
+    /**
+     * Formats the two halves of a UUID in its canonical <code>8-4-4-4-12</code> representation.
+     */
+    public static String uuid(long mostSignificantBits, long leastSignificantBits) {
+        final byte[] bytes = new byte[UUID_LENGTH];
+        writeHex(mostSignificantBits >>> 32, 8, bytes, 0);
+        bytes[8] = '-';
+        writeHex(mostSignificantBits >>> 16, 4, bytes, 9);
+        bytes[13] = '-';
+        writeHex(mostSignificantBits, 4, bytes, 14);
+        bytes[18] = '-';
+        writeHex(leastSignificantBits >>> 48, 4, bytes, 19);
+        bytes[23] = '-';
+        writeHex(leastSignificantBits, 12, bytes, 24);
+        return ascii(bytes);
+    }
+
+    public static String ascii(byte[] bytes) {
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
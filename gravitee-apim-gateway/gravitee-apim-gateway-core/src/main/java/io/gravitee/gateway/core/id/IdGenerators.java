@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.id;
+
+import io.gravitee.common.http.IdGenerator;
+import io.gravitee.common.utils.Hex;
+import io.gravitee.common.utils.UUID;
+
+/**
+ * Resolves the {@link IdGenerator} used for the request ids from the <code>handlers.request.format</code> configuration.
+ *
+ * @author GraviteeSource Team
+ */
+public final class IdGenerators {
+
+    /**
+     * Random UUID built from a secure random, the default.
+     */
+    public static final String UUID_FORMAT = "uuid";
+
+    /**
+     * 64-bit random hexadecimal id.
+     */
+    public static final String HEX_FORMAT = "hex";
+
+    /**
+     * Random UUID built from the random generator of the calling thread, see {@link RandomUuidGenerator}.
+     */
+    public static final String FAST_UUID_FORMAT = "fast-uuid";
+
+    /**
+     * Time-ordered UUID, see {@link TimeOrderedUuidGenerator}.
+     */
+    public static final String UUID_V7_FORMAT = "uuid-v7";
+
+    /**
+     * 128-bit random hexadecimal id, see {@link CompactIdGenerator}.
+     */
+    public static final String HEX_128_FORMAT = "hex-128";
+
+    /**
+     * 128-bit random base62 id, see {@link CompactIdGenerator}.
+     */
+    public static final String BASE62_FORMAT = "base62";
+
+    private IdGenerators() {}
+
+    /**
+     * @param format the id format, unknown formats fall back to {@link #UUID_FORMAT}.
+     * @return the generator of the given format.
+     */
+    public static IdGenerator of(String format) {
+        if (format == null) {
+            return new UUID();
+        }
+
+        return switch (format) {
+            case HEX_FORMAT -> new Hex();
+            case FAST_UUID_FORMAT -> new RandomUuidGenerator();
+            case UUID_V7_FORMAT -> new TimeOrderedUuidGenerator();
+            case HEX_128_FORMAT -> new CompactIdGenerator(CompactIdGenerator.Encoding.HEX);
+            case BASE62_FORMAT -> new CompactIdGenerator(CompactIdGenerator.Encoding.BASE62);
+            default -> new UUID();
+        };
+    }
+}
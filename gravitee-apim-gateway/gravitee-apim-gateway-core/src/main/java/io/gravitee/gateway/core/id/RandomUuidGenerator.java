@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.id;
+
+import io.gravitee.common.http.IdGenerator;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random (version 4) UUIDs from the random generator of the calling thread.
+ * <p>
+ * Unlike the default UUID generator, it never contends on a shared secure random and must not be used where the identifiers have to be
+ * unpredictable.
+ *
+ * @author GraviteeSource Team
+ */
+public class RandomUuidGenerator implements IdGenerator {
+
+    @Override
+    public String randomString() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final long leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return IdEncoding.uuid(mostSignificantBits, leastSignificantBits);
+    }
+}
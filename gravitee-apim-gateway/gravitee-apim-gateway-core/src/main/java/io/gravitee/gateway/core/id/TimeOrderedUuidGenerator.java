@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.id;
+
+import io.gravitee.common.http.IdGenerator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered (version 7) UUIDs: the 48 first bits are the creation timestamp in milliseconds, the remaining ones are random.
+ * Identifiers created during different milliseconds sort in creation order, which keeps them index friendly.
+ *
+ * @author GraviteeSource Team
+ */
+public class TimeOrderedUuidGenerator implements IdGenerator {
+
+    private static final long TIMESTAMP_MASK = 0xFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+
+    public TimeOrderedUuidGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedUuidGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String randomString() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long mostSignificantBits = ((clock.getAsLong() & TIMESTAMP_MASK) << 16) | 0x7000L | (random.nextInt() & 0x0FFF);
+        final long leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return IdEncoding.uuid(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.condition;
+
+import io.gravitee.gateway.reactive.api.context.base.BaseExecutionContext;
+import io.reactivex.rxjava3.core.Maybe;
+
+/**
+ * A condition prepared once by the {@link ConditionCompiler} and evaluated for each request.
+ *
+ * @author GraviteeSource Team
+ */
+public interface CompiledCondition {
+    /**
+     * Evaluates the condition against the current request.
+     *
+     * @param ctx the current request context.
+     *
+     * @return a {@link Maybe} emitting the result of the condition, completing empty when the condition evaluated to <code>null</code>, or
+     * failing with the same error the EL engine would have raised.
+     */
+    Maybe<Boolean> evaluate(BaseExecutionContext ctx);
+}
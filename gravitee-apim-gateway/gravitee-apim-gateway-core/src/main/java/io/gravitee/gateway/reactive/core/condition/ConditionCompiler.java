@@ -0,0 +1,336 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.condition;
+
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.gateway.api.http.HttpHeaders;
+import io.gravitee.gateway.reactive.api.context.base.BaseExecutionContext;
+import io.gravitee.gateway.reactive.api.context.http.HttpBaseExecutionContext;
+import io.gravitee.gateway.reactive.api.context.http.HttpBaseRequest;
+import io.reactivex.rxjava3.core.Maybe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles EL conditions into {@link CompiledCondition}s, avoiding going through the {@link io.gravitee.el.TemplateEngine} for the most
+ * common kinds of conditions:
+ * <ul>
+ *     <li>constant conditions (<code>true</code>, <code>false</code>) are folded at compile time,</li>
+ *     <li>
+ *         simple predicates on the request, combined with <code>&amp;&amp;</code> and <code>||</code>, are translated into plain Java:
+ *         <code>#request.headers['X-Name'][0] == 'value'</code>, <code>#request.headers['X-Name'] != null</code>,
+ *         <code>#request.method == 'GET'</code>, <code>#request.path matches '/products/.*'</code>, <code>#request.pathInfo == '/'</code>.
+ *     </li>
+ * </ul>
+ * Any other condition is evaluated by the EL engine as before. A translated predicate also defers to the EL engine whenever the EL
+ * evaluation would have failed (e.g. indexing a missing header), so warnings and errors are reported exactly as before.
+ *
+ * @author GraviteeSource Team
+ */
+public class ConditionCompiler {
+
+    private static final int MAX_COMPILED_CONDITIONS = 10_000;
+
+    /**
+     * Same limit as the one enforced by the EL <code>matches</code> operator, longer regexes are left to the EL engine which rejects them.
+     */
+    private static final int MAX_REGEX_LENGTH = 256;
+
+    private static final Maybe<Boolean> TRUE = Maybe.just(Boolean.TRUE);
+    private static final Maybe<Boolean> FALSE = Maybe.just(Boolean.FALSE);
+
+    private static final CompiledCondition ALWAYS_TRUE = ctx -> TRUE;
+    private static final CompiledCondition ALWAYS_FALSE = ctx -> FALSE;
+
+    /**
+     * The EL engine only considers <code>{...}</code> as an expression when it starts with <code>#</code>, <code>T</code> or
+     * <code>(</code>, anything else being literal text. Only expressions starting with a variable can be translated.
+     */
+    private static final Pattern SINGLE_EXPRESSION_TEMPLATE = Pattern.compile("\\{ *#.*}", Pattern.DOTALL);
+
+    private static final String STRING_LITERAL = "('(?:[^']|'')*'|\"(?:[^\"]|\"\")*\")";
+    private static final Pattern HEADER_VALUE_PREDICATE = Pattern.compile(
+        "#request\\.headers\\[" + STRING_LITERAL + "]\\[0]\\s*(==|!=)\\s*" + STRING_LITERAL
+    );
+    private static final Pattern HEADER_PRESENCE_PREDICATE = Pattern.compile(
+        "#request\\.headers\\[" + STRING_LITERAL + "]\\s*(==|!=)\\s*null"
+    );
+    private static final Pattern METHOD_PREDICATE = Pattern.compile("#request\\.method\\s*(==|!=)\\s*" + STRING_LITERAL);
+    private static final Pattern PATH_PREDICATE = Pattern.compile("#request\\.(path|pathInfo)\\s*(==|!=|matches)\\s*" + STRING_LITERAL);
+
+    private final Map<String, CompiledCondition> compiledConditions = CacheBuilder.newBuilder()
+        .maximumSize(MAX_COMPILED_CONDITIONS)
+        .<String, CompiledCondition>build()
+        .asMap();
+
+    /**
+     * Compiles the given condition, or returns the condition already compiled for the same expression.
+     *
+     * @param condition the EL condition to compile, must not be <code>null</code>.
+     *
+     * @return the {@link CompiledCondition}.
+     */
+    public CompiledCondition compile(String condition) {
+        return compiledConditions.computeIfAbsent(condition, ConditionCompiler::doCompile);
+    }
+
+    static CompiledCondition doCompile(String condition) {
+        // Leading and trailing blanks don't change the result as the EL engine trims the result before converting it to a boolean.
+        final String trimmed = condition.trim();
+
+        if (trimmed.indexOf('{') < 0) {
+            // Literal template.
+            if (trimmed.equalsIgnoreCase("true")) {
+                return ALWAYS_TRUE;
+            } else if (trimmed.equalsIgnoreCase("false")) {
+                return ALWAYS_FALSE;
+            }
+            return new ExpressionCondition(condition);
+        }
+
+        if (!SINGLE_EXPRESSION_TEMPLATE.matcher(trimmed).matches()) {
+            return new ExpressionCondition(condition);
+        }
+
+        final List<List<Predicate>> disjunction = parse(trimmed.substring(1, trimmed.length() - 1));
+        if (disjunction == null) {
+            return new ExpressionCondition(condition);
+        }
+        return new PredicateCondition(condition, disjunction);
+    }
+
+    /**
+     * Parses an expression made of supported predicates joined with <code>||</code> and <code>&amp;&amp;</code> (without parenthesis).
+     *
+     * @return the predicates as a disjunction of conjunctions, or <code>null</code> if the expression is not supported.
+     */
+    private static List<List<Predicate>> parse(String expression) {
+        final List<List<Predicate>> disjunction = new ArrayList<>();
+        List<Predicate> conjunction = new ArrayList<>();
+        int start = 0;
+        char quote = 0;
+
+        for (int i = 0; i < expression.length(); i++) {
+            final char c = expression.charAt(i);
+
+            if (c == '{' || c == '}') {
+                // Even quoted, braces change the way the EL engine splits the template.
+                return null;
+            } else if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(' || c == ')') {
+                return null;
+            } else if ((c == '|' || c == '&') && i + 1 < expression.length() && expression.charAt(i + 1) == c) {
+                final Predicate predicate = parsePredicate(expression.substring(start, i));
+                if (predicate == null) {
+                    return null;
+                }
+                conjunction.add(predicate);
+                if (c == '|') {
+                    disjunction.add(conjunction);
+                    conjunction = new ArrayList<>();
+                }
+                start = ++i + 1;
+            }
+        }
+
+        if (quote != 0) {
+            return null;
+        }
+
+        final Predicate predicate = parsePredicate(expression.substring(start));
+        if (predicate == null) {
+            return null;
+        }
+        conjunction.add(predicate);
+        disjunction.add(conjunction);
+        return disjunction;
+    }
+
+    private static Predicate parsePredicate(String term) {
+        final String trimmed = term.trim();
+
+        if (trimmed.equals("true") || trimmed.equals("false")) {
+            return new ConstantPredicate(Boolean.parseBoolean(trimmed));
+        }
+
+        Matcher matcher = HEADER_VALUE_PREDICATE.matcher(trimmed);
+        if (matcher.matches()) {
+            return new HeaderValuePredicate(unquote(matcher.group(1)), unquote(matcher.group(3)), matcher.group(2).equals("=="));
+        }
+
+        matcher = HEADER_PRESENCE_PREDICATE.matcher(trimmed);
+        if (matcher.matches()) {
+            return new HeaderPresencePredicate(unquote(matcher.group(1)), matcher.group(2).equals("!="));
+        }
+
+        matcher = METHOD_PREDICATE.matcher(trimmed);
+        if (matcher.matches()) {
+            return new MethodPredicate(unquote(matcher.group(2)), matcher.group(1).equals("=="));
+        }
+
+        matcher = PATH_PREDICATE.matcher(trimmed);
+        if (matcher.matches()) {
+            final boolean pathInfo = matcher.group(1).equals("pathInfo");
+            final String operator = matcher.group(2);
+            final String value = unquote(matcher.group(3));
+
+            if (operator.equals("matches")) {
+                if (value.length() > MAX_REGEX_LENGTH) {
+                    return null;
+                }
+                try {
+                    return new PathMatchesPredicate(pathInfo, Pattern.compile(value));
+                } catch (PatternSyntaxException e) {
+                    // Let the EL engine report the invalid regex.
+                    return null;
+                }
+            }
+            return new PathEqualsPredicate(pathInfo, value, operator.equals("=="));
+        }
+
+        return null;
+    }
+
+    private static String unquote(String literal) {
+        final char quote = literal.charAt(0);
+        final String doubled = String.valueOf(quote) + quote;
+        return literal.substring(1, literal.length() - 1).replace(doubled, String.valueOf(quote));
+    }
+
+    /**
+     * A predicate on the request, returning <code>null</code> when the EL evaluation of the same predicate would fail.
+     */
+    private interface Predicate {
+        Boolean test(HttpBaseRequest request);
+    }
+
+    private record ConstantPredicate(boolean value) implements Predicate {
+        @Override
+        public Boolean test(HttpBaseRequest request) {
+            return value;
+        }
+    }
+
+    private record HeaderValuePredicate(String name, String value, boolean equals) implements Predicate {
+        @Override
+        public Boolean test(HttpBaseRequest request) {
+            final HttpHeaders headers = request.headers();
+            final List<String> values = headers != null ? headers.getAll(name) : null;
+            if (values == null || values.isEmpty()) {
+                // The EL engine fails to index a missing header.
+                return null;
+            }
+            return value.equals(values.get(0)) == equals;
+        }
+    }
+
+    private record HeaderPresencePredicate(String name, boolean present) implements Predicate {
+        @Override
+        public Boolean test(HttpBaseRequest request) {
+            final HttpHeaders headers = request.headers();
+            if (headers == null) {
+                return null;
+            }
+            final List<String> values = headers.getAll(name);
+            return (values != null && !values.isEmpty()) == present;
+        }
+    }
+
+    private record MethodPredicate(String method, boolean equals) implements Predicate {
+        @Override
+        public Boolean test(HttpBaseRequest request) {
+            final HttpMethod requestMethod = request.method();
+            if (requestMethod == null) {
+                return null;
+            }
+            return requestMethod.name().equals(method) == equals;
+        }
+    }
+
+    private record PathEqualsPredicate(boolean pathInfo, String path, boolean equals) implements Predicate {
+        @Override
+        public Boolean test(HttpBaseRequest request) {
+            return Objects.equals(pathInfo ? request.pathInfo() : request.path(), path) == equals;
+        }
+    }
+
+    private record PathMatchesPredicate(boolean pathInfo, Pattern pattern) implements Predicate {
+        @Override
+        public Boolean test(HttpBaseRequest request) {
+            final String path = pathInfo ? request.pathInfo() : request.path();
+            if (path == null) {
+                // The EL engine rejects a null operand.
+                return null;
+            }
+            return pattern.matcher(path).matches();
+        }
+    }
+
+    private record ExpressionCondition(String condition) implements CompiledCondition {
+        @Override
+        public Maybe<Boolean> evaluate(BaseExecutionContext ctx) {
+            return ctx.getTemplateEngine().eval(condition, Boolean.class);
+        }
+    }
+
+    private record PredicateCondition(String condition, List<List<Predicate>> disjunction) implements CompiledCondition {
+        @Override
+        public Maybe<Boolean> evaluate(BaseExecutionContext ctx) {
+            if (ctx instanceof HttpBaseExecutionContext httpCtx && httpCtx.request() != null) {
+                final Boolean result = test(httpCtx.request());
+                if (result != null) {
+                    return result ? TRUE : FALSE;
+                }
+            }
+            return ctx.getTemplateEngine().eval(condition, Boolean.class);
+        }
+
+        /**
+         * Evaluates the predicates with the same short-circuit rules as the EL engine, <code>&amp;&amp;</code> taking precedence over
+         * <code>||</code>.
+         */
+        Boolean test(HttpBaseRequest request) {
+            for (List<Predicate> conjunction : disjunction) {
+                boolean matches = true;
+                for (Predicate predicate : conjunction) {
+                    final Boolean result = predicate.test(request);
+                    if (result == null) {
+                        return null;
+                    }
+                    if (!result) {
+                        matches = false;
+                        break;
+                    }
+                }
+                if (matches) {
+                    return Boolean.TRUE;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    }
+}
@@ -24,6 +24,8 @@ import lombok.CustomLog;
 
 /**
  * {@link ConditionFilter} base on an EL expression.
+ * Conditions are compiled once with a {@link ConditionCompiler} so constant conditions and simple request predicates don't need the EL
+ * engine to be evaluated.
  *
  * @author Jeoffrey HAEYAERT (jeoffrey.haeyaert at graviteesource.com)
  * @author GraviteeSource Team
@@ -31,6 +33,19 @@ import lombok.CustomLog;
 @CustomLog
 public class ExpressionLanguageConditionFilter<T extends ConditionSupplier> implements ConditionFilter<BaseExecutionContext, T> {
 
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler();
+
+    /**
+     * Compiles the given condition ahead of its first evaluation, typically when the api is deployed.
+     *
+     * @param condition the condition to compile, ignored if empty.
+     */
+    public void compile(String condition) {
+        if (condition != null && !condition.isEmpty()) {
+            conditionCompiler.compile(condition);
+        }
+    }
+
     @Override
     public Maybe<T> filter(BaseExecutionContext ctx, T elt) {
         final String condition = elt.getCondition();
@@ -39,9 +54,9 @@ public class ExpressionLanguageConditionFilter<T extends ConditionSupplier> impl
             return Maybe.just(elt);
         }
 
-        return ctx
-            .getTemplateEngine()
-            .eval(condition, Boolean.class)
+        return conditionCompiler
+            .compile(condition)
+            .evaluate(ctx)
             .filter(Boolean::booleanValue)
             .map(aBoolean -> elt)
             .onErrorComplete(throwable -> {
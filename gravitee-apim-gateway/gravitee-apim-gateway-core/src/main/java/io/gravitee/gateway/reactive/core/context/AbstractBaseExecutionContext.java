@@ -23,7 +23,6 @@ import io.gravitee.gateway.reactive.api.context.base.BaseExecutionContext;
 import io.gravitee.gateway.reactive.api.tracing.Tracer;
 import io.gravitee.node.opentelemetry.tracer.noop.NoOpTracer;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -33,7 +32,7 @@ public abstract class AbstractBaseExecutionContext implements BaseExecutionConte
 
     private static final Tracer NO_OP_TRACER = new Tracer(null, new NoOpTracer());
     protected Map<String, Object> attributes = new ContextAttributeMap();
-    protected Map<String, Object> internalAttributes = new HashMap<>();
+    protected Map<String, Object> internalAttributes = ContextAttributeMap.internalAttributes();
     protected ComponentProvider componentProvider;
     protected TemplateEngine templateEngine;
     protected Collection<TemplateVariableProvider> templateVariableProviders;
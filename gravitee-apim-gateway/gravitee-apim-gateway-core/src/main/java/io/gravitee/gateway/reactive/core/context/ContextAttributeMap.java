@@ -15,33 +15,50 @@
  */
 package io.gravitee.gateway.reactive.core.context;
 
-import static io.gravitee.gateway.reactive.api.context.ContextAttributes.ATTR_PREFIX;
+import static io.gravitee.gateway.reactive.api.context.ContextAttributes.*;
+import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes.*;
 
 import java.io.Serial;
-import java.util.Collection;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
-import org.jetbrains.annotations.NotNull;
 
 /**
  * Special {@link java.util.Map} implementation allowing to retrieve attributes prefixed with #ATTR_PREFIX without having to specify it explicitly.
+ * <p>
+ * Well-known gravitee attributes (api, plan, application, quota, ...) are stored in fixed slots resolved once at class-load time, so
+ * reading or writing them doesn't hash into a per-request table nor concatenate the prefix. Any other attribute goes to a small overflow
+ * map which is only allocated when first needed. The map views ({@link #entrySet()}, {@link #keySet()}, {@link #values()}) expose both
+ * stores, making this map a drop-in replacement of the {@link HashMap} previously used (e.g. for EL evaluation).
  */
-public class ContextAttributeMap extends HashMap<String, Object> {
+public class ContextAttributeMap extends AbstractMap<String, Object> implements Serializable {
 
     @Serial
-    private static final long serialVersionUID = -8914016743809221307L;
+    private static final long serialVersionUID = 2213064627862437155L;
+
+    private final Slots slots;
+
+    private final Object[] slotValues;
+
+    private long slotPresence;
+
+    private HashMap<String, Object> overflow;
 
     private boolean enableGraviteePrefix = true;
 
     private Map<String, Object> fallbackContextAttributeMap;
 
-    /**
-     * In the most general case, the context will not store more than 12 elements in the Map.
-     * Then, the initial capacity must be set to limit size in memory.
-     */
+    private transient Set<Entry<String, Object>> entrySet;
+
     public ContextAttributeMap() {
-        super(12, 1.0f);
+        this(Slots.ATTRIBUTES);
     }
 
     public ContextAttributeMap(boolean enableGraviteePrefix) {
@@ -59,14 +76,35 @@ public class ContextAttributeMap extends HashMap<String, Object> {
         this.fallbackContextAttributeMap = fallbackContextAttributeMap;
     }
 
+    private ContextAttributeMap(Slots slots) {
+        this.slots = slots;
+        this.slotValues = new Object[slots.keys.length];
+    }
+
+    /**
+     * Creates a map dedicated to internal attributes: well-known internal attributes get their own slots and no prefix resolution applies.
+     *
+     * @return a new empty {@link ContextAttributeMap} for internal attributes.
+     */
+    public static ContextAttributeMap internalAttributes() {
+        ContextAttributeMap internalAttributes = new ContextAttributeMap(Slots.INTERNAL_ATTRIBUTES);
+        internalAttributes.enableGraviteePrefix = false;
+        return internalAttributes;
+    }
+
     @Override
     public Object get(Object key) {
-        Object value = super.get(key);
+        Object value = getDirect(key);
         if (value != null) {
             return value;
         }
         if (enableGraviteePrefix) {
-            value = super.get(ATTR_PREFIX + key);
+            int slot = slots.unprefixedSlot(key);
+            if (slot >= 0) {
+                value = slotValues[slot];
+            } else if (overflow != null && !overflow.isEmpty()) {
+                value = overflow.get(ATTR_PREFIX + key);
+            }
             if (value != null) {
                 return value;
             }
@@ -77,13 +115,314 @@ public class ContextAttributeMap extends HashMap<String, Object> {
     @Override
     public boolean containsKey(Object key) {
         return (
-            super.containsKey(key) ||
-            (enableGraviteePrefix && super.containsKey(ATTR_PREFIX + key)) ||
+            containsDirect(key) ||
+            (enableGraviteePrefix && containsPrefixed(key)) ||
             (fallbackContextAttributeMap != null && fallbackContextAttributeMap.containsKey(key))
         );
     }
 
+    @Override
+    public Object put(String key, Object value) {
+        int slot = slots.slot(key);
+        if (slot < 0) {
+            return overflow().put(key, value);
+        }
+        Object previous = slotValues[slot];
+        slotValues[slot] = value;
+        slotPresence |= 1L << slot;
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int slot = slots.slot(key);
+        if (slot < 0) {
+            return overflow != null ? overflow.remove(key) : null;
+        }
+        return clearSlot(slot);
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(slotPresence) + (overflow != null ? overflow.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return slotPresence == 0 && (overflow == null || overflow.isEmpty());
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slotValues, null);
+        slotPresence = 0;
+        if (overflow != null) {
+            overflow.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
     public Map<String, Object> getFallbackContextAttributeMap() {
         return fallbackContextAttributeMap;
     }
+
+    private Object getDirect(Object key) {
+        int slot = slots.slot(key);
+        if (slot >= 0) {
+            return slotValues[slot];
+        }
+        return overflow != null ? overflow.get(key) : null;
+    }
+
+    private boolean containsDirect(Object key) {
+        int slot = slots.slot(key);
+        if (slot >= 0) {
+            return isPresent(slot);
+        }
+        return overflow != null && overflow.containsKey(key);
+    }
+
+    private boolean containsPrefixed(Object key) {
+        int slot = slots.unprefixedSlot(key);
+        if (slot >= 0) {
+            return isPresent(slot);
+        }
+        return overflow != null && !overflow.isEmpty() && overflow.containsKey(ATTR_PREFIX + key);
+    }
+
+    private boolean isPresent(int slot) {
+        return (slotPresence & (1L << slot)) != 0;
+    }
+
+    private Object clearSlot(int slot) {
+        Object previous = slotValues[slot];
+        slotValues[slot] = null;
+        slotPresence &= ~(1L << slot);
+        return previous;
+    }
+
+    private HashMap<String, Object> overflow() {
+        if (overflow == null) {
+            overflow = new HashMap<>(8, 1.0f);
+        }
+        return overflow;
+    }
+
+    /**
+     * Well-known attribute names, each one being assigned a fixed slot (its index in {@link #keys}).
+     */
+    private enum Slots {
+        ATTRIBUTES(
+            ATTR_API,
+            ATTR_API_NAME,
+            ATTR_API_DEPLOYED_AT,
+            ATTR_PLAN,
+            ATTR_APPLICATION,
+            ATTR_SUBSCRIPTION_ID,
+            ATTR_USER,
+            ATTR_USER_ROLES,
+            ATTR_ENVIRONMENT,
+            ATTR_ORGANIZATION,
+            ATTR_QUOTA_COUNT,
+            ATTR_QUOTA_REMAINING,
+            ATTR_QUOTA_LIMIT,
+            ATTR_QUOTA_RESET_TIME,
+            ATTR_REQUEST_ENDPOINT,
+            ATTR_REQUEST_ENDPOINT_OVERRIDE,
+            ATTR_REQUEST_METHOD,
+            ATTR_REQUEST_ORIGINAL_URL,
+            ATTR_RESOLVED_PATH,
+            ATTR_CONTEXT_PATH,
+            ATTR_MAPPED_PATH
+        ),
+        INTERNAL_ATTRIBUTES(
+            ATTR_INTERNAL_REACTABLE_API,
+            ATTR_INTERNAL_API_TYPE,
+            ATTR_INTERNAL_LISTENER_TYPE,
+            ATTR_INTERNAL_ENTRYPOINT_CONNECTOR,
+            ATTR_INTERNAL_ENDPOINT_CONNECTOR_ID,
+            ATTR_INTERNAL_INVOKER,
+            ATTR_INTERNAL_INVOKER_SKIP,
+            ATTR_INTERNAL_EXECUTION_FAILURE,
+            ATTR_INTERNAL_EXECUTION_WARN,
+            ATTR_INTERNAL_EXECUTION_COMPONENT_SCOPE,
+            ATTR_INTERNAL_FLOW_STAGE,
+            ATTR_INTERNAL_SUBSCRIPTION,
+            ATTR_INTERNAL_SUBSCRIPTION_TYPE,
+            ATTR_INTERNAL_VALIDATE_SUBSCRIPTION,
+            ATTR_INTERNAL_SECURITY_TOKEN,
+            ATTR_INTERNAL_SECURITY_SKIP,
+            ATTR_INTERNAL_SECURITY_DIAGNOSTIC,
+            ATTR_INTERNAL_ANALYTICS_CONTEXT,
+            ATTR_INTERNAL_TRACING_ENABLED,
+            ATTR_INTERNAL_TRACING_VERBOSE_ENABLED,
+            ATTR_INTERNAL_TRACING_ROOT_SPAN,
+            ATTR_INTERNAL_TRACING_ERROR,
+            ATTR_INTERNAL_TRACING_MESSAGE_SPAN,
+            ATTR_INTERNAL_ADAPTED_CONTEXT,
+            ATTR_INTERNAL_OVERRIDE_LOGGABLE_CONTENT_TYPE_PATTERN,
+            ATTR_INTERNAL_MESSAGE_EXECUTION_PHASE,
+            ATTR_INTERNAL_MESSAGE_THROWABLE,
+            ATTR_INTERNAL_MESSAGE_RECORDABLE,
+            ATTR_INTERNAL_MESSAGE_RECORDABLE_WITH_LOGGING,
+            ATTR_INTERNAL_MESSAGE_SENT_TO_DLQ,
+            ATTR_INTERNAL_MESSAGE_ADDITIONAL_METRICS,
+            ATTR_INTERNAL_MESSAGES_LIMIT_COUNT,
+            ATTR_INTERNAL_MESSAGES_LIMIT_DURATION_MS,
+            ATTR_INTERNAL_MESSAGES_RECOVERY_LAST_ID
+        );
+
+        private final String[] keys;
+        private final Map<String, Integer> slotsByKey;
+        private final Map<String, Integer> slotsByUnprefixedKey;
+
+        Slots(String... keys) {
+            if (keys.length > Long.SIZE) {
+                throw new IllegalStateException("Too many attribute slots, presence is tracked in a single long");
+            }
+            this.keys = keys;
+            this.slotsByKey = new HashMap<>();
+            this.slotsByUnprefixedKey = new HashMap<>();
+            for (int slot = 0; slot < keys.length; slot++) {
+                slotsByKey.put(keys[slot], slot);
+                if (keys[slot].startsWith(ATTR_PREFIX)) {
+                    slotsByUnprefixedKey.put(keys[slot].substring(ATTR_PREFIX.length()), slot);
+                }
+            }
+        }
+
+        int slot(Object key) {
+            Integer slot = slotsByKey.get(key);
+            return slot != null ? slot : -1;
+        }
+
+        int unprefixedSlot(Object key) {
+            Integer slot = slotsByUnprefixedKey.get(key);
+            return slot != null ? slot : -1;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ContextAttributeMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ContextAttributeMap.this.clear();
+        }
+    }
+
+    /**
+     * Iterates over the present slots first, then over the overflow map.
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int nextSlot = nextPresentSlot(0);
+        private int lastSlot = -1;
+        private Iterator<Entry<String, Object>> overflowIterator;
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot >= 0 || overflowIterator().hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (nextSlot >= 0) {
+                lastSlot = nextSlot;
+                nextSlot = nextPresentSlot(nextSlot + 1);
+                return new SlotEntry(lastSlot);
+            }
+            lastSlot = -1;
+            if (!overflowIterator().hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return overflowIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot >= 0) {
+                if (!isPresent(lastSlot)) {
+                    throw new IllegalStateException();
+                }
+                clearSlot(lastSlot);
+            } else if (overflowIterator != null) {
+                overflowIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private Iterator<Entry<String, Object>> overflowIterator() {
+            if (overflowIterator == null) {
+                overflowIterator = overflow != null ? overflow.entrySet().iterator() : Map.<String, Object>of().entrySet().iterator();
+            }
+            return overflowIterator;
+        }
+
+        private int nextPresentSlot(int from) {
+            if (from >= Long.SIZE) {
+                return -1;
+            }
+            long remaining = slotPresence & (-1L << from);
+            return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+        }
+    }
+
+    private final class SlotEntry implements Entry<String, Object> {
+
+        private final int slot;
+
+        private SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return slots.keys[slot];
+        }
+
+        @Override
+        public Object getValue() {
+            return slotValues[slot];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object previous = slotValues[slot];
+            slotValues[slot] = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> e && Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
 }
@@ -17,8 +17,13 @@ package io.gravitee.gateway.reactive.core.failover;
 
 import static io.gravitee.gateway.reactive.api.context.ContextAttributes.ATTR_REQUEST_ENDPOINT;
 import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes.ATTR_INTERNAL_EXECUTION_FAILURE;
+import static io.gravitee.gateway.reactive.core.v4.invoker.HttpEndpointInvoker.ATTR_INTERNAL_MANAGED_ENDPOINT;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -30,15 +35,21 @@ import io.gravitee.gateway.reactive.api.context.ExecutionContext;
 import io.gravitee.gateway.reactive.api.context.http.HttpExecutionContext;
 import io.gravitee.gateway.reactive.api.invoker.HttpInvoker;
 import io.gravitee.gateway.reactive.api.invoker.Invoker;
+import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpoint;
+import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpointGroup;
 import io.reactivex.rxjava3.core.Completable;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
 
+@CustomLog
 public class FailoverInvoker implements HttpInvoker, Invoker {
 
     private final HttpInvoker delegate;
     private final Failover failoverConfiguration;
+    private final FailoverOptions options;
 
     @VisibleForTesting
     final CircuitBreaker circuitBreaker;
@@ -46,14 +57,28 @@ public class FailoverInvoker implements HttpInvoker, Invoker {
     @VisibleForTesting
     final CircuitBreakerRegistry circuitBreakerRegistry;
 
+    @VisibleForTesting
+    final LoadingCache<String, CircuitBreaker> subscriptionCircuitBreakers;
+
+    @VisibleForTesting
+    final LoadingCache<ManagedEndpoint, CircuitBreaker> endpointCircuitBreakers;
+
+    @VisibleForTesting
+    final RetryBudget retryBudget;
+
     @Override
     public String getId() {
         return "failover-invoker";
     }
 
     public FailoverInvoker(HttpInvoker delegate, Failover failoverConfiguration, String apiId) {
+        this(delegate, failoverConfiguration, apiId, FailoverOptions.DEFAULT);
+    }
+
+    public FailoverInvoker(HttpInvoker delegate, Failover failoverConfiguration, String apiId, FailoverOptions options) {
         this.delegate = delegate;
         this.failoverConfiguration = failoverConfiguration;
+        this.options = options;
         final CircuitBreakerConfig circuitBreakerConfiguration = CircuitBreakerConfig.custom()
             .permittedNumberOfCallsInHalfOpenState(1)
             .slowCallDurationThreshold(Duration.of(failoverConfiguration.getSlowCallDuration(), ChronoUnit.MILLIS))
@@ -63,14 +88,51 @@ public class FailoverInvoker implements HttpInvoker, Invoker {
             .slowCallRateThreshold(100)
             .waitDurationInOpenState(Duration.of(failoverConfiguration.getOpenStateDuration(), ChronoUnit.MILLIS))
             .build();
-        // Instantiate one global circuit breaker for the API or a circuit breaker registry based on failover configuration
-        if (!failoverConfiguration.isPerSubscription()) {
+
+        if (options.isPerEndpoint() && failoverConfiguration.isPerSubscription()) {
+            log.warn("Failover of API {} is configured per subscription, per endpoint circuit breakers are not applied to it", apiId);
+        }
+
+        if (options.isPerEndpoint() && !failoverConfiguration.isPerSubscription()) {
+            // One circuit breaker per managed endpoint, shared by all requests. Weak keys let the breaker go away with its endpoint.
+            endpointCircuitBreakers = CacheBuilder.newBuilder()
+                .weakKeys()
+                .build(
+                    CacheLoader.from((ManagedEndpoint endpoint) ->
+                        CircuitBreaker.of(apiId + "-" + endpoint.getDefinition().getName(), circuitBreakerConfiguration)
+                    )
+                );
+            circuitBreaker = null;
+            circuitBreakerRegistry = null;
+            subscriptionCircuitBreakers = null;
+        } else if (!failoverConfiguration.isPerSubscription()) {
+            // Instantiate one global circuit breaker for the API
             circuitBreaker = CircuitBreaker.of(apiId, circuitBreakerConfiguration);
             circuitBreakerRegistry = null;
+            subscriptionCircuitBreakers = null;
+            endpointCircuitBreakers = null;
         } else {
-            // Prepare the circuit breaker registry with a default configuration
-            circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfiguration);
+            // Prepare the circuit breaker registry with a default configuration.
+            // Breakers are kept in a bounded and expiring cache to avoid keeping one for each subscription ever seen.
+            final CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(circuitBreakerConfiguration);
+            circuitBreakerRegistry = registry;
+            subscriptionCircuitBreakers = CacheBuilder.newBuilder()
+                .maximumSize(options.getSubscriptionCircuitBreakersMaxSize())
+                .expireAfterAccess(options.getSubscriptionCircuitBreakersExpireAfterAccess(), TimeUnit.MILLISECONDS)
+                .<String, CircuitBreaker>removalListener(notification -> registry.remove(notification.getKey()))
+                .build(CacheLoader.from((String subscription) -> registry.circuitBreaker(subscription)));
             circuitBreaker = null;
+            endpointCircuitBreakers = null;
+        }
+
+        if (options.isRetryBudgetEnabled()) {
+            retryBudget = new RetryBudget(
+                options.getRetryBudgetPercent(),
+                options.getRetryBudgetMinRetriesPerSecond(),
+                options.getRetryBudgetWindow()
+            );
+        } else {
+            retryBudget = null;
         }
     }
 
@@ -82,24 +144,111 @@ public class FailoverInvoker implements HttpInvoker, Invoker {
     @Override
     public Completable invoke(HttpExecutionContext ctx) {
         final String originalEndpoint = ctx.getAttribute(ATTR_REQUEST_ENDPOINT);
-        return Completable.defer(() -> {
+        final boolean retryable = isRetryable();
+
+        Completable invocation = Completable.defer(() -> {
             // EndpointInvoker overrides the request endpoint. We need to set it back to original state to retry properly
             ctx.setAttribute(ATTR_REQUEST_ENDPOINT, originalEndpoint);
             // Entrypoint connectors skip response handling if there is an error. In the case of a retry, we need to reset the failure.
             ctx.removeInternalAttribute(ATTR_INTERNAL_EXECUTION_FAILURE);
-            // Consume body and ignore it. Consuming it with .body() method internally enables caching of chunks, which is mandatory to retry the request in case of failure.
-            return ctx.request().body().ignoreElement().andThen(delegate.invoke(ctx));
-        })
-            .timeout(failoverConfiguration.getSlowCallDuration(), TimeUnit.MILLISECONDS)
-            .retry(failoverConfiguration.getMaxRetries())
-            .compose(CircuitBreakerOperator.of(circuitBreaker(ctx)))
-            .onErrorResumeNext(t -> ctx.interruptWith(new ExecutionFailure(502).cause(t)));
+            ctx.removeInternalAttribute(ATTR_INTERNAL_MANAGED_ENDPOINT);
+
+            // EndpointInvoker resolves the managed endpoint as soon as it is invoked, before any subscription.
+            final Completable attempt = endpointCircuitBreakers != null
+                ? invokeClosedEndpoint(ctx, originalEndpoint)
+                : delegate.invoke(ctx);
+            final Completable timedAttempt = (retryable ? consumeBody(ctx).andThen(attempt) : attempt).timeout(
+                failoverConfiguration.getSlowCallDuration(),
+                TimeUnit.MILLISECONDS
+            );
+
+            if (endpointCircuitBreakers != null) {
+                final ManagedEndpoint managedEndpoint = ctx.getInternalAttribute(ATTR_INTERNAL_MANAGED_ENDPOINT);
+                if (managedEndpoint != null) {
+                    return timedAttempt.compose(CircuitBreakerOperator.of(endpointCircuitBreakers.getUnchecked(managedEndpoint)));
+                }
+            }
+            return timedAttempt;
+        });
+
+        if (retryable) {
+            invocation = invocation.retry(failoverConfiguration.getMaxRetries(), this::acquireRetry);
+        }
+
+        if (endpointCircuitBreakers == null) {
+            invocation = invocation.compose(CircuitBreakerOperator.of(circuitBreaker(ctx)));
+        }
+
+        return invocation.onErrorResumeNext(t -> ctx.interruptWith(new ExecutionFailure(502).cause(t)));
+    }
+
+    /**
+     * Invokes the delegate until it picks an endpoint whose circuit breaker permits calls, as the outlier detection does for ejected
+     * endpoints, so that retries move to the other endpoints of the group. When all of them are open, the last one picked is kept and
+     * its circuit breaker rejects the call.
+     */
+    private Completable invokeClosedEndpoint(HttpExecutionContext ctx, String originalEndpoint) {
+        Completable attempt = delegate.invoke(ctx);
+        ManagedEndpoint managedEndpoint = ctx.getInternalAttribute(ATTR_INTERNAL_MANAGED_ENDPOINT);
+        final int candidates = candidates(managedEndpoint);
+
+        for (int pick = 1; pick < candidates && managedEndpoint != null && !isCallPermitted(managedEndpoint); pick++) {
+            ctx.setAttribute(ATTR_REQUEST_ENDPOINT, originalEndpoint);
+            ctx.removeInternalAttribute(ATTR_INTERNAL_MANAGED_ENDPOINT);
+            attempt = delegate.invoke(ctx);
+            managedEndpoint = ctx.getInternalAttribute(ATTR_INTERNAL_MANAGED_ENDPOINT);
+        }
+
+        return attempt;
+    }
+
+    private int candidates(ManagedEndpoint managedEndpoint) {
+        final ManagedEndpointGroup group = managedEndpoint != null ? managedEndpoint.getGroup() : null;
+        final List<?> endpoints = group != null && group.getDefinition() != null ? group.getDefinition().getEndpoints() : null;
+        return endpoints == null ? 1 : endpoints.size();
+    }
+
+    private boolean isCallPermitted(ManagedEndpoint managedEndpoint) {
+        // Acquiring a permission moves an open circuit to half-open once its wait duration is elapsed, it is given back right away.
+        final CircuitBreaker endpointCircuitBreaker = endpointCircuitBreakers.getUnchecked(managedEndpoint);
+        if (endpointCircuitBreaker.tryAcquirePermission()) {
+            endpointCircuitBreaker.releasePermission();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consume body and ignore it. Consuming it with .body() method internally enables caching of chunks, which is mandatory to retry the request in case of failure.
+     * This is only done when a retry is possible to avoid buffering the whole request body for nothing.
+     */
+    private Completable consumeBody(HttpExecutionContext ctx) {
+        return ctx.request().body().ignoreElement();
+    }
+
+    private boolean isRetryable() {
+        if (failoverConfiguration.getMaxRetries() <= 0) {
+            return false;
+        }
+        if (retryBudget != null) {
+            retryBudget.onRequest();
+            return retryBudget.canRetry();
+        }
+        return true;
+    }
+
+    private boolean acquireRetry(Throwable throwable) {
+        // A call rejected by an open endpoint circuit breaker never reached the backend, it does not consume the retry budget.
+        if (retryBudget == null || throwable instanceof CallNotPermittedException) {
+            return true;
+        }
+        return retryBudget.tryAcquireRetry();
     }
 
     private CircuitBreaker circuitBreaker(HttpExecutionContext ctx) {
         if (failoverConfiguration.isPerSubscription()) {
             final String subscription = ctx.getAttribute(ContextAttributes.ATTR_SUBSCRIPTION_ID);
-            return circuitBreakerRegistry.circuitBreaker(subscription);
+            return subscriptionCircuitBreakers.getUnchecked(subscription);
         } else {
             return circuitBreaker;
         }
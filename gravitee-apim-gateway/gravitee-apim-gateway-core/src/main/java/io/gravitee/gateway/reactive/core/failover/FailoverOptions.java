@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.failover;
+
+import io.gravitee.node.api.configuration.Configuration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Gateway level options applied to every {@link FailoverInvoker}, complementing the failover configuration defined on the API.
+ *
+ * @author GraviteeSource Team
+ */
+@Getter
+@Builder(toBuilder = true)
+public class FailoverOptions {
+
+    public static final String PER_ENDPOINT_PROPERTY = "api.failover.perEndpoint";
+    public static final String SUBSCRIPTION_CIRCUIT_BREAKERS_MAX_SIZE_PROPERTY = "api.failover.subscriptionCircuitBreakers.maxSize";
+    public static final String SUBSCRIPTION_CIRCUIT_BREAKERS_EXPIRE_AFTER_ACCESS_PROPERTY =
+        "api.failover.subscriptionCircuitBreakers.expireAfterAccess";
+    public static final String RETRY_BUDGET_ENABLED_PROPERTY = "api.failover.retryBudget.enabled";
+    public static final String RETRY_BUDGET_PERCENT_PROPERTY = "api.failover.retryBudget.percent";
+    public static final String RETRY_BUDGET_MIN_RETRIES_PER_SECOND_PROPERTY = "api.failover.retryBudget.minRetriesPerSecond";
+    public static final String RETRY_BUDGET_WINDOW_PROPERTY = "api.failover.retryBudget.window";
+
+    public static final FailoverOptions DEFAULT = FailoverOptions.builder().build();
+
+    /**
+     * When enabled, one circuit breaker is maintained for each {@link io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpoint}
+     * and shared by all the requests targeting it. An open circuit only excludes the failing endpoint and the retry moves to the next one.
+     * APIs configuring their failover per subscription keep one circuit breaker per subscription.
+     */
+    @Builder.Default
+    private final boolean perEndpoint = false;
+
+    /**
+     * Maximum number of circuit breakers kept in memory when the failover is configured per subscription.
+     */
+    @Builder.Default
+    private final long subscriptionCircuitBreakersMaxSize = 10_000L;
+
+    /**
+     * Duration (in milliseconds) after which an unused subscription circuit breaker is evicted.
+     */
+    @Builder.Default
+    private final long subscriptionCircuitBreakersExpireAfterAccess = 600_000L;
+
+    @Builder.Default
+    private final boolean retryBudgetEnabled = false;
+
+    /**
+     * Maximum percentage of retries compared to the number of requests over the retry budget window.
+     */
+    @Builder.Default
+    private final int retryBudgetPercent = 20;
+
+    /**
+     * Number of retries per second always allowed whatever the traffic.
+     */
+    @Builder.Default
+    private final int retryBudgetMinRetriesPerSecond = 10;
+
+    /**
+     * Retry budget sliding window duration in milliseconds.
+     */
+    @Builder.Default
+    private final long retryBudgetWindow = 10_000L;
+
+    public static FailoverOptions from(Configuration configuration) {
+        return FailoverOptions.builder()
+            .perEndpoint(configuration.getProperty(PER_ENDPOINT_PROPERTY, Boolean.class, false))
+            .subscriptionCircuitBreakersMaxSize(
+                configuration.getProperty(SUBSCRIPTION_CIRCUIT_BREAKERS_MAX_SIZE_PROPERTY, Long.class, 10_000L)
+            )
+            .subscriptionCircuitBreakersExpireAfterAccess(
+                configuration.getProperty(SUBSCRIPTION_CIRCUIT_BREAKERS_EXPIRE_AFTER_ACCESS_PROPERTY, Long.class, 600_000L)
+            )
+            .retryBudgetEnabled(configuration.getProperty(RETRY_BUDGET_ENABLED_PROPERTY, Boolean.class, false))
+            .retryBudgetPercent(configuration.getProperty(RETRY_BUDGET_PERCENT_PROPERTY, Integer.class, 20))
+            .retryBudgetMinRetriesPerSecond(configuration.getProperty(RETRY_BUDGET_MIN_RETRIES_PER_SECOND_PROPERTY, Integer.class, 10))
+            .retryBudgetWindow(configuration.getProperty(RETRY_BUDGET_WINDOW_PROPERTY, Long.class, 10_000L))
+            .build();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.failover;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps the number of retries to a percentage of the live traffic observed over a sliding time window.
+ * A minimum number of retries per second is always allowed so that low traffic APIs can still retry.
+ *
+ * <p>
+ *     The window is divided in one second buckets. Each bucket keeps both the number of requests and the number of retries
+ *     and is lazily reset when the clock wraps around it.
+ * </p>
+ *
+ * @author GraviteeSource Team
+ */
+public class RetryBudget {
+
+    private static final long BUCKET_DURATION_MILLIS = 1_000L;
+
+    private final int percent;
+    private final int minRetriesPerSecond;
+    private final int bucketCount;
+    private final LongSupplier clock;
+
+    private final AtomicLongArray bucketStarts;
+    private final AtomicLongArray requests;
+    private final AtomicLongArray retries;
+
+    public RetryBudget(int percent, int minRetriesPerSecond, long windowMillis) {
+        this(percent, minRetriesPerSecond, windowMillis, System::currentTimeMillis);
+    }
+
+    RetryBudget(int percent, int minRetriesPerSecond, long windowMillis, LongSupplier clock) {
+        this.percent = Math.max(0, percent);
+        this.minRetriesPerSecond = Math.max(0, minRetriesPerSecond);
+        this.bucketCount = (int) Math.max(1, windowMillis / BUCKET_DURATION_MILLIS);
+        this.clock = clock;
+        this.bucketStarts = new AtomicLongArray(bucketCount);
+        this.requests = new AtomicLongArray(bucketCount);
+        this.retries = new AtomicLongArray(bucketCount);
+    }
+
+    /**
+     * Record an incoming request. Each request increases the amount of retries the budget allows.
+     */
+    public void onRequest() {
+        requests.incrementAndGet(currentBucket());
+    }
+
+    /**
+     * Indicates if the budget still allows at least one retry, without consuming it.
+     *
+     * @return <code>true</code> if a retry could be attempted, <code>false</code> otherwise.
+     */
+    public boolean canRetry() {
+        currentBucket();
+        return sum(retries) < allowedRetries();
+    }
+
+    /**
+     * Try to consume one retry from the budget.
+     *
+     * @return <code>true</code> if the retry has been accepted, <code>false</code> if the budget is exhausted.
+     */
+    public boolean tryAcquireRetry() {
+        final int bucket = currentBucket();
+        if (sum(retries) >= allowedRetries()) {
+            return false;
+        }
+        retries.incrementAndGet(bucket);
+        return true;
+    }
+
+    private long allowedRetries() {
+        return Math.max((long) minRetriesPerSecond * bucketCount, sum(requests) * percent / 100);
+    }
+
+    private int currentBucket() {
+        final long now = clock.getAsLong();
+        final long bucketStart = now - (now % BUCKET_DURATION_MILLIS);
+        final int index = (int) ((now / BUCKET_DURATION_MILLIS) % bucketCount);
+        final long previousStart = bucketStarts.get(index);
+
+        if (previousStart != bucketStart && bucketStarts.compareAndSet(index, previousStart, bucketStart)) {
+            requests.set(index, 0);
+            retries.set(index, 0);
+        }
+        return index;
+    }
+
+    private long sum(AtomicLongArray counters) {
+        final long windowStart = clock.getAsLong() - (long) bucketCount * BUCKET_DURATION_MILLIS;
+        long total = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            if (bucketStarts.get(i) > windowStart) {
+                total += counters.get(i);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.hedging;
+
+import static io.gravitee.gateway.reactive.api.context.ContextAttributes.ATTR_REQUEST_ENDPOINT;
+import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes.ATTR_INTERNAL_ENDPOINT_CONNECTOR_ID;
+import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes.ATTR_INTERNAL_EXECUTION_FAILURE;
+import static io.gravitee.gateway.reactive.core.v4.invoker.HttpEndpointInvoker.ATTR_INTERNAL_MANAGED_ENDPOINT;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.gateway.reactive.api.context.ExecutionContext;
+import io.gravitee.gateway.reactive.api.context.http.HttpExecutionContext;
+import io.gravitee.gateway.reactive.api.invoker.HttpInvoker;
+import io.gravitee.gateway.reactive.api.invoker.Invoker;
+import io.gravitee.gateway.reactive.core.failover.RetryBudget;
+import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpoint;
+import io.gravitee.reporter.api.v4.metric.Metrics;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.CompletableEmitter;
+import io.reactivex.rxjava3.core.CompletableOnSubscribe;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.CompositeDisposable;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends a second, hedged, request to another endpoint when the first one is slower than usual, and keeps the first response.
+ *
+ * <p>
+ *     Only idempotent requests are hedged. The latencies of each {@link ManagedEndpoint} are tracked over a rolling window and a
+ *     request is hedged once it has been pending for longer than the configured percentile of its endpoint's latency. The hedged
+ *     request is sent to the next endpoint chosen by the load balancer and is skipped if it is the same endpoint. As soon as one
+ *     request succeeds, the other one is cancelled. The number of hedged requests is capped by a budget relative to the traffic.
+ * </p>
+ *
+ * @author GraviteeSource Team
+ */
+public class HedgingInvoker implements HttpInvoker, Invoker {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private final HttpInvoker delegate;
+    private final HedgingOptions options;
+    private final Scheduler scheduler;
+
+    @VisibleForTesting
+    final LoadingCache<ManagedEndpoint, LatencyHistogram> latencies;
+
+    @VisibleForTesting
+    final RetryBudget budget;
+
+    public HedgingInvoker(HttpInvoker delegate, HedgingOptions options) {
+        this(delegate, options, Schedulers.computation());
+    }
+
+    HedgingInvoker(HttpInvoker delegate, HedgingOptions options, Scheduler scheduler) {
+        this.delegate = delegate;
+        this.options = options;
+        this.scheduler = scheduler;
+        // Weak keys let the latencies go away with their endpoint.
+        this.latencies = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from((ManagedEndpoint endpoint) -> new LatencyHistogram(options.getWindow())));
+        this.budget = new RetryBudget(options.getBudgetPercent(), options.getBudgetMinHedgesPerSecond(), options.getWindow());
+    }
+
+    @Override
+    public String getId() {
+        return "hedging-invoker";
+    }
+
+    @Override
+    public Completable invoke(ExecutionContext executionContext) {
+        return invoke((HttpExecutionContext) executionContext);
+    }
+
+    @Override
+    public Completable invoke(HttpExecutionContext ctx) {
+        if (!IDEMPOTENT_METHODS.contains(ctx.request().method())) {
+            return delegate.invoke(ctx);
+        }
+
+        budget.onRequest();
+        final String originalEndpoint = ctx.getAttribute(ATTR_REQUEST_ENDPOINT);
+
+        // EndpointInvoker resolves the managed endpoint as soon as it is invoked, before any subscription.
+        final Attempt primary = attempt(ctx);
+        final long delay = budget.canRetry() ? hedgeDelay(primary.endpoint()) : -1;
+
+        if (delay < 0) {
+            return primary.invocation();
+        }
+
+        // Consuming the body enables the caching of its chunks, which is mandatory to send it a second time.
+        return ctx
+            .request()
+            .body()
+            .ignoreElement()
+            .andThen(Completable.defer(() -> Completable.create(new HedgedInvocation(ctx, originalEndpoint, primary, delay))));
+    }
+
+    private Attempt attempt(HttpExecutionContext ctx) {
+        final Completable invocation = delegate.invoke(ctx);
+        final ManagedEndpoint endpoint = ctx.getInternalAttribute(ATTR_INTERNAL_MANAGED_ENDPOINT);
+        final Metrics metrics = ctx.metrics();
+
+        return new Attempt(
+            endpoint == null ? invocation : recordLatency(invocation, latencies.getUnchecked(endpoint)),
+            endpoint,
+            ctx.getAttribute(ATTR_REQUEST_ENDPOINT),
+            ctx.getInternalAttribute(ATTR_INTERNAL_ENDPOINT_CONNECTOR_ID),
+            metrics != null ? metrics.getEndpoint() : null
+        );
+    }
+
+    private Completable recordLatency(Completable invocation, LatencyHistogram histogram) {
+        return Completable.defer(() -> {
+            final long start = System.nanoTime();
+            return invocation.doOnComplete(() -> histogram.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        });
+    }
+
+    private long hedgeDelay(ManagedEndpoint endpoint) {
+        if (endpoint == null) {
+            return -1;
+        }
+
+        final long latency = latencies.getUnchecked(endpoint).percentile(options.getPercentile(), options.getMinSamples());
+        return latency < 0 ? -1 : Math.max(options.getMinDelay(), latency);
+    }
+
+    /**
+     * Schedule the hedged request on the current Vert.x context when there is one, so that both requests share the same event loop.
+     */
+    private Disposable schedule(Runnable task, long delay) {
+        final Context context = Vertx.currentContext();
+        if (context != null) {
+            final Vertx vertx = context.owner();
+            final long timerId = vertx.setTimer(delay, id -> task.run());
+            return Disposable.fromAction(() -> vertx.cancelTimer(timerId));
+        }
+        return scheduler.scheduleDirect(task, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A request sent to an endpoint, with the context attributes set by the endpoint invoker when resolving it.
+     */
+    private record Attempt(
+        Completable invocation,
+        ManagedEndpoint endpoint,
+        String requestEndpoint,
+        String connectorId,
+        String metricsEndpoint
+    ) {
+        void restore(HttpExecutionContext ctx) {
+            ctx.setAttribute(ATTR_REQUEST_ENDPOINT, requestEndpoint);
+            ctx.setInternalAttribute(ATTR_INTERNAL_ENDPOINT_CONNECTOR_ID, connectorId);
+            ctx.setInternalAttribute(ATTR_INTERNAL_MANAGED_ENDPOINT, endpoint);
+            if (ctx.metrics() != null) {
+                ctx.metrics().setEndpoint(metricsEndpoint);
+            }
+        }
+    }
+
+    private final class HedgedInvocation implements CompletableOnSubscribe {
+
+        private final HttpExecutionContext ctx;
+        private final String originalEndpoint;
+        private final Attempt primary;
+        private final long delay;
+        private final CompositeDisposable disposables = new CompositeDisposable();
+
+        private CompletableEmitter emitter;
+        private int running;
+        private boolean finished;
+
+        private HedgedInvocation(HttpExecutionContext ctx, String originalEndpoint, Attempt primary, long delay) {
+            this.ctx = ctx;
+            this.originalEndpoint = originalEndpoint;
+            this.primary = primary;
+            this.delay = delay;
+        }
+
+        @Override
+        public void subscribe(CompletableEmitter emitter) {
+            this.emitter = emitter;
+            emitter.setDisposable(disposables);
+
+            synchronized (this) {
+                running = 1;
+            }
+            start(primary);
+            disposables.add(schedule(this::hedge, delay));
+        }
+
+        private void start(Attempt attempt) {
+            disposables.add(attempt.invocation().subscribe(() -> onComplete(attempt), throwable -> onError(attempt, throwable)));
+        }
+
+        private void hedge() {
+            final Attempt hedge;
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+
+                // EndpointInvoker overrides the request endpoint. We need to set it back to original state to resolve another endpoint.
+                ctx.setAttribute(ATTR_REQUEST_ENDPOINT, originalEndpoint);
+                ctx.removeInternalAttribute(ATTR_INTERNAL_MANAGED_ENDPOINT);
+                hedge = attempt(ctx);
+
+                if (hedge.endpoint() == null || hedge.endpoint() == primary.endpoint() || !budget.tryAcquireRetry()) {
+                    primary.restore(ctx);
+                    return;
+                }
+                running++;
+            }
+            start(hedge);
+        }
+
+        private void onComplete(Attempt attempt) {
+            synchronized (this) {
+                if (finished) {
+                    return;
+                }
+                finished = true;
+                attempt.restore(ctx);
+                // Entrypoint connectors skip response handling if there is an error, the other request may have failed in the meantime.
+                ctx.removeInternalAttribute(ATTR_INTERNAL_EXECUTION_FAILURE);
+            }
+            // Cancel the pending hedge or the slowest request.
+            disposables.dispose();
+            emitter.onComplete();
+        }
+
+        private void onError(Attempt attempt, Throwable throwable) {
+            synchronized (this) {
+                if (finished || --running > 0) {
+                    return;
+                }
+                finished = true;
+                attempt.restore(ctx);
+            }
+            disposables.dispose();
+            emitter.onError(throwable);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.hedging;
+
+import io.gravitee.node.api.configuration.Configuration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Gateway level options of the {@link HedgingInvoker}, applied to every v4 proxy API when enabled.
+ *
+ * @author GraviteeSource Team
+ */
+@Getter
+@Builder(toBuilder = true)
+public class HedgingOptions {
+
+    public static final String ENABLED_PROPERTY = "api.hedging.enabled";
+    public static final String PERCENTILE_PROPERTY = "api.hedging.percentile";
+    public static final String WINDOW_PROPERTY = "api.hedging.window";
+    public static final String MIN_SAMPLES_PROPERTY = "api.hedging.minSamples";
+    public static final String MIN_DELAY_PROPERTY = "api.hedging.minDelay";
+    public static final String BUDGET_PERCENT_PROPERTY = "api.hedging.budget.percent";
+    public static final String BUDGET_MIN_HEDGES_PER_SECOND_PROPERTY = "api.hedging.budget.minHedgesPerSecond";
+
+    public static final HedgingOptions DEFAULT = HedgingOptions.builder().build();
+
+    @Builder.Default
+    private final boolean enabled = false;
+
+    /**
+     * Percentile of the endpoint latency after which a hedged request is sent to another endpoint.
+     */
+    @Builder.Default
+    private final double percentile = 95;
+
+    /**
+     * Rolling window (in milliseconds) over which the endpoint latencies are observed.
+     */
+    @Builder.Default
+    private final long window = 10_000L;
+
+    /**
+     * Minimum number of latencies observed on an endpoint before hedging the requests targeting it.
+     */
+    @Builder.Default
+    private final long minSamples = 20L;
+
+    /**
+     * Minimum delay (in milliseconds) before sending a hedged request, whatever the observed latency.
+     */
+    @Builder.Default
+    private final long minDelay = 5L;
+
+    /**
+     * Maximum percentage of hedged requests compared to the number of requests over the window.
+     */
+    @Builder.Default
+    private final int budgetPercent = 10;
+
+    /**
+     * Number of hedged requests per second always allowed whatever the traffic.
+     */
+    @Builder.Default
+    private final int budgetMinHedgesPerSecond = 1;
+
+    public static HedgingOptions from(Configuration configuration) {
+        if (!Boolean.TRUE.equals(configuration.getProperty(ENABLED_PROPERTY, Boolean.class, false))) {
+            return DEFAULT;
+        }
+
+        return HedgingOptions.builder()
+            .enabled(true)
+            .percentile(configuration.getProperty(PERCENTILE_PROPERTY, Double.class, 95D))
+            .window(configuration.getProperty(WINDOW_PROPERTY, Long.class, 10_000L))
+            .minSamples(configuration.getProperty(MIN_SAMPLES_PROPERTY, Long.class, 20L))
+            .minDelay(configuration.getProperty(MIN_DELAY_PROPERTY, Long.class, 5L))
+            .budgetPercent(configuration.getProperty(BUDGET_PERCENT_PROPERTY, Integer.class, 10))
+            .budgetMinHedgesPerSecond(configuration.getProperty(BUDGET_MIN_HEDGES_PER_SECOND_PROPERTY, Integer.class, 1))
+            .build();
+    }
+}
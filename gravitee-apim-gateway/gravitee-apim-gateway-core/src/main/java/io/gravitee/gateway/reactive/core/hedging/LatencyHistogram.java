@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.hedging;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Records latencies over a rolling time window in order to estimate a percentile without keeping the samples.
+ *
+ * <p>
+ *     Latencies are counted in logarithmic buckets, each power of two being divided in four sub buckets, which keeps the estimation
+ *     within 25% of the real value whatever the magnitude. The window is divided in two slots which are lazily reset when the clock
+ *     wraps around them, so the percentile is always computed over the last half window at least and the last window at most.
+ * </p>
+ *
+ * @author GraviteeSource Team
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 22;
+    static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+    private static final int SLOT_COUNT = 2;
+
+    private final long slotDuration;
+    private final LongSupplier clock;
+
+    private final AtomicLongArray slotStarts;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray totals;
+
+    public LatencyHistogram(long windowMillis) {
+        this(windowMillis, System::currentTimeMillis);
+    }
+
+    LatencyHistogram(long windowMillis, LongSupplier clock) {
+        this.slotDuration = Math.max(1, windowMillis / SLOT_COUNT);
+        this.clock = clock;
+        this.slotStarts = new AtomicLongArray(SLOT_COUNT);
+        this.counts = new AtomicLongArray(SLOT_COUNT * BUCKET_COUNT);
+        this.totals = new AtomicLongArray(SLOT_COUNT);
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param latencyMillis the latency in milliseconds.
+     */
+    public void record(long latencyMillis) {
+        final int slot = currentSlot();
+        counts.incrementAndGet(slot * BUCKET_COUNT + bucketIndex(latencyMillis));
+        totals.incrementAndGet(slot);
+    }
+
+    /**
+     * Estimate the given percentile of the latencies recorded over the window.
+     *
+     * @param percentile the percentile to compute, between 0 and 100.
+     * @param minSamples the minimum number of samples required to consider the estimation as relevant.
+     *
+     * @return the estimated latency in milliseconds, or <code>-1</code> if less than <code>minSamples</code> latencies have been recorded.
+     */
+    public long percentile(double percentile, long minSamples) {
+        currentSlot();
+        final boolean[] liveSlots = liveSlots();
+
+        long total = 0;
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            if (liveSlots[slot]) {
+                total += totals.get(slot);
+            }
+        }
+
+        if (total == 0 || total < minSamples) {
+            return -1;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                if (liveSlots[slot]) {
+                    seen += counts.get(slot * BUCKET_COUNT + bucket);
+                }
+            }
+            if (seen >= rank) {
+                return bucketUpperBound(bucket);
+            }
+        }
+        return bucketUpperBound(BUCKET_COUNT - 1);
+    }
+
+    static int bucketIndex(long latencyMillis) {
+        if (latencyMillis < SUB_BUCKETS) {
+            return (int) Math.max(0, latencyMillis);
+        }
+        final int magnitude = 63 - Long.numberOfLeadingZeros(latencyMillis);
+        final int subBucket = (int) ((latencyMillis >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return Math.min(BUCKET_COUNT - 1, (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket);
+    }
+
+    static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private int currentSlot() {
+        final long now = clock.getAsLong();
+        final long slotStart = now - (now % slotDuration);
+        final int slot = (int) ((now / slotDuration) % SLOT_COUNT);
+        final long previousStart = slotStarts.get(slot);
+
+        if (previousStart != slotStart && slotStarts.compareAndSet(slot, previousStart, slotStart)) {
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                counts.set(slot * BUCKET_COUNT + bucket, 0);
+            }
+            totals.set(slot, 0);
+        }
+        return slot;
+    }
+
+    private boolean[] liveSlots() {
+        final long windowStart = clock.getAsLong() - SLOT_COUNT * slotDuration;
+        final boolean[] live = new boolean[SLOT_COUNT];
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            live[slot] = slotStarts.get(slot) > windowStart;
+        }
+        return live;
+    }
+}
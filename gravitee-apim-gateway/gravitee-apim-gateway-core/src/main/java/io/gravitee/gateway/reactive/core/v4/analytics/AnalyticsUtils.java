@@ -39,6 +39,24 @@ public class AnalyticsUtils {
         final String loggingExcludedResponseType,
         final TracingContext tracingContext,
         final LogGuardService logGuardService
+    ) {
+        return createAnalyticsContext(
+            apiV2,
+            loggingMaxsize,
+            loggingExcludedResponseType,
+            tracingContext,
+            logGuardService,
+            LogCaptureOptions.DEFAULT
+        );
+    }
+
+    public static AnalyticsContext createAnalyticsContext(
+        @Nonnull final io.gravitee.definition.model.Api apiV2,
+        final String loggingMaxsize,
+        final String loggingExcludedResponseType,
+        final TracingContext tracingContext,
+        final LogGuardService logGuardService,
+        final LogCaptureOptions logCaptureOptions
     ) {
         io.gravitee.definition.model.Logging loggingV2 = apiV2.getProxy().getLogging();
 
@@ -68,6 +86,7 @@ public class AnalyticsUtils {
         loggingContext.setMaxSizeLogMessage(loggingMaxsize);
         loggingContext.setExcludedResponseTypes(loggingExcludedResponseType);
         loggingContext.setLogGuardService(logGuardService);
+        loggingContext.setCaptureOptions(logCaptureOptions);
         return new AnalyticsContext(analytics, loggingContext, tracingContext);
     }
 
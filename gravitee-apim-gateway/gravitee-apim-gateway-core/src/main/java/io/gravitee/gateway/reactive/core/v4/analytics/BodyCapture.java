@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.analytics;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Captures the chunks of a payload to log.
+ * <p>
+ * Chunks are copied into pooled direct buffers sized to what is actually kept rather than into a growing heap buffer, and the bytes
+ * held by all the in-flight captures of an API are limited by its {@link CaptureBudget}. When the payload exceeds the max size, either
+ * only its beginning is kept ({@link LogCaptureOptions.Truncation#HEAD}) or its beginning and its end
+ * ({@link LogCaptureOptions.Truncation#HEAD_TAIL}).
+ * <p>
+ * {@link #complete()} copies the captured bytes into a {@link CapturedBody} and gives the pooled memory back. The capture must be
+ * {@link #release() released} if the payload is not fully consumed.
+ *
+ * @author GraviteeSource Team
+ */
+public class BodyCapture {
+
+    private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int headCapacity;
+    private final int tailCapacity;
+    private final CaptureBudget budget;
+
+    private ByteBuf head;
+    private ByteBuf tail;
+    private long totalLength;
+    private long tailLength;
+    private long reserved;
+    private boolean headClosed;
+    private boolean tailDisabled;
+    private boolean released;
+
+    BodyCapture(int maxSize, LogCaptureOptions.Truncation truncation, CaptureBudget budget) {
+        if (maxSize < 0) {
+            this.headCapacity = Integer.MAX_VALUE;
+            this.tailCapacity = 0;
+        } else if (truncation == LogCaptureOptions.Truncation.HEAD_TAIL) {
+            this.tailCapacity = maxSize / 2;
+            this.headCapacity = maxSize - tailCapacity;
+        } else {
+            this.headCapacity = maxSize;
+            this.tailCapacity = 0;
+        }
+        this.budget = budget;
+    }
+
+    public synchronized void append(Buffer chunk) {
+        if (released) {
+            return;
+        }
+
+        final int length = chunk.length();
+        final ByteBuf source = chunk.getNativeBuffer();
+        final int sourceIndex = source.readerIndex();
+        int offset = 0;
+
+        totalLength += length;
+
+        if (!headClosed) {
+            final int headLength = head == null ? 0 : head.writerIndex();
+            final int wanted = (int) Math.min(headCapacity - (long) headLength, length);
+            final int granted = wanted > 0 ? budget.reserve(wanted) : 0;
+
+            if (granted > 0) {
+                reserved += granted;
+                head().writeBytes(source, sourceIndex, granted);
+                offset = granted;
+            }
+            if (granted < wanted || headLength + granted >= headCapacity) {
+                // The head must stay contiguous, nothing can be appended once a byte has been skipped.
+                headClosed = true;
+            }
+        }
+
+        if (offset < length && tailCapacity > 0) {
+            appendTail(source, sourceIndex + offset, length - offset);
+        }
+    }
+
+    /**
+     * Ends the capture.
+     *
+     * @return the captured body.
+     */
+    public synchronized CapturedBody complete() {
+        if (released) {
+            return CapturedBody.EMPTY;
+        }
+
+        final int headLength = head == null ? 0 : head.writerIndex();
+        final int tailKept = tail == null ? 0 : (int) Math.min(tailLength, tailCapacity);
+        final long truncated = totalLength - headLength - tailKept;
+        final byte[] marker = tailCapacity > 0 && truncated > 0
+            ? ("\n[... " + truncated + " bytes truncated ...]\n").getBytes(StandardCharsets.UTF_8)
+            : new byte[0];
+
+        final byte[] bytes = new byte[headLength + marker.length + tailKept];
+        if (headLength > 0) {
+            head.getBytes(0, bytes, 0, headLength);
+        }
+        System.arraycopy(marker, 0, bytes, headLength, marker.length);
+        if (tailKept > 0) {
+            final int offset = headLength + marker.length;
+            if (tailLength <= tailCapacity) {
+                tail.getBytes(0, bytes, offset, tailKept);
+            } else {
+                // The tail is a ring, its oldest byte is at the next write position.
+                final int start = (int) (tailLength % tailCapacity);
+                tail.getBytes(start, bytes, offset, tailCapacity - start);
+                tail.getBytes(0, bytes, offset + tailCapacity - start, start);
+            }
+        }
+
+        release();
+        return new CapturedBody(bytes);
+    }
+
+    /**
+     * Gives the pooled memory and the reserved budget back, without producing any body.
+     */
+    public synchronized void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+
+        if (head != null) {
+            head.release();
+            head = null;
+        }
+        if (tail != null) {
+            tail.release();
+            tail = null;
+        }
+        budget.release(reserved);
+        reserved = 0;
+    }
+
+    private ByteBuf head() {
+        if (head == null) {
+            head = ALLOCATOR.directBuffer(Math.min(INITIAL_CAPACITY, headCapacity), headCapacity);
+        }
+        return head;
+    }
+
+    private void appendTail(ByteBuf source, int index, int length) {
+        if (tailDisabled) {
+            return;
+        }
+
+        if (tail == null) {
+            // A partially reserved ring would leave holes in the tail, it is either fully reserved or not used at all.
+            final int granted = budget.reserve(tailCapacity);
+            if (granted < tailCapacity) {
+                budget.release(granted);
+                tailDisabled = true;
+                return;
+            }
+            reserved += granted;
+            tail = ALLOCATOR.directBuffer(tailCapacity, tailCapacity);
+        }
+
+        // Only the last bytes can be kept.
+        final int skipped = Math.max(0, length - tailCapacity);
+        tailLength += skipped;
+        index += skipped;
+        length -= skipped;
+
+        while (length > 0) {
+            final int position = (int) (tailLength % tailCapacity);
+            final int written = Math.min(length, tailCapacity - position);
+            tail.setBytes(position, source, index, written);
+            tailLength += written;
+            index += written;
+            length -= written;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.analytics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Number of payload bytes the {@link BodyCapture}s of an API can hold at the same time.
+ *
+ * @author GraviteeSource Team
+ */
+class CaptureBudget {
+
+    static final CaptureBudget UNLIMITED = new CaptureBudget(-1);
+
+    private final long limit;
+    private final AtomicLong used = new AtomicLong();
+
+    CaptureBudget(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Reserves up to <code>requested</code> bytes.
+     *
+     * @return the number of bytes actually reserved, less than requested when the budget is almost exhausted.
+     */
+    int reserve(int requested) {
+        if (limit < 0) {
+            return requested;
+        }
+
+        while (true) {
+            final long current = used.get();
+            final int granted = (int) Math.min(requested, limit - current);
+            if (granted <= 0) {
+                return 0;
+            }
+            if (used.compareAndSet(current, current + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    void release(long bytes) {
+        if (limit >= 0 && bytes > 0) {
+            used.addAndGet(-bytes);
+        }
+    }
+
+    long used() {
+        return used.get();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.analytics;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Payload captured by a {@link BodyCapture}, only decoded when the reporter formats it.
+ *
+ * @author GraviteeSource Team
+ */
+public final class CapturedBody {
+
+    static final CapturedBody EMPTY = new CapturedBody(new byte[0]);
+
+    private final byte[] bytes;
+    private String decoded;
+
+    CapturedBody(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public int length() {
+        return bytes.length;
+    }
+
+    @Override
+    public String toString() {
+        // Decoding twice in case of concurrent calls is harmless.
+        String result = decoded;
+        if (result == null) {
+            result = new String(bytes, StandardCharsets.UTF_8);
+            decoded = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.analytics;
+
+import io.gravitee.common.utils.SizeUtils;
+import io.gravitee.node.api.configuration.Configuration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Gateway level options controlling how much of the traffic is logged and how the payloads are captured by the {@link LoggingContext} of
+ * each API.
+ *
+ * @author GraviteeSource Team
+ */
+@Getter
+@Builder(toBuilder = true)
+public class LogCaptureOptions {
+
+    public static final String SAMPLING_TYPE_PROPERTY = "reporters.logging.sampling.type";
+    public static final String SAMPLING_VALUE_PROPERTY = "reporters.logging.sampling.value";
+    public static final String CAPTURE_BUDGET_PROPERTY = "reporters.logging.capture.budget";
+    public static final String CAPTURE_TRUNCATION_PROPERTY = "reporters.logging.capture.truncation";
+
+    public static final LogCaptureOptions DEFAULT = LogCaptureOptions.builder().build();
+
+    @Builder.Default
+    private final SamplingType samplingType = SamplingType.NONE;
+
+    /**
+     * Probability (between 0 and 1) for a request to be logged with the <code>PROBABILITY</code> sampling, maximum number of requests
+     * logged per second and per API with the <code>RATE</code> sampling.
+     */
+    @Builder.Default
+    private final double samplingValue = 1;
+
+    /**
+     * Maximum number of payload bytes held at the same time by the in-flight captures of an API. -1 means no limit.
+     */
+    @Builder.Default
+    private final long captureBudget = -1;
+
+    @Builder.Default
+    private final Truncation truncation = Truncation.HEAD;
+
+    public static LogCaptureOptions from(Configuration configuration) {
+        final String samplingType = configuration.getProperty(SAMPLING_TYPE_PROPERTY, String.class, null);
+        final Double samplingValue = configuration.getProperty(SAMPLING_VALUE_PROPERTY, Double.class, null);
+        final String truncation = configuration.getProperty(CAPTURE_TRUNCATION_PROPERTY, String.class, null);
+
+        return LogCaptureOptions.builder()
+            .samplingType(samplingType != null ? SamplingType.valueOf(samplingType.toUpperCase()) : SamplingType.NONE)
+            .samplingValue(samplingValue != null ? samplingValue : 1D)
+            .captureBudget(toBytes(configuration.getProperty(CAPTURE_BUDGET_PROPERTY, String.class, null)))
+            .truncation(truncation != null ? Truncation.valueOf(truncation.toUpperCase()) : Truncation.HEAD)
+            .build();
+    }
+
+    private static long toBytes(String size) {
+        try {
+            return SizeUtils.toBytes(size);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public enum SamplingType {
+        /**
+         * Every request matching the logging condition is logged.
+         */
+        NONE,
+        /**
+         * Each request matching the logging condition is logged with a given probability.
+         */
+        PROBABILITY,
+        /**
+         * At most a given number of requests matching the logging condition are logged each second.
+         */
+        RATE,
+    }
+
+    public enum Truncation {
+        /**
+         * Payloads exceeding the max size are cut, only their beginning is kept.
+         */
+        HEAD,
+        /**
+         * Payloads exceeding the max size keep their beginning and their end, separated by the number of bytes removed.
+         */
+        HEAD_TAIL,
+    }
+}
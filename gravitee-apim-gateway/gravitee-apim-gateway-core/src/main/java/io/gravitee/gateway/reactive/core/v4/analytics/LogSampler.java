@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.analytics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether a request matching the logging condition of an API is actually logged, according to the configured
+ * {@link LogCaptureOptions.SamplingType}.
+ *
+ * @author GraviteeSource Team
+ */
+class LogSampler {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final LogCaptureOptions.SamplingType type;
+    private final double value;
+    private final LongSupplier clock;
+
+    /**
+     * Current second in the upper 32 bits, number of requests sampled during this second in the lower 32 bits.
+     */
+    private final AtomicLong window = new AtomicLong();
+
+    LogSampler(LogCaptureOptions options) {
+        this(options, System::currentTimeMillis);
+    }
+
+    LogSampler(LogCaptureOptions options, LongSupplier clock) {
+        this.type = options.getSamplingType();
+        this.value = options.getSamplingValue();
+        this.clock = clock;
+    }
+
+    boolean sample() {
+        return switch (type) {
+            case NONE -> true;
+            case PROBABILITY -> value >= 1 || (value > 0 && ThreadLocalRandom.current().nextDouble() < value);
+            case RATE -> acquire();
+        };
+    }
+
+    private boolean acquire() {
+        final long second = clock.getAsLong() / 1000;
+
+        while (true) {
+            final long current = window.get();
+            final long next;
+
+            if ((current >>> 32) != second) {
+                next = (second << 32) | 1;
+            } else if ((current & COUNT_MASK) >= value) {
+                return false;
+            } else {
+                next = current + 1;
+            }
+
+            if (window.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -42,6 +42,10 @@ public class LoggingContext implements ConditionSupplier {
     @Setter
     private LogGuardService logGuardService;
 
+    private LogCaptureOptions captureOptions = LogCaptureOptions.DEFAULT;
+    private LogSampler sampler = new LogSampler(LogCaptureOptions.DEFAULT);
+    private CaptureBudget captureBudget = CaptureBudget.UNLIMITED;
+
     private final LoggableContentType loggableContentType;
 
     public LoggingContext(Logging logging) {
@@ -128,6 +132,38 @@ public class LoggingContext implements ConditionSupplier {
         }
     }
 
+    /**
+     * Define how the requests are sampled and how their payloads are captured.
+     * The capture budget is shared by all the requests of the API this logging context belongs to.
+     *
+     * @param captureOptions the capture options configured at the gateway level.
+     */
+    public void setCaptureOptions(LogCaptureOptions captureOptions) {
+        this.captureOptions = captureOptions;
+        this.sampler = new LogSampler(captureOptions);
+        this.captureBudget = captureOptions.getCaptureBudget() < 0
+            ? CaptureBudget.UNLIMITED
+            : new CaptureBudget(captureOptions.getCaptureBudget());
+    }
+
+    /**
+     * Determines if a request matching the logging condition must actually be logged according to the sampling configuration.
+     *
+     * @return true if the request must be logged
+     */
+    public boolean isSampled() {
+        return sampler.sample();
+    }
+
+    /**
+     * Creates a new capture for a payload, bounded by the max size of the log messages and the capture budget of the API.
+     *
+     * @return a new {@link BodyCapture}.
+     */
+    public BodyCapture newBodyCapture() {
+        return new BodyCapture(maxSizeLogMessage, captureOptions.getTruncation(), captureBudget);
+    }
+
     public boolean isContentTypeLoggable(final String contentType, BaseExecutionContext ctx) {
         return loggableContentType.isContentTypeLoggable(contentType, ctx);
     }
@@ -26,6 +26,7 @@ import io.gravitee.gateway.env.GatewayConfiguration;
 import io.gravitee.gateway.reactive.api.connector.endpoint.BaseEndpointConnector;
 import io.gravitee.gateway.reactive.api.connector.endpoint.BaseEndpointConnectorFactory;
 import io.gravitee.gateway.reactive.api.context.DeploymentContext;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetectionOptions;
 import io.gravitee.plugin.endpoint.EndpointConnectorPluginManager;
 import java.util.ArrayList;
 import java.util.List;
@@ -55,12 +56,23 @@ public class DefaultEndpointManager extends AbstractService<EndpointManager> imp
     private final Map<String, String> endpointVariables;
     private final Map<String, BiConsumer<Event, ManagedEndpoint>> listeners;
     private final Optional<String> tenant;
+    private final OutlierDetectionOptions outlierDetectionOptions;
 
     public DefaultEndpointManager(
         final Api api,
         final EndpointConnectorPluginManager endpointConnectorPluginManager,
         final DeploymentContext deploymentContext,
         final GatewayConfiguration gatewayConfiguration
+    ) {
+        this(api, endpointConnectorPluginManager, deploymentContext, gatewayConfiguration, OutlierDetectionOptions.DEFAULT);
+    }
+
+    public DefaultEndpointManager(
+        final Api api,
+        final EndpointConnectorPluginManager endpointConnectorPluginManager,
+        final DeploymentContext deploymentContext,
+        final GatewayConfiguration gatewayConfiguration,
+        final OutlierDetectionOptions outlierDetectionOptions
     ) {
         this.api = api;
         this.endpointsByName = new ConcurrentHashMap<>(1);
@@ -71,6 +83,7 @@ public class DefaultEndpointManager extends AbstractService<EndpointManager> imp
         this.deploymentContext = deploymentContext;
         this.disabledEndpoints = ConcurrentHashMap.newKeySet(0);
         this.tenant = gatewayConfiguration.tenant();
+        this.outlierDetectionOptions = outlierDetectionOptions;
     }
 
     @Override
@@ -221,7 +234,7 @@ public class DefaultEndpointManager extends AbstractService<EndpointManager> imp
     }
 
     private ManagedEndpointGroup createAndStartGroup(final EndpointGroup endpointGroup) {
-        final ManagedEndpointGroup managedEndpointGroup = new DefaultManagedEndpointGroup(endpointGroup);
+        final ManagedEndpointGroup managedEndpointGroup = new DefaultManagedEndpointGroup(endpointGroup, outlierDetectionOptions);
         groupsByName.put(endpointGroup.getName(), managedEndpointGroup);
 
         for (Endpoint endpoint : endpointGroup.getEndpoints()) {
@@ -22,6 +22,8 @@ import io.gravitee.gateway.reactive.api.ApiType;
 import io.gravitee.gateway.reactive.api.ConnectorMode;
 import io.gravitee.gateway.reactive.core.v4.endpoint.loadbalancer.LoadBalancerStrategy;
 import io.gravitee.gateway.reactive.core.v4.endpoint.loadbalancer.LoadBalancerStrategyFactory;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetectionOptions;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetector;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -43,10 +45,15 @@ public class DefaultManagedEndpointGroup implements ManagedEndpointGroup {
 
     private final Map<String, ManagedEndpoint> primariesByName;
     private final Map<String, ManagedEndpoint> secondariesByName;
+    private final OutlierDetector outlierDetector;
     private Set<ConnectorMode> supportedModes;
     private ApiType supportedApi;
 
     public DefaultManagedEndpointGroup(final EndpointGroup definition) {
+        this(definition, OutlierDetectionOptions.DEFAULT);
+    }
+
+    public DefaultManagedEndpointGroup(final EndpointGroup definition, final OutlierDetectionOptions outlierDetectionOptions) {
         this.definition = definition;
         this.primaries = new CopyOnWriteArrayList<>();
         this.secondaries = new CopyOnWriteArrayList<>();
@@ -58,10 +65,17 @@ public class DefaultManagedEndpointGroup implements ManagedEndpointGroup {
             : LoadBalancerType.ROUND_ROBIN;
         this.primaryLB = LoadBalancerStrategyFactory.create(loadBalancerType, primaries);
         this.secondaryLB = LoadBalancerStrategyFactory.create(loadBalancerType, secondaries);
+        this.outlierDetector = outlierDetectionOptions.isEnabled()
+            ? new OutlierDetector(outlierDetectionOptions, () -> primaries.size() + secondaries.size())
+            : null;
     }
 
     @Override
     public ManagedEndpoint next() {
+        if (outlierDetector != null) {
+            return nextNotEjected();
+        }
+
         final ManagedEndpoint next = primaryLB.next();
 
         if (next == null) {
@@ -71,6 +85,31 @@ public class DefaultManagedEndpointGroup implements ManagedEndpointGroup {
         return next;
     }
 
+    private ManagedEndpoint nextNotEjected() {
+        final ManagedEndpoint primary = nextNotEjected(primaryLB, primaries.size());
+
+        if (primary == null || outlierDetector.isEjected(primary)) {
+            final ManagedEndpoint secondary = nextNotEjected(secondaryLB, secondaries.size());
+
+            // Ejection must never leave the group without any endpoint, fall back on an ejected one if needed.
+            if (secondary != null && (primary == null || !outlierDetector.isEjected(secondary))) {
+                return secondary;
+            }
+        }
+
+        return primary;
+    }
+
+    private ManagedEndpoint nextNotEjected(LoadBalancerStrategy loadBalancer, int size) {
+        ManagedEndpoint next = loadBalancer.next();
+
+        for (int attempt = 1; attempt < size && next != null && outlierDetector.isEjected(next); attempt++) {
+            next = loadBalancer.next();
+        }
+
+        return next;
+    }
+
     @Override
     public ManagedEndpoint addManagedEndpoint(ManagedEndpoint managedEndpoint) {
         final Endpoint endpointDefinition = managedEndpoint.getDefinition();
@@ -113,6 +152,10 @@ public class DefaultManagedEndpointGroup implements ManagedEndpointGroup {
             secondaryLB.refresh();
         }
 
+        if (managedEndpoint != null && outlierDetector != null) {
+            outlierDetector.remove(managedEndpoint);
+        }
+
         return managedEndpoint;
     }
 
@@ -121,6 +164,11 @@ public class DefaultManagedEndpointGroup implements ManagedEndpointGroup {
         return definition;
     }
 
+    @Override
+    public OutlierDetector getOutlierDetector() {
+        return outlierDetector;
+    }
+
     @Override
     public Set<ConnectorMode> supportedModes() {
         return supportedModes == null ? Collections.emptySet() : supportedModes;
@@ -18,6 +18,7 @@ package io.gravitee.gateway.reactive.core.v4.endpoint;
 import io.gravitee.definition.model.v4.endpointgroup.EndpointGroup;
 import io.gravitee.gateway.reactive.api.ApiType;
 import io.gravitee.gateway.reactive.api.ConnectorMode;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetector;
 import java.util.Set;
 
 /**
@@ -35,6 +36,15 @@ public interface ManagedEndpointGroup {
 
     EndpointGroup getDefinition();
 
+    /**
+     * Get the passive outlier detector of the group, fed by the results of the invocations of its endpoints.
+     *
+     * @return the outlier detector, or <code>null</code> if the outlier detection is disabled.
+     */
+    default OutlierDetector getOutlierDetector() {
+        return null;
+    }
+
     Set<ConnectorMode> supportedModes();
 
     ApiType supportedApi();
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.endpoint.outlier;
+
+import io.gravitee.node.api.configuration.Configuration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Gateway level options of the passive {@link OutlierDetector} maintained by each endpoint group of the v4 APIs.
+ *
+ * @author GraviteeSource Team
+ */
+@Getter
+@Builder(toBuilder = true)
+public class OutlierDetectionOptions {
+
+    public static final String ENABLED_PROPERTY = "api.outlierDetection.enabled";
+    public static final String CONSECUTIVE_FAILURES_PROPERTY = "api.outlierDetection.consecutiveFailures";
+    public static final String BASE_EJECTION_TIME_PROPERTY = "api.outlierDetection.baseEjectionTime";
+    public static final String MAX_EJECTION_TIME_PROPERTY = "api.outlierDetection.maxEjectionTime";
+    public static final String MAX_EJECTION_PERCENT_PROPERTY = "api.outlierDetection.maxEjectionPercent";
+    public static final String LATENCY_FACTOR_PROPERTY = "api.outlierDetection.latency.factor";
+    public static final String LATENCY_MIN_SAMPLES_PROPERTY = "api.outlierDetection.latency.minSamples";
+
+    public static final OutlierDetectionOptions DEFAULT = OutlierDetectionOptions.builder().build();
+
+    @Builder.Default
+    private final boolean enabled = false;
+
+    /**
+     * Number of consecutive failures (connection errors or 5xx responses) after which an endpoint is ejected.
+     */
+    @Builder.Default
+    private final int consecutiveFailures = 5;
+
+    /**
+     * Duration (in milliseconds) of the first ejection of an endpoint. It doubles each time the endpoint is ejected again.
+     */
+    @Builder.Default
+    private final long baseEjectionTime = 30_000L;
+
+    /**
+     * Maximum duration (in milliseconds) of an ejection.
+     */
+    @Builder.Default
+    private final long maxEjectionTime = 300_000L;
+
+    /**
+     * Maximum percentage of the endpoints of a group which can be ejected at the same time.
+     */
+    @Builder.Default
+    private final int maxEjectionPercent = 50;
+
+    /**
+     * An endpoint is ejected when its average latency exceeds the average latency of the other endpoints of the group by this factor.
+     * Zero or less disables the latency based detection.
+     */
+    @Builder.Default
+    private final double latencyFactor = 3;
+
+    /**
+     * Minimum number of responses received from an endpoint before considering its latency.
+     */
+    @Builder.Default
+    private final long latencyMinSamples = 20L;
+
+    public static OutlierDetectionOptions from(Configuration configuration) {
+        if (!Boolean.TRUE.equals(configuration.getProperty(ENABLED_PROPERTY, Boolean.class, false))) {
+            return DEFAULT;
+        }
+
+        return OutlierDetectionOptions.builder()
+            .enabled(true)
+            .consecutiveFailures(configuration.getProperty(CONSECUTIVE_FAILURES_PROPERTY, Integer.class, 5))
+            .baseEjectionTime(configuration.getProperty(BASE_EJECTION_TIME_PROPERTY, Long.class, 30_000L))
+            .maxEjectionTime(configuration.getProperty(MAX_EJECTION_TIME_PROPERTY, Long.class, 300_000L))
+            .maxEjectionPercent(configuration.getProperty(MAX_EJECTION_PERCENT_PROPERTY, Integer.class, 50))
+            .latencyFactor(configuration.getProperty(LATENCY_FACTOR_PROPERTY, Double.class, 3D))
+            .latencyMinSamples(configuration.getProperty(LATENCY_MIN_SAMPLES_PROPERTY, Long.class, 20L))
+            .build();
+    }
+}
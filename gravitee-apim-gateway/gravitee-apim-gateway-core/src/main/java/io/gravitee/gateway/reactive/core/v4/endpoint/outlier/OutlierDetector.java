@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.endpoint.outlier;
+
+import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpoint;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import lombok.CustomLog;
+
+/**
+ * Passively detects the outliers of an endpoint group from the results of the live traffic and ejects them temporarily.
+ *
+ * <p>
+ *     An endpoint is ejected after a number of consecutive failures (connection errors or 5xx responses), or when its average latency
+ *     deviates from the average latency of the other endpoints of the group. Each new ejection of the same endpoint doubles its duration,
+ *     up to a maximum, and the number of endpoints ejected at the same time is capped to a percentage of the group.
+ *     Ejected endpoints automatically come back in the rotation once their ejection has elapsed.
+ * </p>
+ *
+ * @author GraviteeSource Team
+ */
+@CustomLog
+public class OutlierDetector {
+
+    private static final double LATENCY_SMOOTHING = 0.1;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final OutlierDetectionOptions options;
+    private final IntSupplier endpointCount;
+    private final LongSupplier clock;
+    private final Map<ManagedEndpoint, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * End of the latest ejection, used to avoid looking up the endpoint stats when no endpoint is ejected.
+     */
+    private volatile long ejectionsEnd;
+
+    public OutlierDetector(OutlierDetectionOptions options, IntSupplier endpointCount) {
+        this(options, endpointCount, System::currentTimeMillis);
+    }
+
+    OutlierDetector(OutlierDetectionOptions options, IntSupplier endpointCount, LongSupplier clock) {
+        this.options = options;
+        this.endpointCount = endpointCount;
+        this.clock = clock;
+    }
+
+    /**
+     * Indicates if the given endpoint is currently ejected and must not be selected.
+     *
+     * @param endpoint the endpoint to check.
+     * @return <code>true</code> if the endpoint is ejected, <code>false</code> otherwise.
+     */
+    public boolean isEjected(ManagedEndpoint endpoint) {
+        final long now = clock.getAsLong();
+        if (ejectionsEnd <= now) {
+            return false;
+        }
+        final EndpointStats endpointStats = stats.get(endpoint);
+        return endpointStats != null && endpointStats.isEjected(now);
+    }
+
+    /**
+     * Report a successful invocation of the given endpoint.
+     *
+     * @param endpoint the endpoint invoked.
+     * @param latencyMillis the time taken by the endpoint to respond, in milliseconds.
+     */
+    public void onSuccess(ManagedEndpoint endpoint, long latencyMillis) {
+        final EndpointStats endpointStats = stats(endpoint);
+        if (endpointStats.isEjected(clock.getAsLong())) {
+            return;
+        }
+
+        endpointStats.consecutiveFailures.set(0);
+        endpointStats.recordLatency(latencyMillis);
+
+        if (options.getLatencyFactor() > 0 && isLatencyOutlier(endpoint, endpointStats)) {
+            eject(endpoint, endpointStats, "latency deviation");
+        }
+    }
+
+    /**
+     * Report a failed invocation of the given endpoint, either a connection error or a 5xx response.
+     *
+     * @param endpoint the endpoint invoked.
+     */
+    public void onFailure(ManagedEndpoint endpoint) {
+        final EndpointStats endpointStats = stats(endpoint);
+        if (endpointStats.isEjected(clock.getAsLong())) {
+            return;
+        }
+
+        if (endpointStats.consecutiveFailures.incrementAndGet() >= options.getConsecutiveFailures()) {
+            eject(endpoint, endpointStats, "consecutive failures");
+        }
+    }
+
+    /**
+     * Forget everything known about an endpoint removed from the group.
+     *
+     * @param endpoint the endpoint removed.
+     */
+    public void remove(ManagedEndpoint endpoint) {
+        stats.remove(endpoint);
+    }
+
+    private EndpointStats stats(ManagedEndpoint endpoint) {
+        return stats.computeIfAbsent(endpoint, e -> new EndpointStats());
+    }
+
+    private boolean isLatencyOutlier(ManagedEndpoint endpoint, EndpointStats endpointStats) {
+        if (endpointStats.samples() < options.getLatencyMinSamples()) {
+            return false;
+        }
+
+        final long now = clock.getAsLong();
+        double othersLatency = 0;
+        int others = 0;
+        for (Map.Entry<ManagedEndpoint, EndpointStats> entry : stats.entrySet()) {
+            final EndpointStats other = entry.getValue();
+            if (entry.getKey() != endpoint && !other.isEjected(now) && other.samples() >= options.getLatencyMinSamples()) {
+                othersLatency += other.latency();
+                others++;
+            }
+        }
+
+        return others > 0 && endpointStats.latency() > options.getLatencyFactor() * othersLatency / others;
+    }
+
+    private synchronized void eject(ManagedEndpoint endpoint, EndpointStats endpointStats, String reason) {
+        final long now = clock.getAsLong();
+        if (endpointStats.isEjected(now) || countEjected(now) >= maxEjections()) {
+            return;
+        }
+
+        // Forget the previous ejections once the endpoint has behaved long enough since the last one.
+        if (endpointStats.ejectedUntil > 0 && now - endpointStats.ejectedUntil > options.getMaxEjectionTime()) {
+            endpointStats.ejections = 0;
+        }
+
+        final long duration = Math.min(
+            options.getMaxEjectionTime(),
+            options.getBaseEjectionTime() << Math.min(endpointStats.ejections, MAX_BACKOFF_SHIFT)
+        );
+        endpointStats.ejections++;
+        endpointStats.ejectedUntil = now + duration;
+        endpointStats.consecutiveFailures.set(0);
+        endpointStats.resetLatency();
+        ejectionsEnd = Math.max(ejectionsEnd, endpointStats.ejectedUntil);
+
+        log.warn("Endpoint [{}] is ejected for {}ms because of {}", endpoint.getDefinition().getName(), duration, reason);
+    }
+
+    private int countEjected(long now) {
+        int ejected = 0;
+        for (EndpointStats endpointStats : stats.values()) {
+            if (endpointStats.isEjected(now)) {
+                ejected++;
+            }
+        }
+        return ejected;
+    }
+
+    private int maxEjections() {
+        final int count = endpointCount.getAsInt();
+        if (count <= 1 || options.getMaxEjectionPercent() <= 0) {
+            // Ejecting the only endpoint of a group would not help.
+            return 0;
+        }
+        return Math.max(1, count * options.getMaxEjectionPercent() / 100);
+    }
+
+    private static final class EndpointStats {
+
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile long ejectedUntil;
+        private int ejections;
+        private double latency;
+        private long samples;
+
+        private boolean isEjected(long now) {
+            return ejectedUntil > now;
+        }
+
+        private synchronized void recordLatency(long latencyMillis) {
+            latency = samples == 0 ? latencyMillis : latency + LATENCY_SMOOTHING * (latencyMillis - latency);
+            samples++;
+        }
+
+        private synchronized void resetLatency() {
+            latency = 0;
+            samples = 0;
+        }
+
+        private synchronized double latency() {
+            return latency;
+        }
+
+        private synchronized long samples() {
+            return samples;
+        }
+    }
+}
@@ -30,10 +30,14 @@ import io.gravitee.gateway.reactive.api.context.ExecutionContext;
 import io.gravitee.gateway.reactive.api.context.http.HttpExecutionContext;
 import io.gravitee.gateway.reactive.api.invoker.HttpInvoker;
 import io.gravitee.gateway.reactive.api.invoker.Invoker;
+import io.gravitee.gateway.reactive.core.context.interruption.InterruptionFailureException;
 import io.gravitee.gateway.reactive.core.v4.endpoint.EndpointCriteria;
 import io.gravitee.gateway.reactive.core.v4.endpoint.EndpointManager;
 import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpoint;
+import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpointGroup;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetector;
 import io.reactivex.rxjava3.core.Completable;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -52,6 +56,11 @@ public class HttpEndpointInvoker implements HttpInvoker, Invoker {
     public static final String NO_ENDPOINT_FOUND_KEY = "NO_ENDPOINT_FOUND";
     public static final String INVALID_HTTP_METHOD = "INVALID_HTTP_METHOD";
 
+    /**
+     * Internal attribute holding the {@link ManagedEndpoint} selected for the current invocation.
+     */
+    public static final String ATTR_INTERNAL_MANAGED_ENDPOINT = "endpoint.managed";
+
     private final EndpointManager endpointManager;
 
     public HttpEndpointInvoker(final EndpointManager endpointManager) {
@@ -70,7 +79,8 @@ public class HttpEndpointInvoker implements HttpInvoker, Invoker {
 
     @Override
     public Completable invoke(final HttpExecutionContext ctx) {
-        final HttpEndpointConnector endpointConnector = resolveConnector(ctx);
+        final ManagedEndpoint managedEndpoint = resolveEndpoint(ctx);
+        final HttpEndpointConnector endpointConnector = managedEndpoint != null ? managedEndpoint.getConnector() : null;
 
         if (endpointConnector == null) {
             final String endpointTarget = ctx.getAttribute(ATTR_REQUEST_ENDPOINT);
@@ -88,12 +98,49 @@ public class HttpEndpointInvoker implements HttpInvoker, Invoker {
         }
 
         if (endpointConnector instanceof EndpointConnector legacyEndpointConnector) {
-            return connect((legacyEndpointConnector), ((ExecutionContext) ctx));
+            return detectOutliers(ctx, managedEndpoint, connect((legacyEndpointConnector), ((ExecutionContext) ctx)));
         }
-        return connect(endpointConnector, ctx);
+        return detectOutliers(ctx, managedEndpoint, connect(endpointConnector, ctx));
+    }
+
+    /**
+     * Feed the outlier detector of the endpoint group, when enabled, with the result of the invocation.
+     * Connection errors and 5xx responses are failures, interruptions not caused by the endpoint are ignored.
+     */
+    private Completable detectOutliers(
+        final HttpExecutionContext ctx,
+        final ManagedEndpoint managedEndpoint,
+        final Completable invocation
+    ) {
+        final ManagedEndpointGroup managedGroup = managedEndpoint.getGroup();
+        final OutlierDetector outlierDetector = managedGroup != null ? managedGroup.getOutlierDetector() : null;
+
+        if (outlierDetector == null) {
+            return invocation;
+        }
+
+        return Completable.defer(() -> {
+            final long start = System.nanoTime();
+            return invocation
+                .doOnComplete(() -> {
+                    if (ctx.response().status() >= HttpStatusCode.INTERNAL_SERVER_ERROR_500) {
+                        outlierDetector.onFailure(managedEndpoint);
+                    } else {
+                        outlierDetector.onSuccess(managedEndpoint, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    }
+                })
+                .doOnError(throwable -> {
+                    if (
+                        !(throwable instanceof InterruptionFailureException interruption) ||
+                        interruption.getExecutionFailure().statusCode() >= HttpStatusCode.INTERNAL_SERVER_ERROR_500
+                    ) {
+                        outlierDetector.onFailure(managedEndpoint);
+                    }
+                });
+        });
     }
 
-    private <T extends HttpEndpointConnector> T resolveConnector(final HttpExecutionContext ctx) {
+    private ManagedEndpoint resolveEndpoint(final HttpExecutionContext ctx) {
         final HttpEntrypointConnector entrypointConnector = ctx.getInternalAttribute(ATTR_INTERNAL_ENTRYPOINT_CONNECTOR);
 
         final EndpointCriteria endpointCriteria = new EndpointCriteria(
@@ -125,10 +172,10 @@ public class HttpEndpointInvoker implements HttpInvoker, Invoker {
         if (managedEndpoint != null) {
             HttpEndpointConnector endpointConnector = managedEndpoint.getConnector();
             ctx.setInternalAttribute(ATTR_INTERNAL_ENDPOINT_CONNECTOR_ID, endpointConnector.id());
-            return (T) endpointConnector;
+            ctx.setInternalAttribute(ATTR_INTERNAL_MANAGED_ENDPOINT, managedEndpoint);
         }
 
-        return null;
+        return managedEndpoint;
     }
 
     // Do not remove this method until all connectors are migrated to HttpEndpointConnectors#connect(HttpExecutionContext ctx)
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.id;
+
+import io.gravitee.common.http.IdGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of generating a request id with each of the formats supported by <code>handlers.request.format</code>, with as
+ * many threads as event loops would use under load.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Fork(value = 1)
+public class IdGeneratorBenchmark {
+
+    @Param({ "uuid", "hex", "fast-uuid", "uuid-v7", "hex-128", "base62" })
+    public String format;
+
+    private IdGenerator idGenerator;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(IdGeneratorBenchmark.class.getSimpleName()).addProfiler("gc").forks(1).build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        idGenerator = IdGenerators.of(format);
+    }
+
+    @Benchmark
+    public String bench_randomString() {
+        return idGenerator.randomString();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.core.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.gravitee.common.http.IdGenerator;
+import io.gravitee.common.utils.Hex;
+import io.gravitee.common.utils.UUID;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IdGeneratorsTest {
+
+    private static final Pattern UUID_V4 = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}");
+    private static final Pattern UUID_V7 = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-7[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}");
+    private static final Pattern HEX_128 = Pattern.compile("[0-9a-f]{32}");
+    private static final Pattern BASE62 = Pattern.compile("[0-9A-Za-z]{22}");
+
+    @Test
+    void should_resolve_generator_from_format() {
+        assertThat(IdGenerators.of(null)).isInstanceOf(UUID.class);
+        assertThat(IdGenerators.of("uuid")).isInstanceOf(UUID.class);
+        assertThat(IdGenerators.of("unknown")).isInstanceOf(UUID.class);
+        assertThat(IdGenerators.of("hex")).isInstanceOf(Hex.class);
+        assertThat(IdGenerators.of("fast-uuid")).isInstanceOf(RandomUuidGenerator.class);
+        assertThat(IdGenerators.of("uuid-v7")).isInstanceOf(TimeOrderedUuidGenerator.class);
+        assertThat(IdGenerators.of("hex-128")).isInstanceOf(CompactIdGenerator.class);
+        assertThat(IdGenerators.of("base62")).isInstanceOf(CompactIdGenerator.class);
+    }
+
+    @Test
+    void should_generate_random_uuids() {
+        final String id = new RandomUuidGenerator().randomString();
+
+        assertThat(id).matches(UUID_V4);
+        assertThat(java.util.UUID.fromString(id).version()).isEqualTo(4);
+        assertThat(java.util.UUID.fromString(id).variant()).isEqualTo(2);
+    }
+
+    @Test
+    void should_generate_time_ordered_uuids() {
+        final TimeOrderedUuidGenerator cut = new TimeOrderedUuidGenerator(() -> 0x0123456789ABL);
+        final String id = cut.randomString();
+
+        assertThat(id).matches(UUID_V7).startsWith("01234567-89ab-7");
+        assertThat(java.util.UUID.fromString(id).version()).isEqualTo(7);
+        assertThat(java.util.UUID.fromString(id).variant()).isEqualTo(2);
+    }
+
+    @Test
+    void should_sort_time_ordered_uuids_by_creation_time() {
+        final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        final TimeOrderedUuidGenerator cut = new TimeOrderedUuidGenerator(clock::getAndIncrement);
+
+        final List<String> ids = IntStream.range(0, 1_000).mapToObj(i -> cut.randomString()).toList();
+
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    void should_generate_compact_ids() {
+        assertThat(new CompactIdGenerator(CompactIdGenerator.Encoding.HEX).randomString()).matches(HEX_128);
+        assertThat(new CompactIdGenerator(CompactIdGenerator.Encoding.BASE62).randomString()).matches(BASE62);
+    }
+
+    @Test
+    void should_encode_128_bits_in_base62() {
+        final String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+        final long[][] values = { { 0, 0 }, { 0, 61 }, { 0, 62 }, { -1, -1 }, { 0x0123456789ABCDEFL, 0xFEDCBA9876543210L } };
+
+        for (long[] value : values) {
+            final byte[] bytes = new byte[IdEncoding.BASE62_LENGTH];
+            IdEncoding.writeBase62(value[0], value[1], bytes, 0);
+
+            final BigInteger expected = new BigInteger(1, toBytes(value[0], value[1]));
+            BigInteger actual = BigInteger.ZERO;
+            for (byte digit : bytes) {
+                actual = actual.multiply(BigInteger.valueOf(62)).add(BigInteger.valueOf(alphabet.indexOf(digit)));
+            }
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "fast-uuid", "uuid-v7", "hex-128", "base62" })
+    void should_generate_unique_ids_across_threads(String format) {
+        final IdGenerator cut = IdGenerators.of(format);
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 200_000).parallel().forEach(i -> ids.add(cut.randomString()));
+
+        assertThat(ids).hasSize(200_000);
+    }
+
+    private static byte[] toBytes(long high, long low) {
+        final byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (high >>> (56 - 8 * i));
+            bytes[8 + i] = (byte) (low >>> (56 - 8 * i));
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.condition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.el.TemplateEngine;
+import io.gravitee.gateway.api.http.HttpHeaders;
+import io.gravitee.gateway.reactive.api.context.base.BaseExecutionContext;
+import io.gravitee.gateway.reactive.api.context.http.HttpPlainExecutionContext;
+import io.gravitee.gateway.reactive.api.context.http.HttpPlainRequest;
+import io.gravitee.gateway.reactive.api.el.EvaluableRequest;
+import io.reactivex.rxjava3.core.Maybe;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ConditionCompilerTest {
+
+    private static final String[] CONDITIONS = {
+        "true",
+        "FALSE",
+        "{true}",
+        "{(true)}",
+        " {#request.method == 'GET'} ",
+        "{  #request.method == 'GET' && true}",
+        "{#request.method == 'GET' || false}",
+        "{#request.headers['X-Tenant'][0] == 'acme'}",
+        "{#request.headers['x-tenant'][0] != 'acme'}",
+        "{#request.headers[\"X-Tenant\"][0] == \"it''s\"}",
+        "{#request.headers['X-Quote'][0] == 'it''s'}",
+        "{#request.headers['X-Tenant'] != null}",
+        "{#request.headers['X-Missing'] == null}",
+        "{#request.headers['X-Missing'][0] == 'acme'}",
+        "{#request.headers['X-Missing'] != null && #request.headers['X-Missing'][0] == 'acme'}",
+        "{#request.method == 'GET'}",
+        "{#request.method != 'GET'}",
+        "{#request.method == 'POST' || #request.method == 'PUT' || #request.method == 'GET'}",
+        "{#request.path matches '/products/[0-9]+'}",
+        "{#request.path matches '/products/.*' && #request.method == 'DELETE'}",
+        "{#request.pathInfo == '/42'}",
+        "{#request.pathInfo == '/{id}'}",
+        "{#request.pathInfo != '/42'}",
+        "{#request.path matches '['}",
+        "{#request.method == 'GET' or #request.method == 'POST'}",
+        "{(#request.method == 'GET')}",
+        "{#request.headers['X-Tenant'][0].startsWith('ac')}",
+        "{#request.method == 'GET'}{#request.method == 'GET'}",
+        "foo",
+    };
+
+    private static Stream<Arguments> provideConditionsAndRequests() {
+        return Stream.of(CONDITIONS).flatMap(condition ->
+            Stream.of(
+                Arguments.of(condition, HttpMethod.GET, "/products/42", "/42", "acme"),
+                Arguments.of(condition, HttpMethod.POST, "/products/abc", "/abc", "other"),
+                Arguments.of(condition, HttpMethod.DELETE, "/orders/42", "/42", null)
+            )
+        );
+    }
+
+    @ParameterizedTest(name = "{0} [{1} {2}, tenant {4}]")
+    @MethodSource("provideConditionsAndRequests")
+    void should_evaluate_as_the_el_engine(String condition, HttpMethod method, String path, String pathInfo, String tenant) {
+        final HttpPlainRequest request = mock(HttpPlainRequest.class);
+        final HttpHeaders headers = HttpHeaders.create().set("X-Quote", "it's");
+        if (tenant != null) {
+            headers.set("X-Tenant", tenant);
+        }
+        lenient().when(request.headers()).thenReturn(headers);
+        lenient().when(request.method()).thenReturn(method);
+        lenient().when(request.path()).thenReturn(path);
+        lenient().when(request.pathInfo()).thenReturn(pathInfo);
+
+        final TemplateEngine templateEngine = TemplateEngine.templateEngine();
+        templateEngine.getTemplateContext().setVariable("request", new EvaluableRequest(request));
+
+        final HttpPlainExecutionContext ctx = mock(HttpPlainExecutionContext.class);
+        lenient().when(ctx.request()).thenReturn(request);
+        lenient().when(ctx.getTemplateEngine()).thenReturn(templateEngine);
+
+        final Outcome expected = Outcome.of(templateEngine.eval(condition, Boolean.class));
+        final Outcome actual = Outcome.of(ConditionCompiler.doCompile(condition).evaluate(ctx));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+            "true",
+            "{#request.method == 'GET' && true}",
+            "{#request.headers['X-Tenant'][0] == 'acme'}",
+            "{#request.headers['X-Missing'] == null}",
+            "{#request.method == 'PUT' || #request.method == 'GET'}",
+            "{#request.path matches '/products/.*' && #request.pathInfo == '/42'}",
+        }
+    )
+    void should_not_use_the_el_engine_for_supported_conditions(String condition) {
+        final HttpPlainRequest request = mock(HttpPlainRequest.class);
+        lenient().when(request.headers()).thenReturn(HttpHeaders.create().set("X-Tenant", "acme"));
+        lenient().when(request.method()).thenReturn(HttpMethod.GET);
+        lenient().when(request.path()).thenReturn("/products/42");
+        lenient().when(request.pathInfo()).thenReturn("/42");
+        final HttpPlainExecutionContext ctx = mock(HttpPlainExecutionContext.class);
+        lenient().when(ctx.request()).thenReturn(request);
+
+        ConditionCompiler.doCompile(condition).evaluate(ctx).test().assertResult(true);
+
+        verify(ctx, never()).getTemplateEngine();
+    }
+
+    @Nested
+    class Compile {
+
+        @Test
+        void should_reuse_compiled_condition() {
+            final ConditionCompiler cut = new ConditionCompiler();
+
+            assertThat(cut.compile("{#request.method == 'GET'}")).isSameAs(cut.compile("{#request.method == 'GET'}"));
+        }
+
+        @Test
+        void should_fold_constant_conditions_without_context() {
+            final ConditionCompiler cut = new ConditionCompiler();
+
+            cut.compile(" true ").evaluate(null).test().assertResult(true);
+            cut.compile("False").evaluate(null).test().assertResult(false);
+        }
+
+        @Test
+        void should_use_the_el_engine_when_request_is_not_available() {
+            final BaseExecutionContext ctx = mock(BaseExecutionContext.class);
+            final TemplateEngine templateEngine = mock(TemplateEngine.class);
+            lenient().when(ctx.getTemplateEngine()).thenReturn(templateEngine);
+            lenient().when(templateEngine.eval("{#request.method == 'GET'}", Boolean.class)).thenReturn(Maybe.just(true));
+
+            new ConditionCompiler().compile("{#request.method == 'GET'}").evaluate(ctx).test().assertResult(true);
+        }
+    }
+
+    /**
+     * Result of an evaluation: the emitted value, nothing, or the type of the error.
+     */
+    private record Outcome(Boolean value, Class<? extends Throwable> error) {
+        static Outcome of(Maybe<Boolean> evaluation) {
+            try {
+                return new Outcome(evaluation.blockingGet(), null);
+            } catch (RuntimeException e) {
+                return new Outcome(null, e.getClass());
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.context;
+
+import static io.gravitee.gateway.reactive.api.context.ContextAttributes.*;
+import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Simulates the attribute accesses of a request going through a chain of policies (security, quota, transformations, EL evaluations)
+ * and compares the slot-based {@link ContextAttributeMap} with the plain {@link HashMap} based store it replaces.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class ContextAttributeMapBenchmark {
+
+    private static final int POLICIES = 10;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(ContextAttributeMapBenchmark.class.getSimpleName()).forks(1).build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public void bench_slotAttributes(Blackhole blackhole) {
+        runPolicyChain(new ContextAttributeMap(), ContextAttributeMap.internalAttributes(), blackhole);
+    }
+
+    @Benchmark
+    public void bench_hashMapAttributes(Blackhole blackhole) {
+        runPolicyChain(new HashMapContextAttributeMap(), new HashMap<>(), blackhole);
+    }
+
+    private static void runPolicyChain(Map<String, Object> attributes, Map<String, Object> internalAttributes, Blackhole blackhole) {
+        // Request processors.
+        attributes.put(ATTR_API, "api-id");
+        attributes.put(ATTR_API_NAME, "api-name");
+        attributes.put(ATTR_ENVIRONMENT, "DEFAULT");
+        attributes.put(ATTR_ORGANIZATION, "DEFAULT");
+        attributes.put(ATTR_CONTEXT_PATH, "/echo");
+        internalAttributes.put(ATTR_INTERNAL_REACTABLE_API, "reactable");
+        internalAttributes.put(ATTR_INTERNAL_API_TYPE, "PROXY");
+        internalAttributes.put(ATTR_INTERNAL_INVOKER, "invoker");
+
+        // Security chain.
+        internalAttributes.put(ATTR_INTERNAL_SECURITY_TOKEN, "token");
+        attributes.put(ATTR_PLAN, "plan-id");
+        attributes.put(ATTR_APPLICATION, "application-id");
+        attributes.put(ATTR_SUBSCRIPTION_ID, "subscription-id");
+        internalAttributes.put(ATTR_INTERNAL_SUBSCRIPTION, "subscription");
+
+        for (int i = 0; i < POLICIES; i++) {
+            internalAttributes.put(ATTR_INTERNAL_FLOW_STAGE, "api");
+            internalAttributes.put(ATTR_INTERNAL_EXECUTION_COMPONENT_SCOPE, "policy");
+
+            // EL expressions reading unprefixed attributes, e.g. {#context.attributes['plan']}.
+            blackhole.consume(attributes.get("api"));
+            blackhole.consume(attributes.get("plan"));
+            blackhole.consume(attributes.get("application"));
+            blackhole.consume(attributes.get("custom-" + (i % 3)));
+
+            // Quota-like policies.
+            attributes.put(ATTR_QUOTA_COUNT, (long) i);
+            attributes.put(ATTR_QUOTA_REMAINING, (long) (POLICIES - i));
+            attributes.put(ATTR_QUOTA_LIMIT, (long) POLICIES);
+
+            // Custom attributes set by assign-attributes like policies.
+            attributes.put("custom-" + (i % 3), i);
+
+            blackhole.consume(internalAttributes.get(ATTR_INTERNAL_EXECUTION_FAILURE));
+            blackhole.consume(attributes.get(ATTR_REQUEST_ENDPOINT));
+        }
+
+        attributes.put(ATTR_REQUEST_ENDPOINT, "http://localhost:8080/echo");
+        blackhole.consume(attributes.size());
+        blackhole.consume(internalAttributes.size());
+    }
+
+    /**
+     * Previous implementation of {@link ContextAttributeMap}, kept as the baseline.
+     */
+    private static class HashMapContextAttributeMap extends HashMap<String, Object> {
+
+        private HashMapContextAttributeMap() {
+            super(12, 1.0f);
+        }
+
+        @Override
+        public Object get(Object key) {
+            Object value = super.get(key);
+            if (value != null) {
+                return value;
+            }
+            return super.get(ATTR_PREFIX + key);
+        }
+    }
+}
@@ -15,9 +15,15 @@
  */
 package io.gravitee.gateway.reactive.core.context;
 
+import static io.gravitee.gateway.reactive.api.context.ContextAttributes.ATTR_API;
+import static io.gravitee.gateway.reactive.api.context.ContextAttributes.ATTR_PLAN;
 import static io.gravitee.gateway.reactive.api.context.ContextAttributes.ATTR_PREFIX;
+import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes.ATTR_INTERNAL_INVOKER;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -102,4 +108,80 @@ class ContextAttributeMapTest {
         var contextAttributeMap = new ContextAttributeMap();
         assertNull(contextAttributeMap.getFallbackContextAttributeMap());
     }
+
+    @Nested
+    class WithWellKnownAttributes {
+
+        @Test
+        void should_retrieve_well_known_attribute_with_or_without_prefix() {
+            var contextAttributeMap = new ContextAttributeMap();
+            contextAttributeMap.put(ATTR_PLAN, "plan-id");
+
+            assertEquals("plan-id", contextAttributeMap.get(ATTR_PLAN));
+            assertEquals("plan-id", contextAttributeMap.get("plan"));
+            assertTrue(contextAttributeMap.containsKey("plan"));
+            assertEquals(1, contextAttributeMap.size());
+        }
+
+        @Test
+        void should_keep_null_value_of_well_known_attribute() {
+            var contextAttributeMap = new ContextAttributeMap();
+            contextAttributeMap.put(ATTR_PLAN, null);
+
+            assertTrue(contextAttributeMap.containsKey(ATTR_PLAN));
+            assertNull(contextAttributeMap.get(ATTR_PLAN));
+            assertEquals(1, contextAttributeMap.size());
+        }
+
+        @Test
+        void should_remove_well_known_attribute() {
+            var contextAttributeMap = new ContextAttributeMap();
+            contextAttributeMap.put(ATTR_PLAN, "plan-id");
+
+            assertEquals("plan-id", contextAttributeMap.remove(ATTR_PLAN));
+            assertFalse(contextAttributeMap.containsKey(ATTR_PLAN));
+            assertTrue(contextAttributeMap.isEmpty());
+        }
+
+        @Test
+        void should_expose_well_known_and_custom_attributes_in_map_views() {
+            var contextAttributeMap = new ContextAttributeMap();
+            contextAttributeMap.put(ATTR_API, "api-id");
+            contextAttributeMap.put(ATTR_PLAN, "plan-id");
+            contextAttributeMap.put("custom", "value");
+
+            assertThat(contextAttributeMap).containsOnly(
+                Map.entry(ATTR_API, "api-id"),
+                Map.entry(ATTR_PLAN, "plan-id"),
+                Map.entry("custom", "value")
+            );
+            assertThat(contextAttributeMap.keySet()).containsExactlyInAnyOrder(ATTR_API, ATTR_PLAN, "custom");
+            assertEquals(Map.of(ATTR_API, "api-id", ATTR_PLAN, "plan-id", "custom", "value"), contextAttributeMap);
+            assertEquals(new HashMap<>(contextAttributeMap), contextAttributeMap);
+        }
+
+        @Test
+        void should_update_and_remove_attributes_through_entry_set() {
+            var contextAttributeMap = new ContextAttributeMap();
+            contextAttributeMap.put(ATTR_API, "api-id");
+            contextAttributeMap.put(ATTR_PLAN, "plan-id");
+            contextAttributeMap.put("custom", "value");
+
+            contextAttributeMap.entrySet().forEach(entry -> entry.setValue(entry.getValue() + "-updated"));
+            contextAttributeMap.keySet().removeIf(key -> !key.equals(ATTR_PLAN));
+
+            assertEquals(Map.of(ATTR_PLAN, "plan-id-updated"), contextAttributeMap);
+        }
+
+        @Test
+        void should_store_well_known_internal_attributes_without_prefix_resolution() {
+            var internalAttributes = ContextAttributeMap.internalAttributes();
+            internalAttributes.put(ATTR_INTERNAL_INVOKER, "invoker");
+            internalAttributes.put(ATTR_PREFIX + "key", "value");
+
+            assertEquals("invoker", internalAttributes.get(ATTR_INTERNAL_INVOKER));
+            assertNull(internalAttributes.get("key"));
+            assertEquals(2, internalAttributes.size());
+        }
+    }
 }
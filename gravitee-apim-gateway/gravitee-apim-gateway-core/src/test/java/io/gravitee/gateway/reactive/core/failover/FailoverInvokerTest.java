@@ -17,10 +17,12 @@ package io.gravitee.gateway.reactive.core.failover;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.gravitee.definition.model.v4.failover.Failover;
 import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.reactive.api.ExecutionFailure;
@@ -32,6 +34,7 @@ import io.gravitee.gateway.reactive.core.context.MutableRequest;
 import io.gravitee.gateway.reactive.core.context.MutableResponse;
 import io.gravitee.gateway.reactive.core.context.interruption.InterruptionFailureException;
 import io.gravitee.gateway.reactive.core.v4.invoker.HttpEndpointInvoker;
+import io.gravitee.gateway.reactive.core.v4.invoker.StubBackend;
 import io.gravitee.reporter.api.v4.metric.Metrics;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Maybe;
@@ -203,4 +206,160 @@ class FailoverInvokerTest {
             .hasSize(1)
             .allSatisfy(ctx -> assertThat(ctx.<String>getAttribute(ContextAttributes.ATTR_REQUEST_ENDPOINT)).isEqualTo("endpoint-name"));
     }
+
+    @Test
+    void should_not_consume_body_when_no_retry_is_possible() {
+        cut = new FailoverInvoker(
+            endpointInvoker,
+            Failover.builder().slowCallDuration(500).maxRetries(0).perSubscription(false).build(),
+            API_ID
+        );
+        when(endpointInvoker.invoke(executionContext)).thenReturn(Completable.complete());
+
+        cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertComplete();
+
+        verify(request, never()).body();
+    }
+
+    @Test
+    void should_bound_subscription_circuit_breakers() {
+        cut = new FailoverInvoker(
+            endpointInvoker,
+            Failover.builder().slowCallDuration(500).maxRetries(0).perSubscription(true).build(),
+            API_ID,
+            FailoverOptions.builder().subscriptionCircuitBreakersMaxSize(2).build()
+        );
+        when(endpointInvoker.invoke(executionContext)).thenReturn(Completable.complete());
+
+        for (int i = 0; i < 10; i++) {
+            executionContext.setAttribute(ContextAttributes.ATTR_SUBSCRIPTION_ID, "subscription-" + i);
+            cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertComplete();
+        }
+
+        assertThat(cut.subscriptionCircuitBreakers.size()).isLessThanOrEqualTo(2);
+        assertThat(cut.circuitBreakerRegistry.getAllCircuitBreakers()).hasSizeLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void should_expire_unused_subscription_circuit_breakers() throws InterruptedException {
+        cut = new FailoverInvoker(
+            endpointInvoker,
+            Failover.builder().slowCallDuration(500).maxRetries(0).perSubscription(true).build(),
+            API_ID,
+            FailoverOptions.builder().subscriptionCircuitBreakersExpireAfterAccess(50).build()
+        );
+        when(endpointInvoker.invoke(executionContext)).thenReturn(Completable.complete());
+        executionContext.setAttribute(ContextAttributes.ATTR_SUBSCRIPTION_ID, "first-subscription");
+        cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertComplete();
+
+        Thread.sleep(100);
+        cut.subscriptionCircuitBreakers.cleanUp();
+
+        assertThat(cut.subscriptionCircuitBreakers.size()).isZero();
+        assertThat(cut.circuitBreakerRegistry.getAllCircuitBreakers()).isEmpty();
+    }
+
+    @Test
+    void should_open_circuit_breaker_of_flaky_endpoint_only() {
+        try (StubBackend backend = new StubBackend().failingEndpoint("flaky", 0).endpoint("healthy", 0)) {
+            backend.prepare(executionContext);
+            cut = new FailoverInvoker(
+                backend.invoker(),
+                Failover.builder()
+                    .slowCallDuration(500)
+                    .maxRetries(2)
+                    .maxFailures(2)
+                    .openStateDuration(60_000)
+                    .perSubscription(false)
+                    .build(),
+                API_ID,
+                FailoverOptions.builder().perEndpoint(true).build()
+            );
+
+            for (int i = 0; i < 20; i++) {
+                cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertComplete();
+            }
+
+            assertThat(cut.endpointCircuitBreakers.getUnchecked(backend.endpoint("flaky")).getState()).isEqualTo(
+                CircuitBreaker.State.OPEN
+            );
+            assertThat(cut.endpointCircuitBreakers.getUnchecked(backend.endpoint("healthy")).getState()).isEqualTo(
+                CircuitBreaker.State.CLOSED
+            );
+            // Once the circuit is open, the flaky backend is not called anymore: only the first failures have reached it.
+            assertThat(backend.calls("flaky")).isEqualTo(2);
+            assertThat(backend.calls("healthy")).isEqualTo(20);
+        }
+    }
+
+    @Test
+    void should_not_pick_endpoint_with_open_circuit_breaker() {
+        try (StubBackend backend = new StubBackend().failingEndpoint("flaky", 0).endpoint("healthy", 0)) {
+            backend.prepare(executionContext);
+            cut = new FailoverInvoker(
+                backend.invoker(),
+                Failover.builder()
+                    .slowCallDuration(500)
+                    .maxRetries(0)
+                    .maxFailures(2)
+                    .openStateDuration(60_000)
+                    .perSubscription(false)
+                    .build(),
+                API_ID,
+                FailoverOptions.builder().perEndpoint(true).build()
+            );
+
+            int failures = 0;
+            for (int i = 0; i < 20; i++) {
+                final boolean succeeded = cut
+                    .invoke(executionContext)
+                    .timeout(2, TimeUnit.SECONDS)
+                    .toSingleDefault(true)
+                    .onErrorReturnItem(false)
+                    .blockingGet();
+                if (!succeeded) {
+                    failures++;
+                }
+            }
+
+            // Without any retry, only the requests sent to the flaky endpoint before its circuit opened have failed.
+            assertThat(failures).isEqualTo(2);
+            assertThat(backend.calls("flaky")).isEqualTo(2);
+            assertThat(backend.calls("healthy")).isEqualTo(18);
+        }
+    }
+
+    @Test
+    void should_keep_subscription_circuit_breakers_when_per_endpoint_is_enabled() {
+        cut = new FailoverInvoker(
+            endpointInvoker,
+            Failover.builder().perSubscription(true).build(),
+            API_ID,
+            FailoverOptions.builder().perEndpoint(true).build()
+        );
+
+        assertThat(cut.endpointCircuitBreakers).isNull();
+        assertThat(cut.circuitBreaker).isNull();
+        assertThat(cut.circuitBreakerRegistry).isNotNull();
+    }
+
+    @Test
+    void should_limit_retries_with_retry_budget() {
+        try (StubBackend backend = new StubBackend().failingEndpoint("flaky", 0)) {
+            backend.prepare(executionContext);
+            cut = new FailoverInvoker(
+                backend.invoker(),
+                Failover.builder().slowCallDuration(500).maxRetries(2).maxFailures(1000).perSubscription(false).build(),
+                API_ID,
+                FailoverOptions.builder().retryBudgetEnabled(true).retryBudgetPercent(10).retryBudgetMinRetriesPerSecond(0).build()
+            );
+
+            for (int i = 0; i < 100; i++) {
+                cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertError(InterruptionFailureException.class);
+            }
+
+            // 100 requests and at most 10% of retries.
+            assertThat(backend.calls("flaky")).isLessThanOrEqualTo(110);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.failover;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RetryBudgetTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @Test
+    void should_allow_min_retries_per_second_without_traffic() {
+        final RetryBudget cut = new RetryBudget(10, 1, 10_000L, clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(cut.tryAcquireRetry()).isTrue();
+        }
+        assertThat(cut.tryAcquireRetry()).isFalse();
+        assertThat(cut.canRetry()).isFalse();
+    }
+
+    @Test
+    void should_allow_a_percentage_of_the_traffic() {
+        final RetryBudget cut = new RetryBudget(20, 0, 10_000L, clock::get);
+
+        for (int i = 0; i < 50; i++) {
+            cut.onRequest();
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(cut.tryAcquireRetry()).isTrue();
+        }
+        assertThat(cut.tryAcquireRetry()).isFalse();
+    }
+
+    @Test
+    void should_restore_budget_once_window_has_elapsed() {
+        final RetryBudget cut = new RetryBudget(20, 0, 2_000L, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            cut.onRequest();
+        }
+        assertThat(cut.tryAcquireRetry()).isTrue();
+        assertThat(cut.tryAcquireRetry()).isFalse();
+
+        clock.addAndGet(3_000L);
+        assertThat(cut.canRetry()).isFalse();
+
+        for (int i = 0; i < 5; i++) {
+            cut.onRequest();
+        }
+        assertThat(cut.tryAcquireRetry()).isTrue();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.reactive.api.ExecutionFailure;
+import io.gravitee.gateway.reactive.api.context.InternalContextAttributes;
+import io.gravitee.gateway.reactive.api.context.http.HttpExecutionContext;
+import io.gravitee.gateway.reactive.core.context.DefaultExecutionContext;
+import io.gravitee.gateway.reactive.core.context.MutableRequest;
+import io.gravitee.gateway.reactive.core.context.MutableResponse;
+import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpoint;
+import io.gravitee.gateway.reactive.core.v4.invoker.HttpEndpointInvoker;
+import io.gravitee.gateway.reactive.core.v4.invoker.StubBackend;
+import io.gravitee.reporter.api.v4.metric.Metrics;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.observers.TestObserver;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class HedgingInvokerTest {
+
+    private static final HedgingOptions OPTIONS = HedgingOptions.builder().enabled(true).minSamples(10).build();
+
+    @Mock
+    private MutableRequest request;
+
+    @Mock
+    private MutableResponse response;
+
+    @Mock
+    private Metrics metrics;
+
+    private HttpExecutionContext executionContext;
+
+    private StubBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        backend = new StubBackend();
+        executionContext = backend.prepare(new DefaultExecutionContext(request, response));
+        ((DefaultExecutionContext) executionContext).metrics(metrics);
+        lenient().when(request.method()).thenReturn(HttpMethod.GET);
+        lenient().when(request.body()).thenReturn(Maybe.just(Buffer.buffer("body")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        backend.close();
+    }
+
+    @Test
+    void should_return_id() {
+        assertThat(new HedgingInvoker(backend.invoker(), OPTIONS).getId()).isEqualTo("hedging-invoker");
+    }
+
+    @Test
+    void should_not_hedge_non_idempotent_requests() {
+        backend.endpoint("slow", 500).endpoint("fast", 0);
+        final HedgingInvoker cut = new HedgingInvoker(backend.invoker(), OPTIONS);
+        warmUp(cut, backend.endpoint("slow"), 10);
+        lenient().when(request.method()).thenReturn(HttpMethod.POST);
+
+        cut.invoke(executionContext).test().awaitDone(5, TimeUnit.SECONDS).assertComplete();
+
+        assertThat(backend.calls("slow")).isEqualTo(1);
+        assertThat(backend.calls("fast")).isZero();
+    }
+
+    @Test
+    void should_not_hedge_until_enough_latencies_have_been_observed() {
+        backend.endpoint("slow", 500).endpoint("fast", 0);
+        final HedgingInvoker cut = new HedgingInvoker(backend.invoker(), OPTIONS);
+        warmUp(cut, backend.endpoint("slow"), 10, 9);
+
+        cut.invoke(executionContext).test().awaitDone(5, TimeUnit.SECONDS).assertComplete();
+
+        assertThat(backend.calls("slow")).isEqualTo(1);
+        assertThat(backend.calls("fast")).isZero();
+    }
+
+    @Test
+    void should_hedge_to_another_endpoint_and_cancel_the_slow_request() {
+        backend.endpoint("slow", 5_000).endpoint("fast", 10);
+        final HedgingInvoker cut = new HedgingInvoker(backend.invoker(), OPTIONS);
+        warmUp(cut, backend.endpoint("slow"), 10);
+
+        // The p95 of the slow endpoint is 10ms: the hedged request is sent long before the slow one answers.
+        cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertComplete();
+
+        assertThat(backend.calls("slow")).isEqualTo(1);
+        assertThat(backend.calls("fast")).isEqualTo(1);
+        assertThat(backend.cancellations("slow")).isEqualTo(1);
+        assertThat(executionContext.<ManagedEndpoint>getInternalAttribute(HttpEndpointInvoker.ATTR_INTERNAL_MANAGED_ENDPOINT)).isSameAs(
+            backend.endpoint("fast")
+        );
+    }
+
+    @Test
+    void should_keep_first_response_and_cancel_the_hedged_request() {
+        backend.endpoint("first", 200).endpoint("second", 5_000);
+        final HedgingInvoker cut = new HedgingInvoker(backend.invoker(), OPTIONS);
+        warmUp(cut, backend.endpoint("first"), 10);
+
+        cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertComplete();
+
+        assertThat(backend.calls("second")).isEqualTo(1);
+        assertThat(backend.cancellations("second")).isEqualTo(1);
+        assertThat(executionContext.<ManagedEndpoint>getInternalAttribute(HttpEndpointInvoker.ATTR_INTERNAL_MANAGED_ENDPOINT)).isSameAs(
+            backend.endpoint("first")
+        );
+    }
+
+    @Test
+    void should_not_hedge_to_the_same_endpoint() {
+        backend.endpoint("single", 200);
+        final HedgingInvoker cut = new HedgingInvoker(backend.invoker(), OPTIONS);
+        warmUp(cut, backend.endpoint("single"), 10);
+
+        cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertComplete();
+
+        assertThat(backend.calls("single")).isEqualTo(1);
+        assertThat(executionContext.<ManagedEndpoint>getInternalAttribute(HttpEndpointInvoker.ATTR_INTERNAL_MANAGED_ENDPOINT)).isSameAs(
+            backend.endpoint("single")
+        );
+    }
+
+    @Test
+    void should_succeed_when_the_other_request_has_failed() {
+        backend.failingEndpoint("failing", 200).endpoint("healthy", 300);
+        final HedgingInvoker cut = new HedgingInvoker(backend.invoker(), OPTIONS);
+        warmUp(cut, backend.endpoint("failing"), 10);
+
+        cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertComplete();
+
+        assertThat(backend.calls("failing")).isEqualTo(1);
+        assertThat(backend.calls("healthy")).isEqualTo(1);
+        assertThat(executionContext.<ManagedEndpoint>getInternalAttribute(HttpEndpointInvoker.ATTR_INTERNAL_MANAGED_ENDPOINT)).isSameAs(
+            backend.endpoint("healthy")
+        );
+        assertThat(
+            executionContext.<ExecutionFailure>getInternalAttribute(InternalContextAttributes.ATTR_INTERNAL_EXECUTION_FAILURE)
+        ).isNull();
+    }
+
+    @Test
+    void should_fail_without_hedging_when_the_request_fails_before_the_delay() throws InterruptedException {
+        backend.failingEndpoint("failing", 0).endpoint("healthy", 0);
+        final HedgingInvoker cut = new HedgingInvoker(backend.invoker(), OPTIONS);
+        warmUp(cut, backend.endpoint("failing"), 200);
+
+        final TestObserver<Void> obs = cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS);
+        // Leave enough time for the hedged request to be sent if it had not been cancelled.
+        Thread.sleep(500);
+
+        obs.assertError(Exception.class);
+        assertThat(backend.calls("failing")).isEqualTo(1);
+        assertThat(backend.calls("healthy")).isZero();
+    }
+
+    @Test
+    void should_limit_hedged_requests_with_budget() {
+        backend.endpoint("slow", 30).endpoint("other", 30);
+        final HedgingInvoker cut = new HedgingInvoker(
+            backend.invoker(),
+            OPTIONS.toBuilder().budgetPercent(10).budgetMinHedgesPerSecond(0).build()
+        );
+        // Enough short latencies for the observed ones not to move the p95: every request would be hedged without the budget.
+        warmUp(cut, backend.endpoint("slow"), 1, 10_000);
+        warmUp(cut, backend.endpoint("other"), 1, 10_000);
+
+        for (int i = 0; i < 100; i++) {
+            cut.invoke(executionContext).test().awaitDone(2, TimeUnit.SECONDS).assertComplete();
+        }
+
+        // 100 requests and at most 10% of hedged requests.
+        assertThat(backend.calls("slow") + backend.calls("other")).isGreaterThan(100).isLessThanOrEqualTo(110);
+    }
+
+    private void warmUp(HedgingInvoker cut, ManagedEndpoint endpoint, long latency) {
+        warmUp(cut, endpoint, latency, OPTIONS.getMinSamples());
+    }
+
+    private void warmUp(HedgingInvoker cut, ManagedEndpoint endpoint, long latency, long samples) {
+        for (int i = 0; i < samples; i++) {
+            cut.latencies.getUnchecked(endpoint).record(latency);
+        }
+    }
+}
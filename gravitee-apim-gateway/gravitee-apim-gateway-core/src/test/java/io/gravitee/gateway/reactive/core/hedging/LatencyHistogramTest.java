@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class LatencyHistogramTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @Test
+    void should_map_each_latency_to_a_bucket_containing_it() {
+        for (long latency = 0; latency < 100_000; latency++) {
+            final int bucket = LatencyHistogram.bucketIndex(latency);
+            assertThat(LatencyHistogram.bucketUpperBound(bucket)).isGreaterThanOrEqualTo(latency);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.bucketUpperBound(bucket - 1)).isLessThan(latency);
+            }
+        }
+    }
+
+    @Test
+    void should_estimate_percentile_within_25_percent() {
+        final LatencyHistogram cut = new LatencyHistogram(10_000L, clock::get);
+
+        for (int latency = 1; latency <= 1000; latency++) {
+            cut.record(latency);
+        }
+
+        assertThat(cut.percentile(50, 1)).isBetween(500L, 625L);
+        assertThat(cut.percentile(95, 1)).isBetween(950L, 1188L);
+        assertThat(cut.percentile(100, 1)).isBetween(1000L, 1250L);
+    }
+
+    @Test
+    void should_not_estimate_percentile_without_enough_samples() {
+        final LatencyHistogram cut = new LatencyHistogram(10_000L, clock::get);
+
+        for (int i = 0; i < 9; i++) {
+            cut.record(10);
+        }
+        assertThat(cut.percentile(95, 10)).isEqualTo(-1);
+
+        cut.record(10);
+        assertThat(cut.percentile(95, 10)).isEqualTo(11);
+    }
+
+    @Test
+    void should_forget_latencies_once_window_has_elapsed() {
+        final LatencyHistogram cut = new LatencyHistogram(2_000L, clock::get);
+
+        cut.record(1000);
+        clock.addAndGet(1_000L);
+        cut.record(10);
+        assertThat(cut.percentile(100, 1)).isGreaterThanOrEqualTo(1000);
+
+        clock.addAndGet(1_000L);
+        assertThat(cut.percentile(100, 1)).isEqualTo(11);
+
+        clock.addAndGet(1_000L);
+        assertThat(cut.percentile(100, 1)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.analytics;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the allocations of a payload captured for logging with a growing heap {@link Buffer} decoded right away, as done before,
+ * with a {@link BodyCapture} whose body is only decoded when the reporter reads it (which some reporters never do).
+ * <p>
+ * Run with the GC profiler to compare the allocation rates: <code>-prof gc</code>.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BodyCaptureBenchmark {
+
+    /**
+     * Payload size and max size of the log messages, in bytes.
+     */
+    @Param({ "4096:-1", "65536:-1", "1048576:8192" })
+    public String payload;
+
+    @Param({ "1024", "16384" })
+    public int chunkSize;
+
+    private Buffer[] chunks;
+    private int maxSize;
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+            .include(BodyCaptureBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        final String[] sizes = payload.split(":");
+        final int payloadSize = Integer.parseInt(sizes[0]);
+        final byte[] bytes = new byte[payloadSize];
+        for (int i = 0; i < payloadSize; i++) {
+            bytes[i] = (byte) ('a' + (i % 26));
+        }
+
+        maxSize = Integer.parseInt(sizes[1]);
+        chunks = new Buffer[(payloadSize + chunkSize - 1) / chunkSize];
+        for (int i = 0; i < chunks.length; i++) {
+            final int from = i * chunkSize;
+            final byte[] chunk = new byte[Math.min(chunkSize, payloadSize - from)];
+            System.arraycopy(bytes, from, chunk, 0, chunk.length);
+            chunks[i] = Buffer.buffer(chunk);
+        }
+    }
+
+    @Benchmark
+    public void bench_heapBuffer(Blackhole blackhole) {
+        final Buffer buffer = Buffer.buffer();
+        for (Buffer chunk : chunks) {
+            BufferUtils.appendBuffer(buffer, chunk, maxSize);
+        }
+        blackhole.consume(buffer.toString());
+    }
+
+    @Benchmark
+    public void bench_bodyCapture(Blackhole blackhole) {
+        final BodyCapture capture = new BodyCapture(maxSize, LogCaptureOptions.Truncation.HEAD, CaptureBudget.UNLIMITED);
+        for (Buffer chunk : chunks) {
+            capture.append(chunk);
+        }
+        blackhole.consume(capture.complete());
+    }
+
+    @Benchmark
+    public void bench_bodyCaptureHeadTail(Blackhole blackhole) {
+        final BodyCapture capture = new BodyCapture(maxSize, LogCaptureOptions.Truncation.HEAD_TAIL, CaptureBudget.UNLIMITED);
+        for (Buffer chunk : chunks) {
+            capture.append(chunk);
+        }
+        blackhole.consume(capture.complete());
+    }
+}
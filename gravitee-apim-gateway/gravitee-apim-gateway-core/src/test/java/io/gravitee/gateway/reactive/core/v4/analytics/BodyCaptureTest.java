@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BodyCaptureTest {
+
+    private static final String PAYLOAD = "0123456789ABCDEFGHIJ";
+
+    @Test
+    void should_capture_whole_payload_without_max_size() {
+        final BodyCapture capture = new BodyCapture(-1, LogCaptureOptions.Truncation.HEAD, CaptureBudget.UNLIMITED);
+
+        appendInChunks(capture, PAYLOAD, 3);
+
+        assertThat(capture.complete()).hasToString(PAYLOAD);
+    }
+
+    @Test
+    void should_keep_head_of_payload_exceeding_max_size() {
+        final BodyCapture capture = new BodyCapture(5, LogCaptureOptions.Truncation.HEAD, CaptureBudget.UNLIMITED);
+
+        appendInChunks(capture, PAYLOAD, 3);
+
+        assertThat(capture.complete()).hasToString("01234");
+    }
+
+    @Test
+    void should_keep_head_and_tail_of_payload_exceeding_max_size() {
+        final BodyCapture capture = new BodyCapture(10, LogCaptureOptions.Truncation.HEAD_TAIL, CaptureBudget.UNLIMITED);
+
+        appendInChunks(capture, PAYLOAD, 3);
+
+        assertThat(capture.complete()).hasToString("01234\n[... 10 bytes truncated ...]\nFGHIJ");
+    }
+
+    @Test
+    void should_keep_tail_of_single_chunk_larger_than_max_size() {
+        final BodyCapture capture = new BodyCapture(10, LogCaptureOptions.Truncation.HEAD_TAIL, CaptureBudget.UNLIMITED);
+
+        capture.append(Buffer.buffer(PAYLOAD));
+
+        assertThat(capture.complete()).hasToString("01234\n[... 10 bytes truncated ...]\nFGHIJ");
+    }
+
+    @Test
+    void should_not_add_truncation_marker_when_payload_fits() {
+        final BodyCapture capture = new BodyCapture(30, LogCaptureOptions.Truncation.HEAD_TAIL, CaptureBudget.UNLIMITED);
+
+        appendInChunks(capture, PAYLOAD, 7);
+
+        assertThat(capture.complete()).hasToString(PAYLOAD);
+    }
+
+    @Test
+    void should_limit_capture_to_remaining_budget() {
+        final CaptureBudget budget = new CaptureBudget(8);
+        final BodyCapture capture = new BodyCapture(-1, LogCaptureOptions.Truncation.HEAD, budget);
+
+        appendInChunks(capture, PAYLOAD, 3);
+        assertThat(budget.used()).isEqualTo(8);
+
+        assertThat(capture.complete()).hasToString("01234567");
+        assertThat(budget.used()).isZero();
+    }
+
+    @Test
+    void should_not_capture_anything_when_budget_is_exhausted() {
+        final CaptureBudget budget = new CaptureBudget(10);
+        final BodyCapture first = new BodyCapture(-1, LogCaptureOptions.Truncation.HEAD, budget);
+        final BodyCapture second = new BodyCapture(-1, LogCaptureOptions.Truncation.HEAD, budget);
+
+        first.append(Buffer.buffer(PAYLOAD));
+        second.append(Buffer.buffer(PAYLOAD));
+
+        assertThat(second.complete()).hasToString("");
+        assertThat(first.complete()).hasToString("0123456789");
+        assertThat(budget.used()).isZero();
+    }
+
+    @Test
+    void should_skip_tail_when_budget_cannot_hold_it() {
+        final CaptureBudget budget = new CaptureBudget(5);
+        final BodyCapture capture = new BodyCapture(10, LogCaptureOptions.Truncation.HEAD_TAIL, budget);
+
+        appendInChunks(capture, PAYLOAD, 3);
+
+        assertThat(capture.complete()).hasToString("01234\n[... 15 bytes truncated ...]\n");
+        assertThat(budget.used()).isZero();
+    }
+
+    @Test
+    void should_give_budget_back_when_released_before_completion() {
+        final CaptureBudget budget = new CaptureBudget(100);
+        final BodyCapture capture = new BodyCapture(10, LogCaptureOptions.Truncation.HEAD_TAIL, budget);
+
+        appendInChunks(capture, PAYLOAD, 3);
+        assertThat(budget.used()).isEqualTo(10);
+
+        capture.release();
+        capture.release();
+
+        assertThat(budget.used()).isZero();
+        assertThat(capture.complete()).isSameAs(CapturedBody.EMPTY);
+    }
+
+    @Test
+    void should_decode_captured_body_once() {
+        final BodyCapture capture = new BodyCapture(-1, LogCaptureOptions.Truncation.HEAD, CaptureBudget.UNLIMITED);
+        capture.append(Buffer.buffer("héllo"));
+
+        final CapturedBody body = capture.complete();
+
+        assertThat(body.length()).isEqualTo(6);
+        assertThat(body.toString()).isEqualTo("héllo").isSameAs(body.toString());
+    }
+
+    private static void appendInChunks(BodyCapture capture, String payload, int chunkSize) {
+        for (int i = 0; i < payload.length(); i += chunkSize) {
+            capture.append(Buffer.buffer(payload.substring(i, Math.min(i + chunkSize, payload.length()))));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class LogSamplerTest {
+
+    @Test
+    void should_sample_every_request_by_default() {
+        final LogSampler cut = new LogSampler(LogCaptureOptions.DEFAULT);
+
+        assertThat(IntStream.range(0, 100).filter(i -> cut.sample()).count()).isEqualTo(100);
+    }
+
+    @Test
+    void should_never_sample_with_zero_probability() {
+        final LogSampler cut = new LogSampler(options(LogCaptureOptions.SamplingType.PROBABILITY, 0));
+
+        assertThat(IntStream.range(0, 100).filter(i -> cut.sample()).count()).isZero();
+    }
+
+    @Test
+    void should_sample_part_of_requests_with_probability() {
+        final LogSampler cut = new LogSampler(options(LogCaptureOptions.SamplingType.PROBABILITY, 0.5));
+
+        assertThat(IntStream.range(0, 10_000).filter(i -> cut.sample()).count()).isBetween(4_000L, 6_000L);
+    }
+
+    @Test
+    void should_sample_at_most_rate_requests_per_second() {
+        final AtomicLong clock = new AtomicLong(10_000);
+        final LogSampler cut = new LogSampler(options(LogCaptureOptions.SamplingType.RATE, 3), clock::get);
+
+        assertThat(IntStream.range(0, 10).filter(i -> cut.sample()).count()).isEqualTo(3);
+
+        clock.addAndGet(999);
+        assertThat(cut.sample()).isFalse();
+
+        clock.addAndGet(1);
+        assertThat(IntStream.range(0, 10).filter(i -> cut.sample()).count()).isEqualTo(3);
+    }
+
+    @Test
+    void should_share_rate_between_threads() {
+        final LogSampler cut = new LogSampler(options(LogCaptureOptions.SamplingType.RATE, 50), () -> 10_000);
+
+        assertThat(IntStream.range(0, 10_000).parallel().filter(i -> cut.sample()).count()).isEqualTo(50);
+    }
+
+    private static LogCaptureOptions options(LogCaptureOptions.SamplingType type, double value) {
+        return LogCaptureOptions.builder().samplingType(type).samplingValue(value).build();
+    }
+}
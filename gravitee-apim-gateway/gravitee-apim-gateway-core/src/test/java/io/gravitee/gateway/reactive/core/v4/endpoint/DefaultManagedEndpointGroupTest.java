@@ -22,6 +22,7 @@ import static org.mockito.Mockito.mock;
 import io.gravitee.definition.model.v4.endpointgroup.Endpoint;
 import io.gravitee.definition.model.v4.endpointgroup.EndpointGroup;
 import io.gravitee.gateway.reactive.api.connector.endpoint.EndpointConnector;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetectionOptions;
 import java.util.ArrayList;
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +35,10 @@ class DefaultManagedEndpointGroupTest {
     private static final String ENDPOINT_TYPE = "test";
     private static final String ENDPOINT_GROUP_CONFIG = "{ \"groupSharedConfig\": \"something\"}";
     private static final String ENDPOINT_CONFIG = "{ \"config\": \"something\"}";
+    private static final OutlierDetectionOptions OUTLIER_DETECTION_OPTIONS = OutlierDetectionOptions.builder()
+        .enabled(true)
+        .consecutiveFailures(2)
+        .build();
 
     @Test
     void shouldReturnNullEndpointWhenNoEndpointInTheGroup() {
@@ -111,6 +116,66 @@ class DefaultManagedEndpointGroupTest {
         assertThat(cut.next()).isNull();
     }
 
+    @Test
+    void shouldNotDetectOutliersByDefault() {
+        final ManagedEndpointGroup cut = new DefaultManagedEndpointGroup(buildEndpointGroup());
+
+        assertThat(cut.getOutlierDetector()).isNull();
+    }
+
+    @Test
+    void shouldSkipEjectedEndpoint() {
+        final EndpointGroup endpointGroup = buildEndpointGroup();
+        final ManagedEndpointGroup cut = new DefaultManagedEndpointGroup(endpointGroup, OUTLIER_DETECTION_OPTIONS);
+
+        final ManagedEndpoint failing = mockManagedEndpoint(endpointGroup.getEndpoints().get(0), cut);
+        final ManagedEndpoint healthy = mockManagedEndpoint(endpointGroup.getEndpoints().get(1), cut);
+        cut.addManagedEndpoint(failing);
+        cut.addManagedEndpoint(healthy);
+
+        cut.getOutlierDetector().onFailure(failing);
+        cut.getOutlierDetector().onFailure(failing);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(cut.next()).isSameAs(healthy);
+        }
+    }
+
+    @Test
+    void shouldReturnSecondaryManagedEndpointWhenPrimaryIsEjected() {
+        final EndpointGroup endpointGroup = buildEndpointGroup();
+        final ManagedEndpointGroup cut = new DefaultManagedEndpointGroup(endpointGroup, OUTLIER_DETECTION_OPTIONS);
+
+        final Endpoint secondary = endpointGroup.getEndpoints().get(1);
+        secondary.setSecondary(true);
+        final ManagedEndpoint primaryManagedEndpoint = mockManagedEndpoint(endpointGroup.getEndpoints().get(0), cut);
+        final ManagedEndpoint secondaryManagedEndpoint = mockManagedEndpoint(secondary, cut);
+        cut.addManagedEndpoint(primaryManagedEndpoint);
+        cut.addManagedEndpoint(secondaryManagedEndpoint);
+
+        cut.getOutlierDetector().onFailure(primaryManagedEndpoint);
+        cut.getOutlierDetector().onFailure(primaryManagedEndpoint);
+
+        assertThat(cut.next()).isSameAs(secondaryManagedEndpoint);
+    }
+
+    @Test
+    void shouldForgetRemovedEndpointInOutlierDetector() {
+        final EndpointGroup endpointGroup = buildEndpointGroup();
+        final ManagedEndpointGroup cut = new DefaultManagedEndpointGroup(endpointGroup, OUTLIER_DETECTION_OPTIONS);
+
+        final ManagedEndpoint failing = mockManagedEndpoint(endpointGroup.getEndpoints().get(0), cut);
+        cut.addManagedEndpoint(failing);
+        cut.addManagedEndpoint(mockManagedEndpoint(endpointGroup.getEndpoints().get(1), cut));
+
+        cut.getOutlierDetector().onFailure(failing);
+        cut.getOutlierDetector().onFailure(failing);
+        assertThat(cut.getOutlierDetector().isEjected(failing)).isTrue();
+
+        cut.removeManagedEndpoint(failing);
+        assertThat(cut.getOutlierDetector().isEjected(failing)).isFalse();
+    }
+
     private EndpointGroup buildEndpointGroup() {
         final EndpointGroup endpointGroup = new EndpointGroup();
         final ArrayList<Endpoint> endpoints = new ArrayList<>();
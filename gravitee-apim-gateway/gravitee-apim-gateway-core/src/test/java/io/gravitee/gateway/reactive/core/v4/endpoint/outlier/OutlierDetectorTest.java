@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.endpoint.outlier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.gravitee.definition.model.v4.endpointgroup.Endpoint;
+import io.gravitee.gateway.reactive.core.v4.endpoint.DefaultManagedEndpoint;
+import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpoint;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OutlierDetectorTest {
+
+    private static final OutlierDetectionOptions OPTIONS = OutlierDetectionOptions.builder()
+        .enabled(true)
+        .consecutiveFailures(3)
+        .baseEjectionTime(1_000L)
+        .maxEjectionTime(3_000L)
+        .maxEjectionPercent(50)
+        .latencyFactor(3)
+        .latencyMinSamples(5)
+        .build();
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final AtomicInteger endpointCount = new AtomicInteger(4);
+    private final ManagedEndpoint first = endpoint("first");
+    private final ManagedEndpoint second = endpoint("second");
+    private final ManagedEndpoint third = endpoint("third");
+
+    @Test
+    void should_eject_endpoint_after_consecutive_failures() {
+        final OutlierDetector cut = new OutlierDetector(OPTIONS, endpointCount::get, clock::get);
+
+        fail(cut, first, 2);
+        assertThat(cut.isEjected(first)).isFalse();
+
+        fail(cut, first, 1);
+        assertThat(cut.isEjected(first)).isTrue();
+        assertThat(cut.isEjected(second)).isFalse();
+    }
+
+    @Test
+    void should_reset_consecutive_failures_on_success() {
+        final OutlierDetector cut = new OutlierDetector(OPTIONS, endpointCount::get, clock::get);
+
+        fail(cut, first, 2);
+        cut.onSuccess(first, 10);
+        fail(cut, first, 2);
+
+        assertThat(cut.isEjected(first)).isFalse();
+    }
+
+    @Test
+    void should_bring_endpoint_back_once_ejection_has_elapsed() {
+        final OutlierDetector cut = new OutlierDetector(OPTIONS, endpointCount::get, clock::get);
+
+        fail(cut, first, 3);
+        clock.addAndGet(999L);
+        assertThat(cut.isEjected(first)).isTrue();
+
+        clock.addAndGet(1L);
+        assertThat(cut.isEjected(first)).isFalse();
+    }
+
+    @Test
+    void should_double_ejection_time_up_to_max_ejection_time() {
+        final OutlierDetector cut = new OutlierDetector(OPTIONS, endpointCount::get, clock::get);
+
+        assertThat(ejectionDuration(cut, first)).isEqualTo(1_000L);
+        assertThat(ejectionDuration(cut, first)).isEqualTo(2_000L);
+        assertThat(ejectionDuration(cut, first)).isEqualTo(3_000L);
+        assertThat(ejectionDuration(cut, first)).isEqualTo(3_000L);
+    }
+
+    @Test
+    void should_reset_ejection_time_once_endpoint_has_behaved_long_enough() {
+        final OutlierDetector cut = new OutlierDetector(OPTIONS, endpointCount::get, clock::get);
+
+        assertThat(ejectionDuration(cut, first)).isEqualTo(1_000L);
+        assertThat(ejectionDuration(cut, first)).isEqualTo(2_000L);
+
+        clock.addAndGet(OPTIONS.getMaxEjectionTime() + 1);
+        assertThat(ejectionDuration(cut, first)).isEqualTo(1_000L);
+    }
+
+    @Test
+    void should_not_eject_more_than_max_ejection_percent() {
+        final OutlierDetector cut = new OutlierDetector(OPTIONS, endpointCount::get, clock::get);
+
+        fail(cut, first, 3);
+        fail(cut, second, 3);
+        fail(cut, third, 3);
+
+        assertThat(cut.isEjected(first)).isTrue();
+        assertThat(cut.isEjected(second)).isTrue();
+        assertThat(cut.isEjected(third)).isFalse();
+    }
+
+    @Test
+    void should_never_eject_the_only_endpoint_of_a_group() {
+        endpointCount.set(1);
+        final OutlierDetector cut = new OutlierDetector(OPTIONS, endpointCount::get, clock::get);
+
+        fail(cut, first, 10);
+
+        assertThat(cut.isEjected(first)).isFalse();
+    }
+
+    @Test
+    void should_eject_endpoint_deviating_from_group_latency() {
+        final OutlierDetector cut = new OutlierDetector(OPTIONS, endpointCount::get, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            cut.onSuccess(first, 10);
+            cut.onSuccess(second, 12);
+        }
+        assertThat(cut.isEjected(third)).isFalse();
+
+        for (int i = 0; i < 4; i++) {
+            cut.onSuccess(third, 200);
+        }
+        // Not enough samples yet.
+        assertThat(cut.isEjected(third)).isFalse();
+
+        cut.onSuccess(third, 200);
+        assertThat(cut.isEjected(third)).isTrue();
+        assertThat(cut.isEjected(first)).isFalse();
+        assertThat(cut.isEjected(second)).isFalse();
+    }
+
+    @Test
+    void should_not_eject_on_latency_when_disabled() {
+        final OutlierDetector cut = new OutlierDetector(OPTIONS.toBuilder().latencyFactor(0).build(), endpointCount::get, clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            cut.onSuccess(first, 10);
+            cut.onSuccess(second, 1_000);
+        }
+
+        assertThat(cut.isEjected(second)).isFalse();
+    }
+
+    @Test
+    void should_forget_removed_endpoint() {
+        final OutlierDetector cut = new OutlierDetector(OPTIONS, endpointCount::get, clock::get);
+
+        fail(cut, first, 3);
+        cut.remove(first);
+
+        assertThat(cut.isEjected(first)).isFalse();
+    }
+
+    private long ejectionDuration(OutlierDetector cut, ManagedEndpoint endpoint) {
+        fail(cut, endpoint, 3);
+        assertThat(cut.isEjected(endpoint)).isTrue();
+
+        long duration = 0;
+        while (cut.isEjected(endpoint)) {
+            clock.addAndGet(100L);
+            duration += 100L;
+        }
+        return duration;
+    }
+
+    private static void fail(OutlierDetector cut, ManagedEndpoint endpoint, int times) {
+        for (int i = 0; i < times; i++) {
+            cut.onFailure(endpoint);
+        }
+    }
+
+    private static ManagedEndpoint endpoint(String name) {
+        return new DefaultManagedEndpoint(Endpoint.builder().name(name).build(), null, null);
+    }
+}
@@ -33,13 +33,22 @@ import io.gravitee.gateway.reactive.api.connector.entrypoint.async.HttpEntrypoin
 import io.gravitee.gateway.reactive.api.context.ExecutionContext;
 import io.gravitee.gateway.reactive.api.context.Request;
 import io.gravitee.gateway.reactive.api.context.Response;
+import io.gravitee.gateway.reactive.api.context.http.HttpExecutionContext;
+import io.gravitee.gateway.reactive.core.context.DefaultExecutionContext;
+import io.gravitee.gateway.reactive.core.context.MutableRequest;
+import io.gravitee.gateway.reactive.core.context.MutableResponse;
 import io.gravitee.gateway.reactive.core.context.interruption.InterruptionFailureException;
 import io.gravitee.gateway.reactive.core.v4.endpoint.EndpointCriteria;
 import io.gravitee.gateway.reactive.core.v4.endpoint.EndpointManager;
 import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpoint;
+import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpointGroup;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetectionOptions;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetector;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.observers.TestObserver;
+import java.net.ConnectException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import junit.framework.AssertionFailedError;
 import org.assertj.core.api.Assertions;
@@ -255,6 +264,109 @@ class HttpEndpointInvokerTest {
             });
     }
 
+    @Test
+    void shouldReportSuccessToOutlierDetector() {
+        final OutlierDetector outlierDetector = mockOutlierDetection();
+        when(endpointConnector.connect(ctx)).thenReturn(Completable.complete());
+        when(ctx.response()).thenReturn(response);
+        when(response.status()).thenReturn(HttpStatusCode.OK_200);
+
+        cut.invoke(ctx).test().assertComplete();
+
+        verify(outlierDetector).onSuccess(eq(managedEndpoint), anyLong());
+        verify(outlierDetector, never()).onFailure(any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 500, 502, 503 })
+    void shouldReportServerErrorToOutlierDetector(int status) {
+        final OutlierDetector outlierDetector = mockOutlierDetection();
+        when(endpointConnector.connect(ctx)).thenReturn(Completable.complete());
+        when(ctx.response()).thenReturn(response);
+        when(response.status()).thenReturn(status);
+
+        cut.invoke(ctx).test().assertComplete();
+
+        verify(outlierDetector).onFailure(managedEndpoint);
+        verify(outlierDetector, never()).onSuccess(any(), anyLong());
+    }
+
+    @Test
+    void shouldReportConnectionErrorToOutlierDetector() {
+        final OutlierDetector outlierDetector = mockOutlierDetection();
+        when(endpointConnector.connect(ctx)).thenReturn(Completable.error(new ConnectException("Connection refused")));
+
+        cut.invoke(ctx).test().assertError(ConnectException.class);
+
+        verify(outlierDetector).onFailure(managedEndpoint);
+    }
+
+    @Test
+    void shouldNotReportClientInterruptionToOutlierDetector() {
+        final OutlierDetector outlierDetector = mockOutlierDetection();
+        when(endpointConnector.connect(ctx)).thenReturn(
+            Completable.error(new InterruptionFailureException(new ExecutionFailure(HttpStatusCode.UNAUTHORIZED_401)))
+        );
+
+        cut.invoke(ctx).test().assertError(InterruptionFailureException.class);
+
+        verifyNoInteractions(outlierDetector);
+    }
+
+    @Test
+    void shouldEjectFailingEndpointAndReinstateItOnceItsEjectionHasElapsed() throws InterruptedException {
+        final OutlierDetectionOptions options = OutlierDetectionOptions.builder()
+            .enabled(true)
+            .consecutiveFailures(2)
+            .baseEjectionTime(2000)
+            .build();
+
+        try (StubBackend backend = new StubBackend(options).failingEndpoint("flaky", 0).endpoint("healthy", 0)) {
+            final HttpExecutionContext executionContext = backend.prepare(
+                new DefaultExecutionContext(mock(MutableRequest.class), mock(MutableResponse.class))
+            );
+            final HttpEndpointInvoker invoker = backend.invoker();
+            final ManagedEndpoint flaky = backend.endpoint("flaky");
+            final OutlierDetector outlierDetector = flaky.getGroup().getOutlierDetector();
+
+            // Requests are balanced between both endpoints until the flaky one has failed twice in a row.
+            for (int i = 0; i < 4; i++) {
+                invoker.invoke(executionContext).test().awaitDone(5, TimeUnit.SECONDS);
+            }
+            assertThat(outlierDetector.isEjected(flaky)).isTrue();
+            assertThat(backend.calls("flaky")).isEqualTo(2);
+
+            // While it is ejected, the flaky endpoint does not receive any request.
+            for (int i = 0; i < 10; i++) {
+                invoker.invoke(executionContext).test().awaitDone(5, TimeUnit.SECONDS).assertComplete();
+            }
+            assertThat(backend.calls("flaky")).isEqualTo(2);
+            assertThat(backend.calls("healthy")).isEqualTo(12);
+
+            // Once its ejection has elapsed, the recovered endpoint is back in the rotation.
+            backend.recover("flaky");
+            Thread.sleep(options.getBaseEjectionTime() + 100);
+            assertThat(outlierDetector.isEjected(flaky)).isFalse();
+            for (int i = 0; i < 4; i++) {
+                invoker.invoke(executionContext).test().awaitDone(5, TimeUnit.SECONDS).assertComplete();
+            }
+            assertThat(backend.calls("flaky")).isEqualTo(4);
+            assertThat(backend.calls("healthy")).isEqualTo(14);
+        }
+    }
+
+    private OutlierDetector mockOutlierDetection() {
+        final HttpEntrypointAsyncConnector httpEntrypointAsyncConnector = mock(HttpEntrypointAsyncConnector.class);
+        final ManagedEndpointGroup managedEndpointGroup = mock(ManagedEndpointGroup.class);
+        final OutlierDetector outlierDetector = mock(OutlierDetector.class);
+        when(ctx.getInternalAttribute(ATTR_INTERNAL_ENTRYPOINT_CONNECTOR)).thenReturn(httpEntrypointAsyncConnector);
+        when(endpointManager.next(any(EndpointCriteria.class))).thenReturn(managedEndpoint);
+        when(managedEndpoint.getConnector()).thenReturn(endpointConnector);
+        when(managedEndpoint.getGroup()).thenReturn(managedEndpointGroup);
+        when(managedEndpointGroup.getOutlierDetector()).thenReturn(outlierDetector);
+        return outlierDetector;
+    }
+
     private static Stream<Arguments> provideOverrideMethodAttributes() {
         return Stream.of(
             Arguments.of(HttpMethod.PUT, "Gravitee Common - HttpMethod"),
@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.core.v4.invoker;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes.ATTR_INTERNAL_ENTRYPOINT_CONNECTOR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.Fault;
+import io.gravitee.definition.model.v4.endpointgroup.Endpoint;
+import io.gravitee.definition.model.v4.endpointgroup.EndpointGroup;
+import io.gravitee.gateway.reactive.api.ConnectorMode;
+import io.gravitee.gateway.reactive.api.connector.endpoint.sync.HttpEndpointSyncConnector;
+import io.gravitee.gateway.reactive.api.connector.entrypoint.HttpEntrypointConnector;
+import io.gravitee.gateway.reactive.api.context.http.HttpExecutionContext;
+import io.gravitee.gateway.reactive.core.v4.endpoint.DefaultManagedEndpoint;
+import io.gravitee.gateway.reactive.core.v4.endpoint.DefaultManagedEndpointGroup;
+import io.gravitee.gateway.reactive.core.v4.endpoint.EndpointManager;
+import io.gravitee.gateway.reactive.core.v4.endpoint.ManagedEndpoint;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetectionOptions;
+import io.reactivex.rxjava3.core.Completable;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.PoolOptions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mockito.quality.Strictness;
+
+/**
+ * Local HTTP backend, served by WireMock, exposing one path per endpoint of a round-robin endpoint group.
+ * Requests are sent by a real {@link HttpEndpointInvoker} through a Vert.x HTTP client.
+ *
+ * @author GraviteeSource Team
+ */
+public class StubBackend implements AutoCloseable {
+
+    private final WireMockServer wiremock;
+    private final Vertx vertx;
+    private final HttpClient client;
+    private final List<Endpoint> definitions = new ArrayList<>();
+    private final DefaultManagedEndpointGroup group;
+    private final Map<String, ManagedEndpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> cancellations = new ConcurrentHashMap<>();
+    private final EndpointManager endpointManager;
+    private final HttpEntrypointConnector entrypointConnector;
+
+    public StubBackend() {
+        this(OutlierDetectionOptions.DEFAULT);
+    }
+
+    public StubBackend(OutlierDetectionOptions outlierDetectionOptions) {
+        wiremock = new WireMockServer(wireMockConfig().dynamicPort().containerThreads(64));
+        wiremock.start();
+        vertx = Vertx.vertx();
+        client = vertx.createHttpClient(
+            new HttpClientOptions().setDefaultHost("localhost").setDefaultPort(wiremock.port()),
+            new PoolOptions().setHttp1MaxSize(32)
+        );
+        group = new DefaultManagedEndpointGroup(
+            EndpointGroup.builder().name("default").type("stub").endpoints(definitions).build(),
+            outlierDetectionOptions
+        );
+        endpointManager = mock(EndpointManager.class, withSettings().strictness(Strictness.LENIENT));
+        when(endpointManager.next(any())).thenAnswer(invocation -> group.next());
+        entrypointConnector = mock(HttpEntrypointConnector.class, withSettings().strictness(Strictness.LENIENT));
+    }
+
+    /**
+     * Adds an endpoint answering with a 200 after the given latency.
+     */
+    public StubBackend endpoint(String name, int latency) {
+        wiremock.stubFor(get(urlEqualTo("/" + name)).willReturn(ok(name).withFixedDelay(latency)));
+        return addEndpoint(name);
+    }
+
+    /**
+     * Adds an endpoint resetting the connection after the given latency.
+     */
+    public StubBackend failingEndpoint(String name, int latency) {
+        wiremock.stubFor(
+            get(urlEqualTo("/" + name)).willReturn(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER).withFixedDelay(latency))
+        );
+        return addEndpoint(name);
+    }
+
+    /**
+     * Makes an existing endpoint answer with a 200 again.
+     */
+    public StubBackend recover(String name) {
+        wiremock.stubFor(get(urlEqualTo("/" + name)).willReturn(ok(name)));
+        return this;
+    }
+
+    private StubBackend addEndpoint(String name) {
+        final Endpoint definition = Endpoint.builder().name(name).type("stub").build();
+        definitions.add(definition);
+        endpoints.put(name, group.addManagedEndpoint(new DefaultManagedEndpoint(definition, group, new StubConnector(name))));
+        return this;
+    }
+
+    public HttpEndpointInvoker invoker() {
+        return new HttpEndpointInvoker(endpointManager);
+    }
+
+    /**
+     * Prepares the context as the entrypoint does before the endpoint invoker resolves the endpoint.
+     */
+    public <T extends HttpExecutionContext> T prepare(T ctx) {
+        ctx.setInternalAttribute(ATTR_INTERNAL_ENTRYPOINT_CONNECTOR, entrypointConnector);
+        return ctx;
+    }
+
+    public ManagedEndpoint endpoint(String name) {
+        return endpoints.get(name);
+    }
+
+    public int calls(String name) {
+        return wiremock.countRequestsMatching(getRequestedFor(urlEqualTo("/" + name)).build()).getCount();
+    }
+
+    public int cancellations(String name) {
+        return cancellations.getOrDefault(name, new AtomicInteger()).get();
+    }
+
+    @Override
+    public void close() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+        wiremock.stop();
+    }
+
+    private class StubConnector extends HttpEndpointSyncConnector {
+
+        private final String name;
+
+        private StubConnector(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String id() {
+            return "stub";
+        }
+
+        @Override
+        public Set<ConnectorMode> supportedModes() {
+            return Set.of(ConnectorMode.REQUEST_RESPONSE);
+        }
+
+        @Override
+        public Completable connect(HttpExecutionContext ctx) {
+            return Completable.create(emitter ->
+                client
+                    .request(HttpMethod.GET, "/" + name)
+                    .onSuccess(request -> emitter.setCancellable(request::reset))
+                    .compose(request -> request.send().compose(response -> response.body().map(body -> response.statusCode())))
+                    .onSuccess(status -> {
+                        ctx.response().status(status);
+                        emitter.onComplete();
+                    })
+                    .onFailure(emitter::tryOnError)
+            ).doOnDispose(() -> cancellations.computeIfAbsent(name, k -> new AtomicInteger()).incrementAndGet());
+        }
+    }
+}
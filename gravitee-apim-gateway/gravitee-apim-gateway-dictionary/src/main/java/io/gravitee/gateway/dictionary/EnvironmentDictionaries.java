@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.dictionary;
+
+import io.gravitee.gateway.dictionary.model.Dictionary;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the dictionaries deployed for one environment as an immutable, versioned {@link Snapshot}.
+ *
+ * <p>
+ *     Each deployment or undeployment builds a new snapshot which is swapped atomically, so readers never observe a
+ *     partially updated state and never need any locking. This class is also a read-only {@link Map} view over the current
+ *     snapshot values, which allows binding it once into EL contexts: the snapshot is only dereferenced when
+ *     <code>#dictionaries</code> is actually evaluated.
+ * </p>
+ *
+ * @author GraviteeSource Team
+ */
+public class EnvironmentDictionaries extends AbstractMap<String, Map<String, String>> {
+
+    private final String environmentId;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public EnvironmentDictionaries(String environmentId) {
+        this.environmentId = environmentId;
+    }
+
+    public String environmentId() {
+        return environmentId;
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Deploy the dictionary if it has never been deployed or if it is more recent than the one currently deployed.
+     *
+     * @param key the dictionary key.
+     * @param dictionary the dictionary to deploy.
+     * @return <code>true</code> if the dictionary has been deployed, <code>false</code> if it has been ignored.
+     */
+    synchronized boolean deploy(String key, Dictionary dictionary) {
+        final Snapshot current = snapshot;
+        final Dictionary existing = current.dictionaries().get(key);
+
+        if (existing != null && !dictionary.getDeployedAt().after(existing.getDeployedAt())) {
+            return false;
+        }
+
+        final Map<String, String> properties = dictionary.getProperties() == null
+            ? Collections.emptyMap()
+            : Collections.unmodifiableMap(new HashMap<>(dictionary.getProperties()));
+        dictionary.setProperties(properties);
+
+        final Map<String, Dictionary> dictionaries = new HashMap<>(current.dictionaries());
+        dictionaries.put(key, dictionary);
+        final Map<String, Map<String, String>> values = new HashMap<>(current.values());
+        values.put(key, properties);
+
+        snapshot = new Snapshot(current.version() + 1, Collections.unmodifiableMap(dictionaries), Collections.unmodifiableMap(values));
+        return true;
+    }
+
+    /**
+     * Undeploy the dictionary identified by the given key.
+     *
+     * @param key the dictionary key.
+     * @return the dictionary removed or <code>null</code> if there was no dictionary deployed for this key.
+     */
+    synchronized Dictionary undeploy(String key) {
+        final Snapshot current = snapshot;
+        if (!current.dictionaries().containsKey(key)) {
+            return null;
+        }
+
+        final Map<String, Dictionary> dictionaries = new HashMap<>(current.dictionaries());
+        final Dictionary removed = dictionaries.remove(key);
+        final Map<String, Map<String, String>> values = new HashMap<>(current.values());
+        values.remove(key);
+
+        snapshot = new Snapshot(current.version() + 1, Collections.unmodifiableMap(dictionaries), Collections.unmodifiableMap(values));
+        return removed;
+    }
+
+    @Override
+    public Map<String, String> get(Object key) {
+        return snapshot.values().get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return snapshot.values().containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.values().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot.values().isEmpty();
+    }
+
+    @Override
+    public Set<Entry<String, Map<String, String>>> entrySet() {
+        return snapshot.values().entrySet();
+    }
+
+    /**
+     * Immutable state of the dictionaries of an environment at a given version.
+     *
+     * @param version incremented each time a dictionary is deployed or undeployed.
+     * @param dictionaries the deployed dictionaries indexed by key.
+     * @param values the properties of each deployed dictionary indexed by key.
+     */
+    public record Snapshot(long version, Map<String, Dictionary> dictionaries, Map<String, Map<String, String>> values) {
+        static final Snapshot EMPTY = new Snapshot(0, Collections.emptyMap(), Collections.emptyMap());
+    }
+}
@@ -19,22 +19,27 @@ import io.gravitee.el.TemplateContext;
 import io.gravitee.el.TemplateVariableProvider;
 import io.gravitee.el.TemplateVariableScope;
 import io.gravitee.el.annotations.TemplateVariable;
-import java.util.Map;
 
+/**
+ * Binds the dictionaries of an environment into the template context.
+ * The bound {@link EnvironmentDictionaries} view is resolved once, when the provider is created, and always exposes the latest
+ * deployed snapshot. Nothing is looked up or copied when a template context is built.
+ */
 @TemplateVariable(scopes = { TemplateVariableScope.API, TemplateVariableScope.HEALTH_CHECK })
 public class EnvironmentDictionaryTemplateVariableProvider implements TemplateVariableProvider {
 
-    private final String environmentId;
-    private final DictionaryManager dictionaryManager;
+    private final EnvironmentDictionaries dictionaries;
+
+    public EnvironmentDictionaryTemplateVariableProvider(EnvironmentDictionaries dictionaries) {
+        this.dictionaries = dictionaries;
+    }
 
-    public EnvironmentDictionaryTemplateVariableProvider(String environmentId, DictionaryManager dictionaryManager) {
-        this.environmentId = environmentId;
-        this.dictionaryManager = dictionaryManager;
+    EnvironmentDictionaries dictionaries() {
+        return dictionaries;
     }
 
     @Override
     public void provide(TemplateContext templateContext) {
-        Map<String, Map<String, String>> dictionary = dictionaryManager.getDictionaries(environmentId);
-        templateContext.setVariable("dictionaries", dictionary);
+        templateContext.setVariable("dictionaries", dictionaries);
     }
 }
@@ -16,9 +16,8 @@
 package io.gravitee.gateway.dictionary;
 
 import io.gravitee.gateway.dictionary.model.Dictionary;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.CustomLog;
 
 /**
@@ -28,52 +27,32 @@ import lombok.CustomLog;
 @CustomLog
 public class MultiEnvironmentDictionaryManager implements DictionaryManager {
 
-    private final Map<String, Map<String, Dictionary>> dictionaries = new HashMap<>();
-    private final Map<String, Map<String, Map<String, String>>> values = new HashMap<>();
+    private final Map<String, EnvironmentDictionaries> environments = new ConcurrentHashMap<>();
+
+    /**
+     * Dictionaries and APIs without environment (e.g. legacy events) share this holder, as {@link ConcurrentHashMap} rejects null keys.
+     */
+    private final EnvironmentDictionaries noEnvironment = new EnvironmentDictionaries(null);
 
     @Override
     public void deploy(Dictionary dictionary) {
-        String environmentId = dictionary.getEnvironmentId();
         //fallback on legacy events
         String key = dictionary.getKey() == null ? dictionary.getId() : dictionary.getKey();
 
-        dictionaries.putIfAbsent(environmentId, new HashMap<>());
-        values.putIfAbsent(environmentId, new HashMap<>());
-
-        Dictionary existing = dictionaries.get(environmentId).get(key);
-        if (existing == null || dictionary.getDeployedAt().after(existing.getDeployedAt())) {
-            if (dictionary.getProperties() == null) {
-                dictionary.setProperties(Collections.emptyMap());
-            }
-
+        if (environment(dictionary.getEnvironmentId()).deploy(key, dictionary)) {
             log.info("Dictionary {} has been deployed with {} properties", dictionary, dictionary.getProperties().size());
-            dictionaries.get(environmentId).put(key, dictionary);
-            values.get(environmentId).put(key, dictionary.getProperties());
         }
     }
 
     @Override
     public void undeploy(Dictionary dictionary) {
-        String environmentId = dictionary.getEnvironmentId();
         //fallback on legacy events
         String key = dictionary.getKey() == null ? dictionary.getId() : dictionary.getKey();
-        Map<String, Dictionary> envDictionaries = dictionaries.get(environmentId);
+        EnvironmentDictionaries envDictionaries = existingEnvironment(dictionary.getEnvironmentId());
         if (envDictionaries != null) {
-            Dictionary removed = envDictionaries.remove(key);
-
-            if (envDictionaries.isEmpty()) {
-                dictionaries.remove(environmentId);
-            }
+            Dictionary removed = envDictionaries.undeploy(key);
 
             if (removed != null) {
-                Map<String, Map<String, String>> envValues = values.get(environmentId);
-                if (envValues != null) {
-                    envValues.remove(key);
-                    if (envValues.isEmpty()) {
-                        values.remove(environmentId);
-                    }
-                }
-
                 log.info("A dictionary has been undeployed: {}", removed);
             }
         }
@@ -81,11 +60,29 @@ public class MultiEnvironmentDictionaryManager implements DictionaryManager {
 
     @Override
     public EnvironmentDictionaryTemplateVariableProvider createTemplateVariableProvider(String environmentId) {
-        return new EnvironmentDictionaryTemplateVariableProvider(environmentId, this);
+        return new EnvironmentDictionaryTemplateVariableProvider(environment(environmentId));
     }
 
     @Override
     public Map<String, Map<String, String>> getDictionaries(String environmentId) {
-        return values.get(environmentId);
+        EnvironmentDictionaries envDictionaries = existingEnvironment(environmentId);
+        if (envDictionaries == null || envDictionaries.isEmpty()) {
+            return null;
+        }
+        return envDictionaries.snapshot().values();
+    }
+
+    /**
+     * Environment holders are never removed: template variable providers keep a reference on them to always read the latest snapshot.
+     */
+    private EnvironmentDictionaries environment(String environmentId) {
+        if (environmentId == null) {
+            return noEnvironment;
+        }
+        return environments.computeIfAbsent(environmentId, EnvironmentDictionaries::new);
+    }
+
+    private EnvironmentDictionaries existingEnvironment(String environmentId) {
+        return environmentId == null ? noEnvironment : environments.get(environmentId);
     }
 }
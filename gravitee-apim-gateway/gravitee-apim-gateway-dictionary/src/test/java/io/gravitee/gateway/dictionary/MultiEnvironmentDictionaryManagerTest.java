@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.dictionary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.gravitee.el.TemplateEngine;
+import io.gravitee.gateway.dictionary.model.Dictionary;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class MultiEnvironmentDictionaryManagerTest {
+
+    private static final String ENVIRONMENT_ID = "env-id";
+    private static final String DICTIONARY_KEY = "my-dictionary";
+
+    private MultiEnvironmentDictionaryManager cut;
+
+    @BeforeEach
+    void setUp() {
+        cut = new MultiEnvironmentDictionaryManager();
+    }
+
+    @Test
+    void should_return_null_when_no_dictionary_deployed() {
+        assertThat(cut.getDictionaries(ENVIRONMENT_ID)).isNull();
+    }
+
+    @Test
+    void should_deploy_dictionary() {
+        cut.deploy(dictionary(DICTIONARY_KEY, 1, Map.of("key", "value")));
+
+        assertThat(cut.getDictionaries(ENVIRONMENT_ID)).containsExactly(Map.entry(DICTIONARY_KEY, Map.of("key", "value")));
+    }
+
+    @Test
+    void should_ignore_older_dictionary() {
+        cut.deploy(dictionary(DICTIONARY_KEY, 2, Map.of("key", "newer")));
+        cut.deploy(dictionary(DICTIONARY_KEY, 1, Map.of("key", "older")));
+
+        assertThat(cut.getDictionaries(ENVIRONMENT_ID).get(DICTIONARY_KEY)).containsEntry("key", "newer");
+    }
+
+    @Test
+    void should_undeploy_dictionary() {
+        cut.deploy(dictionary(DICTIONARY_KEY, 1, Map.of("key", "value")));
+        cut.undeploy(dictionary(DICTIONARY_KEY, 1, null));
+
+        assertThat(cut.getDictionaries(ENVIRONMENT_ID)).isNull();
+    }
+
+    @Test
+    void should_handle_dictionaries_without_environment() {
+        final EnvironmentDictionaryTemplateVariableProvider provider = cut.createTemplateVariableProvider(null);
+        final Dictionary dictionary = dictionary(DICTIONARY_KEY, 1, Map.of("key", "value"));
+        dictionary.setEnvironmentId(null);
+
+        cut.deploy(dictionary);
+
+        assertThat(cut.getDictionaries(null)).containsExactly(Map.entry(DICTIONARY_KEY, Map.of("key", "value")));
+        assertThat(provider.dictionaries()).containsOnlyKeys(DICTIONARY_KEY);
+        assertThat(cut.getDictionaries(ENVIRONMENT_ID)).isNull();
+
+        cut.undeploy(dictionary);
+
+        assertThat(cut.getDictionaries(null)).isNull();
+    }
+
+    @Test
+    void should_not_expose_mutable_structures() {
+        cut.deploy(dictionary(DICTIONARY_KEY, 1, new HashMap<>(Map.of("key", "value"))));
+
+        final Map<String, Map<String, String>> dictionaries = cut.getDictionaries(ENVIRONMENT_ID);
+        cut.deploy(dictionary("other", 1, Map.of()));
+
+        // The snapshot previously returned is left untouched by the new deployment
+        assertThat(dictionaries).containsOnlyKeys(DICTIONARY_KEY);
+        assertThatThrownBy(() -> dictionaries.get(DICTIONARY_KEY).put("key", "updated")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void should_expose_latest_snapshot_to_existing_template_variable_provider() {
+        final EnvironmentDictionaryTemplateVariableProvider provider = cut.createTemplateVariableProvider(ENVIRONMENT_ID);
+        final TemplateEngine templateEngine = TemplateEngine.templateEngine();
+        provider.provide(templateEngine.getTemplateContext());
+
+        cut.deploy(dictionary(DICTIONARY_KEY, 1, Map.of("key", "first")));
+        assertThat(templateEngine.getValue("{#dictionaries['my-dictionary']['key']}", String.class)).isEqualTo("first");
+
+        cut.deploy(dictionary(DICTIONARY_KEY, 2, Map.of("key", "second")));
+        assertThat(templateEngine.getValue("{#dictionaries['my-dictionary']['key']}", String.class)).isEqualTo("second");
+    }
+
+    @Test
+    void should_increment_snapshot_version_on_each_change() {
+        final EnvironmentDictionaries dictionaries = cut.createTemplateVariableProvider(ENVIRONMENT_ID).dictionaries();
+
+        cut.deploy(dictionary(DICTIONARY_KEY, 1, Map.of()));
+        cut.deploy(dictionary(DICTIONARY_KEY, 1, Map.of()));
+        cut.undeploy(dictionary(DICTIONARY_KEY, 1, null));
+
+        assertThat(dictionaries.snapshot().version()).isEqualTo(2);
+    }
+
+    @Test
+    void should_always_read_consistent_snapshot_under_frequent_refresh() throws Exception {
+        final int readers = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final CountDownLatch started = new CountDownLatch(readers);
+        final EnvironmentDictionaryTemplateVariableProvider provider = cut.createTemplateVariableProvider(ENVIRONMENT_ID);
+        cut.deploy(dictionary(DICTIONARY_KEY, 0, Map.of("first", "0", "second", "0")));
+
+        try {
+            final List<Future<Set<Integer>>> reads = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                reads.add(
+                    executor.submit(() -> {
+                        started.countDown();
+                        final TemplateEngine templateEngine = TemplateEngine.templateEngine();
+                        provider.provide(templateEngine.getTemplateContext());
+                        final Set<Integer> observed = new HashSet<>();
+                        int last = 0;
+                        while (running.get()) {
+                            final Map<String, String> properties = provider.dictionaries().get(DICTIONARY_KEY);
+                            final int first = Integer.parseInt(properties.get("first"));
+                            // Both properties are always updated together, a torn read would show different values
+                            assertThat(properties).containsEntry("second", String.valueOf(first));
+                            // Snapshots only move forward: a value older than the one already read must never be observed again
+                            assertThat(first).isGreaterThanOrEqualTo(last);
+                            // Iterating must never fail while dictionaries are refreshed and always shows the value written with each key
+                            provider
+                                .dictionaries()
+                                .forEach((key, value) -> {
+                                    if (key.startsWith("transient-")) {
+                                        assertThat(value).containsExactly(Map.entry("key", key.substring("transient-".length())));
+                                    }
+                                });
+                            final int evaluated = Integer.parseInt(
+                                templateEngine.getValue("{#dictionaries['my-dictionary']['first']}", String.class)
+                            );
+                            assertThat(evaluated).isGreaterThanOrEqualTo(first);
+                            observed.add(first);
+                            last = evaluated;
+                        }
+                        return observed;
+                    })
+                );
+            }
+
+            final Future<?> writes = executor.submit(() -> {
+                try {
+                    started.await();
+                    for (int version = 1; version <= 2_000; version++) {
+                        final String value = String.valueOf(version);
+                        cut.deploy(dictionary(DICTIONARY_KEY, version, Map.of("first", value, "second", value)));
+                        cut.deploy(dictionary("transient-" + version, version, Map.of("key", value)));
+                        cut.undeploy(dictionary("transient-" + version, version, null));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.set(false);
+                }
+            });
+
+            writes.get(30, TimeUnit.SECONDS);
+            final Set<Integer> observed = new HashSet<>();
+            for (Future<Set<Integer>> read : reads) {
+                observed.addAll(read.get(30, TimeUnit.SECONDS));
+            }
+            // Readers have seen the values while they were being written, not only the initial or the final one
+            assertThat(observed).anyMatch(value -> value > 0 && value < 2_000);
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+
+        assertThat(cut.getDictionaries(ENVIRONMENT_ID)).containsOnlyKeys(DICTIONARY_KEY);
+        assertThat(cut.getDictionaries(ENVIRONMENT_ID).get(DICTIONARY_KEY)).containsEntry("first", "2000");
+    }
+
+    private static Dictionary dictionary(String key, long deployedAt, Map<String, String> properties) {
+        final Dictionary dictionary = new Dictionary();
+        dictionary.setId(key + "-id");
+        dictionary.setKey(key);
+        dictionary.setEnvironmentId(ENVIRONMENT_ID);
+        dictionary.setDeployedAt(new Date(deployedAt));
+        dictionary.setProperties(properties);
+        return dictionary;
+    }
+}
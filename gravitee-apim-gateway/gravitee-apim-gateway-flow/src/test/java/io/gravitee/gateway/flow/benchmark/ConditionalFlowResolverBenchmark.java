@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.flow.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.definition.model.v4.flow.Flow;
+import io.gravitee.definition.model.v4.flow.selector.ConditionSelector;
+import io.gravitee.definition.model.v4.flow.selector.SelectorType;
+import io.gravitee.gateway.api.http.HttpHeaders;
+import io.gravitee.gateway.reactive.api.context.base.BaseExecutionContext;
+import io.gravitee.gateway.reactive.core.condition.ConditionFilter;
+import io.gravitee.gateway.reactive.core.context.DefaultExecutionContext;
+import io.gravitee.gateway.reactive.core.context.MutableRequest;
+import io.gravitee.gateway.reactive.core.context.MutableResponse;
+import io.gravitee.gateway.reactive.v4.flow.AbstractFlowResolver;
+import io.gravitee.gateway.reactive.v4.flow.selection.ConditionSelectorConditionFilter;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Resolves 100 conditional flows, comparing the evaluation of each condition through the EL engine with the compiled evaluation of the
+ * {@link ConditionSelectorConditionFilter}.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class ConditionalFlowResolverBenchmark {
+
+    private static final int FLOWS = 100;
+
+    private static final List<String> CONDITIONS = List.of(
+        "{#request.headers['X-Tenant'][0] == 'acme'}",
+        "{#request.headers['X-Tenant'][0] != 'acme'}",
+        "{#request.method == 'GET' || #request.method == 'HEAD'}",
+        "{#request.method == 'POST'}",
+        "{#request.path matches '/products/[0-9]+'}",
+        "{#request.pathInfo == '/health'}",
+        "{#request.headers['X-Debug'] != null}",
+        "{#request.headers['X-Tenant'][0].startsWith('ac')}",
+        "true"
+    );
+
+    private MutableRequest request;
+    private MutableResponse response;
+    private AbstractFlowResolver elFlowResolver;
+    private AbstractFlowResolver compiledFlowResolver;
+
+    // used to run benchmark directly from IDE
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(ConditionalFlowResolverBenchmark.class.getSimpleName()).forks(1).build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setUp() {
+        request = mock(MutableRequest.class);
+        response = mock(MutableResponse.class);
+        when(request.headers()).thenReturn(HttpHeaders.create().set("X-Tenant", "acme"));
+        when(request.method()).thenReturn(HttpMethod.GET);
+        when(request.path()).thenReturn("/products/42");
+        when(request.pathInfo()).thenReturn("/42");
+
+        List<Flow> flows = new ArrayList<>(FLOWS);
+        for (int i = 0; i < FLOWS; i++) {
+            ConditionSelector conditionSelector = new ConditionSelector();
+            conditionSelector.setCondition(CONDITIONS.get(i % CONDITIONS.size()));
+            Flow flow = new Flow();
+            flow.setName("flow-" + i);
+            flow.setSelectors(List.of(conditionSelector));
+            flows.add(flow);
+        }
+
+        elFlowResolver = new TestFlowResolver(new ElConditionFilter(), flows);
+        compiledFlowResolver = new TestFlowResolver(new ConditionSelectorConditionFilter(), flows);
+    }
+
+    @Benchmark
+    public List<Flow> bench_elConditions() {
+        return elFlowResolver.resolve(new DefaultExecutionContext(request, response)).toList().blockingGet();
+    }
+
+    @Benchmark
+    public List<Flow> bench_compiledConditions() {
+        return compiledFlowResolver.resolve(new DefaultExecutionContext(request, response)).toList().blockingGet();
+    }
+
+    private static class TestFlowResolver extends AbstractFlowResolver {
+
+        private final List<Flow> flows;
+
+        TestFlowResolver(ConditionFilter<BaseExecutionContext, Flow> filter, List<Flow> flows) {
+            super(filter);
+            this.flows = flows;
+        }
+
+        @Override
+        public Flowable<Flow> provideFlows(BaseExecutionContext ctx) {
+            return Flowable.fromIterable(flows);
+        }
+    }
+
+    /**
+     * Evaluates every condition with the EL engine, as done before conditions were compiled.
+     */
+    private static class ElConditionFilter implements ConditionFilter<BaseExecutionContext, Flow> {
+
+        @Override
+        public Maybe<Flow> filter(BaseExecutionContext ctx, Flow flow) {
+            String condition = ((ConditionSelector) flow.selectorByType(SelectorType.CONDITION).orElseThrow()).getCondition();
+            return ctx.getTemplateEngine().eval(condition, Boolean.class).filter(Boolean::booleanValue).map(result -> flow);
+        }
+    }
+}
@@ -55,6 +55,7 @@ import io.gravitee.gateway.reactive.core.tracing.InvokerTracingHook;
 import io.gravitee.gateway.reactive.core.tracing.TracingHook;
 import io.gravitee.gateway.reactive.core.v4.analytics.AnalyticsContext;
 import io.gravitee.gateway.reactive.core.v4.analytics.AnalyticsUtils;
+import io.gravitee.gateway.reactive.core.v4.analytics.LogCaptureOptions;
 import io.gravitee.gateway.reactive.handlers.api.adapter.invoker.InvokerAdapter;
 import io.gravitee.gateway.reactive.handlers.api.flow.FlowChain;
 import io.gravitee.gateway.reactive.handlers.api.flow.FlowChainFactory;
@@ -123,6 +124,7 @@ public class SyncApiReactor extends AbstractLifecycleComponent<ReactorHandler> i
     private final TracingContext tracingContext;
     private final String loggingExcludedResponseType;
     private final String loggingMaxSize;
+    private final LogCaptureOptions logCaptureOptions;
     private final AtomicInteger pendingRequests = new AtomicInteger(0);
     private final HttpAcceptorFactory httpAcceptorFactory;
     private final long pendingRequestsTimeout;
@@ -185,6 +187,7 @@ public class SyncApiReactor extends AbstractLifecycleComponent<ReactorHandler> i
             null
         );
         this.loggingMaxSize = configuration.getProperty(REPORTERS_LOGGING_MAX_SIZE_PROPERTY, String.class, null);
+        this.logCaptureOptions = LogCaptureOptions.from(configuration);
 
         this.processorChainHooks = new ArrayList<>();
         this.invokerHooks = new ArrayList<>();
@@ -473,7 +476,8 @@ public class SyncApiReactor extends AbstractLifecycleComponent<ReactorHandler> i
             loggingMaxSize,
             loggingExcludedResponseType,
             tracingContext,
-            logGuardService
+            logGuardService,
+            logCaptureOptions
         );
         if (analyticsContext.isLoggingEnabled()) {
             invokerHooks.add(new LoggingHook());
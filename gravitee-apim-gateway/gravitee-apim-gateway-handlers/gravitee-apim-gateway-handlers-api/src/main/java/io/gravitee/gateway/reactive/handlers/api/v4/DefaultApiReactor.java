@@ -26,6 +26,7 @@ import static java.lang.Boolean.TRUE;
 import io.gravitee.common.component.Lifecycle;
 import io.gravitee.common.event.EventManager;
 import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.definition.model.v4.ApiType;
 import io.gravitee.definition.model.v4.listener.Listener;
 import io.gravitee.definition.model.v4.listener.ListenerType;
 import io.gravitee.definition.model.v4.listener.http.HttpListener;
@@ -50,11 +51,15 @@ import io.gravitee.gateway.reactive.core.context.ComponentScope;
 import io.gravitee.gateway.reactive.core.context.MutableExecutionContext;
 import io.gravitee.gateway.reactive.core.context.interruption.InterruptionHelper;
 import io.gravitee.gateway.reactive.core.failover.FailoverInvoker;
+import io.gravitee.gateway.reactive.core.failover.FailoverOptions;
+import io.gravitee.gateway.reactive.core.hedging.HedgingInvoker;
+import io.gravitee.gateway.reactive.core.hedging.HedgingOptions;
 import io.gravitee.gateway.reactive.core.hook.HookHelper;
 import io.gravitee.gateway.reactive.core.processor.ProcessorChain;
 import io.gravitee.gateway.reactive.core.tracing.InvokerTracingHook;
 import io.gravitee.gateway.reactive.core.tracing.TracingHook;
 import io.gravitee.gateway.reactive.core.v4.analytics.AnalyticsContext;
+import io.gravitee.gateway.reactive.core.v4.analytics.LogCaptureOptions;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 import io.gravitee.gateway.reactive.core.v4.endpoint.EndpointManager;
 import io.gravitee.gateway.reactive.core.v4.entrypoint.DefaultEntrypointConnectorResolver;
@@ -132,6 +137,7 @@ public class DefaultApiReactor extends AbstractApiReactor {
     private final Node node;
     protected final String loggingExcludedResponseType;
     protected final String loggingMaxSize;
+    protected final LogCaptureOptions logCaptureOptions;
     private final DeploymentContext deploymentContext;
     protected HttpSecurityChain httpSecurityChain;
     private Lifecycle.State lifecycleState;
@@ -207,14 +213,24 @@ public class DefaultApiReactor extends AbstractApiReactor {
             null
         );
         this.loggingMaxSize = configuration.getProperty(REPORTERS_LOGGING_MAX_SIZE_PROPERTY, String.class, null);
+        this.logCaptureOptions = LogCaptureOptions.from(configuration);
 
         this.processorChainHooks = new ArrayList<>();
     }
 
     protected HttpInvoker endpointInvoker(EndpointManager endpointManager) {
-        final HttpEndpointInvoker endpointInvoker = new HttpEndpointInvoker(endpointManager);
+        HttpInvoker endpointInvoker = new HttpEndpointInvoker(endpointManager);
+        final HedgingOptions hedgingOptions = HedgingOptions.from(configuration);
+        if (hedgingOptions.isEnabled() && api.getDefinition().getType() == ApiType.PROXY) {
+            endpointInvoker = new HedgingInvoker(endpointInvoker, hedgingOptions);
+        }
         if (api.getDefinition().failoverEnabled()) {
-            return new FailoverInvoker(endpointInvoker, api.getDefinition().getFailover(), api.getId());
+            return new FailoverInvoker(
+                endpointInvoker,
+                api.getDefinition().getFailover(),
+                api.getId(),
+                FailoverOptions.from(configuration)
+            );
         }
         return endpointInvoker;
     }
@@ -574,6 +590,7 @@ public class DefaultApiReactor extends AbstractApiReactor {
                 context.setMaxSizeLogMessage(loggingMaxSize);
                 context.setExcludedResponseTypes(loggingExcludedResponseType);
                 context.setLogGuardService(logGuardService);
+                context.setCaptureOptions(logCaptureOptions);
                 return context;
             })
             .orElse(null);
@@ -37,6 +37,7 @@ import io.gravitee.gateway.reactive.core.context.DefaultDeploymentContext;
 import io.gravitee.gateway.reactive.core.v4.analytics.AnalyticsUtils;
 import io.gravitee.gateway.reactive.core.v4.endpoint.DefaultEndpointManager;
 import io.gravitee.gateway.reactive.core.v4.endpoint.EndpointManager;
+import io.gravitee.gateway.reactive.core.v4.endpoint.outlier.OutlierDetectionOptions;
 import io.gravitee.gateway.reactive.handlers.api.ApiPolicyManager;
 import io.gravitee.gateway.reactive.handlers.api.el.ContentTemplateVariableProvider;
 import io.gravitee.gateway.reactive.handlers.api.flow.FlowChainFactory;
@@ -234,7 +235,8 @@ public class DefaultApiReactorFactory extends AbstractReactorFactory<Api> {
             reactableApi.getDefinition(),
             endpointConnectorPluginManager,
             deploymentContext,
-            gatewayConfiguration
+            gatewayConfiguration,
+            OutlierDetectionOptions.from(configuration)
         );
 
         customComponentProvider.add(EndpointManager.class, endpointManager);
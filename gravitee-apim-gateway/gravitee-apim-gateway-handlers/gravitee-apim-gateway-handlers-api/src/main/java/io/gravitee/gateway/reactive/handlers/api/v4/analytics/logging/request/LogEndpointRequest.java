@@ -15,13 +15,12 @@
  */
 package io.gravitee.gateway.reactive.handlers.api.v4.analytics.logging.request;
 
-import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.http.HttpHeaderNames;
 import io.gravitee.gateway.api.http.HttpHeaders;
 import io.gravitee.gateway.reactive.api.context.http.HttpPlainRequest;
 import io.gravitee.gateway.reactive.core.context.HttpExecutionContextInternal;
 import io.gravitee.gateway.reactive.core.context.HttpRequestInternal;
-import io.gravitee.gateway.reactive.core.v4.analytics.BufferUtils;
+import io.gravitee.gateway.reactive.core.v4.analytics.BodyCapture;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 import io.gravitee.reporter.api.v4.metric.Metrics;
 
@@ -39,14 +38,11 @@ public class LogEndpointRequest extends LogRequest {
     }
 
     public void setupCapture(HttpExecutionContextInternal ctx) {
-        final Buffer buffer = Buffer.buffer();
-
         if (isLogPayload() && loggingContext.isContentTypeLoggable(request.headers().get(HttpHeaderNames.CONTENT_TYPE), ctx)) {
             request.registerBuffersInterceptor(chunks -> {
                 if (loggingContext.isBodyLoggable()) {
-                    chunks = chunks
-                        .doOnNext(chunk -> BufferUtils.appendBuffer(buffer, chunk, loggingContext.getMaxSizeLogMessage()))
-                        .doFinally(() -> this.setBody(buffer.toString()));
+                    final BodyCapture capture = loggingContext.newBodyCapture();
+                    chunks = chunks.doOnNext(capture::append).doFinally(() -> this.setCapturedBody(capture.complete()));
                 } else {
                     this.setBody("BODY NOT CAPTURED");
                 }
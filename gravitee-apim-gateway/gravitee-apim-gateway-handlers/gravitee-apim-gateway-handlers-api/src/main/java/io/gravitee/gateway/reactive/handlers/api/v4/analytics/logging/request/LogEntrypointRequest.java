@@ -15,12 +15,11 @@
  */
 package io.gravitee.gateway.reactive.handlers.api.v4.analytics.logging.request;
 
-import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.http.HttpHeaderNames;
 import io.gravitee.gateway.api.http.HttpHeaders;
 import io.gravitee.gateway.reactive.core.context.HttpExecutionContextInternal;
 import io.gravitee.gateway.reactive.core.context.HttpRequestInternal;
-import io.gravitee.gateway.reactive.core.v4.analytics.BufferUtils;
+import io.gravitee.gateway.reactive.core.v4.analytics.BodyCapture;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 
 /**
@@ -38,14 +37,14 @@ public class LogEntrypointRequest extends LogRequest {
 
     public void capture(HttpExecutionContextInternal ctx) {
         if (isLogPayload() && loggingContext.isContentTypeLoggable(request.headers().get(HttpHeaderNames.CONTENT_TYPE), ctx)) {
-            final Buffer buffer = Buffer.buffer();
-
             if (loggingContext.isBodyLoggable()) {
+                final BodyCapture capture = loggingContext.newBodyCapture();
                 request.chunks(
                     request
                         .chunks()
-                        .doOnNext(chunk -> BufferUtils.appendBuffer(buffer, chunk, loggingContext.getMaxSizeLogMessage()))
-                        .doOnComplete(() -> this.setBody(buffer.toString()))
+                        .doOnNext(capture::append)
+                        .doOnComplete(() -> this.setCapturedBody(capture.complete()))
+                        .doFinally(capture::release)
                 );
             } else {
                 this.setBody("BODY NOT CAPTURED");
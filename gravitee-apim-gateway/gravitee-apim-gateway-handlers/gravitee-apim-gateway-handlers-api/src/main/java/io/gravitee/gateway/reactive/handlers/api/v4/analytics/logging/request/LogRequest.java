@@ -24,6 +24,7 @@ import io.gravitee.gateway.reactive.api.context.http.HttpPlainRequest;
 import io.gravitee.gateway.reactive.core.context.HttpExecutionContextInternal;
 import io.gravitee.gateway.reactive.core.context.HttpRequestInternal;
 import io.gravitee.gateway.reactive.core.v4.analytics.BufferUtils;
+import io.gravitee.gateway.reactive.core.v4.analytics.CapturedBody;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 
 /**
@@ -34,6 +35,7 @@ abstract class LogRequest extends io.gravitee.reporter.api.common.Request {
 
     protected final LoggingContext loggingContext;
     protected final HttpRequestInternal request;
+    private volatile CapturedBody capturedBody;
 
     protected LogRequest(LoggingContext loggingContext, HttpRequestInternal request) {
         this.loggingContext = loggingContext;
@@ -42,6 +44,26 @@ abstract class LogRequest extends io.gravitee.reporter.api.common.Request {
         this.setMethod(request.method());
     }
 
+    /**
+     * The captured body is only decoded when the reporter reads it, if ever.
+     */
+    @Override
+    public String getBody() {
+        final CapturedBody body = capturedBody;
+        return body != null ? body.toString() : super.getBody();
+    }
+
+    @Override
+    public void setBody(String body) {
+        this.capturedBody = null;
+        super.setBody(body);
+    }
+
+    protected void setCapturedBody(CapturedBody capturedBody) {
+        super.setBody(null);
+        this.capturedBody = capturedBody;
+    }
+
     protected abstract boolean isLogPayload();
 
     protected abstract boolean isLogHeaders();
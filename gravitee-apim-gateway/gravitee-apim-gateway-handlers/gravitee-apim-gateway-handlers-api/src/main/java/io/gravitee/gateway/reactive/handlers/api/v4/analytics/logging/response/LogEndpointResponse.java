@@ -15,12 +15,11 @@
  */
 package io.gravitee.gateway.reactive.handlers.api.v4.analytics.logging.response;
 
-import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.http.HttpHeaderNames;
 import io.gravitee.gateway.reactive.api.context.http.HttpPlainExecutionContext;
 import io.gravitee.gateway.reactive.core.context.HttpExecutionContextInternal;
 import io.gravitee.gateway.reactive.core.context.HttpResponseInternal;
-import io.gravitee.gateway.reactive.core.v4.analytics.BufferUtils;
+import io.gravitee.gateway.reactive.core.v4.analytics.BodyCapture;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 import io.gravitee.gateway.reactive.handlers.api.v4.analytics.logging.LogHeadersCaptor;
 
@@ -45,11 +44,9 @@ public class LogEndpointResponse extends LogResponse {
         response.registerBuffersInterceptor(chunks -> {
             // Nothing to prepare for the endpoint response.
             if (isLogPayload() && loggingContext.isContentTypeLoggable(response.headers().get(HttpHeaderNames.CONTENT_TYPE), ctx)) {
-                final Buffer buffer = Buffer.buffer();
                 if (loggingContext.isBodyLoggable()) {
-                    chunks = chunks
-                        .doOnNext(chunk -> BufferUtils.appendBuffer(buffer, chunk, loggingContext.getMaxSizeLogMessage()))
-                        .doFinally(() -> this.setBody(buffer.toString()));
+                    final BodyCapture capture = loggingContext.newBodyCapture();
+                    chunks = chunks.doOnNext(capture::append).doFinally(() -> this.setCapturedBody(capture.complete()));
                 } else {
                     this.setBody("BODY NOT CAPTURED");
                 }
@@ -15,11 +15,10 @@
  */
 package io.gravitee.gateway.reactive.handlers.api.v4.analytics.logging.response;
 
-import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.http.HttpHeaderNames;
 import io.gravitee.gateway.reactive.core.context.HttpExecutionContextInternal;
 import io.gravitee.gateway.reactive.core.context.HttpResponseInternal;
-import io.gravitee.gateway.reactive.core.v4.analytics.BufferUtils;
+import io.gravitee.gateway.reactive.core.v4.analytics.BodyCapture;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 
 /**
@@ -36,13 +35,14 @@ public class LogEntrypointResponse extends LogResponse {
 
     public void capture(HttpExecutionContextInternal ctx) {
         if (isLogPayload() && loggingContext.isContentTypeLoggable(response.headers().get(HttpHeaderNames.CONTENT_TYPE), ctx)) {
-            final Buffer buffer = Buffer.buffer();
             if (loggingContext.isBodyLoggable()) {
+                final BodyCapture capture = loggingContext.newBodyCapture();
                 response.chunks(
                     response
                         .chunks()
-                        .doOnNext(chunk -> BufferUtils.appendBuffer(buffer, chunk, loggingContext.getMaxSizeLogMessage()))
-                        .doOnComplete(() -> this.setBody(buffer.toString()))
+                        .doOnNext(capture::append)
+                        .doOnComplete(() -> this.setCapturedBody(capture.complete()))
+                        .doFinally(capture::release)
                 );
             } else {
                 this.setBody("BODY NOT CAPTURED");
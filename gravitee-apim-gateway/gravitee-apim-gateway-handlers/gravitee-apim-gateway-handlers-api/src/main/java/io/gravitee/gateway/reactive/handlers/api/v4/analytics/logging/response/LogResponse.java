@@ -22,6 +22,7 @@ import io.gravitee.gateway.reactive.api.context.base.BaseExecutionContext;
 import io.gravitee.gateway.reactive.api.context.http.HttpPlainResponse;
 import io.gravitee.gateway.reactive.core.context.HttpResponseInternal;
 import io.gravitee.gateway.reactive.core.v4.analytics.BufferUtils;
+import io.gravitee.gateway.reactive.core.v4.analytics.CapturedBody;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 import io.gravitee.gateway.reactive.handlers.api.v4.analytics.logging.LogHeadersCaptor;
 
@@ -33,6 +34,7 @@ abstract class LogResponse extends io.gravitee.reporter.api.common.Response {
 
     protected final LoggingContext loggingContext;
     protected final HttpResponseInternal response;
+    private volatile CapturedBody capturedBody;
 
     protected LogResponse(LoggingContext loggingContext, HttpResponseInternal response) {
         this.loggingContext = loggingContext;
@@ -53,6 +55,26 @@ abstract class LogResponse extends io.gravitee.reporter.api.common.Response {
         }
     }
 
+    /**
+     * The captured body is only decoded when the reporter reads it, if ever.
+     */
+    @Override
+    public String getBody() {
+        final CapturedBody body = capturedBody;
+        return body != null ? body.toString() : super.getBody();
+    }
+
+    @Override
+    public void setBody(String body) {
+        this.capturedBody = null;
+        super.setBody(body);
+    }
+
+    protected void setCapturedBody(CapturedBody capturedBody) {
+        super.setBody(null);
+        this.capturedBody = capturedBody;
+    }
+
     protected abstract boolean isLogPayload();
 
     protected abstract boolean isLogHeaders();
@@ -65,6 +65,7 @@ public class LogInitProcessor implements Processor {
             }
 
             return CONDITION_FILTER.filter(ctx, analyticsContext.getLoggingContext())
+                .filter(LoggingContext::isSampled)
                 .doOnSuccess(activeLoggingContext -> initLogEntity(ctx, activeLoggingContext))
                 .ignoreElement();
         });
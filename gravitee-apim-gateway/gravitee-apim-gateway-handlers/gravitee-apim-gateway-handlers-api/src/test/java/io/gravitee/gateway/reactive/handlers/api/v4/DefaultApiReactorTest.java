@@ -359,6 +359,8 @@ class DefaultApiReactorTest {
             .thenReturn(entrypointConnector);
         lenient().when(entrypointConnector.supportedApi()).thenReturn(ApiType.PROXY);
 
+        // Gateway options not relevant for these tests keep their default value.
+        lenient().when(configuration.getProperty(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
         when(configuration.getProperty(PENDING_REQUESTS_TIMEOUT_PROPERTY, Long.class, 10_000L)).thenReturn(10_000L);
         when(configuration.getProperty(ATTR_INTERNAL_VALIDATE_SUBSCRIPTION, Boolean.class, true)).thenReturn(true);
 
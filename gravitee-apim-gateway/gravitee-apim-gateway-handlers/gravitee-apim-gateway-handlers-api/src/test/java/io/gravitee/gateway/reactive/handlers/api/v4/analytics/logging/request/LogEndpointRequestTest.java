@@ -22,12 +22,14 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import io.gravitee.common.http.HttpMethod;
+import io.gravitee.definition.model.v4.analytics.logging.Logging;
 import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.http.HttpHeaderNames;
 import io.gravitee.gateway.api.http.HttpHeaders;
 import io.gravitee.gateway.http.vertx.VertxHttpHeaders;
 import io.gravitee.gateway.reactive.core.context.HttpExecutionContextInternal;
 import io.gravitee.gateway.reactive.core.context.HttpRequestInternal;
+import io.gravitee.gateway.reactive.core.v4.analytics.BodyCapture;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 import io.gravitee.reporter.api.v4.metric.Metrics;
 import io.reactivex.rxjava3.core.Flowable;
@@ -142,7 +144,7 @@ class LogEndpointRequestTest {
         initializeHeaders(HttpHeaders.create());
         when(loggingContext.endpointRequestHeaders()).thenReturn(false);
         when(loggingContext.endpointRequestPayload()).thenReturn(true);
-        when(loggingContext.getMaxSizeLogMessage()).thenReturn(-1);
+        when(loggingContext.newBodyCapture()).thenAnswer(i -> newBodyCapture(-1));
         when(loggingContext.isBodyLoggable()).thenReturn(true);
         when(loggingContext.isContentTypeLoggable(any(), any())).thenReturn(true);
 
@@ -160,7 +162,7 @@ class LogEndpointRequestTest {
         initializeHeaders(HttpHeaders.create());
         when(loggingContext.endpointRequestHeaders()).thenReturn(true);
         when(loggingContext.endpointRequestPayload()).thenReturn(true);
-        when(loggingContext.getMaxSizeLogMessage()).thenReturn(-1);
+        when(loggingContext.newBodyCapture()).thenAnswer(i -> newBodyCapture(-1));
         when(loggingContext.isBodyLoggable()).thenReturn(true);
         when(loggingContext.isContentTypeLoggable(any(), any())).thenReturn(true);
 
@@ -195,7 +197,7 @@ class LogEndpointRequestTest {
         initializeHeaders(HttpHeaders.create());
         when(loggingContext.endpointRequestHeaders()).thenReturn(false);
         when(loggingContext.endpointRequestPayload()).thenReturn(true);
-        when(loggingContext.getMaxSizeLogMessage()).thenReturn(maxPayloadSize);
+        when(loggingContext.newBodyCapture()).thenAnswer(i -> newBodyCapture(maxPayloadSize));
         when(loggingContext.isBodyLoggable()).thenReturn(true);
         when(loggingContext.isContentTypeLoggable(any(), any())).thenReturn(true);
 
@@ -239,4 +241,10 @@ class LogEndpointRequestTest {
     private void initializeHeaders(HttpHeaders initialHeaders) {
         when(request.headers()).thenReturn(initialHeaders);
     }
+
+    private static BodyCapture newBodyCapture(int maxPayloadSize) {
+        final LoggingContext context = new LoggingContext(new Logging());
+        context.setMaxSizeLogMessage(maxPayloadSize < 0 ? "-1" : maxPayloadSize + "B");
+        return context.newBodyCapture();
+    }
 }
@@ -26,12 +26,14 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
+import io.gravitee.definition.model.v4.analytics.logging.Logging;
 import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.http.HttpHeaderNames;
 import io.gravitee.gateway.api.http.HttpHeaders;
 import io.gravitee.gateway.http.vertx.VertxHttpHeaders;
 import io.gravitee.gateway.reactive.core.context.HttpExecutionContextInternal;
 import io.gravitee.gateway.reactive.core.context.HttpResponseInternal;
+import io.gravitee.gateway.reactive.core.v4.analytics.BodyCapture;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.FlowableTransformer;
@@ -162,7 +164,7 @@ class LogEndpointResponseTest {
         initializeHeaders(HttpHeaders.create());
         when(loggingContext.endpointResponseHeaders()).thenReturn(false);
         when(loggingContext.endpointResponsePayload()).thenReturn(true);
-        when(loggingContext.getMaxSizeLogMessage()).thenReturn(-1);
+        when(loggingContext.newBodyCapture()).thenAnswer(i -> newBodyCapture(-1));
         when(loggingContext.isBodyLoggable()).thenReturn(true);
         when(loggingContext.isContentTypeLoggable(any(), any())).thenReturn(true);
 
@@ -180,7 +182,7 @@ class LogEndpointResponseTest {
         initializeHeaders(HttpHeaders.create());
         when(loggingContext.endpointResponseHeaders()).thenReturn(true);
         when(loggingContext.endpointResponsePayload()).thenReturn(true);
-        when(loggingContext.getMaxSizeLogMessage()).thenReturn(-1);
+        when(loggingContext.newBodyCapture()).thenAnswer(i -> newBodyCapture(-1));
         when(loggingContext.isBodyLoggable()).thenReturn(true);
         when(loggingContext.isContentTypeLoggable(any(), any())).thenReturn(true);
 
@@ -215,7 +217,7 @@ class LogEndpointResponseTest {
         initializeHeaders(HttpHeaders.create());
         when(loggingContext.endpointResponseHeaders()).thenReturn(false);
         when(loggingContext.endpointResponsePayload()).thenReturn(true);
-        when(loggingContext.getMaxSizeLogMessage()).thenReturn(maxPayloadSize);
+        when(loggingContext.newBodyCapture()).thenAnswer(i -> newBodyCapture(maxPayloadSize));
         when(loggingContext.isBodyLoggable()).thenReturn(true);
         when(loggingContext.isContentTypeLoggable(any(), any())).thenReturn(true);
 
@@ -231,7 +233,7 @@ class LogEndpointResponseTest {
         initializeHeaders(HttpHeaders.create());
         when(loggingContext.endpointResponseHeaders()).thenReturn(false);
         when(loggingContext.endpointResponsePayload()).thenReturn(true);
-        when(loggingContext.getMaxSizeLogMessage()).thenReturn(-1);
+        when(loggingContext.newBodyCapture()).thenAnswer(i -> newBodyCapture(-1));
         when(loggingContext.isBodyLoggable()).thenReturn(true);
         when(loggingContext.isContentTypeLoggable(any(), any())).thenReturn(true);
 
@@ -303,4 +305,10 @@ class LogEndpointResponseTest {
                 return response;
             });
     }
+
+    private static BodyCapture newBodyCapture(int maxPayloadSize) {
+        final LoggingContext context = new LoggingContext(new Logging());
+        context.setMaxSizeLogMessage(maxPayloadSize < 0 ? "-1" : maxPayloadSize + "B");
+        return context.newBodyCapture();
+    }
 }
@@ -26,12 +26,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.definition.model.v4.analytics.logging.Logging;
 import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.http.HttpHeaderNames;
 import io.gravitee.gateway.api.http.HttpHeaders;
 import io.gravitee.gateway.http.vertx.VertxHttpHeaders;
 import io.gravitee.gateway.reactive.core.context.HttpExecutionContextInternal;
 import io.gravitee.gateway.reactive.core.context.HttpResponseInternal;
+import io.gravitee.gateway.reactive.core.v4.analytics.BodyCapture;
 import io.gravitee.gateway.reactive.core.v4.analytics.LoggingContext;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.subscribers.TestSubscriber;
@@ -107,7 +109,7 @@ class LogEntrypointResponseTest {
         when(response.headers()).thenReturn(HttpHeaders.create());
         when(loggingContext.entrypointResponseHeaders()).thenReturn(false);
         when(loggingContext.entrypointResponsePayload()).thenReturn(true);
-        when(loggingContext.getMaxSizeLogMessage()).thenReturn(-1);
+        when(loggingContext.newBodyCapture()).thenAnswer(i -> newBodyCapture(-1));
         when(loggingContext.isBodyLoggable()).thenReturn(true);
         when(loggingContext.isContentTypeLoggable(any(), any())).thenReturn(true);
 
@@ -149,7 +151,7 @@ class LogEntrypointResponseTest {
         when(response.headers()).thenReturn(HttpHeaders.create());
         when(loggingContext.entrypointResponseHeaders()).thenReturn(false);
         when(loggingContext.entrypointResponsePayload()).thenReturn(true);
-        when(loggingContext.getMaxSizeLogMessage()).thenReturn(maxPayloadSize);
+        when(loggingContext.newBodyCapture()).thenAnswer(i -> newBodyCapture(maxPayloadSize));
         when(loggingContext.isBodyLoggable()).thenReturn(true);
         when(loggingContext.isContentTypeLoggable(any(), any())).thenReturn(true);
 
@@ -179,4 +181,10 @@ class LogEntrypointResponseTest {
         assertNull(logResponse.getHeaders());
         assertThat(logResponse.getBody()).isEqualTo("BODY NOT CAPTURED");
     }
+
+    private static BodyCapture newBodyCapture(int maxPayloadSize) {
+        final LoggingContext context = new LoggingContext(new Logging());
+        context.setMaxSizeLogMessage(maxPayloadSize < 0 ? "-1" : maxPayloadSize + "B");
+        return context.newBodyCapture();
+    }
 }
@@ -29,16 +29,21 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.gravitee.definition.model.v4.flow.Flow;
+import io.gravitee.definition.model.v4.flow.selector.ConditionSelector;
 import io.gravitee.gateway.reactive.api.ExecutionPhase;
+import io.gravitee.gateway.reactive.api.context.base.BaseExecutionContext;
 import io.gravitee.gateway.reactive.api.context.http.HttpMessageExecutionContext;
 import io.gravitee.gateway.reactive.api.context.http.HttpPlainExecutionContext;
 import io.gravitee.gateway.reactive.api.policy.http.HttpPolicy;
+import io.gravitee.gateway.reactive.core.condition.ConditionFilter;
 import io.gravitee.gateway.reactive.core.context.DefaultExecutionContext;
 import io.gravitee.gateway.reactive.core.context.MutableRequest;
 import io.gravitee.gateway.reactive.core.context.MutableResponse;
 import io.gravitee.gateway.reactive.core.context.interruption.InterruptionFailureException;
 import io.gravitee.gateway.reactive.policy.HttpPolicyChain;
+import io.gravitee.gateway.reactive.v4.flow.AbstractFlowResolver;
 import io.gravitee.gateway.reactive.v4.flow.FlowResolver;
+import io.gravitee.gateway.reactive.v4.flow.selection.ConditionSelectorConditionFilter;
 import io.gravitee.gateway.reactive.v4.policy.PolicyChainFactory;
 import io.gravitee.reporter.api.v4.metric.Metrics;
 import io.reactivex.rxjava3.annotations.NonNull;
@@ -254,6 +259,43 @@ class FlowChainTest {
         );
     }
 
+    @Test
+    void should_evaluate_flow_condition_after_previous_flow_execution() {
+        final Flow conditionalFlow1 = conditionalFlow("flow1", "{#context.attributes['flow1-executed'] == null}");
+        final Flow conditionalFlow2 = conditionalFlow("flow2", "{#context.attributes['flow1-executed'] == null}");
+        final HttpPolicy flow1Policy = new TestPolicy("policy1") {
+            @Override
+            public Completable onRequest(HttpPlainExecutionContext ctx) {
+                return super.onRequest(ctx).doOnComplete(() -> ctx.setAttribute("flow1-executed", true));
+            }
+        };
+
+        buildPolicyChain("pc-flow1", conditionalFlow1, REQUEST, flow1Policy);
+        buildPolicyChain("pc-flow2", conditionalFlow2, REQUEST, policy2);
+
+        cut = new FlowChain(
+            FLOW_CHAIN_ID,
+            new TestFlowResolver(new ConditionSelectorConditionFilter(), conditionalFlow1, conditionalFlow2),
+            policyChainFactory
+        );
+
+        final TestObserver<Void> obs = cut.execute(ctx, REQUEST).test();
+
+        obs.assertResult();
+
+        // The condition of the second flow is evaluated once the first flow has changed its input.
+        assertThat(executionOrder).containsExactly("policy1-onRequest");
+    }
+
+    private static Flow conditionalFlow(String name, String condition) {
+        final ConditionSelector conditionSelector = new ConditionSelector();
+        conditionSelector.setCondition(condition);
+        final Flow flow = new Flow();
+        flow.setName(name);
+        flow.setSelectors(List.of(conditionSelector));
+        return flow;
+    }
+
     private static @NonNull DefaultExecutionContext buildExecutionContext() {
         final MutableRequest request = mock(MutableRequest.class);
         final MutableResponse response = mock(MutableResponse.class);
@@ -340,4 +382,19 @@ class FlowChainTest {
             });
         }
     }
+
+    private static class TestFlowResolver extends AbstractFlowResolver {
+
+        private final Flowable<Flow> flows;
+
+        TestFlowResolver(ConditionFilter<BaseExecutionContext, Flow> filter, Flow... flows) {
+            super(filter);
+            this.flows = Flowable.fromArray(flows);
+        }
+
+        @Override
+        public Flowable<Flow> provideFlows(BaseExecutionContext ctx) {
+            return flows;
+        }
+    }
 }
@@ -60,6 +60,7 @@ class LogInitProcessorTest extends AbstractV4ProcessorTest {
         lenient().when(analyticsContext.isEnabled()).thenReturn(true);
         lenient().when(analyticsContext.getLoggingContext()).thenReturn(loggingContext);
         lenient().when(analyticsContext.isLoggingEnabled()).thenReturn(true);
+        lenient().when(loggingContext.isSampled()).thenReturn(true);
         ctx.setInternalAttribute(InternalContextAttributes.ATTR_INTERNAL_ANALYTICS_CONTEXT, analyticsContext);
     }
 
@@ -84,6 +85,17 @@ class LogInitProcessorTest extends AbstractV4ProcessorTest {
         verifyNoInteractions(mockRequest);
     }
 
+    @Test
+    void shouldNotLogWhenRequestIsNotSampled() {
+        when(loggingContext.getCondition()).thenReturn("true");
+        when(loggingContext.isSampled()).thenReturn(false);
+
+        final TestObserver<Void> obs = cut.execute(ctx).test();
+        obs.assertComplete();
+        verifyNoInteractions(mockMetrics);
+        verifyNoInteractions(mockRequest);
+    }
+
     @Test
     void shouldCreateLogWhenLoggingConditionIsEvaluatedToTrue() {
         final long timestamp = System.currentTimeMillis();
@@ -103,6 +103,7 @@ public class HttpPolicyFactory implements PolicyFactory {
 
             // Avoid creating a conditional policy if no condition or message condition is defined.
             if (isNotBlank(condition)) {
+                filter.compile(condition);
                 policy = new HttpConditionalPolicy(policy, condition, filter);
             }
         }
@@ -19,6 +19,7 @@ import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes
 import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes.ATTR_INTERNAL_TRACING_ERROR;
 import static io.gravitee.gateway.reactive.api.context.InternalContextAttributes.ATTR_INTERNAL_TRACING_ROOT_SPAN;
 
+import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.common.http.IdGenerator;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.definition.model.ExecutionMode;
@@ -44,6 +45,8 @@ import io.gravitee.gateway.reactive.core.hook.HookHelper;
 import io.gravitee.gateway.reactive.core.processor.ProcessorChain;
 import io.gravitee.gateway.reactive.core.tracing.TracingHook;
 import io.gravitee.gateway.reactive.http.vertx.VertxHttpServerRequest;
+import io.gravitee.gateway.reactive.reactor.activation.ReactorActivationException;
+import io.gravitee.gateway.reactive.reactor.activation.ReactorActivationManager;
 import io.gravitee.gateway.reactive.reactor.handler.HttpAcceptorResolver;
 import io.gravitee.gateway.reactive.reactor.processor.DefaultPlatformProcessorChainFactory;
 import io.gravitee.gateway.reactive.reactor.processor.NotFoundProcessorChainFactory;
@@ -97,6 +100,7 @@ public class DefaultHttpRequestDispatcher implements HttpRequestDispatcher {
     private final ComponentProvider globalComponentProvider;
     private final TracingHook tracingHook;
     private final boolean warningsEnabled;
+    private final ReactorActivationManager activationManager;
 
     public DefaultHttpRequestDispatcher(
         GatewayConfiguration gatewayConfiguration,
@@ -112,6 +116,40 @@ public class DefaultHttpRequestDispatcher implements HttpRequestDispatcher {
         RequestClientAuthConfiguration requestClientAuthConfiguration,
         Vertx vertx,
         boolean warningsEnabled
+    ) {
+        this(
+            gatewayConfiguration,
+            httpAcceptorResolver,
+            idGenerator,
+            globalComponentProvider,
+            requestProcessorChainFactory,
+            responseProcessorChainFactory,
+            platformProcessorChainFactory,
+            notFoundProcessorChainFactory,
+            gatewayTracingContext,
+            requestTimeoutConfiguration,
+            requestClientAuthConfiguration,
+            vertx,
+            warningsEnabled,
+            ReactorActivationManager.disabled()
+        );
+    }
+
+    public DefaultHttpRequestDispatcher(
+        GatewayConfiguration gatewayConfiguration,
+        HttpAcceptorResolver httpAcceptorResolver,
+        IdGenerator idGenerator,
+        ComponentProvider globalComponentProvider,
+        RequestProcessorChainFactory requestProcessorChainFactory,
+        ResponseProcessorChainFactory responseProcessorChainFactory,
+        DefaultPlatformProcessorChainFactory platformProcessorChainFactory,
+        NotFoundProcessorChainFactory notFoundProcessorChainFactory,
+        TracingContext gatewayTracingContext,
+        RequestTimeoutConfiguration requestTimeoutConfiguration,
+        RequestClientAuthConfiguration requestClientAuthConfiguration,
+        Vertx vertx,
+        boolean warningsEnabled,
+        ReactorActivationManager activationManager
     ) {
         this.gatewayConfiguration = gatewayConfiguration;
         this.httpAcceptorResolver = httpAcceptorResolver;
@@ -127,6 +165,7 @@ public class DefaultHttpRequestDispatcher implements HttpRequestDispatcher {
         this.vertx = vertx;
         this.tracingHook = new TracingHook("Processor chain");
         this.warningsEnabled = warningsEnabled;
+        this.activationManager = activationManager;
     }
 
     /**
@@ -182,62 +221,88 @@ public class DefaultHttpRequestDispatcher implements HttpRequestDispatcher {
                 return handleNotFoundCompletable;
             }
         } else if (httpAcceptor.reactor() instanceof ApiReactor<?> apiReactor) {
-            MutableExecutionContext mutableCtx = prepareExecutionContext(httpServerRequest);
-            mutableCtx.request().contextPath(httpAcceptor.path());
-            TracingContext tracingContext = apiReactor.tracingContext();
-            mutableCtx.tracer(new io.gravitee.gateway.reactive.api.tracing.Tracer(vertxContext, tracingContext.opentelemetryTracer()));
-            mutableCtx.setInternalAttribute(InternalContextAttributes.ATTR_INTERNAL_REACTABLE_API, apiReactor.api());
-            ProcessorChain preProcessorChain = platformProcessorChainFactory.preProcessorChain();
-            List<ProcessorHook> processHooks = List.of();
-            Completable handleCompletable = HookHelper.hook(
-                () -> preProcessorChain.execute(mutableCtx, ExecutionPhase.REQUEST),
-                preProcessorChain.getId(),
+            // A lazily activated reactor is started by the first request, the following ones wait for it.
+            return activationManager
+                .execute(
+                    apiReactor,
+                    command -> vertxContext.runOnContext(v -> command.run()),
+                    () -> handleApiRequest(httpServerRequest, httpAcceptor, apiReactor, vertxContext)
+                )
+                .onErrorResumeNext(throwable -> handleActivationError(httpServerRequest, throwable));
+        }
+        // V3 execution mode.
+        return handleV3Request(httpServerRequest, httpAcceptor, vertxContext);
+    }
+
+    private Completable handleApiRequest(
+        final HttpServerRequest httpServerRequest,
+        final HttpAcceptor httpAcceptor,
+        final ApiReactor<?> apiReactor,
+        final Context vertxContext
+    ) {
+        MutableExecutionContext mutableCtx = prepareExecutionContext(httpServerRequest);
+        mutableCtx.request().contextPath(httpAcceptor.path());
+        TracingContext tracingContext = apiReactor.tracingContext();
+        mutableCtx.tracer(new io.gravitee.gateway.reactive.api.tracing.Tracer(vertxContext, tracingContext.opentelemetryTracer()));
+        mutableCtx.setInternalAttribute(InternalContextAttributes.ATTR_INTERNAL_REACTABLE_API, apiReactor.api());
+        ProcessorChain preProcessorChain = platformProcessorChainFactory.preProcessorChain();
+        List<ProcessorHook> processHooks = List.of();
+        Completable handleCompletable = HookHelper.hook(
+            () -> preProcessorChain.execute(mutableCtx, ExecutionPhase.REQUEST),
+            preProcessorChain.getId(),
+            processHooks,
+            mutableCtx,
+            ExecutionPhase.REQUEST
+        ).andThen(Completable.defer(() -> apiReactor.handle(mutableCtx)));
+
+        if (tracingContext.isEnabled()) {
+            handleCompletable = handleCompletable
+                .doOnSubscribe(disposable -> {
+                    Span rootSpan = mutableCtx
+                        .getTracer()
+                        .startRootSpanFrom(new ObservableHttpServerRequest(httpServerRequest.getDelegate()));
+                    mutableCtx.putInternalAttribute(ATTR_INTERNAL_TRACING_ROOT_SPAN, rootSpan);
+                })
+                .doOnError(throwable -> mutableCtx.putInternalAttribute(ATTR_INTERNAL_TRACING_ERROR, throwable));
+        }
+        return handleCompletable.doFinally(() -> {
+            // Post action are dissociated from the main execution once the request has been handled and cover all the cases (error, success, cancel).
+            ProcessorChain postProcessorChain = platformProcessorChainFactory.postProcessorChain();
+            Completable postProcessCompletable = HookHelper.hook(
+                () -> postProcessorChain.execute(mutableCtx, ExecutionPhase.RESPONSE),
+                postProcessorChain.getId(),
                 processHooks,
                 mutableCtx,
-                ExecutionPhase.REQUEST
-            ).andThen(Completable.defer(() -> apiReactor.handle(mutableCtx)));
+                ExecutionPhase.RESPONSE
+            ).subscribeOn(Schedulers.computation());
 
             if (tracingContext.isEnabled()) {
-                handleCompletable = handleCompletable
-                    .doOnSubscribe(disposable -> {
-                        Span rootSpan = mutableCtx
+                postProcessCompletable = postProcessCompletable
+                    .doOnError(throwable -> mutableCtx.putInternalAttribute(ATTR_INTERNAL_TRACING_ERROR, throwable))
+                    .doFinally(() -> {
+                        Span rootSpan = mutableCtx.getInternalAttribute(ATTR_INTERNAL_TRACING_ROOT_SPAN);
+                        Throwable throwable = mutableCtx.getInternalAttribute(ATTR_INTERNAL_TRACING_ERROR);
+                        mutableCtx
                             .getTracer()
-                            .startRootSpanFrom(new ObservableHttpServerRequest(httpServerRequest.getDelegate()));
-                        mutableCtx.putInternalAttribute(ATTR_INTERNAL_TRACING_ROOT_SPAN, rootSpan);
-                    })
-                    .doOnError(throwable -> mutableCtx.putInternalAttribute(ATTR_INTERNAL_TRACING_ERROR, throwable));
+                            .endWithResponseAndError(
+                                rootSpan,
+                                new ObservableHttpServerResponse(httpServerRequest.getDelegate().response()),
+                                throwable
+                            );
+                    });
+            }
+            postProcessCompletable.onErrorComplete().subscribe();
+        });
+    }
+
+    private Completable handleActivationError(final HttpServerRequest httpServerRequest, final Throwable throwable) {
+        if (throwable instanceof ReactorActivationException) {
+            log.warn(throwable.getMessage());
+            if (!httpServerRequest.response().headWritten()) {
+                return httpServerRequest.response().setStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503).rxEnd();
             }
-            return handleCompletable.doFinally(() -> {
-                // Post action are dissociated from the main execution once the request has been handled and cover all the cases (error, success, cancel).
-                ProcessorChain postProcessorChain = platformProcessorChainFactory.postProcessorChain();
-                Completable postProcessCompletable = HookHelper.hook(
-                    () -> postProcessorChain.execute(mutableCtx, ExecutionPhase.RESPONSE),
-                    postProcessorChain.getId(),
-                    processHooks,
-                    mutableCtx,
-                    ExecutionPhase.RESPONSE
-                ).subscribeOn(Schedulers.computation());
-
-                if (tracingContext.isEnabled()) {
-                    postProcessCompletable = postProcessCompletable
-                        .doOnError(throwable -> mutableCtx.putInternalAttribute(ATTR_INTERNAL_TRACING_ERROR, throwable))
-                        .doFinally(() -> {
-                            Span rootSpan = mutableCtx.getInternalAttribute(ATTR_INTERNAL_TRACING_ROOT_SPAN);
-                            Throwable throwable = mutableCtx.getInternalAttribute(ATTR_INTERNAL_TRACING_ERROR);
-                            mutableCtx
-                                .getTracer()
-                                .endWithResponseAndError(
-                                    rootSpan,
-                                    new ObservableHttpServerResponse(httpServerRequest.getDelegate().response()),
-                                    throwable
-                                );
-                        });
-                }
-                postProcessCompletable.onErrorComplete().subscribe();
-            });
         }
-        // V3 execution mode.
-        return handleV3Request(httpServerRequest, httpAcceptor, vertxContext);
+        return Completable.error(throwable);
     }
 
     private MutableExecutionContext prepareExecutionContext(final HttpServerRequest httpServerRequest) {
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.reactor.activation;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.env.Environment;
+
+/**
+ * Gateway level options of the {@link ReactorActivationManager} which, when enabled, only starts the reactors of the HTTP APIs on their
+ * first request and stops them once idle.
+ *
+ * @author GraviteeSource Team
+ */
+@Getter
+@Builder(toBuilder = true)
+public class LazyActivationOptions {
+
+    public static final String ENABLED_PROPERTY = "api.lazyActivation.enabled";
+    public static final String IDLE_TIMEOUT_PROPERTY = "api.lazyActivation.idleTimeout";
+    public static final String WARMUP_TIMEOUT_PROPERTY = "api.lazyActivation.warmupTimeout";
+
+    public static final LazyActivationOptions DEFAULT = LazyActivationOptions.builder().build();
+
+    @Builder.Default
+    private final boolean enabled = false;
+
+    /**
+     * Duration (in milliseconds) without any request after which an active reactor is stopped and replaced by a dormant one.
+     */
+    @Builder.Default
+    private final long idleTimeout = 1_800_000L;
+
+    /**
+     * Maximum duration (in milliseconds) a request waits for the reactor of its API to start before being rejected.
+     */
+    @Builder.Default
+    private final long warmupTimeout = 30_000L;
+
+    public static LazyActivationOptions from(Environment environment) {
+        if (!Boolean.TRUE.equals(environment.getProperty(ENABLED_PROPERTY, Boolean.class, false))) {
+            return DEFAULT;
+        }
+
+        return LazyActivationOptions.builder()
+            .enabled(true)
+            .idleTimeout(environment.getProperty(IDLE_TIMEOUT_PROPERTY, Long.class, 1_800_000L))
+            .warmupTimeout(environment.getProperty(WARMUP_TIMEOUT_PROPERTY, Long.class, 30_000L))
+            .build();
+    }
+}
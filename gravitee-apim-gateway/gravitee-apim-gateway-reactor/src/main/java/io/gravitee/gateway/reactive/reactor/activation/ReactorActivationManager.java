@@ -0,0 +1,332 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.reactor.activation;
+
+import io.gravitee.gateway.reactive.reactor.ApiReactor;
+import io.gravitee.gateway.reactor.handler.Acceptor;
+import io.gravitee.gateway.reactor.handler.HttpAcceptor;
+import io.gravitee.gateway.reactor.handler.ReactorHandler;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+
+/**
+ * Starts the reactors of the HTTP APIs on their first request rather than when they are deployed, and stops them once idle.
+ * <p>
+ * A reactor {@link #register(ReactorHandler, Runnable) registered} to the manager is dormant: it is built and its acceptors are exposed,
+ * but none of its policies, resources, endpoint connectors or services are started. The first request
+ * {@link #execute(ReactorHandler, Executor, Supplier) executed} through the manager starts it on the io scheduler, the requests received
+ * meanwhile wait for the end of the warm-up (at most {@link LazyActivationOptions#getWarmupTimeout()}). A started reactor which does not
+ * receive any request during {@link LazyActivationOptions#getIdleTimeout()} is reported as idle to its owner, which is expected to replace
+ * it by a dormant one and to stop it when {@link #unregister(ReactorHandler)} tells so.
+ * <p>
+ * Only the {@link ApiReactor}s exclusively exposed through {@link HttpAcceptor}s are managed, the other ones (e.g. TCP or subscription
+ * based APIs) must be running to receive any traffic.
+ *
+ * @author GraviteeSource Team
+ */
+@CustomLog
+public class ReactorActivationManager {
+
+    private static final ReactorActivationManager DISABLED = new ReactorActivationManager(LazyActivationOptions.DEFAULT);
+    private static final long MIN_SWEEP_PERIOD = 1_000L;
+
+    private final LazyActivationOptions options;
+    private final LongSupplier clock;
+    private final Scheduler scheduler;
+    // Reactors of the same API are equal, each instance has its own activation.
+    private final Map<HandlerKey, Activation> activations = new ConcurrentHashMap<>();
+    private final Object idleSweeperLock = new Object();
+    private Disposable idleSweeper;
+
+    public ReactorActivationManager(LazyActivationOptions options) {
+        this(options, System::currentTimeMillis, Schedulers.io());
+    }
+
+    ReactorActivationManager(LazyActivationOptions options, LongSupplier clock, Scheduler scheduler) {
+        this.options = options;
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return a manager which does not manage any reactor, all of them being started when deployed.
+     */
+    public static ReactorActivationManager disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return options.isEnabled();
+    }
+
+    public boolean supports(ReactorHandler handler) {
+        if (!isEnabled() || !(handler instanceof ApiReactor<?>)) {
+            return false;
+        }
+
+        final List<Acceptor<?>> acceptors = handler.acceptors();
+        return acceptors != null && !acceptors.isEmpty() && acceptors.stream().allMatch(HttpAcceptor.class::isInstance);
+    }
+
+    /**
+     * Registers a dormant reactor, started on its first request.
+     *
+     * @param handler the reactor, not started.
+     * @param onIdle called, out of any request, when the reactor has been started and has not been used for the idle timeout or when its
+     * start failed.
+     */
+    public void register(ReactorHandler handler, Runnable onIdle) {
+        activations.put(new HandlerKey(handler), new Activation(handler, onIdle, clock.getAsLong()));
+        synchronized (idleSweeperLock) {
+            if (idleSweeper == null) {
+                final long period = Math.max(MIN_SWEEP_PERIOD, options.getIdleTimeout() / 2);
+                idleSweeper = Flowable.interval(period, period, TimeUnit.MILLISECONDS, scheduler).subscribe(tick -> sweepIdle());
+            }
+        }
+    }
+
+    /**
+     * Stops managing the given reactor.
+     *
+     * @return <code>true</code> if the reactor has been started and must be stopped by the caller. A reactor still warming up is stopped
+     * by the manager as soon as its start completes.
+     */
+    public boolean unregister(ReactorHandler handler) {
+        if (!isEnabled()) {
+            return true;
+        }
+
+        final Activation activation = activations.remove(new HandlerKey(handler));
+        if (activation == null) {
+            return true;
+        }
+
+        synchronized (activation) {
+            final State previous = activation.state;
+            activation.state = State.RETIRED;
+            return previous == State.ACTIVE || previous == State.IDLE;
+        }
+    }
+
+    /**
+     * Executes a request on the given reactor, starting it first if it is dormant.
+     *
+     * @param handler the reactor handling the request.
+     * @param resumeExecutor executor on which the request resumes when it had to wait for the reactor to start (e.g. its Vert.x context).
+     * @param execution the request execution, only subscribed once the reactor is started.
+     *
+     * @return a {@link Completable} failing with a {@link ReactorActivationException} if the reactor can not be started.
+     */
+    public Completable execute(ReactorHandler handler, Executor resumeExecutor, Supplier<Completable> execution) {
+        if (!isEnabled()) {
+            return Completable.defer(execution::get);
+        }
+
+        final Activation activation = activations.get(new HandlerKey(handler));
+        if (activation == null) {
+            return Completable.defer(execution::get);
+        }
+
+        return Completable.defer(() ->
+            acquire(activation, resumeExecutor).andThen(Completable.defer(execution::get)).doFinally(() -> release(activation))
+        );
+    }
+
+    public void close() {
+        synchronized (idleSweeperLock) {
+            if (idleSweeper != null) {
+                idleSweeper.dispose();
+                idleSweeper = null;
+            }
+        }
+    }
+
+    int activeCount() {
+        return (int) activations.values().stream().filter(activation -> activation.state != State.DORMANT).count();
+    }
+
+    /**
+     * Reports the reactors which have not been used for the idle timeout.
+     */
+    void sweepIdle() {
+        final long now = clock.getAsLong();
+        for (Activation activation : activations.values()) {
+            final boolean idle;
+            synchronized (activation) {
+                idle =
+                    activation.state == State.ACTIVE &&
+                    activation.inFlight == 0 &&
+                    now - activation.lastAccess >= options.getIdleTimeout();
+                if (idle) {
+                    activation.state = State.IDLE;
+                }
+            }
+
+            if (idle) {
+                log.debug("Deactivating {} not used since {} ms", activation.handler, now - activation.lastAccess);
+                notifyIdle(activation);
+            }
+        }
+    }
+
+    private Completable acquire(Activation activation, Executor resumeExecutor) {
+        synchronized (activation) {
+            activation.inFlight++;
+            activation.lastAccess = clock.getAsLong();
+
+            if (activation.state == State.DORMANT) {
+                activation.state = State.WARMING_UP;
+                activation.warmup = CompletableSubject.create();
+                warmUp(activation);
+            }
+
+            if (activation.state == State.WARMING_UP) {
+                return activation.warmup
+                    .timeout(options.getWarmupTimeout(), TimeUnit.MILLISECONDS)
+                    .onErrorResumeNext(throwable -> Completable.error(activationError(activation, throwable)))
+                    .observeOn(Schedulers.from(resumeExecutor));
+            }
+            return Completable.complete();
+        }
+    }
+
+    private void release(Activation activation) {
+        synchronized (activation) {
+            activation.inFlight--;
+            activation.lastAccess = clock.getAsLong();
+        }
+    }
+
+    private void warmUp(Activation activation) {
+        log.debug("Activating {} on its first request", activation.handler);
+
+        Completable.fromAction(activation.handler::start)
+            .subscribeOn(scheduler)
+            .subscribe(() -> onStarted(activation), throwable -> onStartFailed(activation, throwable));
+    }
+
+    private void onStarted(Activation activation) {
+        final boolean retired;
+        synchronized (activation) {
+            retired = activation.state == State.RETIRED;
+            if (!retired) {
+                activation.state = State.ACTIVE;
+                activation.lastAccess = clock.getAsLong();
+            }
+        }
+
+        activation.warmup.onComplete();
+        if (retired) {
+            stop(activation.handler);
+        }
+    }
+
+    private void onStartFailed(Activation activation, Throwable throwable) {
+        log.error("Unable to activate {}", activation.handler, throwable);
+
+        final boolean retired;
+        synchronized (activation) {
+            retired = activation.state == State.RETIRED;
+            if (!retired) {
+                // Partially started, the owner replaces it by a fresh dormant reactor and stops it.
+                activation.state = State.IDLE;
+            }
+        }
+
+        activation.warmup.onError(throwable);
+        if (retired) {
+            stop(activation.handler);
+        } else {
+            notifyIdle(activation);
+        }
+    }
+
+    private void notifyIdle(Activation activation) {
+        try {
+            activation.onIdle.run();
+        } catch (Exception e) {
+            log.warn("Unable to deactivate {}", activation.handler, e);
+        }
+    }
+
+    private void stop(ReactorHandler handler) {
+        try {
+            handler.stop();
+        } catch (Exception e) {
+            log.error("Unable to stop {}", handler, e);
+        }
+    }
+
+    private static ReactorActivationException activationError(Activation activation, Throwable throwable) {
+        final String reason = throwable instanceof TimeoutException ? "did not start in time" : "failed to start";
+        return new ReactorActivationException("Reactor " + activation.handler + " " + reason, throwable);
+    }
+
+    private enum State {
+        DORMANT,
+        WARMING_UP,
+        ACTIVE,
+        /**
+         * Started but reported as idle, still handling requests until unregistered.
+         */
+        IDLE,
+        RETIRED,
+    }
+
+    /**
+     * Identity of a reactor in the activations.
+     */
+    private record HandlerKey(ReactorHandler handler) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof HandlerKey other && other.handler == handler;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(handler);
+        }
+    }
+
+    private static class Activation {
+
+        private final ReactorHandler handler;
+        private final Runnable onIdle;
+        private State state = State.DORMANT;
+        private CompletableSubject warmup;
+        private int inFlight;
+        private long lastAccess;
+
+        private Activation(ReactorHandler handler, Runnable onIdle, long lastAccess) {
+            this.handler = handler;
+            this.onIdle = onIdle;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
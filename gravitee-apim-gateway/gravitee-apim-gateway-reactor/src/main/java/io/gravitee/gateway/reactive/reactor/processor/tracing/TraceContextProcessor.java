@@ -15,7 +15,6 @@
  */
 package io.gravitee.gateway.reactive.reactor.processor.tracing;
 
-import io.gravitee.common.utils.UUID;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.gateway.reactive.core.context.HttpExecutionContextInternal;
 import io.gravitee.gateway.reactive.core.processor.Processor;
@@ -45,14 +44,14 @@ public class TraceContextProcessor implements Processor {
         return Completable.fromRunnable(() -> {
             String traceparent = ctx.request().headers().get(HEADER_TRACE_PARENT);
             if (traceparent == null) {
-                traceparent = TraceparentHelper.buildTraceparentFrom(UUID.random());
+                traceparent = TraceparentHelper.randomTraceparent();
                 ctx.request().headers().set(HEADER_TRACE_PARENT, traceparent);
                 // traceparent was missing, remove tracestate
                 ctx.request().headers().remove(HEADER_TRACE_STATE);
             } else if (!TraceparentHelper.isValid(traceparent)) {
                 // check format to know if we have to create a new one
                 // see : https://www.w3.org/TR/trace-context/#a-traceparent-is-received
-                traceparent = TraceparentHelper.buildTraceparentFrom(UUID.random());
+                traceparent = TraceparentHelper.randomTraceparent();
                 ctx.request().headers().set(HEADER_TRACE_PARENT, traceparent);
                 // traceparent was invalid, remove tracestate
                 ctx.request().headers().remove(HEADER_TRACE_STATE);
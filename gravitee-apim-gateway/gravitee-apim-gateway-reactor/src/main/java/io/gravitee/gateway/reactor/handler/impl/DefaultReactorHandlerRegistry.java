@@ -15,6 +15,7 @@
  */
 package io.gravitee.gateway.reactor.handler.impl;
 
+import io.gravitee.gateway.reactive.reactor.activation.ReactorActivationManager;
 import io.gravitee.gateway.reactive.reactor.v4.reactor.ReactorFactoryManager;
 import io.gravitee.gateway.reactor.Reactable;
 import io.gravitee.gateway.reactor.handler.Acceptor;
@@ -26,22 +27,37 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
 @CustomLog
-@RequiredArgsConstructor
 public class DefaultReactorHandlerRegistry implements ReactorHandlerRegistry {
 
     private final ReactorFactoryManager reactorFactoryManager;
+    private final ReactorActivationManager activationManager;
     private final Map<Reactable, List<ReactableAcceptors>> reactables = new ConcurrentHashMap<>();
     private final Map<Class<? extends Acceptor<?>>, List<Acceptor<?>>> acceptors = new ConcurrentHashMap<>();
     private final Map<Class<? extends Acceptor<?>>, Class<? extends Acceptor<?>>> acceptorsClassMapping = new ConcurrentHashMap<>();
+    // Idle reactors are replaced out of the sync, only taken when the activation manager is enabled and never while building reactors.
+    private final Object deploymentLock = new Object();
+
+    public DefaultReactorHandlerRegistry(ReactorFactoryManager reactorFactoryManager) {
+        this(reactorFactoryManager, ReactorActivationManager.disabled());
+    }
+
+    /**
+     * @param activationManager when lazy activation is enabled, the reactors it supports are registered dormant and only started on their
+     * first request.
+     */
+    public DefaultReactorHandlerRegistry(ReactorFactoryManager reactorFactoryManager, ReactorActivationManager activationManager) {
+        this.reactorFactoryManager = reactorFactoryManager;
+        this.activationManager = Objects.requireNonNullElseGet(activationManager, ReactorActivationManager::disabled);
+    }
 
     @Override
     public void create(Reactable reactable) {
@@ -49,7 +65,7 @@ public class DefaultReactorHandlerRegistry implements ReactorHandlerRegistry {
 
         List<ReactorHandler> reactorHandlers = prepare(reactable);
         if (!reactorHandlers.isEmpty()) {
-            reactorHandlers.forEach(reactorHandler -> register(reactable, reactorHandler));
+            withDeploymentLock(() -> reactorHandlers.forEach(reactorHandler -> register(reactable, reactorHandler)));
         }
     }
 
@@ -60,7 +76,11 @@ public class DefaultReactorHandlerRegistry implements ReactorHandlerRegistry {
         if (reactorHandlers != null) {
             reactorHandlers.forEach(reactorHandler -> {
                 try {
-                    reactorHandler.start();
+                    if (activationManager.supports(reactorHandler)) {
+                        activationManager.register(reactorHandler, () -> deactivate(reactable, reactorHandler));
+                    } else {
+                        reactorHandler.start();
+                    }
                     startedReactorHandlers.add(reactorHandler);
                 } catch (Exception ex) {
                     log.error("Unable to start the new reactor handler: " + reactorHandler, ex);
@@ -71,6 +91,49 @@ public class DefaultReactorHandlerRegistry implements ReactorHandlerRegistry {
         return startedReactorHandlers;
     }
 
+    /**
+     * Replaces an idle reactor by a dormant one, unless it has been replaced or removed in the meantime.
+     */
+    private void deactivate(Reactable reactable, ReactorHandler idleHandler) {
+        if (!isRegistered(reactable, idleHandler)) {
+            return;
+        }
+
+        List<ReactorHandler> dormantReactorHandlers = prepare(reactable);
+        if (dormantReactorHandlers.isEmpty()) {
+            return;
+        }
+
+        final boolean replaced;
+        synchronized (deploymentLock) {
+            replaced = isRegistered(reactable, idleHandler);
+            if (replaced) {
+                log.debug("Replacing idle handler {} by a dormant one", idleHandler);
+                replace(reactable, dormantReactorHandlers);
+            }
+        }
+
+        if (!replaced) {
+            log.debug("Idle handler {} has been replaced or removed meanwhile, discarding the dormant one", idleHandler);
+            dormantReactorHandlers.forEach(this::stop);
+        }
+    }
+
+    private boolean isRegistered(Reactable reactable, ReactorHandler handler) {
+        final List<ReactableAcceptors> reactableAcceptors = reactables.get(reactable);
+        return reactableAcceptors != null && reactableAcceptors.stream().anyMatch(acceptors -> acceptors.handler == handler);
+    }
+
+    private void withDeploymentLock(Runnable action) {
+        if (activationManager.isEnabled()) {
+            synchronized (deploymentLock) {
+                action.run();
+            }
+        } else {
+            action.run();
+        }
+    }
+
     private void register(Reactable reactable, ReactorHandler handler) {
         log.debug("Registering a new handler: {}", handler);
 
@@ -101,33 +164,43 @@ public class DefaultReactorHandlerRegistry implements ReactorHandlerRegistry {
 
             // Do not update handler if the new ones are not correctly initialized
             if (!newReactorHandlers.isEmpty()) {
-                // Remove any handlers for the current reactable
-                List<ReactableAcceptors> previousReactableAcceptors = reactables.remove(reactable);
-
-                // Register the new handler before removing the previous http acceptor to avoid 404, especially on high throughput.
-                newReactorHandlers.forEach(reactorHandler -> register(reactable, reactorHandler));
-
-                removeAcceptors(reactable, previousReactableAcceptors);
+                withDeploymentLock(() -> replace(reactable, newReactorHandlers));
             }
         } else {
             create(reactable);
         }
     }
 
+    private void replace(Reactable reactable, List<ReactorHandler> newReactorHandlers) {
+        // Remove any handlers for the current reactable
+        List<ReactableAcceptors> previousReactableAcceptors = reactables.remove(reactable);
+
+        // Register the new handler before removing the previous http acceptor to avoid 404, especially on high throughput.
+        newReactorHandlers.forEach(reactorHandler -> register(reactable, reactorHandler));
+
+        if (previousReactableAcceptors != null) {
+            removeAcceptors(reactable, previousReactableAcceptors);
+        }
+    }
+
     @Override
     public void remove(Reactable reactable) {
-        final List<ReactableAcceptors> reactableAcceptors = reactables.get(reactable);
-        removeAcceptors(reactable, reactableAcceptors, true);
+        withDeploymentLock(() -> {
+            final List<ReactableAcceptors> reactableAcceptors = reactables.get(reactable);
+            removeAcceptors(reactable, reactableAcceptors, true);
+        });
     }
 
     @Override
     public void clear() {
-        Iterator<Map.Entry<Reactable, List<ReactableAcceptors>>> reactableIte = reactables.entrySet().iterator();
-        while (reactableIte.hasNext()) {
-            final Map.Entry<Reactable, List<ReactableAcceptors>> next = reactableIte.next();
-            removeAcceptors(next.getKey(), next.getValue(), false);
-            reactableIte.remove();
-        }
+        withDeploymentLock(() -> {
+            Iterator<Map.Entry<Reactable, List<ReactableAcceptors>>> reactableIte = reactables.entrySet().iterator();
+            while (reactableIte.hasNext()) {
+                final Map.Entry<Reactable, List<ReactableAcceptors>> next = reactableIte.next();
+                removeAcceptors(next.getKey(), next.getValue(), false);
+                reactableIte.remove();
+            }
+        });
     }
 
     @Override
@@ -163,14 +236,19 @@ public class DefaultReactorHandlerRegistry implements ReactorHandlerRegistry {
 
         unregisterAcceptors(handlersAcceptors);
 
-        reactableAcceptors.forEach(reactableHttpAcceptor -> {
-            try {
-                log.debug("Stopping previous handler for: {}", reactable);
-                reactableHttpAcceptor.handler.stop();
-            } catch (Exception ex) {
-                log.error("Unable to stop handler", ex);
+        reactableAcceptors.forEach(reactableHttpAcceptor -> stop(reactableHttpAcceptor.handler));
+    }
+
+    private void stop(ReactorHandler handler) {
+        try {
+            // A dormant handler has never been started.
+            if (activationManager.unregister(handler)) {
+                log.debug("Stopping previous handler: {}", handler);
+                handler.stop();
             }
-        });
+        } catch (Exception ex) {
+            log.error("Unable to stop handler", ex);
+        }
     }
 
     @Override
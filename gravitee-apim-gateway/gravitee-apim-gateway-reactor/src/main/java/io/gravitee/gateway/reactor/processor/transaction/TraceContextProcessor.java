@@ -15,7 +15,6 @@
  */
 package io.gravitee.gateway.reactor.processor.transaction;
 
-import io.gravitee.common.utils.UUID;
 import io.gravitee.gateway.api.ExecutionContext;
 import io.gravitee.gateway.api.Request;
 import io.gravitee.gateway.core.processor.AbstractProcessor;
@@ -36,14 +35,14 @@ public class TraceContextProcessor extends AbstractProcessor<ExecutionContext> {
     public void handle(final ExecutionContext context) {
         String traceparent = context.request().headers().getFirst(HEADER_TRACE_PARENT);
         if (traceparent == null) {
-            traceparent = TraceparentHelper.buildTraceparentFrom(UUID.random());
+            traceparent = TraceparentHelper.randomTraceparent();
             context.request().headers().set(HEADER_TRACE_PARENT, traceparent);
             // traceparent was missing, remove tracestate
             context.request().headers().remove(HEADER_TRACE_STATE);
         } else if (!TraceparentHelper.isValid(traceparent)) {
             // check format to know if we have to create a new one
             // see : https://www.w3.org/TR/trace-context/#a-traceparent-is-received
-            traceparent = TraceparentHelper.buildTraceparentFrom(UUID.random());
+            traceparent = TraceparentHelper.randomTraceparent();
             context.request().headers().set(HEADER_TRACE_PARENT, traceparent);
             // traceparent was invalid, remove tracestate
             context.request().headers().remove(HEADER_TRACE_STATE);
@@ -15,7 +15,9 @@
  */
 package io.gravitee.gateway.reactor.processor.transaction;
 
+import io.gravitee.gateway.core.id.IdEncoding;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
@@ -25,6 +27,7 @@ public class TraceparentHelper {
 
     private static final String FLAGS = "-00";
     private static final String VERSION = "00-";
+    private static final int TRACEPARENT_LENGTH = 55;
 
     public static String leftPad(String value, int length) {
         if (value.length() < length) {
@@ -44,6 +47,37 @@ public class TraceparentHelper {
         return VERSION + leftPad(traceId, 32) + "-" + leftPad(parentId, 16) + FLAGS;
     }
 
+    /**
+     * Builds a traceparent with a random trace id and parent id, formatted straight into its final representation.
+     * The random generator of the calling thread is used, trace ids do not need to be unpredictable.
+     *
+     * @return a new traceparent.
+     */
+    public static String randomTraceparent() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long traceIdHigh = random.nextLong();
+        final long traceIdLow = nonZero(random.nextLong());
+        final long parentId = nonZero(random.nextLong());
+
+        final byte[] bytes = new byte[TRACEPARENT_LENGTH];
+        bytes[0] = '0';
+        bytes[1] = '0';
+        bytes[2] = '-';
+        IdEncoding.writeHex(traceIdHigh, 16, bytes, 3);
+        IdEncoding.writeHex(traceIdLow, 16, bytes, 19);
+        bytes[35] = '-';
+        IdEncoding.writeHex(parentId, 16, bytes, 36);
+        bytes[52] = '-';
+        bytes[53] = '0';
+        bytes[54] = '0';
+        return IdEncoding.ascii(bytes);
+    }
+
+    private static long nonZero(long value) {
+        // All bytes as zero is forbidden for both the trace id and the parent id.
+        return value == 0 ? 1 : value;
+    }
+
     public static boolean isValid(String traceparent) {
         String[] array = traceparent.split("-");
 
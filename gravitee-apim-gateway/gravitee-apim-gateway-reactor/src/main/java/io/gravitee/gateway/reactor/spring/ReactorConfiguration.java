@@ -20,9 +20,8 @@ import static io.gravitee.gateway.reactive.reactor.processor.transaction.Transac
 
 import io.gravitee.common.event.EventManager;
 import io.gravitee.common.http.IdGenerator;
-import io.gravitee.common.utils.Hex;
-import io.gravitee.common.utils.UUID;
 import io.gravitee.gateway.core.component.ComponentProvider;
+import io.gravitee.gateway.core.id.IdGenerators;
 import io.gravitee.gateway.env.GatewayConfiguration;
 import io.gravitee.gateway.env.RequestClientAuthConfiguration;
 import io.gravitee.gateway.env.RequestTimeoutConfiguration;
@@ -33,6 +32,8 @@ import io.gravitee.gateway.reactive.reactor.DefaultHttpRequestDispatcher;
 import io.gravitee.gateway.reactive.reactor.DefaultTcpSocketDispatcher;
 import io.gravitee.gateway.reactive.reactor.HttpRequestDispatcher;
 import io.gravitee.gateway.reactive.reactor.TcpSocketDispatcher;
+import io.gravitee.gateway.reactive.reactor.activation.LazyActivationOptions;
+import io.gravitee.gateway.reactive.reactor.activation.ReactorActivationManager;
 import io.gravitee.gateway.reactive.reactor.handler.DefaultHttpAcceptorResolver;
 import io.gravitee.gateway.reactive.reactor.handler.DefaultTcpAcceptorResolver;
 import io.gravitee.gateway.reactive.reactor.handler.HttpAcceptorResolver;
@@ -80,8 +81,6 @@ import org.springframework.core.env.Environment;
 @Configuration
 public class ReactorConfiguration {
 
-    private static final String HEX_FORMAT = "hex";
-
     @Bean
     public Reactor v3Reactor(
         final @Qualifier("v3AcceptorResolver") AcceptorResolver acceptorResolver,
@@ -110,11 +109,7 @@ public class ReactorConfiguration {
 
     @Bean
     public IdGenerator idGenerator(@Value("${handlers.request.format:uuid}") String requestFormat) {
-        if (HEX_FORMAT.equals(requestFormat)) {
-            return new Hex();
-        } else {
-            return new UUID();
-        }
+        return IdGenerators.of(requestFormat);
     }
 
     @Bean
@@ -165,7 +160,8 @@ public class ReactorConfiguration {
         RequestClientAuthConfiguration requestClientAuthConfiguration,
         Vertx vertx,
         TracingContext tracingContext,
-        @Value("${reporters.warnings.enabled:true}") boolean warningsEnabled
+        @Value("${reporters.warnings.enabled:true}") boolean warningsEnabled,
+        ReactorActivationManager reactorActivationManager
     ) {
         return new DefaultHttpRequestDispatcher(
             gatewayConfiguration,
@@ -180,7 +176,8 @@ public class ReactorConfiguration {
             requestTimeoutConfiguration,
             requestClientAuthConfiguration,
             vertx,
-            warningsEnabled
+            warningsEnabled,
+            reactorActivationManager
         );
     }
 
@@ -210,8 +207,16 @@ public class ReactorConfiguration {
     }
 
     @Bean
-    public ReactorHandlerRegistry reactorHandlerRegistry(ReactorFactoryManager reactorFactoryManager) {
-        return new DefaultReactorHandlerRegistry(reactorFactoryManager);
+    public ReactorHandlerRegistry reactorHandlerRegistry(
+        ReactorFactoryManager reactorFactoryManager,
+        ReactorActivationManager reactorActivationManager
+    ) {
+        return new DefaultReactorHandlerRegistry(reactorFactoryManager, reactorActivationManager);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReactorActivationManager reactorActivationManager(Environment environment) {
+        return new ReactorActivationManager(LazyActivationOptions.from(environment));
     }
 
     @Bean
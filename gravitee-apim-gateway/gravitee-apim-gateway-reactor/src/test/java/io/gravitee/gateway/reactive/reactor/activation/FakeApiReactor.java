@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.reactor.activation;
+
+import io.gravitee.common.component.AbstractLifecycleComponent;
+import io.gravitee.common.component.Lifecycle;
+import io.gravitee.gateway.reactive.core.context.MutableExecutionContext;
+import io.gravitee.gateway.reactive.reactor.ApiReactor;
+import io.gravitee.gateway.reactor.ReactableApi;
+import io.gravitee.gateway.reactor.handler.Acceptor;
+import io.gravitee.gateway.reactor.handler.DefaultHttpAcceptor;
+import io.gravitee.gateway.reactor.handler.ReactorHandler;
+import io.reactivex.rxjava3.core.Completable;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ApiReactor} exposed on a single context path, counting its starts and stops.
+ *
+ * @author GraviteeSource Team
+ */
+class FakeApiReactor extends AbstractLifecycleComponent<ReactorHandler> implements ApiReactor<ReactableApi<?>> {
+
+    private final List<Acceptor<?>> acceptors;
+    private final long startDelay;
+    private final Exception startFailure;
+    private final AtomicInteger starts = new AtomicInteger();
+    private final AtomicInteger stops = new AtomicInteger();
+
+    FakeApiReactor(String path) {
+        this(path, 0, null);
+    }
+
+    FakeApiReactor(String path, long startDelay, Exception startFailure) {
+        this.acceptors = List.of(new DefaultHttpAcceptor(null, path, this));
+        this.startDelay = startDelay;
+        this.startFailure = startFailure;
+    }
+
+    @Override
+    public ReactableApi<?> api() {
+        return null;
+    }
+
+    @Override
+    public Completable handle(MutableExecutionContext ctx) {
+        return Completable.defer(() ->
+            lifecycleState() == Lifecycle.State.STARTED
+                ? Completable.complete()
+                : Completable.error(new IllegalStateException("Reactor is " + lifecycleState()))
+        );
+    }
+
+    @Override
+    public List<Acceptor<?>> acceptors() {
+        return acceptors;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        starts.incrementAndGet();
+        if (startDelay > 0) {
+            Thread.sleep(startDelay);
+        }
+        if (startFailure != null) {
+            throw startFailure;
+        }
+    }
+
+    @Override
+    protected void doStop() {
+        stops.incrementAndGet();
+    }
+
+    int starts() {
+        return starts.get();
+    }
+
+    int stops() {
+        return stops.get();
+    }
+}
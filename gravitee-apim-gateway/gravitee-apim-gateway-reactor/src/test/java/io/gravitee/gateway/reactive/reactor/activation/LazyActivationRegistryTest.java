@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.reactor.activation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.gravitee.gateway.reactive.reactor.v4.reactor.ReactorFactoryManager;
+import io.gravitee.gateway.reactor.Reactable;
+import io.gravitee.gateway.reactor.handler.HttpAcceptor;
+import io.gravitee.gateway.reactor.handler.ReactorHandler;
+import io.gravitee.gateway.reactor.handler.impl.DefaultReactorHandlerRegistry;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class LazyActivationRegistryTest {
+
+    private static final int API_COUNT = 10_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<FakeApiReactor> created = new ArrayList<>();
+    private ReactorFactoryManager reactorFactoryManager;
+    private ReactorActivationManager activationManager;
+
+    @BeforeEach
+    void init() {
+        reactorFactoryManager = mock(ReactorFactoryManager.class);
+        when(reactorFactoryManager.create(any())).thenAnswer(invocation -> List.of(createReactor(invocation.getArgument(0))));
+        activationManager = new ReactorActivationManager(
+            LazyActivationOptions.builder().enabled(true).idleTimeout(60_000L).build(),
+            clock::get,
+            Schedulers.io()
+        );
+    }
+
+    @AfterEach
+    void close() {
+        activationManager.close();
+    }
+
+    @Test
+    void should_expose_acceptors_of_dormant_reactors() {
+        final DefaultReactorHandlerRegistry registry = new DefaultReactorHandlerRegistry(reactorFactoryManager, activationManager);
+
+        registry.create(new FakeReactable("a"));
+        registry.create(new FakeReactable("b"));
+
+        assertThat(registry.getAcceptors(HttpAcceptor.class)).extracting(HttpAcceptor::path).containsExactlyInAnyOrder("/a/", "/b/");
+        assertThat(created).extracting(FakeApiReactor::starts).containsOnly(0);
+    }
+
+    @Test
+    void should_replace_idle_reactor_by_a_dormant_one() throws InterruptedException {
+        final DefaultReactorHandlerRegistry registry = new DefaultReactorHandlerRegistry(reactorFactoryManager, activationManager);
+        registry.create(new FakeReactable("a"));
+        final FakeApiReactor active = created.get(0);
+        activate(active);
+
+        clock.set(60_000L);
+        activationManager.sweepIdle();
+
+        assertThat(created).hasSize(2);
+        final FakeApiReactor dormant = created.get(1);
+        assertThat(registry.getAcceptors(HttpAcceptor.class)).extracting(HttpAcceptor::reactor).containsExactly(dormant);
+        assertThat(active.stops()).isEqualTo(1);
+        assertThat(dormant.starts()).isZero();
+    }
+
+    @Test
+    void should_not_stop_dormant_reactor_when_api_is_undeployed() {
+        final DefaultReactorHandlerRegistry registry = new DefaultReactorHandlerRegistry(reactorFactoryManager, activationManager);
+        final FakeReactable reactable = new FakeReactable("a");
+        registry.create(reactable);
+
+        registry.remove(reactable);
+
+        assertThat(registry.getAcceptors(HttpAcceptor.class)).isEmpty();
+        assertThat(created.get(0).stops()).isZero();
+    }
+
+    @Test
+    void should_start_reactors_when_deployed_without_activation_manager() {
+        final DefaultReactorHandlerRegistry registry = new DefaultReactorHandlerRegistry(reactorFactoryManager);
+
+        registry.create(new FakeReactable("a"));
+
+        assertThat(created.get(0).starts()).isEqualTo(1);
+    }
+
+    @Test
+    void should_only_start_the_used_apis_among_10k_deployed() throws InterruptedException {
+        final DefaultReactorHandlerRegistry registry = new DefaultReactorHandlerRegistry(reactorFactoryManager, activationManager);
+        for (int i = 0; i < API_COUNT; i++) {
+            registry.create(new FakeReactable("api-" + i));
+        }
+
+        // Only 1% of the APIs receive traffic.
+        for (int i = 0; i < API_COUNT; i += 100) {
+            activate(created.get(i));
+        }
+
+        assertThat(registry.getAcceptors(HttpAcceptor.class)).hasSize(API_COUNT);
+        assertThat(activationManager.activeCount()).isEqualTo(API_COUNT / 100);
+        assertThat(created).hasSize(API_COUNT);
+        assertThat(created).filteredOn(reactor -> reactor.starts() == 1).hasSize(API_COUNT / 100);
+        assertThat(created).filteredOn(reactor -> reactor.starts() == 0).hasSize(API_COUNT - API_COUNT / 100);
+    }
+
+    @Test
+    void should_remove_api_undeployed_while_its_idle_reactor_is_replaced() throws InterruptedException {
+        final DefaultReactorHandlerRegistry registry = new DefaultReactorHandlerRegistry(reactorFactoryManager, activationManager);
+        final FakeReactable reactable = new FakeReactable("a");
+        registry.create(reactable);
+        final FakeApiReactor active = created.get(0);
+        activate(active);
+
+        final CountDownLatch replacing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            replacing.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.of(createReactor(invocation.getArgument(0)));
+        })
+            .when(reactorFactoryManager)
+            .create(any());
+
+        clock.set(60_000L);
+        final Thread deactivation = new Thread(activationManager::sweepIdle);
+        deactivation.start();
+        assertThat(replacing.await(5, TimeUnit.SECONDS)).isTrue();
+        // The removal does not wait for the dormant reactor being built.
+        registry.remove(reactable);
+        release.countDown();
+        deactivation.join(5_000L);
+
+        assertThat(registry.contains(reactable)).isFalse();
+        assertThat(registry.getAcceptors(HttpAcceptor.class)).isEmpty();
+        assertThat(created).hasSize(2);
+        assertThat(active.stops()).isEqualTo(1);
+        assertThat(created.get(1).starts()).isZero();
+        activate(created.get(1));
+        assertThat(created.get(1).starts()).as("the discarded reactor is no longer managed").isZero();
+    }
+
+    @Test
+    void should_deploy_apis_while_another_one_is_being_built() throws InterruptedException {
+        final DefaultReactorHandlerRegistry registry = new DefaultReactorHandlerRegistry(reactorFactoryManager, activationManager);
+        final CountDownLatch building = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            final FakeReactable reactable = invocation.getArgument(0);
+            if (reactable.id().equals("slow")) {
+                building.countDown();
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            return List.of(createReactor(reactable));
+        })
+            .when(reactorFactoryManager)
+            .create(any());
+
+        final Thread slowDeployment = new Thread(() -> registry.create(new FakeReactable("slow")));
+        slowDeployment.start();
+        assertThat(building.await(5, TimeUnit.SECONDS)).isTrue();
+        registry.create(new FakeReactable("a"));
+        final boolean deployedMeanwhile = registry.contains(new FakeReactable("a"));
+        release.countDown();
+        slowDeployment.join(5_000L);
+
+        assertThat(deployedMeanwhile).isTrue();
+        assertThat(registry.getAcceptors(HttpAcceptor.class)).extracting(HttpAcceptor::path).containsExactlyInAnyOrder("/a/", "/slow/");
+    }
+
+    private synchronized FakeApiReactor createReactor(FakeReactable reactable) {
+        final FakeApiReactor reactor = new FakeApiReactor("/" + reactable.id());
+        created.add(reactor);
+        return reactor;
+    }
+
+    private void activate(FakeApiReactor reactor) throws InterruptedException {
+        assertThat(activationManager.execute(reactor, Runnable::run, () -> reactor.handle(null)).test().await(5, TimeUnit.SECONDS))
+            .isTrue();
+    }
+
+    private record FakeReactable(String id) implements Reactable {
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public <D> Set<D> dependencies(Class<D> type) {
+            return Set.of();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.reactor.activation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.gravitee.gateway.reactor.handler.DefaultHttpAcceptor;
+import io.gravitee.gateway.reactor.handler.ReactorHandler;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.CompletableSubject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ReactorActivationManagerTest {
+
+    private static final Executor SAME_THREAD = Runnable::run;
+    private static final LazyActivationOptions OPTIONS = LazyActivationOptions.builder()
+        .enabled(true)
+        .idleTimeout(60_000L)
+        .warmupTimeout(5_000L)
+        .build();
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger idleReports = new AtomicInteger();
+    private ReactorActivationManager cut;
+
+    @BeforeEach
+    void init() {
+        cut = new ReactorActivationManager(OPTIONS, clock::get, Schedulers.io());
+    }
+
+    @AfterEach
+    void close() {
+        cut.close();
+    }
+
+    @Test
+    void should_not_support_reactors_when_disabled() {
+        assertThat(ReactorActivationManager.disabled().supports(new FakeApiReactor("/a"))).isFalse();
+    }
+
+    @Test
+    void should_execute_requests_directly_when_disabled() {
+        final ReactorActivationManager disabled = ReactorActivationManager.disabled();
+        final FakeApiReactor reactor = new FakeApiReactor("/a");
+
+        disabled.execute(reactor, SAME_THREAD, () -> reactor.handle(null)).test().assertError(IllegalStateException.class);
+        assertThat(reactor.starts()).isZero();
+        assertThat(disabled.unregister(reactor)).isTrue();
+    }
+
+    @Test
+    void should_only_support_api_reactors_exposed_through_http_acceptors() {
+        final ReactorHandler v3Handler = mock(ReactorHandler.class);
+        when(v3Handler.acceptors()).thenReturn(List.of(new DefaultHttpAcceptor("/v3")));
+
+        assertThat(cut.supports(new FakeApiReactor("/a"))).isTrue();
+        assertThat(cut.supports(v3Handler)).isFalse();
+    }
+
+    @Test
+    void should_not_start_reactor_until_its_first_request() throws InterruptedException {
+        final FakeApiReactor reactor = new FakeApiReactor("/a");
+        cut.register(reactor, idleReports::incrementAndGet);
+
+        assertThat(reactor.starts()).isZero();
+
+        final TestObserver<Void> obs = execute(reactor).test();
+        assertThat(obs.await(5, TimeUnit.SECONDS)).isTrue();
+        obs.assertComplete();
+        assertThat(reactor.starts()).isEqualTo(1);
+
+        // Once active, requests are executed right away.
+        execute(reactor).test().assertComplete();
+        assertThat(reactor.starts()).isEqualTo(1);
+    }
+
+    @Test
+    void should_start_reactor_once_for_concurrent_requests_received_during_warmup() throws Exception {
+        final FakeApiReactor reactor = new FakeApiReactor("/a", 200, null);
+        cut.register(reactor, idleReports::incrementAndGet);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(16);
+        final CountDownLatch go = new CountDownLatch(1);
+        final List<Future<TestObserver<Void>>> requests = new ArrayList<>();
+        try {
+            for (int i = 0; i < 500; i++) {
+                requests.add(
+                    executor.submit(() -> {
+                        go.await();
+                        return execute(reactor).test();
+                    })
+                );
+            }
+            go.countDown();
+
+            for (Future<TestObserver<Void>> request : requests) {
+                final TestObserver<Void> obs = request.get(5, TimeUnit.SECONDS);
+                assertThat(obs.await(5, TimeUnit.SECONDS)).isTrue();
+                // The fake reactor fails the requests it receives before being started.
+                obs.assertComplete();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(reactor.starts()).isEqualTo(1);
+        assertThat(cut.activeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_fail_waiting_requests_and_report_reactor_when_start_fails() throws InterruptedException {
+        final FakeApiReactor reactor = new FakeApiReactor("/a", 100, new IllegalStateException("Unable to load policies"));
+        final CountDownLatch reported = new CountDownLatch(1);
+        cut.register(reactor, reported::countDown);
+
+        final TestObserver<Void> first = execute(reactor).test();
+        final TestObserver<Void> second = execute(reactor).test();
+
+        assertThat(first.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.await(5, TimeUnit.SECONDS)).isTrue();
+        first.assertError(ReactorActivationException.class);
+        second.assertError(ReactorActivationException.class);
+        assertThat(reported.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(reactor.starts()).isEqualTo(1);
+        // Partially started, it must be stopped once replaced.
+        assertThat(cut.unregister(reactor)).isTrue();
+    }
+
+    @Test
+    void should_fail_requests_waiting_longer_than_warmup_timeout() throws InterruptedException {
+        cut.close();
+        cut = new ReactorActivationManager(OPTIONS.toBuilder().warmupTimeout(50L).build(), clock::get, Schedulers.io());
+        final FakeApiReactor reactor = new FakeApiReactor("/a", 500, null);
+        cut.register(reactor, idleReports::incrementAndGet);
+
+        final TestObserver<Void> obs = execute(reactor).test();
+
+        assertThat(obs.await(5, TimeUnit.SECONDS)).isTrue();
+        obs.assertError(throwable -> throwable instanceof ReactorActivationException && throwable.getCause() instanceof TimeoutException);
+    }
+
+    @Test
+    void should_report_reactor_not_used_during_idle_timeout() throws InterruptedException {
+        final FakeApiReactor reactor = activeReactor();
+
+        clock.set(59_999L);
+        cut.sweepIdle();
+        assertThat(idleReports).hasValue(0);
+
+        clock.set(60_000L);
+        cut.sweepIdle();
+        cut.sweepIdle();
+        assertThat(idleReports).hasValue(1);
+        // Still started, it must be stopped once replaced.
+        assertThat(cut.unregister(reactor)).isTrue();
+    }
+
+    @Test
+    void should_not_report_reactor_handling_a_request() throws InterruptedException {
+        final FakeApiReactor reactor = activeReactor();
+        final CompletableSubject pending = CompletableSubject.create();
+        final TestObserver<Void> obs = cut.execute(reactor, SAME_THREAD, () -> pending).test();
+
+        clock.set(120_000L);
+        cut.sweepIdle();
+        assertThat(idleReports).hasValue(0);
+
+        pending.onComplete();
+        obs.assertComplete();
+        clock.set(179_999L);
+        cut.sweepIdle();
+        assertThat(idleReports).hasValue(0);
+
+        clock.set(180_000L);
+        cut.sweepIdle();
+        assertThat(idleReports).hasValue(1);
+    }
+
+    @Test
+    void should_not_report_nor_stop_dormant_reactor() {
+        final FakeApiReactor reactor = new FakeApiReactor("/a");
+        cut.register(reactor, idleReports::incrementAndGet);
+
+        clock.set(3_600_000L);
+        cut.sweepIdle();
+
+        assertThat(idleReports).hasValue(0);
+        assertThat(cut.unregister(reactor)).isFalse();
+    }
+
+    @Test
+    void should_stop_reactor_unregistered_while_warming_up_once_started() throws InterruptedException {
+        final FakeApiReactor reactor = new FakeApiReactor("/a", 200, null);
+        cut.register(reactor, idleReports::incrementAndGet);
+
+        final TestObserver<Void> obs = execute(reactor).test();
+        assertThat(cut.unregister(reactor)).isFalse();
+
+        // The request received before the reactor was replaced still completes.
+        assertThat(obs.await(5, TimeUnit.SECONDS)).isTrue();
+        obs.assertComplete();
+        awaitUntil(() -> reactor.stops() == 1);
+    }
+
+    @Test
+    void should_execute_requests_directly_on_unmanaged_reactors() {
+        final FakeApiReactor reactor = new FakeApiReactor("/a");
+
+        execute(reactor).test().assertError(IllegalStateException.class);
+        assertThat(reactor.starts()).isZero();
+    }
+
+    private FakeApiReactor activeReactor() throws InterruptedException {
+        final FakeApiReactor reactor = new FakeApiReactor("/a");
+        cut.register(reactor, idleReports::incrementAndGet);
+        assertThat(execute(reactor).test().await(5, TimeUnit.SECONDS)).isTrue();
+        return reactor;
+    }
+
+    private Completable execute(FakeApiReactor reactor) {
+        return cut.execute(reactor, SAME_THREAD, () -> reactor.handle(null));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
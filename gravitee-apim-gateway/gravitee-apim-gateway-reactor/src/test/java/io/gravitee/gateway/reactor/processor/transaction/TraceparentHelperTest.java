@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactor.processor.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TraceparentHelperTest {
+
+    @Test
+    void should_build_valid_random_traceparent() {
+        final String traceparent = TraceparentHelper.randomTraceparent();
+
+        assertThat(traceparent).matches("00-[0-9a-f]{32}-[0-9a-f]{16}-00");
+        assertThat(TraceparentHelper.isValid(traceparent)).isTrue();
+    }
+
+    @Test
+    void should_build_unique_random_traceparents() {
+        final Set<String> traceparents = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel().forEach(i -> traceparents.add(TraceparentHelper.randomTraceparent()));
+
+        assertThat(traceparents).hasSize(100_000);
+    }
+}
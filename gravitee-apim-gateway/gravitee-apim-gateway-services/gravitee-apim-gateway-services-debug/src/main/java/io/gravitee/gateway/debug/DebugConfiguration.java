@@ -29,6 +29,7 @@ import io.gravitee.gateway.debug.policy.impl.DebugPolicyFactory;
 import io.gravitee.gateway.debug.policy.impl.PolicyDebugDecoratorFactoryCreator;
 import io.gravitee.gateway.debug.reactor.DebugReactor;
 import io.gravitee.gateway.debug.reactor.processor.DebugResponseProcessorChainFactory;
+import io.gravitee.gateway.debug.vertx.DebugVertx;
 import io.gravitee.gateway.debug.vertx.VertxDebugHttpClientConfiguration;
 import io.gravitee.gateway.debug.vertx.VertxDebugService;
 import io.gravitee.gateway.dictionary.DictionaryManager;
@@ -50,6 +51,7 @@ import io.gravitee.gateway.policy.PolicyChainProviderLoader;
 import io.gravitee.gateway.policy.PolicyPluginFactory;
 import io.gravitee.gateway.policy.impl.PolicyFactoryCreatorImpl;
 import io.gravitee.gateway.reactive.core.connection.ConnectionDrainManager;
+import io.gravitee.gateway.reactive.debug.DebugOptions;
 import io.gravitee.gateway.reactive.debug.DebugReactorEventListener;
 import io.gravitee.gateway.reactive.debug.handlers.api.v4.DebugV4ApiReactorHandlerFactory;
 import io.gravitee.gateway.reactive.debug.policy.condition.DebugExpressionLanguageConditionFilter;
@@ -89,7 +91,6 @@ import io.gravitee.plugin.entrypoint.EntrypointConnectorPluginManager;
 import io.gravitee.plugin.policy.PolicyClassLoaderFactory;
 import io.gravitee.plugin.resource.ResourceClassLoaderFactory;
 import io.gravitee.repository.management.api.EventRepository;
-import io.vertx.core.Vertx;
 import java.util.List;
 import java.util.Set;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -274,9 +275,15 @@ public class DebugConfiguration {
         return new DefaultPlatformPolicyChainFactoryManager(platformPolicyManagerRegistry);
     }
 
+    @Bean
+    public DebugOptions debugOptions() {
+        return DebugOptions.from(configuration);
+    }
+
     @Bean
     public DebugReactorEventListener debugReactorEventListener(
-        final io.vertx.rxjava3.core.Vertx vertx,
+        @Qualifier("debugVertx") final DebugVertx debugVertx,
+        final DebugOptions debugOptions,
         final EventManager eventManager,
         final EventRepository eventRepository,
         final ObjectMapper objectMapper,
@@ -286,14 +293,15 @@ public class DebugConfiguration {
         final DataEncryptor dataEncryptor
     ) {
         return new DebugReactorEventListener(
-            vertx,
+            debugVertx.rxVertx(),
             eventManager,
             eventRepository,
             objectMapper,
             debugHttpClientConfiguration,
             reactorHandlerRegistry,
             accessPointManager,
-            dataEncryptor
+            dataEncryptor,
+            debugOptions
         );
     }
 
@@ -319,8 +327,9 @@ public class DebugConfiguration {
         NotFoundProcessorChainFactory notFoundProcessorChainFactory,
         RequestTimeoutConfiguration requestTimeoutConfiguration,
         RequestClientAuthConfiguration requestClientAuthConfiguration,
-        Vertx vertx,
-        @Value("${reporters.warnings.enabled:true}") boolean warningsEnabled
+        @Qualifier("debugVertx") DebugVertx debugVertx,
+        @Value("${reporters.warnings.enabled:true}") boolean warningsEnabled,
+        DebugOptions debugOptions
     ) {
         return new DebugHttpRequestDispatcher(
             gatewayConfiguration,
@@ -333,8 +342,9 @@ public class DebugConfiguration {
             notFoundProcessorChainFactory,
             requestTimeoutConfiguration,
             requestClientAuthConfiguration,
-            vertx,
-            warningsEnabled
+            debugVertx.vertx(),
+            warningsEnabled,
+            debugOptions
         );
     }
 
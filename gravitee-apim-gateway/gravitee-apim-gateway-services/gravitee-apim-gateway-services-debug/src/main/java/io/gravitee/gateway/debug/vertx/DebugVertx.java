@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.debug.vertx;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.vertx.core.VertxOptions;
+import io.vertx.rxjava3.core.Vertx;
+
+/**
+ * Holds the Vert.x instance in charge of running the debug server and the debug requests.
+ * By default, a dedicated Vert.x instance with its own (small) event loop and worker pools is used so that debug sessions
+ * can't delay the requests handled by the gateway event loops.
+ *
+ * @author GraviteeSource Team
+ */
+public class DebugVertx implements AutoCloseable {
+
+    private final Vertx vertx;
+    private final boolean dedicated;
+
+    private DebugVertx(final Vertx vertx, final boolean dedicated) {
+        this.vertx = vertx;
+        this.dedicated = dedicated;
+    }
+
+    /**
+     * Create a dedicated Vert.x instance for the debug mode.
+     *
+     * @param options the options of the debug Vert.x instance.
+     * @return the {@link DebugVertx} holding the dedicated instance.
+     */
+    public static DebugVertx dedicated(final VertxOptions options) {
+        return new DebugVertx(Vertx.vertx(options), true);
+    }
+
+    /**
+     * Reuse the gateway Vert.x instance for the debug mode.
+     *
+     * @param vertx the gateway Vert.x instance.
+     * @return the {@link DebugVertx} holding the shared instance.
+     */
+    public static DebugVertx shared(final Vertx vertx) {
+        return new DebugVertx(vertx, false);
+    }
+
+    public Vertx rxVertx() {
+        return vertx;
+    }
+
+    public io.vertx.core.Vertx vertx() {
+        return vertx.getDelegate();
+    }
+
+    public boolean isDedicated() {
+        return dedicated;
+    }
+
+    /**
+     * Close the underlying Vert.x instance if it has been dedicated to the debug mode. A shared instance is left untouched.
+     *
+     * @return a {@link Completable} completing once the instance is closed.
+     */
+    public Completable rxClose() {
+        return dedicated ? vertx.rxClose() : Completable.complete();
+    }
+
+    /**
+     * Same as {@link #rxClose()} but waits for the instance to be closed, so that it is released when the application context shuts down.
+     */
+    @Override
+    public void close() {
+        rxClose().blockingAwait();
+    }
+}
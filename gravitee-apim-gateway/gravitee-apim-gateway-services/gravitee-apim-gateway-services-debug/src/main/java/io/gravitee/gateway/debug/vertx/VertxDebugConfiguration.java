@@ -25,7 +25,10 @@ import io.gravitee.node.vertx.server.http.VertxHttpServer;
 import io.gravitee.node.vertx.server.http.VertxHttpServerFactory;
 import io.gravitee.node.vertx.server.http.VertxHttpServerOptions;
 import io.vertx.core.Verticle;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.rxjava3.core.Vertx;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -54,14 +57,45 @@ public class VertxDebugConfiguration {
             .build();
     }
 
+    @Bean("debugVertx")
+    public DebugVertx debugVertx(Vertx vertx, Environment environment) {
+        if (environment.getProperty("debug.vertx.dedicated", Boolean.class, true)) {
+            return DebugVertx.dedicated(debugVertxOptions(vertx, environment));
+        }
+        return DebugVertx.shared(vertx);
+    }
+
+    /**
+     * Build the options of the dedicated debug Vert.x instance with the same transport, metrics and blocked thread checker settings as
+     * the gateway Vert.x instance. Only the pools are sized for the debug mode.
+     */
+    VertxOptions debugVertxOptions(Vertx vertx, Environment environment) {
+        final VertxOptions options = new VertxOptions()
+            .setPreferNativeTransport(vertx.isNativeTransportEnabled())
+            .setMetricsOptions(new MetricsOptions().setEnabled(vertx.isMetricsEnabled()))
+            .setEventLoopPoolSize(Math.max(1, environment.getProperty("debug.vertx.eventLoopPoolSize", Integer.class, 1)))
+            .setWorkerPoolSize(Math.max(1, environment.getProperty("debug.vertx.workerPoolSize", Integer.class, 2)));
+
+        // The gateway Vert.x factory reads the blocked thread checker settings from these system properties
+        Optional.ofNullable(Long.getLong("vertx.options.blockedThreadCheckInterval")).ifPresent(options::setBlockedThreadCheckInterval);
+        Optional.ofNullable(Long.getLong("vertx.options.maxEventLoopExecuteTime")).ifPresent(options::setMaxEventLoopExecuteTime);
+        Optional.ofNullable(Long.getLong("vertx.options.warningExceptionTime")).ifPresent(options::setWarningExceptionTime);
+        return options;
+    }
+
     @Bean("debugServerFactory")
     public VertxHttpServerFactory debugHttpServerFactory(
-        Vertx vertx,
+        DebugVertx debugVertx,
         KeyStoreLoaderFactoryRegistry<KeyStoreLoaderOptions> keyStoreLoaderFactoryRegistry,
         KeyStoreLoaderFactoryRegistry<TrustStoreLoaderOptions> truststoreLoaderFactoryRegistry,
         CRLLoaderFactoryRegistry crlLoaderFactoryRegistry
     ) {
-        return new VertxHttpServerFactory(vertx, keyStoreLoaderFactoryRegistry, truststoreLoaderFactoryRegistry, crlLoaderFactoryRegistry);
+        return new VertxHttpServerFactory(
+            debugVertx.rxVertx(),
+            keyStoreLoaderFactoryRegistry,
+            truststoreLoaderFactoryRegistry,
+            crlLoaderFactoryRegistry
+        );
     }
 
     @Bean("debugServer")
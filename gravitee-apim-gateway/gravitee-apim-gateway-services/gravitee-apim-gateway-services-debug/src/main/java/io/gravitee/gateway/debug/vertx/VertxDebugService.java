@@ -17,7 +17,6 @@ package io.gravitee.gateway.debug.vertx;
 
 import io.gravitee.common.service.AbstractService;
 import io.vertx.core.Verticle;
-import io.vertx.core.Vertx;
 import lombok.CustomLog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -34,7 +33,8 @@ public class VertxDebugService extends AbstractService {
     private Verticle debugVerticle;
 
     @Autowired
-    private Vertx vertx;
+    @Qualifier("debugVertx")
+    private DebugVertx debugVertx;
 
     private String deploymentId;
 
@@ -52,9 +52,9 @@ public class VertxDebugService extends AbstractService {
 
     @Override
     protected void doStart() {
-        log.info("Starting Vertx DEBUG container and deploy only 1 Verticle");
+        log.info("Starting Vertx DEBUG container and deploy only 1 Verticle (dedicated Vertx instance: {})", debugVertx.isDedicated());
 
-        vertx.deployVerticle(debugVerticle, event -> {
+        debugVertx.vertx().deployVerticle(debugVerticle, event -> {
             if (event.failed()) {
                 log.warn("Unable to start debug verticle", event.cause());
             } else {
@@ -66,9 +66,16 @@ public class VertxDebugService extends AbstractService {
     @Override
     protected void doStop() {
         if (deploymentId != null) {
-            vertx.undeploy(deploymentId, event -> {
+            debugVertx.vertx().undeploy(deploymentId, event -> {
                 lifecycle.moveToStopped();
+                closeDebugVertx();
             });
+        } else {
+            closeDebugVertx();
         }
     }
+
+    private void closeDebugVertx() {
+        debugVertx.rxClose().subscribe(() -> {}, throwable -> log.warn("Unable to close the debug Vertx instance", throwable));
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.debug;
+
+import io.gravitee.node.api.configuration.Configuration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Resource limits applied to the debug mode so that debug sessions can't starve the traffic handled by the gateway.
+ *
+ * @author GraviteeSource Team
+ */
+@Getter
+@Builder(toBuilder = true)
+public class DebugOptions {
+
+    public static final String MAX_CONCURRENT_SESSIONS_PROPERTY = "debug.maxConcurrentSessions";
+    public static final String MAX_BODY_SIZE_PROPERTY = "debug.capture.maxBodySize";
+    public static final String MAX_STEP_DIFF_SIZE_PROPERTY = "debug.capture.maxStepDiffSize";
+
+    public static final DebugOptions DEFAULT = DebugOptions.builder().build();
+
+    /**
+     * Maximum number of debug sessions running at the same time. Additional debug events are rejected with an error status.
+     */
+    @Builder.Default
+    private final int maxConcurrentSessions = 10;
+
+    /**
+     * Maximum size (in bytes) of a body captured by the debug mode (policy step, backend response or final response).
+     * Larger bodies are truncated.
+     */
+    @Builder.Default
+    private final int maxBodySize = 1_048_576;
+
+    /**
+     * Maximum cumulated size (in bytes) of the bodies captured in the policy steps of a single debug session.
+     * Once reached, the following step bodies are not captured anymore.
+     */
+    @Builder.Default
+    private final long maxStepDiffSize = 10_485_760L;
+
+    public static DebugOptions from(Configuration configuration) {
+        return DebugOptions.builder()
+            .maxConcurrentSessions(configuration.getProperty(MAX_CONCURRENT_SESSIONS_PROPERTY, Integer.class, 10))
+            .maxBodySize(configuration.getProperty(MAX_BODY_SIZE_PROPERTY, Integer.class, 1_048_576))
+            .maxStepDiffSize(configuration.getProperty(MAX_STEP_DIFF_SIZE_PROPERTY, Long.class, 10_485_760L))
+            .build();
+    }
+}
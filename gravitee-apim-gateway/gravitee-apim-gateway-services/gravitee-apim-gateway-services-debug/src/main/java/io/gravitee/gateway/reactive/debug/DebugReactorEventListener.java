@@ -52,6 +52,7 @@ import io.vertx.rxjava3.core.http.HttpClient;
 import java.security.GeneralSecurityException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.CustomLog;
 
 /**
@@ -67,6 +68,8 @@ public class DebugReactorEventListener extends ReactorEventListener {
     private final VertxDebugHttpClientConfiguration debugHttpClientConfiguration;
     private final AccessPointManager accessPointManager;
     private final DataEncryptor dataEncryptor;
+    private final DebugOptions debugOptions;
+    private final AtomicInteger activeSessions = new AtomicInteger();
 
     public DebugReactorEventListener(
         final Vertx vertx,
@@ -77,6 +80,30 @@ public class DebugReactorEventListener extends ReactorEventListener {
         final ReactorHandlerRegistry reactorHandlerRegistry,
         final AccessPointManager accessPointManager,
         DataEncryptor dataEncryptor
+    ) {
+        this(
+            vertx,
+            eventManager,
+            eventRepository,
+            objectMapper,
+            debugHttpClientConfiguration,
+            reactorHandlerRegistry,
+            accessPointManager,
+            dataEncryptor,
+            DebugOptions.DEFAULT
+        );
+    }
+
+    public DebugReactorEventListener(
+        final Vertx vertx,
+        final EventManager eventManager,
+        final EventRepository eventRepository,
+        final ObjectMapper objectMapper,
+        final VertxDebugHttpClientConfiguration debugHttpClientConfiguration,
+        final ReactorHandlerRegistry reactorHandlerRegistry,
+        final AccessPointManager accessPointManager,
+        final DataEncryptor dataEncryptor,
+        final DebugOptions debugOptions
     ) {
         super(eventManager, reactorHandlerRegistry);
         this.vertx = vertx;
@@ -85,6 +112,7 @@ public class DebugReactorEventListener extends ReactorEventListener {
         this.debugHttpClientConfiguration = debugHttpClientConfiguration;
         this.accessPointManager = accessPointManager;
         this.dataEncryptor = dataEncryptor;
+        this.debugOptions = debugOptions;
     }
 
     @Override
@@ -102,14 +130,35 @@ public class DebugReactorEventListener extends ReactorEventListener {
                     return;
                 }
 
-                reactorHandlerRegistry.create(debugApi);
+                if (activeSessions.incrementAndGet() > debugOptions.getMaxConcurrentSessions()) {
+                    activeSessions.decrementAndGet();
+                    log.warn(
+                        "Too many concurrent debug sessions (max: {}), rejecting debug event [{}].",
+                        debugOptions.getMaxConcurrentSessions(),
+                        reactableEvent.getId()
+                    );
+                    failEvent(debugEvent);
+                    return;
+                }
 
-                var secretDiscoveryEvent = new SecretDiscoveryEvent(
-                    debugApi.getEnvironmentId(),
-                    debugApi.getDefinition(),
-                    new DefinitionMetadata(debugApi.getRevision())
-                );
-                eventManager.publishEvent(SecretDiscoveryEventType.DISCOVER, secretDiscoveryEvent);
+                final SecretDiscoveryEvent secretDiscoveryEvent;
+                try {
+                    reactorHandlerRegistry.create(debugApi);
+
+                    secretDiscoveryEvent = new SecretDiscoveryEvent(
+                        debugApi.getEnvironmentId(),
+                        debugApi.getDefinition(),
+                        new DefinitionMetadata(debugApi.getRevision())
+                    );
+                    eventManager.publishEvent(SecretDiscoveryEventType.DISCOVER, secretDiscoveryEvent);
+                } catch (Exception e) {
+                    // The session never started, its slot must be released for the next debug events.
+                    activeSessions.decrementAndGet();
+                    log.error("Unable to deploy api for debug, removing the handler.", e);
+                    reactorHandlerRegistry.remove(debugApi);
+                    failEvent(debugEvent);
+                    return;
+                }
 
                 HttpRequest debugApiRequest = debugApi.getRequest();
 
@@ -142,6 +191,7 @@ public class DebugReactorEventListener extends ReactorEventListener {
                         })
                     )
                     .subscribeOn(Schedulers.io())
+                    .doFinally(activeSessions::decrementAndGet)
                     .subscribe(
                         () -> {
                             log.info("Debugging successful, removing the handler.");
@@ -283,6 +333,10 @@ public class DebugReactorEventListener extends ReactorEventListener {
         return headersMultiMap;
     }
 
+    int activeSessions() {
+        return activeSessions.get();
+    }
+
     private void failEvent(io.gravitee.repository.management.model.Event debugEvent) {
         if (debugEvent != null) {
             updateEvent(debugEvent, ApiDebugStatus.ERROR)
@@ -49,7 +49,7 @@ public class DebugInvokerHook extends AbstractDebugHook implements InvokerHook {
                 InvokerResponse invokerResponse = debugCtx.getInvokerResponse();
                 invokerResponse.setHeaders(debugCtx.response().headers());
                 invokerResponse.setStatus(debugCtx.response().status());
-                invokerResponse.getBuffer().appendBuffer(outputBody);
+                invokerResponse.getBuffer().appendBuffer(debugCtx.getBodyCapture().capture(outputBody));
             })
             .ignoreElement();
     }
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.debug.policy.steps;
+
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.reactive.debug.DebugOptions;
+import io.netty.buffer.ByteBuf;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Captures the bodies recorded during a debug session while enforcing the limits defined by {@link DebugOptions}.
+ * Each captured body is truncated to {@link DebugOptions#getMaxBodySize()} and the bodies captured in the policy steps share
+ * a budget of {@link DebugOptions#getMaxStepDiffSize()} bytes for the whole session.
+ *
+ * @author GraviteeSource Team
+ */
+public class DebugBodyCapture {
+
+    private final int maxBodySize;
+    private final AtomicLong remainingStepDiffSize;
+
+    public DebugBodyCapture(final DebugOptions options) {
+        this.maxBodySize = Math.max(0, options.getMaxBodySize());
+        this.remainingStepDiffSize = new AtomicLong(Math.max(0, options.getMaxStepDiffSize()));
+    }
+
+    /**
+     * Capture a copy of the given body, truncated to the maximum body size.
+     *
+     * @param body the body to capture.
+     * @return the captured copy.
+     */
+    public Buffer capture(final Buffer body) {
+        return copy(body, maxBodySize);
+    }
+
+    /**
+     * Capture a copy of the given body for a policy step diff. The captured bytes are taken from the step diff budget of the session
+     * and an empty buffer is returned once this budget is exhausted.
+     *
+     * @param body the body to capture.
+     * @return the captured copy.
+     */
+    public Buffer captureStepDiff(final Buffer body) {
+        final int wanted = Math.min(body.length(), maxBodySize);
+        long remaining;
+        int granted;
+        do {
+            remaining = remainingStepDiffSize.get();
+            granted = (int) Math.min(wanted, remaining);
+        } while (granted > 0 && !remainingStepDiffSize.compareAndSet(remaining, remaining - granted));
+
+        return copy(body, granted);
+    }
+
+    private static Buffer copy(final Buffer body, final int limit) {
+        final int length = Math.min(body.length(), limit);
+        if (length <= 0) {
+            return Buffer.buffer();
+        }
+        final ByteBuf nativeBuffer = body.getNativeBuffer();
+        return Buffer.buffer(nativeBuffer.copy(nativeBuffer.readerIndex(), length));
+    }
+}
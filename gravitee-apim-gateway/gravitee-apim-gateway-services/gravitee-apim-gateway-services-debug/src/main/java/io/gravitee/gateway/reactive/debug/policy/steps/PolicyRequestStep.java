@@ -16,7 +16,6 @@
 package io.gravitee.gateway.reactive.debug.policy.steps;
 
 import io.gravitee.common.util.LinkedMultiValueMap;
-import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.http.HttpHeaders;
 import io.gravitee.gateway.reactive.api.ExecutionPhase;
 import io.gravitee.gateway.reactive.core.context.MutableRequest;
@@ -35,6 +34,15 @@ public class PolicyRequestStep extends PolicyStep<MutableRequest> {
         super(policyId, executionPhase, flowPhase);
     }
 
+    public PolicyRequestStep(
+        final String policyId,
+        final ExecutionPhase executionPhase,
+        final String flowPhase,
+        final DebugBodyCapture bodyCapture
+    ) {
+        super(policyId, executionPhase, flowPhase, bodyCapture);
+    }
+
     @Override
     public Single<PolicyStepState> saveInputState(final MutableRequest request, final Map<String, Serializable> inputAttributes) {
         return request
@@ -81,11 +89,11 @@ public class PolicyRequestStep extends PolicyStep<MutableRequest> {
                     diffMap.put(DIFF_KEY_CONTEXT_PATH, request.contextPath());
                 }
                 if (!inputState.attributes().equals(outputAttributes)) {
-                    diffMap.put(DIFF_KEY_ATTRIBUTES, new HashMap<>(outputAttributes));
+                    diffMap.put(DIFF_KEY_ATTRIBUTES, outputAttributes);
                 }
 
                 if (!inputState.buffer().getNativeBuffer().equals(outputBody.getNativeBuffer())) {
-                    diffMap.put(DIFF_KEY_BODY_BUFFER, Buffer.buffer(outputBody.getBytes()));
+                    diffMap.put(DIFF_KEY_BODY_BUFFER, bodyCapture.captureStepDiff(outputBody));
                 }
                 return diffMap;
             });
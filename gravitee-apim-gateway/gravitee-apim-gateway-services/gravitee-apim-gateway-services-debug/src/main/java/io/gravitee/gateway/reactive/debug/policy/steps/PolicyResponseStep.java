@@ -15,7 +15,6 @@
  */
 package io.gravitee.gateway.reactive.debug.policy.steps;
 
-import io.gravitee.gateway.api.buffer.Buffer;
 import io.gravitee.gateway.api.http.HttpHeaders;
 import io.gravitee.gateway.reactive.api.ExecutionPhase;
 import io.gravitee.gateway.reactive.core.context.MutableResponse;
@@ -34,6 +33,15 @@ public class PolicyResponseStep extends PolicyStep<MutableResponse> {
         super(policyId, executionPhase, flowPhase);
     }
 
+    public PolicyResponseStep(
+        final String policyId,
+        final ExecutionPhase executionPhase,
+        final String flowPhase,
+        final DebugBodyCapture bodyCapture
+    ) {
+        super(policyId, executionPhase, flowPhase, bodyCapture);
+    }
+
     @Override
     public Single<PolicyStepState> saveInputState(final MutableResponse response, final Map<String, Serializable> inputAttributes) {
         return response
@@ -68,11 +76,11 @@ public class PolicyResponseStep extends PolicyStep<MutableResponse> {
                     diffMap.put(DIFF_KEY_REASON, response.reason());
                 }
                 if (!inputState.attributes().equals(outputAttributes)) {
-                    diffMap.put(DIFF_KEY_ATTRIBUTES, new HashMap<>(outputAttributes));
+                    diffMap.put(DIFF_KEY_ATTRIBUTES, outputAttributes);
                 }
 
                 if (!inputState.buffer().getNativeBuffer().equals(outputBody.getNativeBuffer())) {
-                    diffMap.put(DIFF_KEY_BODY_BUFFER, Buffer.buffer(outputBody.getBytes()));
+                    diffMap.put(DIFF_KEY_BODY_BUFFER, bodyCapture.captureStepDiff(outputBody));
                 }
                 return diffMap;
             });
@@ -21,6 +21,7 @@ import io.gravitee.definition.model.debug.DebugStepStatus;
 import io.gravitee.gateway.debug.reactor.handler.context.AttributeHelper;
 import io.gravitee.gateway.reactive.api.ExecutionFailure;
 import io.gravitee.gateway.reactive.api.ExecutionPhase;
+import io.gravitee.gateway.reactive.debug.DebugOptions;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Single;
 import java.io.Serializable;
@@ -59,15 +60,26 @@ public abstract class PolicyStep<T> {
     protected String condition;
     protected DebugStepError error;
     protected boolean ended = false;
+    protected final DebugBodyCapture bodyCapture;
     private PolicyStepState inputState;
     private Map<String, Object> diffMap;
 
     protected PolicyStep(final String policyId, final ExecutionPhase executionPhase, final String flowPhase) {
+        this(policyId, executionPhase, flowPhase, new DebugBodyCapture(DebugOptions.DEFAULT));
+    }
+
+    protected PolicyStep(
+        final String policyId,
+        final ExecutionPhase executionPhase,
+        final String flowPhase,
+        final DebugBodyCapture bodyCapture
+    ) {
         this.id = UUID.randomUUID().toString();
         this.policyId = policyId;
         this.executionPhase = executionPhase;
         this.flowPhase = flowPhase;
         this.stopwatch = Stopwatch.createUnstarted();
+        this.bodyCapture = bodyCapture;
     }
 
     public Completable pre(final T source, final Map<String, Object> attributes) {
@@ -16,6 +16,7 @@
 package io.gravitee.gateway.reactive.debug.policy.steps;
 
 import io.gravitee.gateway.reactive.api.ExecutionPhase;
+import io.gravitee.gateway.reactive.debug.DebugOptions;
 
 /**
  * @author Guillaume LAMIRAND (guillaume.lamirand at graviteesource.com)
@@ -26,10 +27,19 @@ public class PolicyStepFactory {
     private PolicyStepFactory() {}
 
     public static PolicyStep<?> createPolicyStep(final String policyId, final ExecutionPhase executionPhase, final String flowPhase) {
+        return createPolicyStep(policyId, executionPhase, flowPhase, new DebugBodyCapture(DebugOptions.DEFAULT));
+    }
+
+    public static PolicyStep<?> createPolicyStep(
+        final String policyId,
+        final ExecutionPhase executionPhase,
+        final String flowPhase,
+        final DebugBodyCapture bodyCapture
+    ) {
         if (ExecutionPhase.REQUEST.equals(executionPhase)) {
-            return new PolicyRequestStep(policyId, executionPhase, flowPhase);
+            return new PolicyRequestStep(policyId, executionPhase, flowPhase, bodyCapture);
         } else if (ExecutionPhase.RESPONSE.equals(executionPhase)) {
-            return new PolicyResponseStep(policyId, executionPhase, flowPhase);
+            return new PolicyResponseStep(policyId, executionPhase, flowPhase, bodyCapture);
         }
         return null;
     }
@@ -23,6 +23,7 @@ import io.gravitee.gateway.env.RequestClientAuthConfiguration;
 import io.gravitee.gateway.env.RequestTimeoutConfiguration;
 import io.gravitee.gateway.opentelemetry.TracingContext;
 import io.gravitee.gateway.reactive.core.context.DefaultExecutionContext;
+import io.gravitee.gateway.reactive.debug.DebugOptions;
 import io.gravitee.gateway.reactive.debug.reactor.context.DebugExecutionContext;
 import io.gravitee.gateway.reactive.debug.reactor.processor.DebugPlatformProcessorChainFactory;
 import io.gravitee.gateway.reactive.http.vertx.VertxHttpServerRequest;
@@ -43,6 +44,8 @@ import io.vertx.rxjava3.core.http.HttpServerRequest;
  */
 public class DebugHttpRequestDispatcher extends DefaultHttpRequestDispatcher {
 
+    private final DebugOptions debugOptions;
+
     public DebugHttpRequestDispatcher(
         GatewayConfiguration gatewayConfiguration,
         HttpAcceptorResolver httpAcceptorResolver,
@@ -55,7 +58,8 @@ public class DebugHttpRequestDispatcher extends DefaultHttpRequestDispatcher {
         RequestTimeoutConfiguration requestTimeoutConfiguration,
         RequestClientAuthConfiguration requestClientAuthConfiguration,
         Vertx vertx,
-        boolean warningsEnabled
+        boolean warningsEnabled,
+        DebugOptions debugOptions
     ) {
         super(
             gatewayConfiguration,
@@ -72,11 +76,12 @@ public class DebugHttpRequestDispatcher extends DefaultHttpRequestDispatcher {
             vertx,
             warningsEnabled
         );
+        this.debugOptions = debugOptions;
     }
 
     @Override
     protected DefaultExecutionContext createExecutionContext(VertxHttpServerRequest request) {
-        return new DebugExecutionContext(request, request.response());
+        return new DebugExecutionContext(request, request.response(), debugOptions);
     }
 
     @Override
@@ -24,6 +24,8 @@ import io.gravitee.gateway.reactive.api.context.InternalContextAttributes;
 import io.gravitee.gateway.reactive.core.context.DefaultExecutionContext;
 import io.gravitee.gateway.reactive.core.context.MutableRequest;
 import io.gravitee.gateway.reactive.core.context.MutableResponse;
+import io.gravitee.gateway.reactive.debug.DebugOptions;
+import io.gravitee.gateway.reactive.debug.policy.steps.DebugBodyCapture;
 import io.gravitee.gateway.reactive.debug.policy.steps.PolicyRequestStep;
 import io.gravitee.gateway.reactive.debug.policy.steps.PolicyResponseStep;
 import io.gravitee.gateway.reactive.debug.policy.steps.PolicyStep;
@@ -45,17 +47,23 @@ public class DebugExecutionContext extends DefaultExecutionContext {
     private final Map<String, Serializable> initialAttributes;
     private final InvokerResponse invokerResponse = new InvokerResponse();
     private final HttpHeaders initialHeaders;
+    private final DebugBodyCapture bodyCapture;
 
     public DebugExecutionContext(final MutableRequest request, final MutableResponse response) {
+        this(request, response, DebugOptions.DEFAULT);
+    }
+
+    public DebugExecutionContext(final MutableRequest request, final MutableResponse response, final DebugOptions debugOptions) {
         super(request, response);
         this.initialAttributes = AttributeHelper.filterAndSerializeAttributes(getAttributes());
         this.initialHeaders = HttpHeaders.create(request().headers());
+        this.bodyCapture = new DebugBodyCapture(debugOptions);
     }
 
     public Completable prePolicyExecution(final String id, final ExecutionPhase executionPhase) {
         return Maybe.fromCallable(() -> {
             String flowStage = getInternalAttribute(InternalContextAttributes.ATTR_INTERNAL_FLOW_STAGE);
-            PolicyStep<?> policyStep = PolicyStepFactory.createPolicyStep(id, executionPhase, flowStage);
+            PolicyStep<?> policyStep = PolicyStepFactory.createPolicyStep(id, executionPhase, flowStage, bodyCapture);
             if (policyStep != null) {
                 policySteps.add(policyStep);
                 return policyStep;
@@ -129,4 +137,8 @@ public class DebugExecutionContext extends DefaultExecutionContext {
     public InvokerResponse getInvokerResponse() {
         return invokerResponse;
     }
+
+    public DebugBodyCapture getBodyCapture() {
+        return bodyCapture;
+    }
 }
@@ -114,7 +114,11 @@ public class DebugCompletionProcessor implements Processor {
                 .response()
                 .bodyOrEmpty()
                 .map(buffer -> {
-                    HttpResponse response = createResponse(debugContext.response().headers(), debugContext.response().status(), buffer);
+                    HttpResponse response = createResponse(
+                        debugContext.response().headers(),
+                        debugContext.response().status(),
+                        debugContext.getBodyCapture().capture(buffer)
+                    );
                     definitionDebugApi.setResponse(response);
                     return definitionDebugApi;
                 });
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.debug.vertx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+import io.gravitee.gateway.reactive.reactor.HttpRequestDispatcher;
+import io.gravitee.node.api.certificate.CRLLoaderFactoryRegistry;
+import io.gravitee.node.certificates.DefaultKeyStoreLoaderFactoryRegistry;
+import io.gravitee.node.vertx.server.http.VertxHttpServer;
+import io.reactivex.rxjava3.core.Completable;
+import io.vertx.core.Context;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.rxjava3.core.Vertx;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DebugVertxTest {
+
+    private final VertxDebugConfiguration configuration = new VertxDebugConfiguration();
+
+    private Vertx gatewayVertx;
+
+    private MockEnvironment environment;
+
+    private int debugPort;
+
+    @BeforeEach
+    void init() throws IOException {
+        gatewayVertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(1));
+        try (ServerSocket socket = new ServerSocket(0)) {
+            debugPort = socket.getLocalPort();
+        }
+        environment = new MockEnvironment().withProperty("debug.port", String.valueOf(debugPort));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gatewayVertx.rxClose().blockingAwait();
+    }
+
+    @Test
+    void should_not_delay_gateway_event_loop_while_debug_request_is_dispatched() throws Exception {
+        final BlockingDispatcher dispatcher = new BlockingDispatcher();
+        final DebugVertx debugVertx = configuration.debugVertx(gatewayVertx, environment);
+        final VertxDebugService debugService = startDebugService(debugVertx, dispatcher);
+
+        try {
+            // A heavy debug session monopolizes the event loop dispatching the debug request.
+            final CompletableFuture<HttpResponse<Void>> debugResponse = sendDebugRequest();
+            final Context dispatchContext = dispatcher.context.get(5, TimeUnit.SECONDS);
+
+            final long start = System.nanoTime();
+            final CompletableFuture<Long> gatewayLatency = new CompletableFuture<>();
+            gatewayVertx.runOnContext(v -> gatewayLatency.complete(System.nanoTime() - start));
+
+            assertThat(gatewayLatency.get(5, TimeUnit.SECONDS)).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+            assertThat(debugVertx.isDedicated()).isTrue();
+            assertThat(dispatchContext.owner()).isSameAs(debugVertx.vertx()).isNotSameAs(gatewayVertx.getDelegate());
+
+            dispatcher.release.countDown();
+            assertThat(debugResponse.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        } finally {
+            dispatcher.release.countDown();
+            debugService.stop();
+        }
+    }
+
+    @Test
+    void should_dispatch_debug_requests_on_gateway_vertx_when_shared() throws Exception {
+        final BlockingDispatcher dispatcher = new BlockingDispatcher();
+        environment.setProperty("debug.vertx.dedicated", "false");
+        final DebugVertx debugVertx = configuration.debugVertx(gatewayVertx, environment);
+        final VertxDebugService debugService = startDebugService(debugVertx, dispatcher);
+
+        try {
+            final CompletableFuture<HttpResponse<Void>> debugResponse = sendDebugRequest();
+            final Context dispatchContext = dispatcher.context.get(5, TimeUnit.SECONDS);
+            dispatcher.release.countDown();
+
+            assertThat(dispatchContext.owner()).isSameAs(gatewayVertx.getDelegate());
+            assertThat(debugResponse.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        } finally {
+            dispatcher.release.countDown();
+            debugService.stop();
+        }
+    }
+
+    @Test
+    void should_reuse_gateway_vertx_when_shared() {
+        final DebugVertx debugVertx = DebugVertx.shared(gatewayVertx);
+
+        assertThat(debugVertx.isDedicated()).isFalse();
+        assertThat(debugVertx.rxVertx()).isSameAs(gatewayVertx);
+        assertThat(debugVertx.vertx()).isSameAs(gatewayVertx.getDelegate());
+    }
+
+    @Test
+    void should_not_close_gateway_vertx_when_shared() throws Exception {
+        DebugVertx.shared(gatewayVertx).close();
+
+        final CompletableFuture<Boolean> executed = new CompletableFuture<>();
+        gatewayVertx.runOnContext(v -> executed.complete(true));
+
+        assertThat(executed.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void should_close_dedicated_vertx_when_application_context_is_closed() {
+        final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(Vertx.class, () -> gatewayVertx);
+        context.registerBean(VertxDebugConfiguration.class);
+        // Only the debug Vert.x instance is needed, the other debug beans are never requested
+        context.addBeanFactoryPostProcessor(beanFactory ->
+            Arrays.stream(beanFactory.getBeanDefinitionNames()).forEach(name -> beanFactory.getBeanDefinition(name).setLazyInit(true))
+        );
+        context.refresh();
+        final DebugVertx debugVertx = context.getBean("debugVertx", DebugVertx.class);
+
+        context.close();
+
+        assertThat(debugVertx.isDedicated()).isTrue();
+        assertThat(((VertxInternal) debugVertx.vertx()).closeFuture().isClosed()).isTrue();
+        assertThat(((VertxInternal) gatewayVertx.getDelegate()).closeFuture().isClosed()).isFalse();
+    }
+
+    /**
+     * Deploys the debug verticle the same way the debug service does at startup, with the beans of {@link VertxDebugConfiguration}.
+     */
+    private VertxDebugService startDebugService(DebugVertx debugVertx, HttpRequestDispatcher dispatcher) {
+        final VertxHttpServer debugServer = configuration.debugServer(
+            configuration.debugHttpServerFactory(
+                debugVertx,
+                new DefaultKeyStoreLoaderFactoryRegistry<>(),
+                new DefaultKeyStoreLoaderFactoryRegistry<>(),
+                mock(CRLLoaderFactoryRegistry.class)
+            ),
+            environment
+        );
+        final VertxDebugService debugService = new VertxDebugService();
+        ReflectionTestUtils.setField(debugService, "debugVerticle", configuration.debugVerticle(debugServer, dispatcher));
+        ReflectionTestUtils.setField(debugService, "debugVertx", debugVertx);
+        debugService.start();
+
+        await().atMost(5, TimeUnit.SECONDS).until(this::isDebugServerListening);
+        return debugService;
+    }
+
+    private boolean isDebugServerListening() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("localhost", debugPort), 100);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private CompletableFuture<HttpResponse<Void>> sendDebugRequest() {
+        return HttpClient.newHttpClient().sendAsync(
+            HttpRequest.newBuilder(URI.create("http://localhost:" + debugPort + "/debug")).build(),
+            HttpResponse.BodyHandlers.discarding()
+        );
+    }
+
+    /**
+     * Dispatcher keeping the event loop of the debug request busy until it is released.
+     */
+    private static class BlockingDispatcher implements HttpRequestDispatcher {
+
+        private final CompletableFuture<Context> context = new CompletableFuture<>();
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public Completable dispatch(io.vertx.rxjava3.core.http.HttpServerRequest httpServerRequest, String serverId) {
+            return Completable.defer(() -> {
+                context.complete(io.vertx.core.Vertx.currentContext());
+                release.await(5, TimeUnit.SECONDS);
+                return httpServerRequest.response().rxEnd();
+            });
+        }
+    }
+}
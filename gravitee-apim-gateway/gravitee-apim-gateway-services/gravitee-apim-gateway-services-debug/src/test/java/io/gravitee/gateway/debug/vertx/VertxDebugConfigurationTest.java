@@ -25,6 +25,7 @@ import io.gravitee.node.certificates.KeyStoreLoaderManager;
 import io.gravitee.node.vertx.server.http.VertxHttpServer;
 import io.gravitee.node.vertx.server.http.VertxHttpServerFactory;
 import io.gravitee.node.vertx.server.http.VertxHttpServerOptions;
+import io.vertx.core.VertxOptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -204,4 +205,61 @@ class VertxDebugConfigurationTest {
         assertThat(debugClientConfiguration.getConnectTimeout()).isEqualTo(MAX_CONNECTION_TIMEOUT);
         assertThat(debugClientConfiguration.getRequestTimeout()).isEqualTo(MAX_REQUEST_TIMEOUT);
     }
+
+    @Test
+    void should_create_dedicated_debug_vertx_by_default() {
+        final io.vertx.rxjava3.core.Vertx vertx = mock(io.vertx.rxjava3.core.Vertx.class);
+
+        final DebugVertx debugVertx = cut.debugVertx(vertx, environment);
+
+        try {
+            assertThat(debugVertx.isDedicated()).isTrue();
+            assertThat(debugVertx.rxVertx()).isNotSameAs(vertx);
+        } finally {
+            debugVertx.close();
+        }
+    }
+
+    @Test
+    void should_reuse_gateway_vertx_when_dedicated_debug_vertx_is_disabled() {
+        final io.vertx.rxjava3.core.Vertx vertx = mock(io.vertx.rxjava3.core.Vertx.class);
+        environment.setProperty("debug.vertx.dedicated", "false");
+
+        final DebugVertx debugVertx = cut.debugVertx(vertx, environment);
+
+        assertThat(debugVertx.isDedicated()).isFalse();
+        assertThat(debugVertx.rxVertx()).isSameAs(vertx);
+    }
+
+    @Test
+    void should_build_dedicated_debug_vertx_options_from_gateway_vertx_settings() {
+        final io.vertx.rxjava3.core.Vertx vertx = mock(io.vertx.rxjava3.core.Vertx.class);
+        when(vertx.isNativeTransportEnabled()).thenReturn(true);
+        when(vertx.isMetricsEnabled()).thenReturn(true);
+        environment.setProperty("debug.vertx.eventLoopPoolSize", "2");
+        environment.setProperty("debug.vertx.workerPoolSize", "3");
+
+        final VertxOptions options = cut.debugVertxOptions(vertx, environment);
+
+        assertThat(options.getPreferNativeTransport()).isTrue();
+        assertThat(options.getMetricsOptions().isEnabled()).isTrue();
+        assertThat(options.getEventLoopPoolSize()).isEqualTo(2);
+        assertThat(options.getWorkerPoolSize()).isEqualTo(3);
+    }
+
+    @Test
+    void should_apply_gateway_blocked_thread_checker_settings_to_dedicated_debug_vertx() {
+        final io.vertx.rxjava3.core.Vertx vertx = mock(io.vertx.rxjava3.core.Vertx.class);
+        System.setProperty("vertx.options.maxEventLoopExecuteTime", "123456");
+
+        try {
+            final VertxOptions options = cut.debugVertxOptions(vertx, environment);
+
+            assertThat(options.getMaxEventLoopExecuteTime()).isEqualTo(123456L);
+            assertThat(options.getPreferNativeTransport()).isFalse();
+            assertThat(options.getMetricsOptions().isEnabled()).isFalse();
+        } finally {
+            System.clearProperty("vertx.options.maxEventLoopExecuteTime");
+        }
+    }
 }
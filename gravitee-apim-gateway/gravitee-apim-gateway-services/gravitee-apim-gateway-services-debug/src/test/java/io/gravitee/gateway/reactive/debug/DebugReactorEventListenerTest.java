@@ -28,7 +28,9 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
@@ -472,6 +474,81 @@ class DebugReactorEventListenerTest {
             verify(eventManager, times(0)).publishEvent(eq(SecretDiscoveryEventType.DISCOVER), any(SecretDiscoveryEvent.class));
         }
 
+        @Test
+        void should_reject_debug_event_when_max_concurrent_sessions_is_reached() throws JsonProcessingException, TechnicalException {
+            debugReactorEventListener = new DebugReactorEventListener(
+                vertx,
+                eventManager,
+                eventRepository,
+                objectMapper,
+                debugHttpClientConfiguration,
+                reactorHandlerRegistry,
+                accessPointManager,
+                dataEncryptor,
+                DebugOptions.builder().maxConcurrentSessions(1).build()
+            );
+            io.gravitee.definition.model.debug.DebugApiV2 debugApiModel = getADebugApiDefinition();
+            debugApiModel.setRequest(new HttpRequest("/path1", "GET", "request body"));
+            when(objectMapper.readValue(anyString(), any(DebugApiV2.class.getClass()))).thenReturn(debugApiModel);
+            when(reactorHandlerRegistry.contains(any(DebugApiV2.class))).thenReturn(false);
+
+            // The first debug session never completes
+            final HttpClient mockHttpClient = mock(HttpClient.class);
+            when(vertx.createHttpClient(any(HttpClientOptions.class))).thenReturn(mockHttpClient);
+            when(mockHttpClient.rxRequest(any())).thenReturn(Single.never());
+
+            Event runningEvent = getAnEvent("running-evt-id", PAYLOAD);
+            Event rejectedEvent = getAnEvent(EVENT_ID, PAYLOAD);
+            debugReactorEventListener.onEvent(
+                getAReactorEvent(ReactorEvent.DEBUG, new ReactableEvent<>(runningEvent.getId(), runningEvent))
+            );
+            debugReactorEventListener.onEvent(
+                getAReactorEvent(ReactorEvent.DEBUG, new ReactableEvent<>(rejectedEvent.getId(), rejectedEvent))
+            );
+
+            verify(reactorHandlerRegistry, times(1)).create(any(DebugApiV2.class));
+            verify(eventRepository, timeout(10000).times(2)).update(any());
+            assertThat(runningEvent.getProperties()).containsEntry(API_DEBUG_STATUS.getValue(), ApiDebugStatus.DEBUGGING.name());
+            assertThat(rejectedEvent.getProperties()).containsEntry(API_DEBUG_STATUS.getValue(), ApiDebugStatus.ERROR.name());
+            assertThat(debugReactorEventListener.activeSessions()).isEqualTo(1);
+        }
+
+        @Test
+        void should_release_session_when_debug_api_cannot_be_deployed() throws JsonProcessingException, TechnicalException {
+            debugReactorEventListener = new DebugReactorEventListener(
+                vertx,
+                eventManager,
+                eventRepository,
+                objectMapper,
+                debugHttpClientConfiguration,
+                reactorHandlerRegistry,
+                accessPointManager,
+                dataEncryptor,
+                DebugOptions.builder().maxConcurrentSessions(1).build()
+            );
+            io.gravitee.definition.model.debug.DebugApiV2 debugApiModel = getADebugApiDefinition();
+            debugApiModel.setRequest(new HttpRequest("/path1", "GET", "request body"));
+            when(objectMapper.readValue(anyString(), any(DebugApiV2.class.getClass()))).thenReturn(debugApiModel);
+            when(reactorHandlerRegistry.contains(any(DebugApiV2.class))).thenReturn(false);
+            doThrow(new IllegalStateException("error")).when(reactorHandlerRegistry).create(any(DebugApiV2.class));
+
+            Event firstEvent = getAnEvent("first-evt-id", PAYLOAD);
+            Event secondEvent = getAnEvent(EVENT_ID, PAYLOAD);
+            debugReactorEventListener.onEvent(getAReactorEvent(ReactorEvent.DEBUG, new ReactableEvent<>(firstEvent.getId(), firstEvent)));
+            debugReactorEventListener.onEvent(
+                getAReactorEvent(ReactorEvent.DEBUG, new ReactableEvent<>(secondEvent.getId(), secondEvent))
+            );
+
+            // The second event is not rejected because of the session slot taken by the first one
+            verify(reactorHandlerRegistry, times(2)).create(any(DebugApiV2.class));
+            verify(reactorHandlerRegistry, times(2)).remove(any(DebugApiV2.class));
+            verify(eventManager, never()).publishEvent(eq(SecretDiscoveryEventType.DISCOVER), any(SecretDiscoveryEvent.class));
+            verify(eventRepository, timeout(10000).times(2)).update(any());
+            assertThat(firstEvent.getProperties()).containsEntry(API_DEBUG_STATUS.getValue(), ApiDebugStatus.ERROR.name());
+            assertThat(secondEvent.getProperties()).containsEntry(API_DEBUG_STATUS.getValue(), ApiDebugStatus.ERROR.name());
+            assertThat(debugReactorEventListener.activeSessions()).isZero();
+        }
+
         @Test
         void should_debug_api_and_filter_closed_plan() throws JsonProcessingException {
             io.gravitee.definition.model.debug.DebugApiV2 debugApiModel = getADebugApiDefinition();
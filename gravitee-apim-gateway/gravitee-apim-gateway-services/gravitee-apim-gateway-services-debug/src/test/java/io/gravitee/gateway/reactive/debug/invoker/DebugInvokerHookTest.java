@@ -28,6 +28,8 @@ import io.gravitee.gateway.debug.core.invoker.InvokerResponse;
 import io.gravitee.gateway.reactive.api.ExecutionFailure;
 import io.gravitee.gateway.reactive.api.ExecutionPhase;
 import io.gravitee.gateway.reactive.core.context.MutableResponse;
+import io.gravitee.gateway.reactive.debug.DebugOptions;
+import io.gravitee.gateway.reactive.debug.policy.steps.DebugBodyCapture;
 import io.gravitee.gateway.reactive.debug.reactor.context.DebugExecutionContext;
 import io.reactivex.rxjava3.core.Single;
 import org.junit.jupiter.api.BeforeEach;
@@ -85,6 +87,7 @@ class DebugInvokerHookTest {
         when(debugCtx.response()).thenReturn(mutableResponse);
         InvokerResponse invokerResponse = new InvokerResponse();
         when(debugCtx.getInvokerResponse()).thenReturn(invokerResponse);
+        when(debugCtx.getBodyCapture()).thenReturn(new DebugBodyCapture(DebugOptions.DEFAULT));
         debugInvokerHook.post("id", debugCtx, ExecutionPhase.REQUEST).test().assertResult();
         assertThat(invokerResponse.getStatus()).isEqualTo(200);
         assertThat(invokerResponse.getHeaders()).isNotNull();
@@ -100,9 +103,24 @@ class DebugInvokerHookTest {
         when(debugCtx.response()).thenReturn(mutableResponse);
         InvokerResponse invokerResponse = new InvokerResponse();
         when(debugCtx.getInvokerResponse()).thenReturn(invokerResponse);
+        when(debugCtx.getBodyCapture()).thenReturn(new DebugBodyCapture(DebugOptions.DEFAULT));
         debugInvokerHook.error("id", debugCtx, ExecutionPhase.REQUEST, new RuntimeException()).test().assertResult();
         assertThat(invokerResponse.getStatus()).isEqualTo(200);
         assertThat(invokerResponse.getHeaders()).isNotNull();
         assertThat(invokerResponse.getBuffer().toString()).isEqualTo("body");
     }
+
+    @Test
+    public void shouldTruncateInvokerBodyOnPost() {
+        MutableResponse mutableResponse = mock(MutableResponse.class);
+        when(mutableResponse.headers()).thenReturn(HttpHeaders.create());
+        when(mutableResponse.status()).thenReturn(200);
+        when(mutableResponse.bodyOrEmpty()).thenReturn(Single.just(Buffer.buffer("a very large body")));
+        when(debugCtx.response()).thenReturn(mutableResponse);
+        InvokerResponse invokerResponse = new InvokerResponse();
+        when(debugCtx.getInvokerResponse()).thenReturn(invokerResponse);
+        when(debugCtx.getBodyCapture()).thenReturn(new DebugBodyCapture(DebugOptions.builder().maxBodySize(6).build()));
+        debugInvokerHook.post("id", debugCtx, ExecutionPhase.REQUEST).test().assertResult();
+        assertThat(invokerResponse.getBuffer().toString()).isEqualTo("a very");
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.debug.policy.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.common.util.LinkedMultiValueMap;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.http.HttpHeaders;
+import io.gravitee.gateway.reactive.api.ExecutionPhase;
+import io.gravitee.gateway.reactive.core.context.MutableRequest;
+import io.gravitee.gateway.reactive.debug.DebugOptions;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Single;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DebugBodyCaptureTest {
+
+    @Test
+    void should_capture_a_copy_of_the_body() {
+        final DebugBodyCapture cut = new DebugBodyCapture(DebugOptions.DEFAULT);
+        final Buffer body = Buffer.buffer("body");
+
+        final Buffer captured = cut.capture(body);
+        body.appendString(" updated");
+
+        assertThat(captured.toString()).isEqualTo("body");
+    }
+
+    @Test
+    void should_truncate_body_larger_than_max_body_size() {
+        final DebugBodyCapture cut = new DebugBodyCapture(DebugOptions.builder().maxBodySize(4).build());
+
+        assertThat(cut.capture(Buffer.buffer("truncated body")).toString()).isEqualTo("trun");
+        assertThat(cut.capture(Buffer.buffer("ok")).toString()).isEqualTo("ok");
+    }
+
+    @Test
+    void should_not_consume_step_diff_budget_when_capturing_body() {
+        final DebugBodyCapture cut = new DebugBodyCapture(DebugOptions.builder().maxStepDiffSize(4).build());
+
+        cut.capture(Buffer.buffer("response body"));
+
+        assertThat(cut.captureStepDiff(Buffer.buffer("body")).toString()).isEqualTo("body");
+    }
+
+    @Test
+    void should_stop_capturing_step_diff_bodies_once_budget_is_exhausted() {
+        final DebugBodyCapture cut = new DebugBodyCapture(DebugOptions.builder().maxBodySize(6).maxStepDiffSize(10).build());
+
+        assertThat(cut.captureStepDiff(Buffer.buffer("first body")).toString()).isEqualTo("first ");
+        assertThat(cut.captureStepDiff(Buffer.buffer("second body")).toString()).isEqualTo("seco");
+        assertThat(cut.captureStepDiff(Buffer.buffer("third body")).length()).isZero();
+    }
+
+    @Test
+    void should_share_step_diff_budget_between_policy_steps() {
+        final DebugBodyCapture bodyCapture = new DebugBodyCapture(DebugOptions.builder().maxStepDiffSize(8).build());
+        final MutableRequest request = mock(MutableRequest.class);
+        when(request.headers()).thenReturn(HttpHeaders.create());
+        when(request.contextPath()).thenReturn("contextPath");
+        when(request.path()).thenReturn("path");
+        when(request.method()).thenReturn(HttpMethod.GET);
+        when(request.parameters()).thenReturn(new LinkedMultiValueMap<>());
+        when(request.pathParameters()).thenReturn(new LinkedMultiValueMap<>());
+
+        final PolicyRequestStep firstStep = new PolicyRequestStep("policy1", ExecutionPhase.REQUEST, "flow", bodyCapture);
+        final PolicyRequestStep secondStep = new PolicyRequestStep("policy2", ExecutionPhase.REQUEST, "flow", bodyCapture);
+
+        when(request.bodyOrEmpty()).thenReturn(Single.just(Buffer.buffer()));
+        firstStep
+            .pre(request, Map.of())
+            .doOnComplete(() -> when(request.bodyOrEmpty()).thenReturn(Single.just(Buffer.buffer("body 1"))))
+            .andThen(Completable.defer(() -> firstStep.post(request, Map.of())))
+            .test()
+            .assertResult();
+
+        secondStep
+            .pre(request, Map.of())
+            .doOnComplete(() -> when(request.bodyOrEmpty()).thenReturn(Single.just(Buffer.buffer("body 2"))))
+            .andThen(Completable.defer(() -> secondStep.post(request, Map.of())))
+            .test()
+            .assertResult();
+
+        assertThat(firstStep.getDiff().get(PolicyStep.DIFF_KEY_BODY_BUFFER)).hasToString("body 1");
+        assertThat(secondStep.getDiff().get(PolicyStep.DIFF_KEY_BODY_BUFFER)).hasToString("bo");
+    }
+}
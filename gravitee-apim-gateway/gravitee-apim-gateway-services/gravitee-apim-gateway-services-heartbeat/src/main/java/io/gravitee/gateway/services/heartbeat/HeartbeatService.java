@@ -66,7 +66,9 @@ public class HeartbeatService extends AbstractService<HeartbeatService> {
                 heartbeatStrategyConfiguration.eventRepository(),
                 heartbeatStrategyConfiguration.delay(),
                 heartbeatStrategyConfiguration.unit(),
-                prepareEvent()
+                prepareEvent(),
+                heartbeatStrategyConfiguration.incremental(),
+                heartbeatStrategyConfiguration.fullSyncInterval()
             );
             heartbeatStrategyScheduler.start();
         }
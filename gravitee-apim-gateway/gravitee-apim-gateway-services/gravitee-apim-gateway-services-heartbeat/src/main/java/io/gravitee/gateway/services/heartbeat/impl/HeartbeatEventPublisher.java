@@ -21,23 +21,66 @@ import static io.gravitee.gateway.services.heartbeat.HeartbeatService.EVENT_LAST
 import io.gravitee.node.api.cluster.ClusterManager;
 import io.gravitee.node.api.cluster.messaging.Topic;
 import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.EventType;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 
 /**
+ * Periodically publishes the heartbeat of the gateway.
+ *
+ * <p>
+ *     In incremental mode, the complete event (payload, environments, organizations and properties) is only published when its content
+ *     changed since the last complete publication, or every <code>fullSyncInterval</code> heartbeats. Other heartbeats only publish
+ *     a touch event holding the update date, which limits the writes on the events repository.
+ * </p>
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-@RequiredArgsConstructor
 @CustomLog
 public class HeartbeatEventPublisher implements Runnable {
 
     private final ClusterManager clusterManager;
     private final Topic<Event> topic;
     private final Event event;
+    private final boolean incremental;
+    private final int fullSyncInterval;
+
+    private HeartbeatContent lastPublishedContent;
+    private int heartbeatsSinceFullSync;
+
+    public HeartbeatEventPublisher(ClusterManager clusterManager, Topic<Event> topic, Event event) {
+        this(clusterManager, topic, event, false, 0);
+    }
+
+    public HeartbeatEventPublisher(
+        ClusterManager clusterManager,
+        Topic<Event> topic,
+        Event event,
+        boolean incremental,
+        int fullSyncInterval
+    ) {
+        this.clusterManager = clusterManager;
+        this.topic = topic;
+        this.event = event;
+        this.incremental = incremental;
+        this.fullSyncInterval = fullSyncInterval;
+    }
+
+    /**
+     * Publish the complete heartbeat event as is.
+     */
+    public void publishFullEvent() {
+        synchronized (event) {
+            topic.publish(event);
+            lastPublishedContent = HeartbeatContent.of(event);
+            heartbeatsSinceFullSync = 0;
+        }
+    }
 
     @Override
     public void run() {
@@ -50,13 +93,62 @@ public class HeartbeatEventPublisher implements Runnable {
                 }
                 event.getProperties().put(EVENT_LAST_HEARTBEAT_PROPERTY, Long.toString(event.getUpdatedAt().getTime()));
                 event.getProperties().put(EVENT_CLUSTER_PRIMARY_NODE_PROPERTY, Boolean.toString(clusterManager.self().primary()));
-                topic.publish(buildLiteEvent(event));
+                if (incremental) {
+                    publishIncremental();
+                } else {
+                    topic.publish(buildLiteEvent(event));
+                }
             }
         } catch (Exception ex) {
             log.error("An unexpected error occurs while monitoring the gateway", ex);
         }
     }
 
+    private void publishIncremental() {
+        final HeartbeatContent content = HeartbeatContent.of(event);
+        heartbeatsSinceFullSync++;
+        if (!content.equals(lastPublishedContent) || (fullSyncInterval > 0 && heartbeatsSinceFullSync >= fullSyncInterval)) {
+            topic.publish(buildFullEvent(event));
+            lastPublishedContent = content;
+            heartbeatsSinceFullSync = 0;
+        } else {
+            topic.publish(buildTouchEvent(event));
+        }
+    }
+
+    /**
+     * Provides a copy of the Heartbeat Event, so that it is not modified by the next heartbeats while being stored.
+     * @param heartbeatEvent the original heartbeat event
+     * @return the full event
+     */
+    private Event buildFullEvent(Event heartbeatEvent) {
+        Event fullEvent = new Event();
+        fullEvent.setId(heartbeatEvent.getId());
+        fullEvent.setType(heartbeatEvent.getType());
+        fullEvent.setPayload(heartbeatEvent.getPayload());
+        fullEvent.setParentId(heartbeatEvent.getParentId());
+        fullEvent.setCreatedAt(heartbeatEvent.getCreatedAt());
+        fullEvent.setUpdatedAt(heartbeatEvent.getUpdatedAt());
+        fullEvent.setEnvironments(heartbeatEvent.getEnvironments() == null ? null : new HashSet<>(heartbeatEvent.getEnvironments()));
+        fullEvent.setOrganizations(heartbeatEvent.getOrganizations() == null ? null : new HashSet<>(heartbeatEvent.getOrganizations()));
+        fullEvent.setProperties(new HashMap<>(heartbeatEvent.getProperties()));
+        return fullEvent;
+    }
+
+    /**
+     * Provides the minimal version of the Heartbeat Event, only updating its update date and its last heartbeat property.
+     * @param heartbeatEvent the original heartbeat event
+     * @return the touch event
+     */
+    private Event buildTouchEvent(Event heartbeatEvent) {
+        Event touchEvent = new Event();
+        touchEvent.setId(heartbeatEvent.getId());
+        touchEvent.setType(heartbeatEvent.getType());
+        touchEvent.setUpdatedAt(heartbeatEvent.getUpdatedAt());
+        touchEvent.setProperties(Map.of(EVENT_LAST_HEARTBEAT_PROPERTY, heartbeatEvent.getProperties().get(EVENT_LAST_HEARTBEAT_PROPERTY)));
+        return touchEvent;
+    }
+
     /**
      * Provides a lite version of the Heartbeat Event to only update date related fields
      * @param heartbeatEvent the original heartbeat event
@@ -78,4 +170,28 @@ public class HeartbeatEventPublisher implements Runnable {
         );
         return eventLite;
     }
+
+    /**
+     * Content of the heartbeat event which requires the complete event to be published again when it changes.
+     * The last heartbeat property is excluded as it changes on each heartbeat.
+     */
+    private record HeartbeatContent(
+        EventType type,
+        String payload,
+        Set<String> environments,
+        Set<String> organizations,
+        Map<String, String> properties
+    ) {
+        static HeartbeatContent of(Event event) {
+            final Map<String, String> properties = event.getProperties() == null ? new HashMap<>() : new HashMap<>(event.getProperties());
+            properties.remove(EVENT_LAST_HEARTBEAT_PROPERTY);
+            return new HeartbeatContent(
+                event.getType(),
+                event.getPayload(),
+                event.getEnvironments() == null ? null : new HashSet<>(event.getEnvironments()),
+                event.getOrganizations() == null ? null : new HashSet<>(event.getOrganizations()),
+                properties
+            );
+        }
+    }
 }
@@ -42,6 +42,7 @@ public class HeartbeatEventScheduler extends AbstractService<HeartbeatEventSched
     private final Topic<Event> topic;
     private final String subscriptionId;
     private final Event heartbeatEvent;
+    private final HeartbeatEventPublisher heartbeatEventPublisher;
 
     @Getter
     private final HeartbeatEventListener heartbeatEventListener;
@@ -54,12 +55,25 @@ public class HeartbeatEventScheduler extends AbstractService<HeartbeatEventSched
         final int delay,
         final TimeUnit delayUnit,
         final Event heartbeatEvent
+    ) {
+        this(clusterManager, eventRepository, delay, delayUnit, heartbeatEvent, false, 0);
+    }
+
+    public HeartbeatEventScheduler(
+        final ClusterManager clusterManager,
+        final EventRepository eventRepository,
+        final int delay,
+        final TimeUnit delayUnit,
+        final Event heartbeatEvent,
+        final boolean incremental,
+        final int fullSyncInterval
     ) {
         this.clusterManager = clusterManager;
         this.delay = delay;
         this.unit = delayUnit;
         this.topic = clusterManager.topic(HEARTBEATS);
         this.heartbeatEvent = heartbeatEvent;
+        this.heartbeatEventPublisher = new HeartbeatEventPublisher(clusterManager, topic, heartbeatEvent, incremental, fullSyncInterval);
         this.heartbeatEventListener = new HeartbeatEventListener(clusterManager, eventRepository);
         this.subscriptionId = topic.addMessageListener(heartbeatEventListener);
     }
@@ -69,11 +83,11 @@ public class HeartbeatEventScheduler extends AbstractService<HeartbeatEventSched
         log.info("Starting gateway heartbeat");
 
         // Publish initial event
-        topic.publish(heartbeatEvent);
+        heartbeatEventPublisher.publishFullEvent();
 
         log.info("Monitoring scheduled with fixed delay {} {}", delay, unit);
         executorService = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "gio-heartbeat"));
-        executorService.scheduleWithFixedDelay(new HeartbeatEventPublisher(clusterManager, topic, heartbeatEvent), delay, delay, unit);
+        executorService.scheduleWithFixedDelay(heartbeatEventPublisher, delay, delay, unit);
 
         log.info("Start gateway heartbeat done successfully");
     }
@@ -60,7 +60,9 @@ public class HeartbeatConfiguration {
             clusterManager,
             eventRepository,
             gatewayConfiguration,
-            pluginRegistry
+            pluginRegistry,
+            configuration.getProperty("services.heartbeat.incremental", Boolean.class, false),
+            configuration.getProperty("services.heartbeat.fullSyncInterval", Integer.class, 60)
         );
     }
 }
@@ -46,4 +46,47 @@ public class HeartbeatStrategyConfiguration {
     private final EventRepository eventRepository;
     private final GatewayConfiguration gatewayConfiguration;
     private final PluginRegistry pluginRegistry;
+    /**
+     * When enabled, the complete heartbeat event is only published when its content changes, other heartbeats only touch its update date.
+     */
+    private final boolean incremental;
+    /**
+     * Number of heartbeats after which the complete event is published again even if unchanged (0 to disable).
+     * Only used in incremental mode.
+     */
+    private final int fullSyncInterval;
+
+    public HeartbeatStrategyConfiguration(
+        boolean enabled,
+        int delay,
+        TimeUnit unit,
+        boolean storeSystemProperties,
+        String port,
+        ObjectMapper objectMapper,
+        Node node,
+        EnvironmentRepository environmentRepository,
+        OrganizationRepository organizationRepository,
+        ClusterManager clusterManager,
+        EventRepository eventRepository,
+        GatewayConfiguration gatewayConfiguration,
+        PluginRegistry pluginRegistry
+    ) {
+        this(
+            enabled,
+            delay,
+            unit,
+            storeSystemProperties,
+            port,
+            objectMapper,
+            node,
+            environmentRepository,
+            organizationRepository,
+            clusterManager,
+            eventRepository,
+            gatewayConfiguration,
+            pluginRegistry,
+            false,
+            0
+        );
+    }
 }
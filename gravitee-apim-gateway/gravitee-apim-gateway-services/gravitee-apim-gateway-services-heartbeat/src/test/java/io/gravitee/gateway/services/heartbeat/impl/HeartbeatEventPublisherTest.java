@@ -22,7 +22,9 @@ import static org.assertj.core.api.AssertionsForClassTypes.entry;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,11 +34,17 @@ import io.gravitee.node.api.cluster.Member;
 import io.gravitee.node.api.cluster.messaging.Message;
 import io.gravitee.node.api.cluster.messaging.Topic;
 import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.EventRepository;
 import io.gravitee.repository.management.model.Event;
 import io.gravitee.repository.management.model.EventType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -91,4 +99,103 @@ class HeartbeatEventPublisherTest {
         doThrow(new RuntimeException()).when(topic).publish(any());
         assertDoesNotThrow(() -> cut.run());
     }
+
+    @Nested
+    class IncrementalMode {
+
+        @Mock
+        private EventRepository eventRepository;
+
+        private Event heartbeatEvent;
+
+        @BeforeEach
+        void setUp() {
+            // Simulate the primary node storing each published heartbeat
+            doAnswer(invocation -> eventRepository.createOrPatch(invocation.getArgument(0)))
+                .when(topic)
+                .publish(any());
+
+            heartbeatEvent = new Event();
+            heartbeatEvent.setId("id");
+            heartbeatEvent.setType(EventType.GATEWAY_STARTED);
+            heartbeatEvent.setPayload("{\"plugins\":[\"a\",\"b\"]}");
+            heartbeatEvent.setEnvironments(Set.of("DEFAULT"));
+            heartbeatEvent.setOrganizations(Set.of("DEFAULT"));
+            heartbeatEvent.setProperties(new HashMap<>(Map.of(EVENT_CLUSTER_PRIMARY_NODE_PROPERTY, Boolean.TRUE.toString())));
+        }
+
+        @Test
+        void should_only_touch_event_while_its_content_does_not_change() {
+            cut = new HeartbeatEventPublisher(clusterManager, topic, heartbeatEvent, true, 0);
+
+            cut.publishFullEvent();
+            simulateHeartbeats(10);
+
+            assertThat(writtenEvents()).hasSize(11);
+            assertThat(writtenEvents().stream().filter(event -> event.getPayload() != null)).hasSize(1);
+            assertThat(writtenEvents().subList(1, 11)).allSatisfy(event -> {
+                assertThat(event.getEnvironments()).isNull();
+                assertThat(event.getOrganizations()).isNull();
+                assertThat(event.getProperties()).containsOnlyKeys(EVENT_LAST_HEARTBEAT_PROPERTY);
+            });
+        }
+
+        @Test
+        void should_publish_full_event_when_its_content_changes() {
+            cut = new HeartbeatEventPublisher(clusterManager, topic, heartbeatEvent, true, 0);
+
+            cut.publishFullEvent();
+            simulateHeartbeats(3);
+            when(member.primary()).thenReturn(false);
+            simulateHeartbeats(3);
+
+            final List<Event> writtenEvents = writtenEvents();
+            assertThat(writtenEvents).hasSize(7);
+            assertThat(writtenEvents.stream().filter(event -> event.getPayload() != null)).hasSize(2);
+            assertThat(writtenEvents.get(4).getPayload()).isEqualTo(heartbeatEvent.getPayload());
+            assertThat(writtenEvents.get(4).getEnvironments()).containsExactly("DEFAULT");
+            assertThat(writtenEvents.get(4).getProperties()).containsEntry(EVENT_CLUSTER_PRIMARY_NODE_PROPERTY, Boolean.FALSE.toString());
+        }
+
+        @Test
+        void should_publish_full_event_every_full_sync_interval() {
+            cut = new HeartbeatEventPublisher(clusterManager, topic, heartbeatEvent, true, 5);
+
+            cut.publishFullEvent();
+            simulateHeartbeats(10);
+
+            final List<Event> writtenEvents = writtenEvents();
+            assertThat(writtenEvents).hasSize(11);
+            assertThat(writtenEvents.stream().filter(event -> event.getPayload() != null)).hasSize(3);
+            assertThat(writtenEvents.get(5).getPayload()).isNotNull();
+            assertThat(writtenEvents.get(10).getPayload()).isNotNull();
+        }
+
+        @Test
+        void should_always_write_environments_and_primary_node_when_not_incremental() {
+            cut = new HeartbeatEventPublisher(clusterManager, topic, heartbeatEvent);
+
+            cut.publishFullEvent();
+            simulateHeartbeats(5);
+
+            assertThat(writtenEvents().subList(1, 6)).allSatisfy(event ->
+                assertThat(event.getEnvironments()).containsExactly("DEFAULT")
+            );
+        }
+
+        private void simulateHeartbeats(int count) {
+            for (int i = 0; i < count; i++) {
+                cut.run();
+            }
+        }
+
+        private List<Event> writtenEvents() {
+            return mockingDetails(eventRepository)
+                .getInvocations()
+                .stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("createOrPatch"))
+                .map(invocation -> (Event) invocation.getArgument(0))
+                .toList();
+        }
+    }
 }
@@ -19,6 +19,7 @@ import static io.gravitee.gateway.reactive.http.vertx.VertxHttpServerRequest.NET
 
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.gateway.reactive.reactor.HttpRequestDispatcher;
+import io.gravitee.gateway.reactive.standalone.vertx.scheduler.VirtualThreadSchedulers;
 import io.gravitee.node.api.server.ServerManager;
 import io.gravitee.node.vertx.server.http.VertxHttpServer;
 import io.netty.util.AttributeKey;
@@ -51,14 +52,24 @@ public class HttpProtocolVerticle extends AbstractVerticle {
 
     private final ServerManager serverManager;
     private final HttpRequestDispatcher requestDispatcher;
+    private final VirtualThreadSchedulers virtualThreadSchedulers;
     private final Map<VertxHttpServer, HttpServer> httpServerMap;
 
     public HttpProtocolVerticle(
         final ServerManager serverManager,
         @Qualifier("httpRequestDispatcher") HttpRequestDispatcher requestDispatcher
+    ) {
+        this(serverManager, requestDispatcher, null);
+    }
+
+    public HttpProtocolVerticle(
+        final ServerManager serverManager,
+        @Qualifier("httpRequestDispatcher") HttpRequestDispatcher requestDispatcher,
+        final VirtualThreadSchedulers virtualThreadSchedulers
     ) {
         this.serverManager = serverManager;
         this.requestDispatcher = requestDispatcher;
+        this.virtualThreadSchedulers = virtualThreadSchedulers;
         this.httpServerMap = new HashMap<>();
     }
 
@@ -69,7 +80,13 @@ public class HttpProtocolVerticle extends AbstractVerticle {
 
         // Reconfigure RxJava to use Vertx schedulers.
         RxJavaPlugins.setComputationSchedulerHandler(s -> RxHelper.scheduler(vertx));
-        RxJavaPlugins.setIoSchedulerHandler(s -> RxHelper.blockingScheduler(vertx));
+        if (virtualThreadSchedulers != null && virtualThreadSchedulers.isEnabled()) {
+            // Blocking tasks run on virtual threads rather than competing for the fixed size worker pool.
+            RxJavaPlugins.setIoSchedulerHandler(s -> virtualThreadSchedulers.io());
+        } else {
+            RxJavaPlugins.setIoSchedulerHandler(s -> RxHelper.blockingScheduler(vertx));
+        }
+        // Work scheduled on the new thread scheduler may rely on the Vert.x context, it always stays on the event loop.
         RxJavaPlugins.setNewThreadSchedulerHandler(s -> RxHelper.scheduler(vertx));
 
         final List<VertxHttpServer> servers = this.serverManager.servers(VertxHttpServer.class);
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.standalone.vertx.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.CustomLog;
+
+/**
+ * Listens to the <code>jdk.VirtualThreadPinned</code> JFR events to report the virtual threads blocking while pinned to their
+ * carrier thread (e.g. blocking inside a <code>synchronized</code> block), which silently limits them to the size of the carrier pool.
+ * <p>
+ * Each pinning location is reported once as a warning with its stack trace, then only at debug level.
+ *
+ * @author GraviteeSource Team
+ */
+@CustomLog
+class PinnedCarrierMonitor implements AutoCloseable {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 20;
+    private static final int MAX_REPORTED_LOCATIONS = 1000;
+
+    private final RecordingStream stream;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private final Map<String, Boolean> reportedLocations = new ConcurrentHashMap<>();
+
+    private PinnedCarrierMonitor(Duration threshold) {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    /**
+     * Starts listening to pinned virtual threads.
+     *
+     * @param threshold the minimum pinning duration to report.
+     * @return the started monitor or <code>null</code> if the JVM does not allow to stream JFR events.
+     */
+    static PinnedCarrierMonitor start(Duration threshold) {
+        try {
+            return new PinnedCarrierMonitor(threshold);
+        } catch (Exception | LinkageError e) {
+            log.warn("Unable to detect virtual threads pinning their carrier thread, JFR event streaming is not available", e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the number of pinning events received so far.
+     */
+    long pinnedCount() {
+        return pinnedCount.get();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+
+        final String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        final List<String> frames = frames(event.getStackTrace());
+        final String stackTrace = frames.stream().limit(MAX_FRAMES).map(frame -> "\tat " + frame).collect(Collectors.joining("\n"));
+        // The top frames are the JDK blocking internals, the first application frame is what identifies the location.
+        final String location = frames
+            .stream()
+            .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk."))
+            .findFirst()
+            .orElse("unknown");
+
+        if (reportedLocations.size() < MAX_REPORTED_LOCATIONS && reportedLocations.putIfAbsent(location, Boolean.TRUE) == null) {
+            log.warn(
+                "Virtual thread [{}] pinned its carrier thread for {} ms, blocking calls should not be made while holding a monitor:\n{}",
+                thread,
+                event.getDuration().toMillis(),
+                stackTrace
+            );
+        } else {
+            log.debug("Virtual thread [{}] pinned its carrier thread for {} ms at {}", thread, event.getDuration().toMillis(), location);
+        }
+    }
+
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+
+        return stackTrace
+            .getFrames()
+            .stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+            .toList();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.standalone.vertx.scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * {@link Executor} running each task on its own virtual thread, with at most <code>maxConcurrency</code> tasks running at the same time.
+ * Tasks submitted when the limit is reached are queued and started, in submission order, as soon as a running task completes.
+ *
+ * @author GraviteeSource Team
+ */
+class VirtualThreadExecutor implements Executor {
+
+    @Getter
+    private final String category;
+
+    private final int maxConcurrency;
+    private final ThreadFactory threadFactory;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+
+    VirtualThreadExecutor(String category, int maxConcurrency) {
+        this.category = category;
+        this.maxConcurrency = maxConcurrency;
+        this.threadFactory = Thread.ofVirtual().name("gio-vt-" + category + "-", 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        pending.offer(task);
+        drain();
+    }
+
+    /**
+     * @return the number of tasks currently running.
+     */
+    int running() {
+        return running.get();
+    }
+
+    /**
+     * @return the number of tasks waiting for a slot.
+     */
+    int pending() {
+        return pending.size();
+    }
+
+    private void drain() {
+        // Both submitters and completing tasks check the queue after having updated their own state, so a queued task can't be forgotten.
+        while (!pending.isEmpty()) {
+            final int current = running.get();
+            if (maxConcurrency > 0 && current >= maxConcurrency) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+
+            final Runnable task = pending.poll();
+            if (task == null) {
+                running.decrementAndGet();
+            } else {
+                threadFactory.newThread(() -> run(task)).start();
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            running.decrementAndGet();
+            drain();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.standalone.vertx.scheduler;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.env.Environment;
+
+/**
+ * Gateway level options of the {@link VirtualThreadSchedulers} used, when enabled, in place of the Vert.x worker pool to run the blocking
+ * tasks submitted to the RxJava io scheduler.
+ *
+ * @author GraviteeSource Team
+ */
+@Getter
+@Builder(toBuilder = true)
+public class VirtualThreadOptions {
+
+    public static final String ENABLED_PROPERTY = "vertx.virtualThreads.enabled";
+    public static final String IO_CONCURRENCY_PROPERTY = "vertx.virtualThreads.concurrency.io";
+    public static final String PINNED_DETECTION_ENABLED_PROPERTY = "vertx.virtualThreads.pinnedDetection.enabled";
+    public static final String PINNED_DETECTION_THRESHOLD_PROPERTY = "vertx.virtualThreads.pinnedDetection.threshold";
+
+    public static final VirtualThreadOptions DEFAULT = VirtualThreadOptions.builder().build();
+
+    @Builder.Default
+    private final boolean enabled = false;
+
+    /**
+     * Maximum number of tasks of the io scheduler running at the same time, the other ones wait for a slot. Zero or less means no limit.
+     */
+    @Builder.Default
+    private final int ioConcurrency = 256;
+
+    @Builder.Default
+    private final boolean pinnedDetectionEnabled = true;
+
+    /**
+     * Minimum duration (in milliseconds) a virtual thread has to pin its carrier thread to be reported.
+     */
+    @Builder.Default
+    private final long pinnedDetectionThreshold = 20L;
+
+    public static VirtualThreadOptions from(Environment environment) {
+        if (!Boolean.TRUE.equals(environment.getProperty(ENABLED_PROPERTY, Boolean.class, false))) {
+            return DEFAULT;
+        }
+
+        return VirtualThreadOptions.builder()
+            .enabled(true)
+            .ioConcurrency(environment.getProperty(IO_CONCURRENCY_PROPERTY, Integer.class, 256))
+            .pinnedDetectionEnabled(environment.getProperty(PINNED_DETECTION_ENABLED_PROPERTY, Boolean.class, true))
+            .pinnedDetectionThreshold(environment.getProperty(PINNED_DETECTION_THRESHOLD_PROPERTY, Long.class, 20L))
+            .build();
+    }
+}
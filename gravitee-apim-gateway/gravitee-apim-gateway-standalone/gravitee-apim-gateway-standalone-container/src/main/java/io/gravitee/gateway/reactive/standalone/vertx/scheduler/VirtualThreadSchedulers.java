@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.standalone.vertx.scheduler;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.time.Duration;
+import lombok.CustomLog;
+
+/**
+ * RxJava scheduler running the tasks submitted to {@link Schedulers#io()} on virtual threads instead of the fixed size Vert.x worker pool,
+ * so that blocking work (JDBC, LDAP or HTTP resources, file reporters, ...) does not queue behind a few slow calls under load.
+ * <p>
+ * Only the blocking tasks are concerned: the other schedulers keep running on the Vert.x event loop, as their tasks may rely on the
+ * Vert.x context. A concurrency limit protects the backends from an unbounded number of concurrent blocking calls. Virtual threads pinning
+ * their carrier thread are reported by a {@link PinnedCarrierMonitor}.
+ *
+ * @author GraviteeSource Team
+ */
+@CustomLog
+public class VirtualThreadSchedulers implements AutoCloseable {
+
+    public static final String IO_CATEGORY = "io";
+
+    private final VirtualThreadOptions options;
+    private final VirtualThreadExecutor ioExecutor;
+    private final Scheduler ioScheduler;
+    private final PinnedCarrierMonitor pinnedCarrierMonitor;
+
+    public VirtualThreadSchedulers(VirtualThreadOptions options) {
+        this.options = options;
+
+        if (options.isEnabled()) {
+            ioExecutor = new VirtualThreadExecutor(IO_CATEGORY, options.getIoConcurrency());
+            ioScheduler = Schedulers.from(ioExecutor, true);
+            pinnedCarrierMonitor = options.isPinnedDetectionEnabled()
+                ? PinnedCarrierMonitor.start(Duration.ofMillis(options.getPinnedDetectionThreshold()))
+                : null;
+            log.info("Blocking tasks run on virtual threads (io concurrency: {})", options.getIoConcurrency());
+        } else {
+            ioExecutor = null;
+            ioScheduler = null;
+            pinnedCarrierMonitor = null;
+        }
+    }
+
+    /**
+     * @return <code>true</code> if blocking tasks must run on virtual threads, <code>false</code> to keep the Vert.x worker pool.
+     */
+    public boolean isEnabled() {
+        return options.isEnabled();
+    }
+
+    /**
+     * @return the scheduler to use in place of {@link Schedulers#io()}.
+     */
+    public Scheduler io() {
+        return ioScheduler;
+    }
+
+    VirtualThreadExecutor ioExecutor() {
+        return ioExecutor;
+    }
+
+    PinnedCarrierMonitor pinnedCarrierMonitor() {
+        return pinnedCarrierMonitor;
+    }
+
+    @Override
+    public void close() {
+        if (ioScheduler != null) {
+            ioScheduler.shutdown();
+        }
+        if (pinnedCarrierMonitor != null) {
+            pinnedCarrierMonitor.close();
+        }
+    }
+}
@@ -23,6 +23,8 @@ import io.gravitee.gateway.reactive.reactor.HttpRequestDispatcher;
 import io.gravitee.gateway.reactive.reactor.TcpSocketDispatcher;
 import io.gravitee.gateway.reactive.standalone.vertx.HttpProtocolVerticle;
 import io.gravitee.gateway.reactive.standalone.vertx.TcpProtocolVerticle;
+import io.gravitee.gateway.reactive.standalone.vertx.scheduler.VirtualThreadOptions;
+import io.gravitee.gateway.reactive.standalone.vertx.scheduler.VirtualThreadSchedulers;
 import io.gravitee.node.api.server.DefaultServerManager;
 import io.gravitee.node.api.server.ServerManager;
 import io.gravitee.node.vertx.server.VertxServer;
@@ -112,13 +114,19 @@ public class VertxReactorConfiguration {
         return environment.getProperty("%s.type".formatted(prefix));
     }
 
+    @Bean
+    public VirtualThreadSchedulers virtualThreadSchedulers(Environment environment) {
+        return new VirtualThreadSchedulers(VirtualThreadOptions.from(environment));
+    }
+
     @Bean
     @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
     public HttpProtocolVerticle graviteeVerticle(
         ServerManager serverManager,
-        @Qualifier("httpRequestDispatcher") HttpRequestDispatcher requestDispatcher
+        @Qualifier("httpRequestDispatcher") HttpRequestDispatcher requestDispatcher,
+        VirtualThreadSchedulers virtualThreadSchedulers
     ) {
-        return new HttpProtocolVerticle(serverManager, requestDispatcher);
+        return new HttpProtocolVerticle(serverManager, requestDispatcher, virtualThreadSchedulers);
     }
 
     @Bean
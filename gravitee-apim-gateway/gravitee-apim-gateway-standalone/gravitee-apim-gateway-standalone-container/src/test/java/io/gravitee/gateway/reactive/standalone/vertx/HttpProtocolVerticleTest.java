@@ -22,6 +22,8 @@ import static org.mockito.Mockito.*;
 
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.gateway.reactive.reactor.HttpRequestDispatcher;
+import io.gravitee.gateway.reactive.standalone.vertx.scheduler.VirtualThreadOptions;
+import io.gravitee.gateway.reactive.standalone.vertx.scheduler.VirtualThreadSchedulers;
 import io.gravitee.node.api.certificate.KeyStoreLoaderOptions;
 import io.gravitee.node.api.certificate.TrustStoreLoaderOptions;
 import io.gravitee.node.api.server.DefaultServerManager;
@@ -31,6 +33,9 @@ import io.gravitee.node.vertx.server.http.VertxHttpServer;
 import io.gravitee.node.vertx.server.http.VertxHttpServerFactory;
 import io.gravitee.node.vertx.server.http.VertxHttpServerOptions;
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.*;
 import io.vertx.junit5.VertxExtension;
@@ -166,6 +171,40 @@ class HttpProtocolVerticleTest {
             );
     }
 
+    @Test
+    void should_only_run_blocking_tasks_on_virtual_threads_when_enabled(Vertx vertx, VertxTestContext testContext) {
+        final VirtualThreadSchedulers virtualThreadSchedulers = new VirtualThreadSchedulers(
+            VirtualThreadOptions.builder().enabled(true).pinnedDetectionEnabled(false).build()
+        );
+        final HttpProtocolVerticle verticle = new HttpProtocolVerticle(
+            new DefaultServerManager(),
+            mockRequestDispatcher,
+            virtualThreadSchedulers
+        );
+
+        vertx
+            .deployVerticle(verticle)
+            .compose(deploymentId ->
+                vertx
+                    .executeBlocking(() -> {
+                        final Thread ioThread = Single.fromCallable(Thread::currentThread).subscribeOn(Schedulers.io()).blockingGet();
+                        final Context newThreadContext = Single.fromCallable(Vertx::currentContext)
+                            .subscribeOn(Schedulers.newThread())
+                            .blockingGet();
+
+                        testContext.verify(() -> {
+                            assertThat(ioThread.isVirtual()).isTrue();
+                            assertThat(newThreadContext).isNotNull();
+                            assertThat(newThreadContext.isEventLoopContext()).isTrue();
+                        });
+                        return deploymentId;
+                    })
+                    .compose(vertx::undeploy)
+            )
+            .onComplete(testContext.succeedingThenComplete())
+            .onComplete(ar -> virtualThreadSchedulers.close());
+    }
+
     private int actualPort() {
         return serverManager.servers(VertxHttpServer.class).getFirst().instances().getFirst().actualPort();
     }
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.standalone.vertx.scheduler;
+
+import io.gravitee.gateway.reactive.api.context.http.HttpPlainExecutionContext;
+import io.gravitee.gateway.reactive.api.policy.http.HttpPolicy;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.vertx.rxjava3.core.RxHelper;
+import io.vertx.rxjava3.core.Vertx;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Load test of a policy chain made of blocking policies (e.g. a JDBC rate limit, an LDAP resource and a file reporter) all offloading
+ * their work on {@link Schedulers#io()}, comparing the Vert.x worker pool (20 threads by default) with the virtual threads.
+ * <p>
+ * Each benchmark thread acts as a client sending requests one after the other; throughput and latency percentiles (sample time mode)
+ * show how requests queue behind the worker pool when concurrent clients outnumber its threads.
+ *
+ * @author GraviteeSource Team
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(200)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1)
+public class BlockingSchedulerBenchmark {
+
+    @Param({ "workerPool", "virtualThreads" })
+    String mode;
+
+    @Param({ "5" })
+    long blockingMillis;
+
+    Vertx vertx;
+    VirtualThreadSchedulers virtualThreadSchedulers;
+    List<HttpPolicy> policies;
+
+    @Setup
+    public void setup() {
+        vertx = Vertx.vertx();
+        virtualThreadSchedulers = new VirtualThreadSchedulers(
+            VirtualThreadOptions.builder().enabled("virtualThreads".equals(mode)).pinnedDetectionEnabled(false).build()
+        );
+
+        // Same wiring as the HttpProtocolVerticle.
+        if (virtualThreadSchedulers.isEnabled()) {
+            RxJavaPlugins.setIoSchedulerHandler(s -> virtualThreadSchedulers.io());
+        } else {
+            RxJavaPlugins.setIoSchedulerHandler(s -> RxHelper.blockingScheduler(vertx));
+        }
+
+        policies = List.of(
+            new BlockingPolicy("rate-limit", blockingMillis),
+            new BlockingPolicy("ldap-authentication", blockingMillis),
+            new BlockingPolicy("file-reporter", blockingMillis)
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        RxJavaPlugins.reset();
+        virtualThreadSchedulers.close();
+        vertx.close().blockingAwait();
+    }
+
+    @Benchmark
+    public void request() {
+        Flowable.fromIterable(policies).concatMapCompletable(policy -> policy.onRequest(null)).blockingAwait();
+    }
+
+    private record BlockingPolicy(String id, long blockingMillis) implements HttpPolicy {
+        @Override
+        public Completable onRequest(HttpPlainExecutionContext ctx) {
+            return Completable.fromAction(() -> Thread.sleep(blockingMillis)).subscribeOn(Schedulers.io());
+        }
+    }
+}
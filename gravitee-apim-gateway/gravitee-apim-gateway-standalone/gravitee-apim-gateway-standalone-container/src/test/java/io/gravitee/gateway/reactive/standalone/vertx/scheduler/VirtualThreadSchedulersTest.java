@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.gateway.reactive.standalone.vertx.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.observers.TestObserver;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class VirtualThreadSchedulersTest {
+
+    private VirtualThreadSchedulers cut;
+
+    @AfterEach
+    void tearDown() {
+        if (cut != null) {
+            cut.close();
+        }
+    }
+
+    @Test
+    void should_be_disabled_by_default() {
+        cut = new VirtualThreadSchedulers(VirtualThreadOptions.from(new MockEnvironment()));
+
+        assertThat(cut.isEnabled()).isFalse();
+        assertThat(cut.io()).isNull();
+    }
+
+    @Test
+    void should_read_options_from_environment() {
+        final VirtualThreadOptions options = VirtualThreadOptions.from(
+            new MockEnvironment()
+                .withProperty(VirtualThreadOptions.ENABLED_PROPERTY, "true")
+                .withProperty(VirtualThreadOptions.IO_CONCURRENCY_PROPERTY, "10")
+                .withProperty(VirtualThreadOptions.PINNED_DETECTION_ENABLED_PROPERTY, "false")
+        );
+
+        assertThat(options.isEnabled()).isTrue();
+        assertThat(options.getIoConcurrency()).isEqualTo(10);
+        assertThat(options.isPinnedDetectionEnabled()).isFalse();
+    }
+
+    @Test
+    void should_run_blocking_tasks_on_virtual_threads() {
+        cut = new VirtualThreadSchedulers(VirtualThreadOptions.builder().enabled(true).pinnedDetectionEnabled(false).build());
+
+        final Thread ioThread = Single.fromCallable(Thread::currentThread).subscribeOn(cut.io()).blockingGet();
+
+        assertThat(ioThread.isVirtual()).isTrue();
+        assertThat(ioThread.getName()).startsWith("gio-vt-io-");
+    }
+
+    @Test
+    void should_limit_concurrent_tasks() throws InterruptedException {
+        cut = new VirtualThreadSchedulers(
+            VirtualThreadOptions.builder().enabled(true).ioConcurrency(2).pinnedDetectionEnabled(false).build()
+        );
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final TestObserver<Void> obs = Flowable.range(0, 5)
+            .flatMapCompletable(i -> Completable.fromAction(release::await).subscribeOn(cut.io()))
+            .test();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> cut.ioExecutor().running() == 2 && cut.ioExecutor().pending() == 3);
+
+        release.countDown();
+        obs.await(5, TimeUnit.SECONDS);
+        obs.assertComplete();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> cut.ioExecutor().running() == 0 && cut.ioExecutor().pending() == 0);
+    }
+
+    @Test
+    void should_not_limit_concurrent_tasks_when_concurrency_is_zero() throws InterruptedException {
+        cut = new VirtualThreadSchedulers(
+            VirtualThreadOptions.builder().enabled(true).ioConcurrency(0).pinnedDetectionEnabled(false).build()
+        );
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final TestObserver<Void> obs = Flowable.range(0, 500)
+            .flatMapCompletable(i -> Completable.fromAction(release::await).subscribeOn(cut.io()), false, 500)
+            .test();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> cut.ioExecutor().running() == 500);
+
+        release.countDown();
+        obs.await(5, TimeUnit.SECONDS);
+        obs.assertComplete();
+    }
+
+    @Test
+    void should_report_virtual_threads_pinning_their_carrier() {
+        cut = new VirtualThreadSchedulers(VirtualThreadOptions.builder().enabled(true).pinnedDetectionThreshold(5).build());
+        final Object monitor = new Object();
+
+        Completable.fromAction(() -> {
+            synchronized (monitor) {
+                Thread.sleep(50);
+            }
+        })
+            .subscribeOn(cut.io())
+            .blockingAwait();
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> cut.pinnedCarrierMonitor().pinnedCount() > 0);
+    }
+}
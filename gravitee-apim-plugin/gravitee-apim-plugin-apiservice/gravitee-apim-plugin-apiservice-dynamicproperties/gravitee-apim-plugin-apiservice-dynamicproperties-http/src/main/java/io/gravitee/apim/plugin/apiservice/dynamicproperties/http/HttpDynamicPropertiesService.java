@@ -16,16 +16,12 @@
 package io.gravitee.apim.plugin.apiservice.dynamicproperties.http;
 
 import com.google.common.annotations.VisibleForTesting;
-import io.gravitee.apim.plugin.apiservice.dynamicproperties.http.http.HttpClientFactory;
 import io.gravitee.apim.plugin.apiservice.dynamicproperties.http.jolt.JoltMapper;
 import io.gravitee.apim.rest.api.common.apiservices.ManagementApiService;
 import io.gravitee.apim.rest.api.common.apiservices.ManagementDeploymentContext;
 import io.gravitee.apim.rest.api.common.apiservices.events.DynamicPropertiesEvent;
 import io.gravitee.apim.rest.api.common.apiservices.events.ManagementApiServiceEvent;
-import io.gravitee.common.cron.CronTrigger;
 import io.gravitee.common.event.EventManager;
-import io.gravitee.common.http.HttpStatusCode;
-import io.gravitee.common.util.URIUtils;
 import io.gravitee.definition.model.v4.AbstractApi;
 import io.gravitee.definition.model.v4.Api;
 import io.gravitee.definition.model.v4.nativeapi.NativeApi;
@@ -35,22 +31,15 @@ import io.gravitee.gateway.reactive.api.exception.PluginConfigurationException;
 import io.gravitee.gateway.reactive.api.helper.PluginConfigurationHelper;
 import io.gravitee.node.api.cluster.ClusterManager;
 import io.reactivex.rxjava3.core.Completable;
-import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
-import io.vertx.core.MultiMap;
-import io.vertx.core.http.HttpMethod;
-import io.vertx.core.http.RequestOptions;
-import io.vertx.core.http.impl.headers.HeadersMultiMap;
 import io.vertx.rxjava3.core.buffer.Buffer;
-import io.vertx.rxjava3.core.http.HttpClient;
-import java.net.URL;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import lombok.AccessLevel;
 import lombok.CustomLog;
 import lombok.Getter;
 
@@ -74,17 +63,25 @@ public class HttpDynamicPropertiesService implements ManagementApiService {
     private HttpDynamicPropertiesServiceConfiguration configuration;
     private AbstractApi api;
     private Service dynamicPropertyService;
-    private HttpClient httpClient;
     private JoltMapper joltMapper;
 
+    @Getter(AccessLevel.NONE)
+    private final SharedHttpPollerRegistry pollerRegistry;
+
     @VisibleForTesting
-    final AtomicReference<Disposable> scheduledJob = new AtomicReference<>();
+    @Getter(AccessLevel.NONE)
+    SharedHttpPoller poller;
 
     @VisibleForTesting
-    CronTrigger cronTrigger;
+    final AtomicReference<Disposable> scheduledJob = new AtomicReference<>();
 
     public HttpDynamicPropertiesService(ManagementDeploymentContext deploymentContext) {
+        this(deploymentContext, new SharedHttpPollerRegistry());
+    }
+
+    HttpDynamicPropertiesService(ManagementDeploymentContext deploymentContext, SharedHttpPollerRegistry pollerRegistry) {
         this.deploymentContext = deploymentContext;
+        this.pollerRegistry = pollerRegistry;
         this.api = deploymentContext.getComponent(AbstractApi.class);
         this.dynamicPropertyService = extractDynamicPropertyService(this.api);
         this.clusterManager = deploymentContext.getComponent(ClusterManager.class);
@@ -105,7 +102,7 @@ public class HttpDynamicPropertiesService implements ManagementApiService {
     @Override
     public Completable start() {
         log.debug("Starting dynamic properties service for Api: {}", api.getId());
-        disposeExistingJob();
+        final Completable releasePreviousPoller = releasePoller();
 
         try {
             this.configuration = pluginConfigurationHelper.readConfiguration(
@@ -113,24 +110,24 @@ public class HttpDynamicPropertiesService implements ManagementApiService {
                 this.dynamicPropertyService.getConfiguration()
             );
         } catch (PluginConfigurationException e) {
-            return Completable.error(
-                new IllegalArgumentException("Unable to start http-dynamic-properties service for api: [" + api.getId() + "]")
+            return releasePreviousPoller.andThen(
+                Completable.error(
+                    new IllegalArgumentException("Unable to start http-dynamic-properties service for api: [" + api.getId() + "]")
+                )
             );
         }
-        this.httpClient = HttpClientFactory.createClient(deploymentContext, configuration);
+        this.poller = pollerRegistry.acquire(deploymentContext, configuration);
         this.joltMapper = new JoltMapper(configuration.getTransformation());
 
         scheduledJob.set(scheduleInBackground());
-        return Completable.complete();
+        return releasePreviousPoller;
     }
 
     @Override
     public Completable stop() {
         log.debug("Stopping dynamic properties service for api {}", api.getId());
 
-        disposeExistingJob();
-
-        return httpClient.close();
+        return releasePoller();
     }
 
     @Override
@@ -158,52 +155,22 @@ public class HttpDynamicPropertiesService implements ManagementApiService {
     }
 
     private Disposable scheduleInBackground() {
-        cronTrigger = new CronTrigger(configuration.getSchedule());
         final AtomicLong errorCount = new AtomicLong(0);
 
-        return Observable.defer(() -> Observable.timer(cronTrigger.nextExecutionIn(), TimeUnit.MILLISECONDS))
-            .observeOn(Schedulers.computation())
-            .filter(aLong -> clusterManager.self().primary())
-            .switchMapCompletable(aLong -> fetchProperties())
-            .onErrorResumeNext(throwable -> logOnError(errorCount, throwable))
-            .repeat()
+        return poller
+            .results()
+            .concatMapCompletable(result -> handlePollResult(result).onErrorResumeNext(throwable -> logOnError(errorCount, throwable)))
             .subscribe(() -> {}, throwable -> log.error("Unable to run Dynamic Properties for Api: {}", api.getId()));
     }
 
-    private Completable fetchProperties() {
-        if (!URIUtils.isAbsolute(configuration.getUrl())) {
-            return Completable.error(
-                new IllegalArgumentException(
-                    "Target url [" + configuration.getUrl() + "] must be absolute to perform dynamic properties fetching against."
-                )
-            );
+    private Completable handlePollResult(SharedHttpPoller.PollResult result) {
+        if (result.error() != null) {
+            return Completable.error(result.error());
         }
-        final RequestOptions requestOptions = new RequestOptions();
-        final MultiMap headers = new HeadersMultiMap();
-        configuration.getHeaders().forEach(header -> headers.add(header.getName(), header.getValue()));
-        requestOptions.setHeaders(headers);
-        final URL target = HttpClientFactory.buildUrl(configuration.getUrl());
-        final boolean isSsl = HttpClientFactory.isSecureProtocol(target.getProtocol());
-
-        requestOptions
-            .setMethod(HttpMethod.valueOf(configuration.getMethod().name()))
-            .setURI(target.getQuery() == null ? target.getPath() : target.getPath() + "?" + target.getQuery())
-            .setPort(HttpClientFactory.getPort(target, isSsl))
-            .setSsl(isSsl)
-            .setHeaders(headers)
-            .setHost(target.getHost());
-
-        return httpClient
-            .rxRequest(requestOptions)
-            .observeOn(Schedulers.io())
-            .flatMap(request -> configuration.getBody() != null ? request.rxSend(configuration.getBody()) : request.rxSend())
-            .flatMapCompletable(response -> {
-                if (response.statusCode() != HttpStatusCode.OK_200) {
-                    // Properly end the response
-                    return response.toFlowable().ignoreElements();
-                }
-                return response.body().flatMapCompletable(this::evaluateAndDispatchProperties);
-            });
+        if (result.body() == null) {
+            return Completable.complete();
+        }
+        return evaluateAndDispatchProperties(result.body());
     }
 
     private Completable logOnError(AtomicLong errorCount, Throwable throwable) {
@@ -237,6 +204,18 @@ public class HttpDynamicPropertiesService implements ManagementApiService {
         Optional.ofNullable(scheduledJob.get()).ifPresent(Disposable::dispose);
     }
 
+    /**
+     * Dispose the running job and release the poller it was subscribed to.
+     *
+     * @return a {@link Completable} closing the http client if no other service is using the poller anymore.
+     */
+    private Completable releasePoller() {
+        disposeExistingJob();
+        final SharedHttpPoller currentPoller = poller;
+        poller = null;
+        return currentPoller == null ? Completable.complete() : pollerRegistry.release(currentPoller);
+    }
+
     private static Service extractDynamicPropertyService(AbstractApi api) {
         if (api instanceof Api asHttpApi) {
             return asHttpApi.getServices().getDynamicProperty();
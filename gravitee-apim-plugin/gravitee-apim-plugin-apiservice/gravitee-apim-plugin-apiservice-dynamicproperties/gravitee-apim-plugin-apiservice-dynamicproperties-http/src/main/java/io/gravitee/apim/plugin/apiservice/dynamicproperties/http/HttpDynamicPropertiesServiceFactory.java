@@ -31,12 +31,18 @@ import lombok.CustomLog;
 @CustomLog
 public class HttpDynamicPropertiesServiceFactory implements ManagementApiServiceFactory<HttpDynamicPropertiesService> {
 
+    /**
+     * Shared by all the services created by this factory so that APIs polling the same backend with the same configuration
+     * only trigger one request per tick.
+     */
+    private final SharedHttpPollerRegistry pollerRegistry = new SharedHttpPollerRegistry();
+
     @Override
     public HttpDynamicPropertiesService createService(DefaultManagementDeploymentContext deploymentContext) {
         final AbstractApi api = deploymentContext.getComponent(AbstractApi.class);
 
         if (HttpDynamicPropertiesHelper.canHandle(api)) {
-            return new HttpDynamicPropertiesService(deploymentContext);
+            return new HttpDynamicPropertiesService(deploymentContext, pollerRegistry);
         }
         return null;
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.apim.plugin.apiservice.dynamicproperties.http;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.gravitee.apim.plugin.apiservice.dynamicproperties.http.http.HttpClientFactory;
+import io.gravitee.common.cron.CronTrigger;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.common.util.URIUtils;
+import io.gravitee.node.api.cluster.ClusterManager;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.http.impl.headers.HeadersMultiMap;
+import io.vertx.rxjava3.core.buffer.Buffer;
+import io.vertx.rxjava3.core.http.HttpClient;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls a dynamic properties backend according to its schedule and shares each response with all the services subscribed to it.
+ * This way, a backend targeted by several APIs with the same configuration is requested only once per tick.
+ *
+ * <p>
+ *     Polling starts with the first subscriber and stops when the last one unsubscribes.
+ *     Failures are emitted as results so that one error never ends the polling for the other subscribers.
+ * </p>
+ *
+ * @author GraviteeSource Team
+ */
+class SharedHttpPoller {
+
+    private final Object key;
+    private final HttpDynamicPropertiesServiceConfiguration configuration;
+    private final HttpClient httpClient;
+    private final Observable<PollResult> results;
+
+    @VisibleForTesting
+    CronTrigger cronTrigger;
+
+    SharedHttpPoller(
+        Object key,
+        HttpDynamicPropertiesServiceConfiguration configuration,
+        HttpClient httpClient,
+        ClusterManager clusterManager
+    ) {
+        this.key = key;
+        this.configuration = configuration;
+        this.httpClient = httpClient;
+        this.cronTrigger = new CronTrigger(configuration.getSchedule());
+        this.results = Observable.defer(() -> Observable.timer(cronTrigger.nextExecutionIn(), TimeUnit.MILLISECONDS))
+            .observeOn(Schedulers.computation())
+            .filter(aLong -> clusterManager.self().primary())
+            .concatMapSingle(aLong -> fetch().map(PollResult::success).defaultIfEmpty(PollResult.EMPTY).onErrorReturn(PollResult::failure))
+            .repeat()
+            .share();
+    }
+
+    Object key() {
+        return key;
+    }
+
+    /**
+     * @return the results of each poll, shared by all the subscribers.
+     */
+    Observable<PollResult> results() {
+        return results;
+    }
+
+    Completable close() {
+        return httpClient.close();
+    }
+
+    private Maybe<Buffer> fetch() {
+        return Maybe.defer(() -> {
+            if (!URIUtils.isAbsolute(configuration.getUrl())) {
+                return Maybe.error(
+                    new IllegalArgumentException(
+                        "Target url [" + configuration.getUrl() + "] must be absolute to perform dynamic properties fetching against."
+                    )
+                );
+            }
+            final RequestOptions requestOptions = new RequestOptions();
+            final MultiMap headers = new HeadersMultiMap();
+            configuration.getHeaders().forEach(header -> headers.add(header.getName(), header.getValue()));
+            requestOptions.setHeaders(headers);
+            final URL target = HttpClientFactory.buildUrl(configuration.getUrl());
+            final boolean isSsl = HttpClientFactory.isSecureProtocol(target.getProtocol());
+
+            requestOptions
+                .setMethod(HttpMethod.valueOf(configuration.getMethod().name()))
+                .setURI(target.getQuery() == null ? target.getPath() : target.getPath() + "?" + target.getQuery())
+                .setPort(HttpClientFactory.getPort(target, isSsl))
+                .setSsl(isSsl)
+                .setHeaders(headers)
+                .setHost(target.getHost());
+
+            return httpClient
+                .rxRequest(requestOptions)
+                .observeOn(Schedulers.io())
+                .flatMap(request -> configuration.getBody() != null ? request.rxSend(configuration.getBody()) : request.rxSend())
+                .flatMapMaybe(response -> {
+                    if (response.statusCode() != HttpStatusCode.OK_200) {
+                        // Properly end the response
+                        return response.toFlowable().ignoreElements().toMaybe();
+                    }
+                    return response.body().toMaybe();
+                });
+        });
+    }
+
+    /**
+     * Outcome of a poll: either the body of a successful response, an error, or nothing when the backend did not answer with a 200.
+     */
+    record PollResult(Buffer body, Throwable error) {
+        static final PollResult EMPTY = new PollResult(null, null);
+
+        static PollResult success(Buffer body) {
+            return new PollResult(body, null);
+        }
+
+        static PollResult failure(Throwable error) {
+            return new PollResult(null, error);
+        }
+    }
+}
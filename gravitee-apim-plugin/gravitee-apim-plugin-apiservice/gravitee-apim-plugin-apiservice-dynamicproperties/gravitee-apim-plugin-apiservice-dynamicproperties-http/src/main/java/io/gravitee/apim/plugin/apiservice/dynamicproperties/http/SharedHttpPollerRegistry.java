@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.apim.plugin.apiservice.dynamicproperties.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.gravitee.apim.plugin.apiservice.dynamicproperties.http.http.HttpClientFactory;
+import io.gravitee.apim.rest.api.common.apiservices.ManagementDeploymentContext;
+import io.gravitee.node.api.cluster.ClusterManager;
+import io.reactivex.rxjava3.core.Completable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.CustomLog;
+
+/**
+ * Keeps track of the {@link SharedHttpPoller} in use and counts their subscribers.
+ * Services with the same backend configuration share the same poller, the JOLT transformation being applied by each service.
+ * The poller and its http client are released when the last service using them stops.
+ *
+ * @author GraviteeSource Team
+ */
+@CustomLog
+class SharedHttpPollerRegistry {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String TRANSFORMATION_FIELD = "transformation";
+
+    private final Map<Object, Entry> pollers = new ConcurrentHashMap<>();
+
+    SharedHttpPoller acquire(ManagementDeploymentContext deploymentContext, HttpDynamicPropertiesServiceConfiguration configuration) {
+        final Object key = keyOf(configuration);
+        return pollers.compute(key, (k, entry) -> {
+            if (entry == null) {
+                entry = new Entry(
+                    new SharedHttpPoller(
+                        k,
+                        configuration,
+                        HttpClientFactory.createClient(deploymentContext, configuration),
+                        deploymentContext.getComponent(ClusterManager.class)
+                    )
+                );
+            }
+            entry.subscribers++;
+            return entry;
+        }).poller;
+    }
+
+    /**
+     * Release a poller previously acquired. The http client is closed once the poller has no more subscriber.
+     *
+     * @param poller the poller to release.
+     * @return a {@link Completable} closing the http client when the poller is not used anymore.
+     */
+    Completable release(SharedHttpPoller poller) {
+        final AtomicReference<SharedHttpPoller> unused = new AtomicReference<>();
+        pollers.computeIfPresent(poller.key(), (k, entry) -> {
+            if (entry.poller != poller) {
+                return entry;
+            }
+            if (--entry.subscribers > 0) {
+                return entry;
+            }
+            unused.set(entry.poller);
+            return null;
+        });
+        return unused.get() == null ? Completable.complete() : unused.get().close();
+    }
+
+    int size() {
+        return pollers.size();
+    }
+
+    private static Object keyOf(HttpDynamicPropertiesServiceConfiguration configuration) {
+        try {
+            final ObjectNode key = MAPPER.valueToTree(configuration);
+            key.remove(TRANSFORMATION_FIELD);
+            return key;
+        } catch (IllegalArgumentException e) {
+            log.debug("Unable to compute a sharing key for url [{}], a dedicated poller will be used", configuration.getUrl(), e);
+            return new Object();
+        }
+    }
+
+    private static class Entry {
+
+        private final SharedHttpPoller poller;
+        private int subscribers;
+
+        private Entry(SharedHttpPoller poller) {
+            this.poller = poller;
+        }
+    }
+}
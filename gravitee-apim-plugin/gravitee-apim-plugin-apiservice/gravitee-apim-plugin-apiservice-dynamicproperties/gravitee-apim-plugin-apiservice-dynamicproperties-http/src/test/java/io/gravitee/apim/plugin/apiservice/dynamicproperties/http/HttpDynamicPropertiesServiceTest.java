@@ -855,11 +855,117 @@ class HttpDynamicPropertiesServiceTest {
         }
     }
 
+    @Nested
+    class SharedPolling {
+
+        @Test
+        void should_request_backend_once_per_tick_for_apis_sharing_the_same_configuration() {
+            final HttpDynamicPropertiesServiceConfiguration configuration = HttpDynamicPropertiesServiceConfiguration.builder()
+                .schedule("*/5 * * * * *")
+                .url(String.format("http://localhost:%d/propertiesBackend", wiremock.getPort()))
+                .transformation(EXTRACT_JSON_KEYS_TRANSFORMATION)
+                .method(HttpMethod.GET)
+                .headers(List.of(new HttpHeader(X_HEADER, HEADER_VALUE)))
+                .build();
+            final Api api = Fixtures.apiWithDynamicPropertiesEnabled();
+            Fixtures.configureDynamicPropertiesForApi(configuration, api, objectMapper);
+            final Api otherApi = Fixtures.apiWithDynamicPropertiesEnabled();
+            otherApi.setId("my-other-api");
+            Fixtures.configureDynamicPropertiesForApi(configuration, otherApi, objectMapper);
+
+            final SharedHttpPollerRegistry pollerRegistry = new SharedHttpPollerRegistry();
+            final HttpDynamicPropertiesService cut = buildServiceFor(api, pollerRegistry);
+            final HttpDynamicPropertiesService otherCut = buildServiceFor(otherApi, pollerRegistry);
+
+            wiremock.stubFor(
+                get("/propertiesBackend").willReturn(
+                    ok(Fixtures.backendResponseForProperties(List.of(new Fixtures.BackendProperty("key1", "val 1")), objectMapper))
+                )
+            );
+
+            var eventObs = TestEventListener.with(eventManager).completeAfter(2).test();
+
+            cut.start().test().assertComplete().assertNoErrors();
+            otherCut.start().test().assertComplete().assertNoErrors();
+
+            assertThat(cut.poller).isSameAs(otherCut.poller);
+            assertThat(pollerRegistry.size()).isOne();
+
+            // Wait for the first http call
+            testScheduler.advanceTimeBy(5_000, TimeUnit.MILLISECONDS);
+
+            eventObs.awaitDone(30, TimeUnit.SECONDS).assertValueCount(2).assertComplete();
+            assertThat(eventObs.values())
+                .extracting(event -> event.content().apiId())
+                .containsExactlyInAnyOrder(MY_API, "my-other-api");
+
+            wiremock.verify(1, getRequestedFor(urlPathEqualTo("/propertiesBackend")));
+
+            cut.stop().test().awaitDone(10, TimeUnit.SECONDS).assertComplete();
+            ScheduledJobAssertions.assertScheduledJobIsDisposed(cut.scheduledJob);
+            ScheduledJobAssertions.assertScheduledJobIsRunning(otherCut.scheduledJob);
+            assertThat(pollerRegistry.size()).isOne();
+
+            otherCut.stop().test().awaitDone(10, TimeUnit.SECONDS).assertComplete();
+            ScheduledJobAssertions.assertScheduledJobIsDisposed(otherCut.scheduledJob);
+            assertThat(pollerRegistry.size()).isZero();
+        }
+
+        @Test
+        void should_not_share_polling_for_apis_with_different_configurations() {
+            final HttpDynamicPropertiesServiceConfiguration configuration = HttpDynamicPropertiesServiceConfiguration.builder()
+                .schedule("*/5 * * * * *")
+                .url(String.format("http://localhost:%d/propertiesBackend", wiremock.getPort()))
+                .transformation(EXTRACT_JSON_KEYS_TRANSFORMATION)
+                .method(HttpMethod.GET)
+                .headers(List.of(new HttpHeader(X_HEADER, HEADER_VALUE)))
+                .build();
+            final Api api = Fixtures.apiWithDynamicPropertiesEnabled();
+            Fixtures.configureDynamicPropertiesForApi(configuration, api, objectMapper);
+            final Api otherApi = Fixtures.apiWithDynamicPropertiesEnabled();
+            otherApi.setId("my-other-api");
+            Fixtures.configureDynamicPropertiesForApi(
+                configuration.toBuilder().headers(List.of(new HttpHeader(X_HEADER, "other-value"))).build(),
+                otherApi,
+                objectMapper
+            );
+
+            final SharedHttpPollerRegistry pollerRegistry = new SharedHttpPollerRegistry();
+            final HttpDynamicPropertiesService cut = buildServiceFor(api, pollerRegistry);
+            final HttpDynamicPropertiesService otherCut = buildServiceFor(otherApi, pollerRegistry);
+
+            wiremock.stubFor(
+                get("/propertiesBackend").willReturn(
+                    ok(Fixtures.backendResponseForProperties(List.of(new Fixtures.BackendProperty("key1", "val 1")), objectMapper))
+                )
+            );
+
+            var eventObs = TestEventListener.with(eventManager).completeAfter(2).test();
+
+            cut.start().test().assertComplete().assertNoErrors();
+            otherCut.start().test().assertComplete().assertNoErrors();
+
+            assertThat(cut.poller).isNotSameAs(otherCut.poller);
+            assertThat(pollerRegistry.size()).isEqualTo(2);
+
+            // Wait for the first http calls
+            testScheduler.advanceTimeBy(5_000, TimeUnit.MILLISECONDS);
+
+            eventObs.awaitDone(30, TimeUnit.SECONDS).assertValueCount(2).assertComplete();
+
+            wiremock.verify(2, getRequestedFor(urlPathEqualTo("/propertiesBackend")));
+
+            cut.stop().test().awaitDone(10, TimeUnit.SECONDS).assertComplete();
+            otherCut.stop().test().awaitDone(10, TimeUnit.SECONDS).assertComplete();
+            assertThat(pollerRegistry.size()).isZero();
+        }
+    }
+
     /**
      * This method simulates an advance in time by a specific delay.
      * First, it uses the {@link TestScheduler#advanceTimeBy(long, TimeUnit)} to change the time for the reactive chain
      * Then, it overrides the Clock to synchronize it with the current {@link TestScheduler}
-     * Finally, it overrides the {@link HttpDynamicPropertiesService#cronTrigger} with a new instance, so that it builds a context with the modified Clock.
+     * Finally, it overrides the {@link SharedHttpPoller#cronTrigger} with a new instance, so that it builds a context with the modified Clock.
      *
      * @param delay         the delay to advance in time
      * @param cut           the class under test
@@ -868,7 +974,7 @@ class HttpDynamicPropertiesServiceTest {
     private void advanceTimeBy(final int delay, HttpDynamicPropertiesService cut, HttpDynamicPropertiesServiceConfiguration configuration) {
         testScheduler.advanceTimeBy(delay, TimeUnit.MILLISECONDS);
         TimeProvider.overrideClock(Clock.fixed(Instant.ofEpochMilli(testScheduler.now(TimeUnit.MILLISECONDS)), ZoneId.systemDefault()));
-        cut.cronTrigger = new CronTrigger(configuration.getSchedule());
+        cut.poller.cronTrigger = new CronTrigger(configuration.getSchedule());
     }
 
     private HttpDynamicPropertiesService buildServiceFor(AbstractApi api) {
@@ -880,4 +986,8 @@ class HttpDynamicPropertiesServiceTest {
             case null, default -> throw new IllegalArgumentException("Api must be an instance of Api or NativeApi");
         };
     }
+
+    private HttpDynamicPropertiesService buildServiceFor(Api api, SharedHttpPollerRegistry pollerRegistry) {
+        return new HttpDynamicPropertiesService(new DefaultManagementDeploymentContext(api, applicationContext), pollerRegistry);
+    }
 }
@@ -16,7 +16,7 @@
 package io.gravitee.apim.plugin.apiservice.servicediscovery.consul;
 
 import io.gravitee.apim.plugin.apiservice.servicediscovery.consul.helper.ConsulEventHandler;
-import io.gravitee.apim.plugin.apiservice.servicediscovery.consul.helper.ConsulOptionsBuilder;
+import io.gravitee.apim.plugin.apiservice.servicediscovery.consul.helper.ConsulWatchRegistry;
 import io.gravitee.definition.model.v4.endpointgroup.EndpointGroup;
 import io.gravitee.gateway.reactive.api.apiservice.ApiService;
 import io.gravitee.gateway.reactive.api.context.DeploymentContext;
@@ -25,8 +25,7 @@ import io.gravitee.gateway.reactive.api.helper.PluginConfigurationHelper;
 import io.gravitee.gateway.reactive.core.v4.endpoint.EndpointManager;
 import io.gravitee.gateway.reactive.handlers.api.v4.Api;
 import io.reactivex.rxjava3.core.Completable;
-import io.vertx.ext.consul.ServiceEntryList;
-import io.vertx.ext.consul.Watch;
+import io.reactivex.rxjava3.disposables.Disposable;
 import io.vertx.rxjava3.core.Vertx;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,10 +40,11 @@ public class ConsulServiceDiscoveryService implements ApiService {
     public static final String CONSUL_SERVICE_DISCOVERY_ID = "consul-service-discovery";
     public static final String PENDING_REQUESTS_TIMEOUT_PROPERTY = "api.pending_requests_timeout";
 
-    private final Map<String, Watch<ServiceEntryList>> watchers = new ConcurrentHashMap<>(1);
+    private final Map<String, Disposable> watchers = new ConcurrentHashMap<>(1);
 
     private final DeploymentContext deploymentContext;
     private final List<EndpointGroup> consulEnabledGroups;
+    private final ConsulWatchRegistry watchRegistry;
 
     private Api api;
     private PluginConfigurationHelper pluginConfigurationHelper;
@@ -54,13 +54,21 @@ public class ConsulServiceDiscoveryService implements ApiService {
     private long pendingRequestsTimeout;
 
     public ConsulServiceDiscoveryService(DeploymentContext deploymentContext) {
-        this.deploymentContext = deploymentContext;
-        consulEnabledGroups = new ArrayList<>();
+        this(deploymentContext, new ArrayList<>());
     }
 
     public ConsulServiceDiscoveryService(DeploymentContext deploymentContext, List<EndpointGroup> consulEnabledGroups) {
+        this(deploymentContext, consulEnabledGroups, new ConsulWatchRegistry());
+    }
+
+    public ConsulServiceDiscoveryService(
+        DeploymentContext deploymentContext,
+        List<EndpointGroup> consulEnabledGroups,
+        ConsulWatchRegistry watchRegistry
+    ) {
         this.deploymentContext = deploymentContext;
         this.consulEnabledGroups = consulEnabledGroups;
+        this.watchRegistry = watchRegistry;
     }
 
     @Override
@@ -92,7 +100,8 @@ public class ConsulServiceDiscoveryService implements ApiService {
     @Override
     public Completable stop() {
         log.info("Stopping service discovery service for api {}.", api.getName());
-        watchers.values().forEach(Watch::stop);
+        watchers.values().forEach(Disposable::dispose);
+        watchers.clear();
 
         return Completable.complete();
     }
@@ -109,11 +118,9 @@ public class ConsulServiceDiscoveryService implements ApiService {
         }
     }
 
-    private Watch<ServiceEntryList> initWatcher(EndpointGroup group, ConsulServiceDiscoveryServiceConfiguration configuration) {
-        var options = ConsulOptionsBuilder.from(configuration);
-
-        Watch<ServiceEntryList> service = Watch.service(configuration.getService(), vertx.getDelegate(), options);
-        service.setHandler(event -> new ConsulEventHandler(endpointManager, group, configuration, pendingRequestsTimeout).handle(event));
-        return service.start();
+    private Disposable initWatcher(EndpointGroup group, ConsulServiceDiscoveryServiceConfiguration configuration) {
+        return watchRegistry.subscribe(vertx.getDelegate(), configuration, event ->
+            new ConsulEventHandler(endpointManager, group, configuration, pendingRequestsTimeout).handle(event)
+        );
     }
 }
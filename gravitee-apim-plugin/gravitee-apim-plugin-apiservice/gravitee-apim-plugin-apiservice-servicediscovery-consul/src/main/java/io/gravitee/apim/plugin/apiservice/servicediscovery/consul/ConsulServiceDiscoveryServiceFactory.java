@@ -18,6 +18,7 @@ package io.gravitee.apim.plugin.apiservice.servicediscovery.consul;
 import static java.util.stream.Collectors.toList;
 
 import io.gravitee.apim.plugin.apiservice.servicediscovery.consul.helper.ConsulServiceDiscoveryChecker;
+import io.gravitee.apim.plugin.apiservice.servicediscovery.consul.helper.ConsulWatchRegistry;
 import io.gravitee.gateway.reactive.api.apiservice.ApiServiceFactory;
 import io.gravitee.gateway.reactive.api.context.DeploymentContext;
 import io.gravitee.gateway.reactive.handlers.api.v4.Api;
@@ -27,6 +28,8 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class ConsulServiceDiscoveryServiceFactory implements ApiServiceFactory<ConsulServiceDiscoveryService> {
 
+    private final ConsulWatchRegistry watchRegistry = new ConsulWatchRegistry();
+
     @Override
     public ConsulServiceDiscoveryService createService(DeploymentContext deploymentContext) {
         final Api api = deploymentContext.getComponent(Api.class);
@@ -39,7 +42,7 @@ public class ConsulServiceDiscoveryServiceFactory implements ApiServiceFactory<C
             .collect(toList());
 
         if (!consulEnabledGroups.isEmpty()) {
-            return new ConsulServiceDiscoveryService(deploymentContext, consulEnabledGroups);
+            return new ConsulServiceDiscoveryService(deploymentContext, consulEnabledGroups, watchRegistry);
         }
 
         return null;
@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.apim.plugin.apiservice.servicediscovery.consul.helper;
+
+import io.gravitee.apim.plugin.apiservice.servicediscovery.consul.ConsulServiceDiscoveryServiceConfiguration;
+import io.gravitee.definition.model.v4.ssl.SslOptions;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.ServiceEntryList;
+import io.vertx.ext.consul.Watch;
+import io.vertx.ext.consul.WatchResult;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+
+/**
+ * Shares Consul watches between the endpoint groups (of one or several APIs) watching the same service on the same Consul server.
+ * Each watch is started with its first subscriber and stopped when the last one unsubscribes.
+ * The last known result is replayed to late subscribers, and each subscriber receives its own copy of the results
+ * with its own previous result, as if it was using a dedicated watch.
+ */
+public class ConsulWatchRegistry {
+
+    private final BiFunction<Vertx, ConsulServiceDiscoveryServiceConfiguration, Watch<ServiceEntryList>> watchFactory;
+    private final Map<WatchKey, SharedWatch> watches = new ConcurrentHashMap<>();
+
+    public ConsulWatchRegistry() {
+        this((vertx, configuration) -> Watch.service(configuration.getService(), vertx, ConsulOptionsBuilder.from(configuration)));
+    }
+
+    ConsulWatchRegistry(BiFunction<Vertx, ConsulServiceDiscoveryServiceConfiguration, Watch<ServiceEntryList>> watchFactory) {
+        this.watchFactory = watchFactory;
+    }
+
+    /**
+     * Subscribe to the watch of the service defined in the configuration, starting it if nobody is watching it yet.
+     *
+     * @param vertx the vertx instance used to create the watch if needed.
+     * @param configuration the Consul service discovery configuration.
+     * @param handler the handler notified on each result.
+     * @return a {@link Disposable} to dispose to unsubscribe from the watch.
+     */
+    public Disposable subscribe(
+        Vertx vertx,
+        ConsulServiceDiscoveryServiceConfiguration configuration,
+        Handler<WatchResult<ServiceEntryList>> handler
+    ) {
+        final WatchKey key = WatchKey.of(configuration);
+        final Subscriber subscriber = new Subscriber(handler);
+
+        final SharedWatch sharedWatch = watches.compute(key, (k, existing) -> {
+            final SharedWatch watch = existing == null ? new SharedWatch(watchFactory.apply(vertx, configuration)) : existing;
+            watch.subscribers.add(subscriber);
+            return watch;
+        });
+        sharedWatch.replayLastResult(subscriber);
+
+        return Disposable.fromRunnable(() -> unsubscribe(key, subscriber));
+    }
+
+    int size() {
+        return watches.size();
+    }
+
+    private void unsubscribe(WatchKey key, Subscriber subscriber) {
+        watches.computeIfPresent(key, (k, sharedWatch) -> {
+            sharedWatch.subscribers.remove(subscriber);
+            if (!sharedWatch.subscribers.isEmpty()) {
+                return sharedWatch;
+            }
+            sharedWatch.watch.stop();
+            return null;
+        });
+    }
+
+    private record WatchKey(String url, String acl, String dc, String service, SslOptions sslOptions) {
+        static WatchKey of(ConsulServiceDiscoveryServiceConfiguration configuration) {
+            return new WatchKey(
+                configuration.getUrl(),
+                configuration.getAcl(),
+                configuration.getDc(),
+                configuration.getService(),
+                configuration.getSslOptions()
+            );
+        }
+    }
+
+    private static class SharedWatch {
+
+        private final Watch<ServiceEntryList> watch;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile ServiceEntryList lastResult;
+
+        private SharedWatch(Watch<ServiceEntryList> watch) {
+            this.watch = watch;
+            watch.setHandler(this::handle).start();
+        }
+
+        private void replayLastResult(Subscriber subscriber) {
+            final ServiceEntryList result = lastResult;
+            if (result != null) {
+                subscriber.onResult(result);
+            }
+        }
+
+        private void handle(WatchResult<ServiceEntryList> event) {
+            if (event.succeeded()) {
+                lastResult = event.nextResult();
+                subscribers.forEach(subscriber -> subscriber.onResult(event.nextResult()));
+            } else {
+                subscribers.forEach(subscriber -> subscriber.onFailure(event.cause()));
+            }
+        }
+    }
+
+    private static class Subscriber {
+
+        private final Handler<WatchResult<ServiceEntryList>> handler;
+        private ServiceEntryList previousResult;
+
+        private Subscriber(Handler<WatchResult<ServiceEntryList>> handler) {
+            this.handler = handler;
+        }
+
+        private synchronized void onResult(ServiceEntryList result) {
+            if (previousResult != null && result.getIndex() < previousResult.getIndex()) {
+                // A replayed result may arrive after a fresher one.
+                return;
+            }
+            // Each subscriber works on its own copy as the results are modified while being handled.
+            final ServiceEntryList nextResult = new ServiceEntryList(result.toJson());
+            handler.handle(new SubscriberWatchResult(previousResult, nextResult, null));
+            previousResult = nextResult;
+        }
+
+        private synchronized void onFailure(Throwable cause) {
+            handler.handle(new SubscriberWatchResult(previousResult, null, cause));
+        }
+    }
+
+    private record SubscriberWatchResult(ServiceEntryList prevResult, ServiceEntryList nextResult, Throwable cause)
+        implements WatchResult<ServiceEntryList> {
+        @Override
+        public boolean succeeded() {
+            return cause == null;
+        }
+
+        @Override
+        public boolean failed() {
+            return cause != null;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.apim.plugin.apiservice.servicediscovery.consul.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.gravitee.apim.plugin.apiservice.servicediscovery.consul.ConsulServiceDiscoveryServiceConfiguration;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.Node;
+import io.vertx.ext.consul.Service;
+import io.vertx.ext.consul.ServiceEntry;
+import io.vertx.ext.consul.ServiceEntryList;
+import io.vertx.ext.consul.Watch;
+import io.vertx.ext.consul.WatchResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ConsulWatchRegistryTest {
+
+    private final Map<String, Watch<ServiceEntryList>> watches = new HashMap<>();
+    private final Map<String, Handler<WatchResult<ServiceEntryList>>> watchHandlers = new HashMap<>();
+    private final AtomicInteger createdWatches = new AtomicInteger();
+
+    private ConsulWatchRegistry cut;
+
+    @BeforeEach
+    void setUp() {
+        cut = new ConsulWatchRegistry((vertx, configuration) -> {
+            createdWatches.incrementAndGet();
+            @SuppressWarnings("unchecked")
+            Watch<ServiceEntryList> watch = mock(Watch.class);
+            when(watch.setHandler(any())).thenAnswer(invocation -> {
+                watchHandlers.put(configuration.getService(), invocation.getArgument(0));
+                return watch;
+            });
+            when(watch.start()).thenReturn(watch);
+            watches.put(configuration.getService(), watch);
+            return watch;
+        });
+    }
+
+    @Test
+    void should_share_a_single_watch_between_identical_configurations() {
+        List<WatchResult<ServiceEntryList>> firstResults = new ArrayList<>();
+        List<WatchResult<ServiceEntryList>> secondResults = new ArrayList<>();
+
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), firstResults::add);
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), secondResults::add);
+
+        assertThat(createdWatches).hasValue(1);
+        assertThat(cut.size()).isOne();
+
+        watchHandlers.get("my-service").handle(aSuccessfulResult(1, "service-1"));
+
+        assertThat(firstResults).hasSize(1);
+        assertThat(secondResults).hasSize(1);
+        assertThat(firstResults.get(0).nextResult().getList()).extracting(entry -> entry.getService().getId()).containsExactly("service-1");
+        assertThat(firstResults.get(0).nextResult()).isNotSameAs(secondResults.get(0).nextResult());
+    }
+
+    @Test
+    void should_create_one_watch_per_service() {
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), result -> {});
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-other-service"), result -> {});
+
+        assertThat(createdWatches).hasValue(2);
+        assertThat(cut.size()).isEqualTo(2);
+    }
+
+    @Test
+    void should_replay_last_result_to_late_subscriber() {
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), result -> {});
+        watchHandlers.get("my-service").handle(aSuccessfulResult(1, "service-1"));
+
+        List<WatchResult<ServiceEntryList>> lateResults = new ArrayList<>();
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), lateResults::add);
+
+        assertThat(lateResults).hasSize(1);
+        assertThat(lateResults.get(0).succeeded()).isTrue();
+        assertThat(lateResults.get(0).prevResult()).isNull();
+        assertThat(lateResults.get(0).nextResult().getList()).extracting(entry -> entry.getService().getId()).containsExactly("service-1");
+    }
+
+    @Test
+    void should_provide_previous_result_of_each_subscriber() {
+        List<WatchResult<ServiceEntryList>> results = new ArrayList<>();
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), results::add);
+
+        watchHandlers.get("my-service").handle(aSuccessfulResult(1, "service-1", "service-2"));
+        watchHandlers.get("my-service").handle(aSuccessfulResult(2, "service-1"));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(1).prevResult()).isSameAs(results.get(0).nextResult());
+        assertThat(results.get(1).nextResult().getList()).extracting(entry -> entry.getService().getId()).containsExactly("service-1");
+    }
+
+    @Test
+    void should_forward_failures_to_all_subscribers() {
+        List<WatchResult<ServiceEntryList>> firstResults = new ArrayList<>();
+        List<WatchResult<ServiceEntryList>> secondResults = new ArrayList<>();
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), firstResults::add);
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), secondResults::add);
+
+        RuntimeException error = new RuntimeException("Consul unavailable");
+        @SuppressWarnings("unchecked")
+        WatchResult<ServiceEntryList> failure = mock(WatchResult.class);
+        when(failure.succeeded()).thenReturn(false);
+        when(failure.cause()).thenReturn(error);
+        watchHandlers.get("my-service").handle(failure);
+
+        assertThat(firstResults).singleElement().satisfies(result -> assertThat(result.cause()).isSameAs(error));
+        assertThat(secondResults).singleElement().satisfies(result -> assertThat(result.failed()).isTrue());
+    }
+
+    @Test
+    void should_stop_watch_when_last_subscriber_unsubscribes() {
+        Disposable first = cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), result -> {});
+        Disposable second = cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), result -> {});
+
+        first.dispose();
+        verify(watches.get("my-service"), never()).stop();
+        assertThat(cut.size()).isOne();
+
+        second.dispose();
+        verify(watches.get("my-service")).stop();
+        assertThat(cut.size()).isZero();
+    }
+
+    @Test
+    void should_not_notify_unsubscribed_subscriber() {
+        List<WatchResult<ServiceEntryList>> results = new ArrayList<>();
+        Disposable subscription = cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), results::add);
+        cut.subscribe(mock(Vertx.class), aConfiguration("my-service"), result -> {});
+
+        subscription.dispose();
+        watchHandlers.get("my-service").handle(aSuccessfulResult(1, "service-1"));
+
+        assertThat(results).isEmpty();
+    }
+
+    private static ConsulServiceDiscoveryServiceConfiguration aConfiguration(String service) {
+        return ConsulServiceDiscoveryServiceConfiguration.builder().url("http://localhost:8500").dc("dc1").service(service).build();
+    }
+
+    private static WatchResult<ServiceEntryList> aSuccessfulResult(long index, String... serviceIds) {
+        List<ServiceEntry> entries = new ArrayList<>();
+        for (String serviceId : serviceIds) {
+            entries.add(
+                new ServiceEntry()
+                    .setService(new Service().setId(serviceId).setName("my-service").setAddress("localhost").setPort(8080))
+                    .setNode(new Node().setName("node").setAddress("127.0.0.1"))
+            );
+        }
+        ServiceEntryList list = new ServiceEntryList().setIndex(index).setList(entries);
+
+        @SuppressWarnings("unchecked")
+        WatchResult<ServiceEntryList> result = mock(WatchResult.class);
+        when(result.succeeded()).thenReturn(true);
+        when(result.nextResult()).thenReturn(list);
+        return result;
+    }
+}
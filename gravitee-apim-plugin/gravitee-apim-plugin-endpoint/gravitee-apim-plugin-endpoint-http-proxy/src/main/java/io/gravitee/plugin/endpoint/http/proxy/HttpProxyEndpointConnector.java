@@ -28,6 +28,7 @@ import io.gravitee.plugin.endpoint.http.proxy.client.GrpcHttpClientFactory;
 import io.gravitee.plugin.endpoint.http.proxy.client.HttpClientFactory;
 import io.gravitee.plugin.endpoint.http.proxy.configuration.HttpProxyEndpointConnectorConfiguration;
 import io.gravitee.plugin.endpoint.http.proxy.configuration.HttpProxyEndpointConnectorSharedConfiguration;
+import io.gravitee.plugin.endpoint.http.proxy.connector.CoalescingHttpConnector;
 import io.gravitee.plugin.endpoint.http.proxy.connector.GrpcConnector;
 import io.gravitee.plugin.endpoint.http.proxy.connector.HttpConnector;
 import io.gravitee.plugin.endpoint.http.proxy.connector.ProxyConnector;
@@ -133,6 +134,10 @@ public class HttpProxyEndpointConnector extends HttpEndpointSyncConnector {
             return this.connectors.computeIfAbsent("grpc", type ->
                 new GrpcConnector(configuration, sharedConfiguration, grpcHttpClientFactory)
             );
+        } else if (sharedConfiguration.getCoalescingOptions() != null && sharedConfiguration.getCoalescingOptions().isEnabled()) {
+            return this.connectors.computeIfAbsent("http", type ->
+                new CoalescingHttpConnector(configuration, sharedConfiguration, httpClientFactory)
+            );
         } else {
             return this.connectors.computeIfAbsent("http", type ->
                 new HttpConnector(configuration, sharedConfiguration, httpClientFactory)
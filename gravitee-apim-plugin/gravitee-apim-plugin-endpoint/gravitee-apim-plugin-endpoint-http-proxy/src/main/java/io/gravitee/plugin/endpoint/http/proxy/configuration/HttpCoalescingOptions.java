@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.plugin.endpoint.http.proxy.configuration;
+
+import java.io.Serializable;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Options of the request coalescing: concurrent identical <code>GET</code> and <code>HEAD</code> requests share a single upstream
+ * exchange, the buffered response being sent to all of them. Event streams and responses of unknown size are never shared.
+ *
+ * @author GraviteeSource Team
+ */
+@Getter
+@Setter
+public class HttpCoalescingOptions implements Serializable {
+
+    public static final List<String> DEFAULT_VARY_HEADERS = List.of("Accept", "Accept-Encoding", "Accept-Language", "Authorization", "Cookie");
+    public static final long DEFAULT_MAX_RESPONSE_SIZE = 1024 * 1024;
+    public static final long DEFAULT_WAIT_TIMEOUT = 10_000;
+
+    private boolean enabled = false;
+
+    /**
+     * Request headers taken into account, in addition to the method and the uri, to decide whether two requests are identical.
+     */
+    private List<String> varyHeaders = DEFAULT_VARY_HEADERS;
+
+    /**
+     * Maximum size, in bytes, of a shared response, as announced by its <code>Content-Length</code>. Bigger responses are not shared,
+     * each waiting request being sent to the endpoint on its own.
+     */
+    private long maxResponseSize = DEFAULT_MAX_RESPONSE_SIZE;
+
+    /**
+     * Maximum time, in milliseconds, a request waits for a shared response before being sent to the endpoint on its own.
+     */
+    private long waitTimeout = DEFAULT_WAIT_TIMEOUT;
+}
@@ -48,4 +48,7 @@ public class HttpProxyEndpointConnectorSharedConfiguration implements EndpointCo
     @JsonProperty("headers")
     @Secret
     private List<HttpHeader> headers;
+
+    @JsonProperty("coalescing")
+    private HttpCoalescingOptions coalescingOptions = new HttpCoalescingOptions();
 }
@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.plugin.endpoint.http.proxy.connector;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.common.http.MediaType;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.http.HttpHeaderNames;
+import io.gravitee.gateway.reactive.api.context.http.HttpExecutionContext;
+import io.gravitee.gateway.reactive.api.context.http.HttpRequest;
+import io.gravitee.gateway.reactive.api.context.http.HttpResponse;
+import io.gravitee.node.api.opentelemetry.Span;
+import io.gravitee.node.api.opentelemetry.http.ObservableHttpClientRequest;
+import io.gravitee.node.api.opentelemetry.http.ObservableHttpClientResponse;
+import io.gravitee.plugin.endpoint.http.proxy.client.HttpClientFactory;
+import io.gravitee.plugin.endpoint.http.proxy.configuration.HttpCoalescingOptions;
+import io.gravitee.plugin.endpoint.http.proxy.configuration.HttpProxyEndpointConnectorConfiguration;
+import io.gravitee.plugin.endpoint.http.proxy.configuration.HttpProxyEndpointConnectorSharedConfiguration;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Single;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.rxjava3.core.Context;
+import io.vertx.rxjava3.core.MultiMap;
+import io.vertx.rxjava3.core.RxHelper;
+import io.vertx.rxjava3.core.Vertx;
+import io.vertx.rxjava3.core.http.HttpClientResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.CustomLog;
+
+/**
+ * {@link HttpConnector} sharing a single upstream exchange between concurrent identical requests.
+ *
+ * Only <code>GET</code> and <code>HEAD</code> requests without body, and not waiting for an event stream, are coalesced. Two requests
+ * are identical when they have the same method, the same endpoint uri and the same values for the configured vary headers.
+ * The first request sends the upstream request and the identical requests received until its response arrives join it.
+ * When nobody joined, the response is streamed as usual. Otherwise, the response is buffered and sent to all the requests, provided
+ * that its <code>Content-Length</code> does not exceed the maximum response size and that it is not an event stream.
+ * A joining request falls back to its own upstream exchange when the response can't be shared or when it has waited too long.
+ *
+ * @author GraviteeSource Team
+ */
+@CustomLog
+public class CoalescingHttpConnector extends HttpConnector {
+
+    private static final Set<HttpMethod> COALESCABLE_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD);
+
+    private final HttpCoalescingOptions coalescingOptions;
+    private final Map<String, InFlightExchange> inFlightExchanges = new ConcurrentHashMap<>();
+
+    public CoalescingHttpConnector(
+        final HttpProxyEndpointConnectorConfiguration configuration,
+        final HttpProxyEndpointConnectorSharedConfiguration sharedConfiguration,
+        final HttpClientFactory httpClientFactory
+    ) {
+        super(configuration, sharedConfiguration, httpClientFactory);
+        this.coalescingOptions = sharedConfiguration.getCoalescingOptions();
+    }
+
+    @Override
+    protected Completable connect(final HttpExecutionContext ctx, final RequestOptions options, final String absoluteUri) {
+        final HttpRequest request = ctx.request();
+        if (!COALESCABLE_METHODS.contains(request.method()) || hasBodyHeaders(request) || acceptsEventStream(request)) {
+            return super.connect(ctx, options, absoluteUri);
+        }
+
+        return Completable.defer(() -> {
+            final String key = exchangeKey(options, absoluteUri);
+            final InFlightExchange created = new InFlightExchange();
+            final InFlightExchange exchange = inFlightExchanges.computeIfAbsent(key, k -> created);
+
+            if (exchange == created) {
+                return lead(ctx, options, absoluteUri, key, exchange);
+            } else if (exchange.join()) {
+                log.debug("Joining in-flight request to [{}]", absoluteUri);
+                return join(ctx, options, absoluteUri, exchange);
+            }
+            // The in-flight exchange has just received its response, too late to share it.
+            return super.connect(ctx, options, absoluteUri);
+        });
+    }
+
+    private static boolean acceptsEventStream(final HttpRequest request) {
+        return isEventStream(request.headers().get(HttpHeaderNames.ACCEPT));
+    }
+
+    private static boolean isEventStream(final String mediaType) {
+        return mediaType != null && mediaType.toLowerCase().contains(MediaType.TEXT_EVENT_STREAM);
+    }
+
+    private String exchangeKey(final RequestOptions options, final String absoluteUri) {
+        final StringBuilder key = new StringBuilder(options.getMethod().name()).append(' ').append(absoluteUri);
+        final List<String> varyHeaders = coalescingOptions.getVaryHeaders();
+        if (varyHeaders != null && options.getHeaders() != null) {
+            for (String varyHeader : varyHeaders) {
+                key.append('\n').append(varyHeader.toLowerCase()).append(':');
+                key.append(String.join(",", options.getHeaders().getAll(varyHeader)));
+            }
+        }
+        return key.toString();
+    }
+
+    private Completable lead(
+        final HttpExecutionContext ctx,
+        final RequestOptions options,
+        final String absoluteUri,
+        final String key,
+        final InFlightExchange exchange
+    ) {
+        final ObservableHttpClientRequest observableHttpClientRequest = new ObservableHttpClientRequest(options);
+        final Span httpRequestSpan = ctx.getTracer().startSpanFrom(observableHttpClientRequest);
+        return ctx
+            .request()
+            .chunks()
+            .ignoreElements()
+            .andThen(httpClientFactory.getOrBuildHttpClient(ctx, configuration, sharedConfiguration).rxRequest(options))
+            .map(this::customizeHttpClientRequest)
+            .flatMap(httpClientRequest -> {
+                observableHttpClientRequest.httpClientRequest(httpClientRequest.getDelegate());
+                return httpClientRequest.rxSend();
+            })
+            .doOnError(throwable -> ctx.getTracer().endOnError(httpRequestSpan, throwable))
+            .flatMapCompletable(endpointResponse -> {
+                ctx.getTracer().endWithResponse(httpRequestSpan, new ObservableHttpClientResponse(endpointResponse.getDelegate()));
+
+                // The requests received from now on send their own upstream request.
+                final int joiners = close(key, exchange);
+                if (joiners == 0 || !isShareable(ctx.request(), endpointResponse)) {
+                    exchange.fail(new ResponseNotSharedException(absoluteUri));
+                    writeResponse(ctx.response(), endpointResponse, absoluteUri);
+                    return Completable.complete();
+                }
+
+                log.debug("Sharing the response from [{}] with {} requests", absoluteUri, joiners);
+                return endpointResponse
+                    .rxBody()
+                    .map(body ->
+                        new CoalescedResponse(
+                            endpointResponse.statusCode(),
+                            copy(endpointResponse.headers()),
+                            body.getDelegate(),
+                            copy(endpointResponse.trailers())
+                        )
+                    )
+                    .doOnSuccess(response -> {
+                        exchange.succeed(response);
+                        response.writeTo(ctx.response());
+                    })
+                    .ignoreElement();
+            })
+            .doOnError(throwable -> {
+                close(key, exchange);
+                exchange.fail(throwable);
+            })
+            .doOnDispose(() -> {
+                close(key, exchange);
+                exchange.fail(new ResponseNotSharedException(absoluteUri));
+            });
+    }
+
+    private Completable join(
+        final HttpExecutionContext ctx,
+        final RequestOptions options,
+        final String absoluteUri,
+        final InFlightExchange exchange
+    ) {
+        Single<CoalescedResponse> sharedResponse = Single.fromCompletionStage(exchange.response).timeout(
+            coalescingOptions.getWaitTimeout(),
+            TimeUnit.MILLISECONDS
+        );
+
+        // The shared response is emitted on the context of the first request, come back to the context of the current one.
+        final Context context = Vertx.currentContext();
+        if (context != null) {
+            sharedResponse = sharedResponse.observeOn(RxHelper.scheduler(context));
+        }
+
+        return ctx
+            .request()
+            .chunks()
+            .ignoreElements()
+            .andThen(sharedResponse)
+            .doOnSuccess(coalescedResponse -> coalescedResponse.writeTo(ctx.response()))
+            .ignoreElement()
+            .onErrorResumeNext(throwable -> {
+                if (throwable instanceof ResponseNotSharedException || throwable instanceof TimeoutException) {
+                    log.debug("Unable to share the response from [{}], sending the request on its own", absoluteUri);
+                    return super.connect(ctx, options, absoluteUri);
+                }
+                return Completable.error(throwable);
+            });
+    }
+
+    private int close(final String key, final InFlightExchange exchange) {
+        final int joiners = exchange.close();
+        inFlightExchanges.remove(key, exchange);
+        return joiners;
+    }
+
+    /**
+     * Only responses known to be small enough before reading them are shared, any other response is streamed.
+     */
+    private boolean isShareable(final HttpRequest request, final HttpClientResponse endpointResponse) {
+        if (isEventStream(endpointResponse.getHeader(HttpHeaderNames.CONTENT_TYPE))) {
+            return false;
+        } else if (request.method() == HttpMethod.HEAD) {
+            return true;
+        }
+
+        final String contentLength = endpointResponse.getHeader(HttpHeaderNames.CONTENT_LENGTH);
+        try {
+            return contentLength != null && Long.parseLong(contentLength) <= coalescingOptions.getMaxResponseSize();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static io.vertx.core.MultiMap copy(final MultiMap headers) {
+        return io.vertx.core.MultiMap.caseInsensitiveMultiMap().addAll(headers.getDelegate());
+    }
+
+    /**
+     * Upstream exchange of the first request, joined by the identical requests received until its response arrives.
+     */
+    private static class InFlightExchange {
+
+        private final CompletableFuture<CoalescedResponse> response = new CompletableFuture<>();
+        private int joiners;
+        private boolean closed;
+
+        synchronized boolean join() {
+            if (closed) {
+                return false;
+            }
+            joiners++;
+            return true;
+        }
+
+        synchronized int close() {
+            closed = true;
+            return joiners;
+        }
+
+        void succeed(final CoalescedResponse coalescedResponse) {
+            response.complete(coalescedResponse);
+        }
+
+        void fail(final Throwable throwable) {
+            response.completeExceptionally(throwable);
+        }
+    }
+
+    private record CoalescedResponse(
+        int status,
+        io.vertx.core.MultiMap headers,
+        io.vertx.core.buffer.Buffer body,
+        io.vertx.core.MultiMap trailers
+    ) {
+        void writeTo(final HttpResponse response) {
+            response.status(status);
+            headers.forEach(header -> response.headers().add(header.getKey(), header.getValue()));
+            // Each response gets its own copy of the body as the buffer is released once written.
+            response.chunks(
+                Flowable
+                    .just(Buffer.buffer(body.copy()))
+                    .doOnComplete(() -> trailers.forEach(trailer -> response.trailers().add(trailer.getKey(), trailer.getValue())))
+            );
+        }
+    }
+
+    private static class ResponseNotSharedException extends RuntimeException {
+
+        ResponseNotSharedException(final String absoluteUri) {
+            super("Response from [" + absoluteUri + "] is not shared");
+        }
+    }
+}
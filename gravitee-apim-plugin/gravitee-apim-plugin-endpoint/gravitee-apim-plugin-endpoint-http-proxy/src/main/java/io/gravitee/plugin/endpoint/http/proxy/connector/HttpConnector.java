@@ -123,13 +123,24 @@ public class HttpConnector implements ProxyConnector {
     @Override
     public Completable connect(final HttpExecutionContext ctx) {
         try {
-            final HttpRequest request = ctx.request();
-            final HttpResponse response = ctx.response();
-
             final RequestOptions options = buildRequestOptions(ctx);
             String absoluteUri = VertxHttpClientFactory.toAbsoluteUri(options, defaultHost, defaultPort);
             options.setAbsoluteURI(absoluteUri);
             ctx.metrics().setEndpoint(absoluteUri);
+            return connect(ctx, options, absoluteUri);
+        } catch (Exception e) {
+            return Completable.error(e);
+        }
+    }
+
+    /**
+     * Send the request to the endpoint with the given options, already built from the current request.
+     */
+    protected Completable connect(final HttpExecutionContext ctx, final RequestOptions options, final String absoluteUri) {
+        try {
+            final HttpRequest request = ctx.request();
+            final HttpResponse response = ctx.response();
+
             ObservableHttpClientRequest observableHttpClientRequest = new ObservableHttpClientRequest(options);
             Span httpRequestSpan = ctx.getTracer().startSpanFrom(observableHttpClientRequest);
             return httpClientFactory
@@ -141,18 +152,7 @@ public class HttpConnector implements ProxyConnector {
                     return sendEndpointRequestChunks(httpClientRequest, request);
                 })
                 .doOnSuccess(endpointResponse -> {
-                    response.status(endpointResponse.statusCode());
-
-                    copyHeaders(endpointResponse.headers(), response.headers());
-
-                    if (endpointResponse.version() == HttpVersion.HTTP_2) {
-                        endpointResponse.customFrameHandler(frame ->
-                            ((VertxHttpServerResponse) response).getNativeResponse().writeCustomFrame(frame)
-                        );
-                    }
-
-                    // Assign the response chunks from the endpoint's response to the gateway response.
-                    response.chunks(getEndpointResponseChunks(endpointResponse, response, absoluteUri));
+                    writeResponse(response, endpointResponse, absoluteUri);
 
                     ObservableHttpClientResponse observableHttpClientResponse = new ObservableHttpClientResponse(
                         endpointResponse.getDelegate()
@@ -166,6 +166,22 @@ public class HttpConnector implements ProxyConnector {
         }
     }
 
+    /**
+     * Write the status and the headers of the endpoint response to the gateway response, then stream its chunks.
+     */
+    protected void writeResponse(final HttpResponse response, final HttpClientResponse endpointResponse, final String absoluteUri) {
+        response.status(endpointResponse.statusCode());
+
+        copyHeaders(endpointResponse.headers(), response.headers());
+
+        if (endpointResponse.version() == HttpVersion.HTTP_2) {
+            endpointResponse.customFrameHandler(frame -> ((VertxHttpServerResponse) response).getNativeResponse().writeCustomFrame(frame));
+        }
+
+        // Assign the response chunks from the endpoint's response to the gateway response.
+        response.chunks(getEndpointResponseChunks(endpointResponse, response, absoluteUri));
+    }
+
     private Single<HttpClientResponse> sendEndpointRequestChunks(HttpClientRequest httpClientRequest, HttpRequest request) {
         if (hasBodyHeaders(request) || request.version() == io.gravitee.common.http.HttpVersion.HTTP_2) {
             // For HTTP1.1, the presence of a message body in a request is signaled by a Content-Length or Transfer-Encoding header (https://www.rfc-editor.org/rfc/rfc9112#section-6-4).
@@ -326,7 +342,7 @@ public class HttpConnector implements ProxyConnector {
         }
     }
 
-    private static boolean hasBodyHeaders(HttpRequest request) {
+    protected static boolean hasBodyHeaders(HttpRequest request) {
         return (
             request.headers().get(HttpHeaderNames.TRANSFER_ENCODING) != null ||
             request.headers().get(HttpHeaderNames.CONTENT_LENGTH) != null
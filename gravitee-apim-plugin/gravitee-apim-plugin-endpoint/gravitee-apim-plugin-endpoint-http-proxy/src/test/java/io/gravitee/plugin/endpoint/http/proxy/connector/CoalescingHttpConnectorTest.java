@@ -0,0 +1,267 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.plugin.endpoint.http.proxy.connector;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.Options;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.common.http.MediaType;
+import io.gravitee.gateway.api.buffer.Buffer;
+import io.gravitee.gateway.api.http.HttpHeaders;
+import io.gravitee.gateway.reactive.api.context.http.HttpExecutionContext;
+import io.gravitee.gateway.reactive.api.context.http.HttpRequest;
+import io.gravitee.gateway.reactive.api.context.http.HttpResponse;
+import io.gravitee.gateway.reactive.api.tracing.Tracer;
+import io.gravitee.node.api.configuration.Configuration;
+import io.gravitee.node.opentelemetry.tracer.noop.NoOpTracer;
+import io.gravitee.plugin.endpoint.http.proxy.client.HttpClientFactory;
+import io.gravitee.plugin.endpoint.http.proxy.configuration.HttpProxyEndpointConnectorConfiguration;
+import io.gravitee.plugin.endpoint.http.proxy.configuration.HttpProxyEndpointConnectorSharedConfiguration;
+import io.gravitee.reporter.api.v4.metric.Metrics;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.vertx.rxjava3.core.Vertx;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * @author GraviteeSource Team
+ */
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CoalescingHttpConnectorTest {
+
+    private static final String BACKEND_RESPONSE_BODY = "response from backend";
+    private static final int BACKEND_DELAY_MS = 500;
+    private static final int TIMEOUT_SECONDS = 60;
+    private static WireMockServer wiremock;
+    private static Vertx vertx;
+
+    private HttpProxyEndpointConnectorSharedConfiguration sharedConfiguration;
+    private CoalescingHttpConnector cut;
+
+    @BeforeAll
+    static void setup() {
+        // Only the responses with a Content-Length are shared, don't let WireMock stream the inline bodies.
+        wiremock = new WireMockServer(wireMockConfig().dynamicPort().useChunkedTransferEncoding(Options.ChunkedEncodingPolicy.BODY_FILE));
+        wiremock.start();
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        wiremock.stop();
+        vertx.close().blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @BeforeEach
+    void init() {
+        HttpProxyEndpointConnectorConfiguration configuration = new HttpProxyEndpointConnectorConfiguration();
+        configuration.setTarget("http://localhost:" + wiremock.port() + "/team");
+        sharedConfiguration = new HttpProxyEndpointConnectorSharedConfiguration();
+        sharedConfiguration.getCoalescingOptions().setEnabled(true);
+        cut = new CoalescingHttpConnector(configuration, sharedConfiguration, new HttpClientFactory());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        wiremock.resetAll();
+    }
+
+    @Test
+    void should_share_upstream_request_between_concurrent_identical_requests() throws InterruptedException {
+        wiremock.stubFor(
+            get("/team").willReturn(ok(BACKEND_RESPONSE_BODY).withHeader("X-Backend", "value").withFixedDelay(BACKEND_DELAY_MS))
+        );
+
+        List<HttpExecutionContext> contexts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            contexts.add(mockContext(HttpMethod.GET, HttpHeaders.create()));
+        }
+
+        connectAll(contexts);
+
+        wiremock.verify(1, getRequestedFor(urlPathEqualTo("/team")));
+        for (HttpExecutionContext ctx : contexts) {
+            verify(ctx.response()).status(200);
+            assertThat(ctx.response().headers().get("X-Backend")).isEqualTo("value");
+            assertThat(responseBody(ctx)).isEqualTo(BACKEND_RESPONSE_BODY);
+        }
+    }
+
+    @Test
+    void should_not_share_upstream_request_between_requests_with_different_vary_headers() throws InterruptedException {
+        wiremock.stubFor(get("/team").willReturn(ok(BACKEND_RESPONSE_BODY).withFixedDelay(BACKEND_DELAY_MS)));
+
+        connectAll(
+            List.of(
+                mockContext(HttpMethod.GET, HttpHeaders.create().set("Authorization", "Bearer user1")),
+                mockContext(HttpMethod.GET, HttpHeaders.create().set("Authorization", "Bearer user1")),
+                mockContext(HttpMethod.GET, HttpHeaders.create().set("Authorization", "Bearer user2"))
+            )
+        );
+
+        wiremock.verify(2, getRequestedFor(urlPathEqualTo("/team")));
+    }
+
+    @Test
+    void should_not_share_upstream_request_between_non_idempotent_requests() throws InterruptedException {
+        wiremock.stubFor(post("/team").willReturn(ok(BACKEND_RESPONSE_BODY).withFixedDelay(BACKEND_DELAY_MS)));
+
+        connectAll(List.of(mockContext(HttpMethod.POST, HttpHeaders.create()), mockContext(HttpMethod.POST, HttpHeaders.create())));
+
+        wiremock.verify(2, postRequestedFor(urlPathEqualTo("/team")));
+    }
+
+    @Test
+    void should_not_share_upstream_request_between_successive_requests() throws InterruptedException {
+        wiremock.stubFor(get("/team").willReturn(ok(BACKEND_RESPONSE_BODY)));
+
+        connectAll(List.of(mockContext(HttpMethod.GET, HttpHeaders.create())));
+        connectAll(List.of(mockContext(HttpMethod.GET, HttpHeaders.create())));
+
+        wiremock.verify(2, getRequestedFor(urlPathEqualTo("/team")));
+    }
+
+    @Test
+    void should_send_requests_on_their_own_when_response_is_too_large_to_be_shared() throws InterruptedException {
+        sharedConfiguration.getCoalescingOptions().setMaxResponseSize(5);
+        wiremock.stubFor(
+            get("/team").willReturn(aResponse().withStatus(200).withBody(BACKEND_RESPONSE_BODY).withFixedDelay(BACKEND_DELAY_MS))
+        );
+
+        List<HttpExecutionContext> contexts = List.of(
+            mockContext(HttpMethod.GET, HttpHeaders.create()),
+            mockContext(HttpMethod.GET, HttpHeaders.create()),
+            mockContext(HttpMethod.GET, HttpHeaders.create())
+        );
+        connectAll(contexts);
+
+        // the first request streams its response, the two others send their own request
+        wiremock.verify(3, getRequestedFor(urlPathEqualTo("/team")));
+        for (HttpExecutionContext ctx : contexts) {
+            assertThat(responseBody(ctx)).isEqualTo(BACKEND_RESPONSE_BODY);
+        }
+    }
+
+    @Test
+    void should_send_requests_on_their_own_when_response_has_no_content_length() throws InterruptedException {
+        wiremock.stubFor(
+            get("/team").willReturn(
+                ok(BACKEND_RESPONSE_BODY).withHeader("Transfer-Encoding", "chunked").withFixedDelay(BACKEND_DELAY_MS)
+            )
+        );
+
+        List<HttpExecutionContext> contexts = List.of(
+            mockContext(HttpMethod.GET, HttpHeaders.create()),
+            mockContext(HttpMethod.GET, HttpHeaders.create())
+        );
+        connectAll(contexts);
+
+        wiremock.verify(2, getRequestedFor(urlPathEqualTo("/team")));
+        for (HttpExecutionContext ctx : contexts) {
+            assertThat(responseBody(ctx)).isEqualTo(BACKEND_RESPONSE_BODY);
+        }
+    }
+
+    @Test
+    void should_send_lone_request_only_once_when_response_is_too_large_to_be_shared() throws InterruptedException {
+        sharedConfiguration.getCoalescingOptions().setMaxResponseSize(5);
+        wiremock.stubFor(get("/team").willReturn(ok(BACKEND_RESPONSE_BODY)));
+
+        final HttpExecutionContext ctx = mockContext(HttpMethod.GET, HttpHeaders.create());
+        connectAll(List.of(ctx));
+
+        wiremock.verify(1, getRequestedFor(urlPathEqualTo("/team")));
+        assertThat(responseBody(ctx)).isEqualTo(BACKEND_RESPONSE_BODY);
+    }
+
+    @Test
+    void should_not_share_upstream_request_between_event_stream_requests() throws InterruptedException {
+        wiremock.stubFor(
+            get("/team").willReturn(
+                ok(BACKEND_RESPONSE_BODY).withHeader("Content-Type", MediaType.TEXT_EVENT_STREAM).withFixedDelay(BACKEND_DELAY_MS)
+            )
+        );
+
+        connectAll(
+            List.of(
+                mockContext(HttpMethod.GET, HttpHeaders.create().set("Accept", MediaType.TEXT_EVENT_STREAM)),
+                mockContext(HttpMethod.GET, HttpHeaders.create().set("Accept", MediaType.TEXT_EVENT_STREAM))
+            )
+        );
+
+        wiremock.verify(2, getRequestedFor(urlPathEqualTo("/team")));
+    }
+
+    private void connectAll(List<HttpExecutionContext> contexts) throws InterruptedException {
+        final TestObserver<Void> obs = Completable.merge(contexts.stream().map(cut::connect).toList()).test();
+        assertThat(obs.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).as("Should complete before timeout").isTrue();
+        obs.assertComplete();
+    }
+
+    private HttpExecutionContext mockContext(HttpMethod method, HttpHeaders requestHeaders) {
+        final HttpExecutionContext ctx = mock(HttpExecutionContext.class);
+        final HttpRequest request = mock(HttpRequest.class);
+        final HttpResponse response = mock(HttpResponse.class);
+        final HttpHeaders responseHeaders = HttpHeaders.create();
+
+        lenient().when(ctx.request()).thenReturn(request);
+        lenient().when(ctx.response()).thenReturn(response);
+        lenient().when(ctx.metrics()).thenReturn(mock(Metrics.class));
+        lenient().when(ctx.getTracer()).thenReturn(new Tracer(null, new NoOpTracer()));
+        lenient().when(ctx.getComponent(Vertx.class)).thenReturn(vertx);
+        lenient().when(ctx.getComponent(Configuration.class)).thenReturn(mock(Configuration.class));
+
+        lenient().when(request.method()).thenReturn(method);
+        lenient().when(request.pathInfo()).thenReturn("");
+        lenient().when(request.headers()).thenReturn(requestHeaders);
+        lenient().when(request.chunks()).thenReturn(Flowable.empty());
+
+        lenient().when(response.headers()).thenReturn(responseHeaders);
+        lenient().when(response.trailers()).thenReturn(HttpHeaders.create());
+        return ctx;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String responseBody(HttpExecutionContext ctx) {
+        final ArgumentCaptor<Flowable<Buffer>> chunksCaptor = ArgumentCaptor.forClass(Flowable.class);
+        verify(ctx.response()).chunks(chunksCaptor.capture());
+        return chunksCaptor.getValue().map(Buffer::toString).reduce("", String::concat).blockingGet();
+    }
+}
@@ -91,6 +91,16 @@ public interface ApplicationRepository extends CrudRepository<Application, Strin
 
     Set<String> searchIds(ApplicationCriteria applicationCriteria, Sortable sortable) throws TechnicalException;
 
+    /**
+     * find the ids of the applications matching the criteria, without loading the applications themselves.
+     * @param applicationCriteria the criteria, criteria.name supports partial name (works like `contains`)
+     * @param pageable the page of ids to return, could be null to return them all
+     * @param sortable the sort to apply, by name if null
+     * @return a page of application ids
+     * @throws TechnicalException if something goes wrong, should never happen.
+     */
+    Page<String> searchIds(ApplicationCriteria applicationCriteria, Pageable pageable, Sortable sortable) throws TechnicalException;
+
     /**
      * Delete application by environment ID
      *
@@ -30,6 +30,18 @@ import java.util.List;
 public interface AuditRepository extends CrudRepository<Audit, String> {
     Page<Audit> search(AuditCriteria filter, Pageable pageable);
 
+    /**
+     * Create several audits at once. Implementations should write them in as few round trips as possible.
+     *
+     * @param audits The audits to create
+     * @throws TechnicalException
+     */
+    default void createAll(List<Audit> audits) throws TechnicalException {
+        for (Audit audit : audits) {
+            create(audit);
+        }
+    }
+
     default Audit update(Audit item) throws TechnicalException {
         throw new UnsupportedOperationException("Update an audit record is forbidden");
     }
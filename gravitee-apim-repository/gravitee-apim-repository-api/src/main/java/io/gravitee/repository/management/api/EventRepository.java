@@ -15,12 +15,19 @@
  */
 package io.gravitee.repository.management.api;
 
+import static io.gravitee.repository.management.model.Event.EventProperties.API_ID;
+import static io.gravitee.repository.management.model.Event.EventProperties.DICTIONARY_ID;
+import static io.gravitee.repository.management.model.Event.EventProperties.ID;
+import static io.gravitee.repository.management.model.Event.EventProperties.ORGANIZATION_ID;
+import static io.gravitee.repository.management.model.Event.EventProperties.SHARED_POLICY_GROUP_ID;
+
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.search.EventCriteria;
 import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.repository.management.model.Event;
 import io.gravitee.repository.management.model.EventType;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -101,6 +108,26 @@ public interface EventRepository extends CrudRepository<Event, String> {
 
     void delete(Collection<String> ids);
 
+    /**
+     * Delete, directly on the database side, the events of an environment exceeding the number of events to keep for each
+     * {@link EventToCleanGroup}. Only the most recent events of each group are kept.
+     *
+     * <p>
+     *  Unlike {@link #findEventsToClean(String)}, the events are neither loaded nor grouped by the caller: the selection is done by the
+     *  database and the events are deleted by chunks until there is nothing left to delete or the time to live is elapsed.
+     * </p>
+     *
+     * @param environmentId the environment to clean.
+     * @param nbEventsToKeep the number of events to keep for each group.
+     * @param timeToLive the maximum duration of the cleaning. Chunks are no longer deleted once it is elapsed.
+     * @return the number of deleted events.
+     * @throws UnsupportedOperationException if the repository or the database it targets does not support the bulk cleaning. In this
+     * case, {@link #findEventsToClean(String)} and {@link #delete(Collection)} must be used instead.
+     */
+    default long cleanEvents(String environmentId, int nbEventsToKeep, Duration timeToLive) {
+        throw new UnsupportedOperationException("Bulk events cleaning is not supported by this repository");
+    }
+
     record EventToClean(String id, EventToCleanGroup group) {}
 
     record EventToCleanGroup(String type, String referenceId) {}
@@ -126,27 +153,30 @@ public interface EventRepository extends CrudRepository<Event, String> {
                 return null;
             }
 
-            String referenceId = switch (eventType) {
-                case PUBLISH_API, PUBLISH_API_RESULT, UNPUBLISH_API, UNPUBLISH_API_RESULT, START_API, STOP_API, DEBUG_API -> properties.get(
-                    Event.EventProperties.API_ID.getValue()
-                ); // API events are grouped by API ID
-                case PUBLISH_DICTIONARY, UNPUBLISH_DICTIONARY, START_DICTIONARY, STOP_DICTIONARY -> properties.get(
-                    // Dictionary events are grouped by dictionary ID
-                    Event.EventProperties.DICTIONARY_ID.getValue()
-                );
-                case PUBLISH_ORGANIZATION, PUBLISH_ORGANIZATION_LICENSE -> properties.get(
-                    // Organization events are grouped by organization ID
-                    Event.EventProperties.ORGANIZATION_ID.getValue()
-                );
-                case DEPLOY_SHARED_POLICY_GROUP, UNDEPLOY_SHARED_POLICY_GROUP -> properties.get(
-                    // Shared policy group events are grouped by shared policy group ID
-                    Event.EventProperties.SHARED_POLICY_GROUP_ID.getValue()
-                );
-                case GATEWAY_STARTED, GATEWAY_STOPPED -> properties.get(Event.EventProperties.ID.getValue()); // Gateway events are grouped by gateway ID (if available)
-                default -> properties.get(Event.EventProperties.ID.getValue()); // For unknown event types, try to use a generic ID property
-            };
+            String referenceId = properties.get(referenceProperty(eventType).getValue());
 
             return referenceId != null && !referenceId.isBlank() ? new EventToCleanGroup(eventType.name(), referenceId) : null;
         }
+
+        /**
+         * Gives the event property holding the reference id used to group the events of the given type.
+         *
+         * @param eventType the event type
+         * @return the property holding the reference id
+         */
+        public static Event.EventProperties referenceProperty(EventType eventType) {
+            return switch (eventType) {
+                // API events are grouped by API ID
+                case PUBLISH_API, PUBLISH_API_RESULT, UNPUBLISH_API, UNPUBLISH_API_RESULT, START_API, STOP_API, DEBUG_API -> API_ID;
+                // Dictionary events are grouped by dictionary ID
+                case PUBLISH_DICTIONARY, UNPUBLISH_DICTIONARY, START_DICTIONARY, STOP_DICTIONARY -> DICTIONARY_ID;
+                // Organization events are grouped by organization ID
+                case PUBLISH_ORGANIZATION, PUBLISH_ORGANIZATION_LICENSE -> ORGANIZATION_ID;
+                // Shared policy group events are grouped by shared policy group ID
+                case DEPLOY_SHARED_POLICY_GROUP, UNDEPLOY_SHARED_POLICY_GROUP -> SHARED_POLICY_GROUP_ID;
+                // Gateway events are grouped by gateway ID (if available), other ones try to use a generic ID property
+                default -> ID;
+            };
+        }
     }
 }
@@ -18,7 +18,9 @@ package io.gravitee.repository.management.api;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.model.*;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -227,6 +229,31 @@ public interface MembershipRepository extends FindAllRepository<Membership> {
         String referenceId
     ) throws TechnicalException;
 
+    /**
+     * find all memberships of a member on several references, possibly of different types, with a single query.
+     * => get all the roles of a member on an API and on the groups of this API
+     * @param memberId the member
+     * @param memberType the member type. Can be USER or GROUP.
+     * @param referenceIdsByType the referenceIds to look for, indexed by referenceType
+     * @return a list of memberships, or an empty set
+     * @throws TechnicalException if something goes wrong, should never happen.
+     */
+    default Set<Membership> findByMemberIdAndMemberTypeAndReferences(
+        String memberId,
+        MembershipMemberType memberType,
+        Map<MembershipReferenceType, ? extends Collection<String>> referenceIdsByType
+    ) throws TechnicalException {
+        Set<Membership> memberships = new HashSet<>();
+        for (Map.Entry<MembershipReferenceType, ? extends Collection<String>> references : referenceIdsByType.entrySet()) {
+            for (String referenceId : references.getValue()) {
+                memberships.addAll(
+                    findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(memberId, memberType, references.getKey(), referenceId)
+                );
+            }
+        }
+        return memberships;
+    }
+
     /**
      * find all memberships for a member
      * @param memberId the member
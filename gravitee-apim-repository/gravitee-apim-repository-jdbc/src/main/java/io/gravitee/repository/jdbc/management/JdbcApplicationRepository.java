@@ -15,11 +15,11 @@
  */
 package io.gravitee.repository.jdbc.management;
 
+import static io.gravitee.repository.jdbc.common.AbstractJdbcRepositoryConfiguration.createPagingClause;
 import static java.lang.String.format;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toMap;
 import static org.springframework.util.CollectionUtils.isEmpty;
 import static org.springframework.util.StringUtils.hasText;
@@ -41,6 +41,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
@@ -49,6 +50,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import lombok.CustomLog;
@@ -445,30 +447,61 @@ public class JdbcApplicationRepository extends JdbcAbstractCrudRepository<Applic
     }
 
     @Override
-    public Page<Application> search(ApplicationCriteria applicationCriteria, Pageable pageable, Sortable sortable) {
-        List<Application> apps = search(applicationCriteria, sortable);
+    public Page<Application> search(ApplicationCriteria applicationCriteria, Pageable pageable, Sortable sortable)
+        throws TechnicalException {
+        if (pageable == null) {
+            List<Application> apps = search(applicationCriteria, sortable);
 
-        addGroups(apps);
+            addGroups(apps);
 
-        return getResultAsPage(pageable, apps);
+            return getResultAsPage(null, apps);
+        }
+
+        // Only load the applications of the requested page, the other ones are just counted
+        final Page<String> idsPage = searchIds(applicationCriteria, pageable, sortable);
+        final List<String> pageIds = idsPage.getContent();
+        final Map<String, Application> applicationById = findByIds(pageIds).stream().collect(toMap(Application::getId, identity()));
+        final List<Application> apps = pageIds.stream().map(applicationById::get).filter(Objects::nonNull).toList();
+
+        return new Page<>(apps, idsPage.getPageNumber(), apps.size(), idsPage.getTotalElements());
     }
 
     String searchQuery(ApplicationCriteria applicationCriteria, Sortable sortable) {
-        final StringBuilder sbQuery = new StringBuilder(
+        return searchQuery(
             "select " +
                 PROJECTION_WITHOUT_PICTURES +
                 ", am.k as am_k, am.v as am_v from " +
                 this.tableName +
                 " a left join " +
                 APPLICATION_METADATA +
-                " am on a.id = am.application_id "
+                " am on a.id = am.application_id ",
+            applicationCriteria,
+            sortable
         );
+    }
 
-        if (applicationCriteria != null) {
-            if (!isEmpty(applicationCriteria.getGroups())) {
-                sbQuery.append("join " + APPLICATION_GROUPS + " ag on ag.application_id = a.id ");
-            }
+    String searchIdsQuery(ApplicationCriteria applicationCriteria, Sortable sortable) {
+        return searchQuery("select a.id from " + this.tableName + " a ", applicationCriteria, sortable);
+    }
+
+    String searchCountQuery(ApplicationCriteria applicationCriteria) {
+        return "select count(*) from " + this.tableName + " a " + searchWhereClause(applicationCriteria);
+    }
+
+    private String searchQuery(String select, ApplicationCriteria applicationCriteria, Sortable sortable) {
+        String direction = toSortDirection(sortable);
+        String field = "name";
+        if (sortable != null) {
+            field = sortable.field();
+        }
 
+        return select + searchWhereClause(applicationCriteria) + String.format("order by a.%s %s", field, direction);
+    }
+
+    private String searchWhereClause(ApplicationCriteria applicationCriteria) {
+        final StringBuilder sbQuery = new StringBuilder();
+
+        if (applicationCriteria != null) {
             sbQuery.append("where 1 = 1 ");
 
             if (StringUtils.hasText(applicationCriteria.getQuery())) {
@@ -494,21 +527,44 @@ public class JdbcApplicationRepository extends JdbcAbstractCrudRepository<Applic
                     .append(") ");
             }
             if (!isEmpty(applicationCriteria.getGroups())) {
-                sbQuery.append("and ag.group_id in (").append(getOrm().buildInClause(applicationCriteria.getGroups())).append(") ");
+                // A sub-query rather than a join, so that an application matching several groups is counted and paged once
+                sbQuery
+                    .append("and a.id in (select ag.application_id from ")
+                    .append(APPLICATION_GROUPS)
+                    .append(" ag where ag.group_id in (")
+                    .append(getOrm().buildInClause(applicationCriteria.getGroups()))
+                    .append(")) ");
             }
         }
 
-        String direction = toSortDirection(sortable);
-        String field = "name";
-        if (sortable != null) {
-            field = sortable.field();
-        }
-
-        sbQuery.append(String.format("order by a.%s %s", field, direction));
-
         return sbQuery.toString();
     }
 
+    private void setSearchArguments(PreparedStatement ps, ApplicationCriteria applicationCriteria) throws SQLException {
+        int lastIndex = 1;
+        if (applicationCriteria != null) {
+            if (StringUtils.hasText(applicationCriteria.getQuery())) {
+                ps.setString(lastIndex++, applicationCriteria.getQuery());
+                ps.setString(lastIndex++, "%" + applicationCriteria.getQuery().toLowerCase() + "%");
+            }
+            if (!isEmpty(applicationCriteria.getRestrictedToIds())) {
+                lastIndex = getOrm().setArguments(ps, applicationCriteria.getRestrictedToIds(), lastIndex);
+            }
+            if (StringUtils.hasText(applicationCriteria.getName())) {
+                ps.setString(lastIndex++, "%" + applicationCriteria.getName().toLowerCase() + "%");
+            }
+            if (applicationCriteria.getStatus() != null) {
+                ps.setString(lastIndex++, applicationCriteria.getStatus().name());
+            }
+            if (!isEmpty(applicationCriteria.getEnvironmentIds())) {
+                lastIndex = getOrm().setArguments(ps, applicationCriteria.getEnvironmentIds(), lastIndex);
+            }
+            if (!isEmpty(applicationCriteria.getGroups())) {
+                getOrm().setArguments(ps, applicationCriteria.getGroups(), lastIndex);
+            }
+        }
+    }
+
     private List<Application> search(ApplicationCriteria applicationCriteria, Sortable sortable) {
         log.debug("JdbcApplicationRepository.search({})", applicationCriteria);
         final JdbcHelper.CollatingRowMapper<Application> rowMapper = new JdbcHelper.CollatingRowMapper<>(
@@ -519,41 +575,44 @@ public class JdbcApplicationRepository extends JdbcAbstractCrudRepository<Applic
 
         String query = searchQuery(applicationCriteria, sortable);
 
-        jdbcTemplate.query(
-            query,
-            (PreparedStatement ps) -> {
-                int lastIndex = 1;
-                if (applicationCriteria != null) {
-                    if (StringUtils.hasText(applicationCriteria.getQuery())) {
-                        ps.setString(lastIndex++, applicationCriteria.getQuery());
-                        ps.setString(lastIndex++, "%" + applicationCriteria.getQuery().toLowerCase() + "%");
-                    }
-                    if (!isEmpty(applicationCriteria.getRestrictedToIds())) {
-                        lastIndex = getOrm().setArguments(ps, applicationCriteria.getRestrictedToIds(), lastIndex);
-                    }
-                    if (StringUtils.hasText(applicationCriteria.getName())) {
-                        ps.setString(lastIndex++, "%" + applicationCriteria.getName().toLowerCase() + "%");
-                    }
-                    if (applicationCriteria.getStatus() != null) {
-                        ps.setString(lastIndex++, applicationCriteria.getStatus().name());
-                    }
-                    if (!isEmpty(applicationCriteria.getEnvironmentIds())) {
-                        lastIndex = getOrm().setArguments(ps, applicationCriteria.getEnvironmentIds(), lastIndex);
-                    }
-                    if (!isEmpty(applicationCriteria.getGroups())) {
-                        getOrm().setArguments(ps, applicationCriteria.getGroups(), lastIndex);
-                    }
-                }
-            },
-            rowMapper
-        );
+        jdbcTemplate.query(query, (PreparedStatement ps) -> setSearchArguments(ps, applicationCriteria), rowMapper);
         return rowMapper.getRows();
     }
 
     @Override
     public Set<String> searchIds(ApplicationCriteria applicationCriteria, Sortable sortable) throws TechnicalException {
-        List<Application> search = search(applicationCriteria, sortable);
-        return search.parallelStream().map(Application::getId).collect(toCollection(LinkedHashSet::new));
+        log.debug("JdbcApplicationRepository.searchIds({})", applicationCriteria);
+        return new LinkedHashSet<>(
+            jdbcTemplate.query(
+                searchIdsQuery(applicationCriteria, sortable),
+                (PreparedStatement ps) -> setSearchArguments(ps, applicationCriteria),
+                (rs, i) -> rs.getString(1)
+            )
+        );
+    }
+
+    @Override
+    public Page<String> searchIds(ApplicationCriteria applicationCriteria, Pageable pageable, Sortable sortable) throws TechnicalException {
+        log.debug("JdbcApplicationRepository.searchIds({}, {})", applicationCriteria, pageable);
+        if (pageable == null) {
+            return getResultAsPage(null, new ArrayList<>(searchIds(applicationCriteria, sortable)));
+        }
+
+        final Long total = jdbcTemplate.query(
+            searchCountQuery(applicationCriteria),
+            (PreparedStatement ps) -> setSearchArguments(ps, applicationCriteria),
+            rs -> rs.next() ? rs.getLong(1) : 0L
+        );
+        if (total == null || total == 0) {
+            return new Page<>(List.of(), pageable.pageNumber(), 0, 0);
+        }
+
+        final List<String> ids = jdbcTemplate.query(
+            searchIdsQuery(applicationCriteria, sortable) + " " + createPagingClause(pageable.pageSize(), pageable.from()),
+            (PreparedStatement ps) -> setSearchArguments(ps, applicationCriteria),
+            (rs, i) -> rs.getString(1)
+        );
+        return new Page<>(ids, pageable.pageNumber(), ids.size(), total);
     }
 
     @Override
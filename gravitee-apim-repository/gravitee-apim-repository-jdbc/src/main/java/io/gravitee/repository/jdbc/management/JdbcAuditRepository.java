@@ -40,6 +40,7 @@ import lombok.CustomLog;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  *
@@ -116,6 +117,47 @@ public class JdbcAuditRepository extends JdbcAbstractPageableRepository<Audit> i
         }
     }
 
+    // Audits and their properties are written by separate batches, none of them must be kept if one fails
+    @Override
+    @Transactional(value = "graviteeTransactionManager", rollbackFor = TechnicalException.class)
+    public void createAll(List<Audit> audits) throws TechnicalException {
+        log.debug("JdbcAuditRepository.createAll({})", audits.size());
+        if (audits.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(
+                getOrm().getInsertSql(),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) {
+                        getOrm().setStatementValues(ps, audits.get(i), 1);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return audits.size();
+                    }
+                }
+            );
+
+            List<Object[]> properties = new ArrayList<>();
+            for (Audit audit : audits) {
+                if (audit.getProperties() != null) {
+                    audit.getProperties().forEach((key, value) -> properties.add(new Object[] { audit.getId(), key, value }));
+                }
+            }
+            if (!properties.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                    "insert into " + AUDIT_PROPERTIES + " ( audit_id, " + escapeReservedWord("key") + ", value ) values ( ?, ?, ? )",
+                    properties
+                );
+            }
+        } catch (final Exception ex) {
+            throw new TechnicalException("Failed to create audits", ex);
+        }
+    }
+
     @Override
     public Audit update(final Audit audit) throws TechnicalException {
         log.debug("JdbcAuditRepository.update({})", audit);
@@ -20,6 +20,9 @@ import static io.gravitee.repository.jdbc.management.JdbcHelper.WHERE_CLAUSE;
 import static io.gravitee.repository.jdbc.management.JdbcHelper.addCondition;
 import static io.gravitee.repository.jdbc.management.JdbcHelper.addStringsWhereClause;
 import static java.lang.String.format;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -38,6 +41,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -45,6 +49,8 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -66,6 +72,9 @@ import org.springframework.util.CollectionUtils;
 @Repository
 public class JdbcEventRepository extends JdbcAbstractPageableRepository<Event> implements EventRepository {
 
+    private static final int CLEAN_CHUNK_SIZE = 1000;
+    private static final String REFERENCE_PROPERTY_KEY_EXPRESSION = buildReferencePropertyKeyExpression();
+
     private final String EVENT_PROPERTIES;
     private final String EVENT_ENVIRONMENTS;
     private final String EVENT_ORGANIZATIONS;
@@ -454,6 +463,66 @@ public class JdbcEventRepository extends JdbcAbstractPageableRepository<Event> i
         executeBatchDelete("DELETE FROM " + tableName + " WHERE id IN (?);", ids);
     }
 
+    @Override
+    public long cleanEvents(String environmentId, int nbEventsToKeep, Duration timeToLive) {
+        log.debug("JdbcEventRepository.cleanEvents({}, {}, {})", environmentId, nbEventsToKeep, timeToLive);
+        final long deadline = System.nanoTime() + timeToLive.toNanos();
+
+        // Rank the events of each group from the most recent one and only select the ids of the events exceeding the number to keep
+        final String sql =
+            "select id from (select e.id, row_number() over (partition by e.type, ep.property_value order by e.created_at desc)" +
+            " as event_rank from " +
+            this.tableName +
+            " e join " +
+            EVENT_ENVIRONMENTS +
+            " ev on e.id = ev.event_id join " +
+            EVENT_PROPERTIES +
+            " ep on e.id = ep.event_id" +
+            WHERE_CLAUSE +
+            "ev.environment_id = ?" +
+            AND_CLAUSE +
+            "ep.property_key = " +
+            REFERENCE_PROPERTY_KEY_EXPRESSION +
+            // Events without reference id can't be grouped and are never cleaned
+            AND_CLAUSE +
+            "trim(ep.property_value) <> '') ranked_events where event_rank > ?";
+
+        long deleted = 0;
+        try (Stream<String> ids = jdbcTemplate.queryForStream(sql, (rs, rowNum) -> rs.getString("id"), environmentId, nbEventsToKeep)) {
+            final Iterator<String> iterator = ids.iterator();
+            final List<String> chunk = new ArrayList<>(CLEAN_CHUNK_SIZE);
+            while (iterator.hasNext() && System.nanoTime() < deadline) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CLEAN_CHUNK_SIZE || !iterator.hasNext()) {
+                    delete(chunk);
+                    deleted += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Build a <code>case</code> expression resolving, for each event type, the property holding the reference id of the event.
+     */
+    private static String buildReferencePropertyKeyExpression() {
+        final Map<String, List<String>> typesByProperty = Arrays.stream(EventType.values())
+            .collect(
+                groupingBy(
+                    type -> EventGroupKeyHelper.referenceProperty(type).getValue(),
+                    LinkedHashMap::new,
+                    mapping(type -> "'" + type.name() + "'", toList())
+                )
+            );
+
+        return typesByProperty
+            .entrySet()
+            .stream()
+            .map(entry -> "when e.type in (" + String.join(", ", entry.getValue()) + ") then '" + entry.getKey() + "'")
+            .collect(joining(" ", "case ", " end"));
+    }
+
     private void executeBatchDelete(String sql, Collection<String> batch) {
         String inClause = String.join(",", Collections.nCopies(batch.size(), "?"));
         String batchSql = sql.replace("(?)", "(" + inClause + ")");
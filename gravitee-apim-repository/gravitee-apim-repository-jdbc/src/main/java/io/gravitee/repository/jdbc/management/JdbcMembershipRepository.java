@@ -28,10 +28,12 @@ import io.gravitee.repository.management.model.MembershipMemberType;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import java.sql.PreparedStatement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import lombok.CustomLog;
@@ -579,6 +581,49 @@ public class JdbcMembershipRepository extends JdbcAbstractCrudRepository<Members
         }
     }
 
+    @Override
+    public Set<Membership> findByMemberIdAndMemberTypeAndReferences(
+        String memberId,
+        MembershipMemberType memberType,
+        Map<MembershipReferenceType, ? extends Collection<String>> referenceIdsByType
+    ) throws TechnicalException {
+        log.debug(
+            "JdbcMembershipRepository.findByMemberIdAndMemberTypeAndReferences({}, {}, {})",
+            memberId,
+            memberType,
+            referenceIdsByType
+        );
+        try {
+            final StringBuilder query = new StringBuilder(getOrm().getSelectAllSql())
+                .append(" where member_id = ? and member_type = ? and (");
+            final List<Object> args = new ArrayList<>();
+            args.add(memberId);
+            args.add(memberType.name());
+            boolean first = true;
+            for (Map.Entry<MembershipReferenceType, ? extends Collection<String>> references : referenceIdsByType.entrySet()) {
+                if (isEmpty(references.getValue())) {
+                    continue;
+                }
+                query.append(first ? "" : " or ").append("(reference_type = ? and reference_id in ( ");
+                query.append(getOrm().buildInClause(references.getValue())).append(" ))");
+                args.add(references.getKey().name());
+                args.addAll(references.getValue());
+                first = false;
+            }
+            if (first) {
+                return emptySet();
+            }
+            query.append(")");
+
+            return new HashSet<>(
+                jdbcTemplate.query(query.toString(), (PreparedStatement ps) -> getOrm().setArguments(ps, args, 1), getOrm().getRowMapper())
+            );
+        } catch (final Exception ex) {
+            log.error("Failed to find membership by member and references", ex);
+            throw new TechnicalException("Failed to find membership by member and references", ex);
+        }
+    }
+
     @Override
     public Set<Membership> findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
         String memberId,
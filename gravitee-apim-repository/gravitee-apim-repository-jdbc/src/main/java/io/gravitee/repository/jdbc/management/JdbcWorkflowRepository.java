@@ -16,12 +16,14 @@
 package io.gravitee.repository.jdbc.management;
 
 import static io.gravitee.repository.jdbc.common.AbstractJdbcRepositoryConfiguration.escapeReservedWord;
+import static org.springframework.util.CollectionUtils.isEmpty;
 
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.jdbc.orm.JdbcObjectMapper;
 import io.gravitee.repository.management.api.WorkflowRepository;
 import io.gravitee.repository.management.model.Workflow;
 import java.sql.Types;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import lombok.CustomLog;
@@ -81,6 +83,35 @@ public class JdbcWorkflowRepository extends JdbcAbstractCrudRepository<Workflow,
         }
     }
 
+    @Override
+    public List<Workflow> findByReferencesAndType(final String referenceType, final Collection<String> referenceIds, final String type)
+        throws TechnicalException {
+        log.debug("JdbcWorkflowRepository.findByReferencesAndType({}, {}, {})", referenceType, referenceIds, type);
+        if (isEmpty(referenceIds)) {
+            return List.of();
+        }
+        try {
+            return jdbcTemplate.query(
+                getOrm().getSelectAllSql() +
+                    " where reference_type = ? and " +
+                    escapeReservedWord("type") +
+                    " = ? and reference_id in (" +
+                    getOrm().buildInClause(referenceIds) +
+                    ") order by created_at desc",
+                ps -> {
+                    ps.setString(1, referenceType);
+                    ps.setString(2, type);
+                    getOrm().setArguments(ps, referenceIds, 3);
+                },
+                getOrm().getRowMapper()
+            );
+        } catch (final Exception ex) {
+            final String message = "Failed to find workflows by references";
+            log.error(message, ex);
+            throw new TechnicalException(message, ex);
+        }
+    }
+
     @Override
     public List<String> deleteByReferenceIdAndReferenceType(String referenceId, String referenceType) throws TechnicalException {
         log.debug("JdbcWorkflowRepository.deleteByReferenceIdAndReferenceType({}, {})", referenceId, referenceType);
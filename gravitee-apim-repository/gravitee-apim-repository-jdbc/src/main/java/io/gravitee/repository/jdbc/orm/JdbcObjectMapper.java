@@ -58,7 +58,10 @@ public class JdbcObjectMapper<T> {
     private final List<JdbcColumn> columns;
 
     private final String idColumn;
+
+    @Getter
     private final String insertSql;
+
     private final String updateSql;
 
     @Getter
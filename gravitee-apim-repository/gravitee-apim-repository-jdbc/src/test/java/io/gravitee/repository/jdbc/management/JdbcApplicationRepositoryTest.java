@@ -15,15 +15,31 @@
  */
 package io.gravitee.repository.jdbc.management;
 
+import static io.gravitee.repository.jdbc.common.AbstractJdbcRepositoryConfiguration.createPagingClause;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.search.ApplicationCriteria;
 import io.gravitee.repository.management.api.search.Order;
 import io.gravitee.repository.management.api.search.Sortable;
+import io.gravitee.repository.management.api.search.builder.PageableBuilder;
 import io.gravitee.repository.management.api.search.builder.SortableBuilder;
 import io.gravitee.repository.management.model.ApplicationStatus;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
 
 public class JdbcApplicationRepositoryTest {
 
@@ -68,4 +84,76 @@ public class JdbcApplicationRepositoryTest {
             "and a.environment_id in (? ) order by a.name asc";
         assertThat(query).isEqualTo(expectedQuery);
     }
+
+    @Test
+    public void searchIdsQuery_queryAndGroupsAndStatus() {
+        JdbcApplicationRepository repository = new JdbcApplicationRepository("table_prefix_");
+        Sortable sortable = new SortableBuilder().field("updated_at").order(Order.DESC).build();
+        ApplicationCriteria criteria = ApplicationCriteria.builder()
+            .query("id1")
+            .groups(Set.of("group1"))
+            .status(ApplicationStatus.ACTIVE)
+            .build();
+        String query = repository.searchIdsQuery(criteria, sortable);
+        String expectedQuery =
+            "select a.id from table_prefix_applications a where 1 = 1 and (a.id = ? or lower(a.name) like ?) and a.status = ? " +
+            "and a.id in (select ag.application_id from table_prefix_application_groups ag where ag.group_id in (? )) " +
+            "order by a.updated_at desc";
+        assertThat(query).isEqualTo(expectedQuery);
+    }
+
+    @Test
+    public void searchCountQuery_groupsAndEnvironmentIds() {
+        JdbcApplicationRepository repository = new JdbcApplicationRepository("table_prefix_");
+        ApplicationCriteria criteria = ApplicationCriteria.builder().groups(Set.of("group1")).environmentIds(Set.of("env1")).build();
+        String query = repository.searchCountQuery(criteria);
+        String expectedQuery =
+            "select count(*) from table_prefix_applications a where 1 = 1 and a.environment_id in (? ) " +
+            "and a.id in (select ag.application_id from table_prefix_application_groups ag where ag.group_id in (? )) ";
+        assertThat(query).isEqualTo(expectedQuery);
+    }
+
+    @Test
+    public void searchIds_pagesInDatabase() throws TechnicalException {
+        JdbcApplicationRepository repository = new JdbcApplicationRepository("table_prefix_");
+        repository.jdbcTemplate = mock(JdbcTemplate.class);
+        ApplicationCriteria criteria = ApplicationCriteria.builder().environmentIds(Set.of("env1")).build();
+        Sortable sortable = new SortableBuilder().field("name").order(Order.ASC).build();
+        when(
+            repository.jdbcTemplate.query(
+                eq(repository.searchCountQuery(criteria)),
+                any(PreparedStatementSetter.class),
+                any(ResultSetExtractor.class)
+            )
+        ).thenReturn(5L);
+        when(repository.jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class))).thenReturn(
+            List.of("app3", "app4")
+        );
+
+        Page<String> page = repository.searchIds(criteria, new PageableBuilder().pageNumber(1).pageSize(2).build(), sortable);
+
+        assertThat(page.getContent()).containsExactly("app3", "app4");
+        assertThat(page.getPageNumber()).isEqualTo(1);
+        assertThat(page.getPageElements()).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        verify(repository.jdbcTemplate).query(
+            eq(repository.searchIdsQuery(criteria, sortable) + " " + createPagingClause(2, 2)),
+            any(PreparedStatementSetter.class),
+            any(RowMapper.class)
+        );
+    }
+
+    @Test
+    public void searchIds_skipsPageQueryWhenNothingMatches() throws TechnicalException {
+        JdbcApplicationRepository repository = new JdbcApplicationRepository("table_prefix_");
+        repository.jdbcTemplate = mock(JdbcTemplate.class);
+        ApplicationCriteria criteria = ApplicationCriteria.builder().environmentIds(Set.of("env1")).build();
+        when(repository.jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class), any(ResultSetExtractor.class))).thenReturn(0L);
+
+        Page<String> page = repository.searchIds(criteria, new PageableBuilder().pageNumber(0).pageSize(2).build(), null);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+        verify(repository.jdbcTemplate, never()).query(anyString(), any(PreparedStatementSetter.class), any(RowMapper.class));
+    }
 }
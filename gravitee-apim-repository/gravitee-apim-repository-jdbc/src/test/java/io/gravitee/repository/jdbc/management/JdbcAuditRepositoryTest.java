@@ -16,16 +16,27 @@
 package io.gravitee.repository.jdbc.management;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.search.AuditCriteria;
 import io.gravitee.repository.management.api.search.builder.PageableBuilder;
 import io.gravitee.repository.management.model.Audit;
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
 
 class JdbcAuditRepositoryTest {
 
@@ -33,19 +44,7 @@ class JdbcAuditRepositoryTest {
     void shouldReturnPageWithCorrectPagination() throws Exception {
         JdbcAuditRepository repo = spy(new JdbcAuditRepository(""));
         JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
-        Field field = null;
-        Class<?> clazz = repo.getClass();
-        while (clazz != null) {
-            try {
-                field = clazz.getDeclaredField("jdbcTemplate");
-                field.setAccessible(true);
-                field.set(repo, jdbcTemplate);
-                break;
-            } catch (NoSuchFieldException e) {
-                clazz = clazz.getSuperclass();
-            }
-        }
-        if (field == null) throw new RuntimeException("jdbcTemplate field not found");
+        injectJdbcTemplate(repo, jdbcTemplate);
         when(jdbcTemplate.queryForObject(anyString(), any(Object[].class), eq(Long.class))).thenReturn(5L);
 
         doAnswer(invocation -> {
@@ -66,4 +65,46 @@ class JdbcAuditRepositoryTest {
         verify(jdbcTemplate).queryForObject(anyString(), any(Object[].class), eq(Long.class));
         verify(jdbcTemplate).query(anyString(), any(JdbcHelper.CollatingRowMapper.class), any(Object[].class));
     }
+
+    @Test
+    void shouldRollbackAuditsWhenPropertiesBatchFails() throws Exception {
+        JdbcAuditRepository target = new JdbcAuditRepository("");
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        injectJdbcTemplate(target, jdbcTemplate);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataIntegrityViolationException("audit_properties"));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        TransactionStatus transaction = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, new AnnotationTransactionAttributeSource()));
+        JdbcAuditRepository repo = (JdbcAuditRepository) proxyFactory.getProxy();
+
+        Audit audit = new Audit();
+        audit.setId("audit-id");
+        audit.setProperties(Map.of("API", "api-id"));
+
+        assertThatThrownBy(() -> repo.createAll(List.of(audit))).isInstanceOf(TechnicalException.class);
+
+        verify(jdbcTemplate).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        verify(transactionManager).rollback(transaction);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private static void injectJdbcTemplate(JdbcAuditRepository repo, JdbcTemplate jdbcTemplate) throws IllegalAccessException {
+        Field field = null;
+        Class<?> clazz = repo.getClass();
+        while (clazz != null) {
+            try {
+                field = clazz.getDeclaredField("jdbcTemplate");
+                field.setAccessible(true);
+                field.set(repo, jdbcTemplate);
+                break;
+            } catch (NoSuchFieldException e) {
+                clazz = clazz.getSuperclass();
+            }
+        }
+        if (field == null) throw new RuntimeException("jdbcTemplate field not found");
+    }
 }
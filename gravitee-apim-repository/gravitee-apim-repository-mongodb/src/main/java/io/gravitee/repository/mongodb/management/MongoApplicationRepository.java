@@ -145,12 +145,12 @@ public class MongoApplicationRepository implements ApplicationRepository {
         if (sortable == null) {
             return internalApplicationRepo.searchIds(applicationCriteria).collect(Collectors.toSet());
         }
-        final Page<ApplicationMongo> applicationsMongo = internalApplicationRepo.search(applicationCriteria, null, sortable);
-        return applicationsMongo
-            .getContent()
-            .parallelStream()
-            .map(ApplicationMongo::getId)
-            .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new LinkedHashSet<>(internalApplicationRepo.searchIds(applicationCriteria, null, sortable).getContent());
+    }
+
+    @Override
+    public Page<String> searchIds(ApplicationCriteria applicationCriteria, Pageable pageable, Sortable sortable) {
+        return internalApplicationRepo.searchIds(applicationCriteria, pageable, sortable);
     }
 
     @Override
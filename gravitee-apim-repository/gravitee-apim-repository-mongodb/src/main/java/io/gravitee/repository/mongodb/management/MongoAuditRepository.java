@@ -99,6 +99,17 @@ public class MongoAuditRepository implements AuditRepository {
         return res;
     }
 
+    @Override
+    public void createAll(List<Audit> audits) throws TechnicalException {
+        log.debug("Create {} audits", audits.size());
+
+        if (!audits.isEmpty()) {
+            internalAuditRepo.insert(audits.stream().map(mapper::map).toList());
+        }
+
+        log.debug("Create {} audits - Done", audits.size());
+    }
+
     @Override
     public Set<Audit> findAll() throws TechnicalException {
         throw new IllegalStateException("not implemented cause of high amount of data. Use pageable search instead");
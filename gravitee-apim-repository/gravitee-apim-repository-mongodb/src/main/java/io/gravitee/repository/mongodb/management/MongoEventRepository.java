@@ -24,6 +24,7 @@ import io.gravitee.repository.management.model.Event;
 import io.gravitee.repository.mongodb.management.internal.event.EventMongoRepository;
 import io.gravitee.repository.mongodb.management.internal.model.EventMongo;
 import io.gravitee.repository.mongodb.management.mapper.GraviteeMapper;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -171,4 +172,9 @@ public class MongoEventRepository implements EventRepository {
     public void delete(Collection<String> ids) {
         internalEventRepo.deleteAllById(ids);
     }
+
+    @Override
+    public long cleanEvents(String environmentId, int nbEventsToKeep, Duration timeToLive) {
+        return internalEventRepo.cleanEvents(environmentId, nbEventsToKeep, timeToLive);
+    }
 }
@@ -25,7 +25,9 @@ import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.mongodb.management.internal.membership.MembershipMongoRepository;
 import io.gravitee.repository.mongodb.management.internal.model.MembershipMongo;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -387,6 +389,22 @@ public class MongoMembershipRepository implements MembershipRepository {
         return memberships;
     }
 
+    @Override
+    public Set<Membership> findByMemberIdAndMemberTypeAndReferences(
+        String memberId,
+        MembershipMemberType memberType,
+        Map<MembershipReferenceType, ? extends Collection<String>> referenceIdsByType
+    ) {
+        log.debug("Find membership by member and references [{}, {}, {}]", memberId, memberType, referenceIdsByType);
+        Map<String, Collection<String>> references = new HashMap<>();
+        referenceIdsByType.forEach((referenceType, referenceIds) -> references.put(referenceType.name(), referenceIds));
+        return internalMembershipRepo
+            .findByMemberIdAndMemberTypeAndReferences(memberId, memberType.name(), references)
+            .stream()
+            .map(this::map)
+            .collect(Collectors.toSet());
+    }
+
     @Override
     public Set<Membership> findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
         String memberId,
@@ -23,6 +23,7 @@ import io.gravitee.repository.management.model.Workflow;
 import io.gravitee.repository.mongodb.management.internal.api.WorkflowMongoRepository;
 import io.gravitee.repository.mongodb.management.internal.model.WorkflowMongo;
 import io.gravitee.repository.mongodb.management.mapper.GraviteeMapper;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -128,6 +129,20 @@ public class MongoWorkflowRepository implements WorkflowRepository {
         return workflows.stream().map(this::map).collect(toList());
     }
 
+    @Override
+    public List<Workflow> findByReferencesAndType(String referenceType, Collection<String> referenceIds, String type) {
+        log.debug("Find workflow by references and type '{}' / '{}' / '{}'", referenceType, referenceIds, type);
+
+        final List<WorkflowMongo> workflows = internalWorkflowRepo.findByReferenceTypeAndReferenceIdInAndTypeOrderByCreatedAtDesc(
+            referenceType,
+            referenceIds,
+            type
+        );
+
+        log.debug("Find workflow by references and type '{}' / '{}' / '{}' done", referenceType, referenceIds, type);
+        return workflows.stream().map(this::map).collect(toList());
+    }
+
     @Override
     public List<String> deleteByReferenceIdAndReferenceType(String referenceId, String referenceType) throws TechnicalException {
         log.debug("Delete workflow by reference {}/{}", referenceId, referenceType);
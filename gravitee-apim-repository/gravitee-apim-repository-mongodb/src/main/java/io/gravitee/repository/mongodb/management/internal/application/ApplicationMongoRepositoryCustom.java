@@ -34,6 +34,8 @@ public interface ApplicationMongoRepositoryCustom {
 
     Stream<String> searchIds(ApplicationCriteria applicationCriteria);
 
+    Page<String> searchIds(ApplicationCriteria applicationCriteria, final Pageable pageable, final Sortable sortable);
+
     Set<ApplicationMongo> findByIds(Collection<String> ids, Sortable sortable);
 
     boolean existsMetadataEntryForEnv(String key, String value, String environmentId);
@@ -55,16 +55,7 @@ public class ApplicationMongoRepositoryImpl implements ApplicationMongoRepositor
 
         query.fields().exclude("background");
         query.fields().exclude("picture");
-
-        Sort.Direction direction = toSortDirection(sortable);
-        Sort.Order order;
-        if (sortable == null) {
-            order = new Sort.Order(direction, "name");
-        } else {
-            order = new Sort.Order(direction, FieldUtils.toCamelCase(sortable.field()));
-        }
-
-        query.with(Sort.by(order));
+        query.with(toSort(sortable));
 
         long total = mongoTemplate.count(query, ApplicationMongo.class);
 
@@ -84,6 +75,24 @@ public class ApplicationMongoRepositoryImpl implements ApplicationMongoRepositor
         return mongoTemplate.stream(query, ApplicationMongo.class).map(ApplicationMongo::getId);
     }
 
+    @Override
+    public Page<String> searchIds(final ApplicationCriteria criteria, final Pageable pageable, Sortable sortable) {
+        final Query query = buildSearchCriteria(criteria);
+        // Only fetch the id
+        query.fields().include("id");
+        query.with(toSort(sortable));
+
+        long total = mongoTemplate.count(query, ApplicationMongo.class);
+
+        if (pageable != null) {
+            query.with(PageRequest.of(pageable.pageNumber(), pageable.pageSize()));
+        }
+
+        List<String> ids = mongoTemplate.find(query, ApplicationMongo.class).stream().map(ApplicationMongo::getId).toList();
+
+        return new Page<>(ids, pageable != null ? pageable.pageNumber() : 0, ids.size(), total);
+    }
+
     Query buildSearchCriteria(ApplicationCriteria criteria) {
         Query query = new Query();
 
@@ -116,6 +125,14 @@ public class ApplicationMongoRepositoryImpl implements ApplicationMongoRepositor
         return query;
     }
 
+    private Sort toSort(Sortable sortable) {
+        Sort.Direction direction = toSortDirection(sortable);
+        if (sortable == null) {
+            return Sort.by(new Sort.Order(direction, "name"));
+        }
+        return Sort.by(new Sort.Order(direction, FieldUtils.toCamelCase(sortable.field())));
+    }
+
     private Sort.Direction toSortDirection(Sortable sortable) {
         if (sortable != null) {
             return Order.DESC.equals(sortable.order()) ? Sort.Direction.DESC : ASC;
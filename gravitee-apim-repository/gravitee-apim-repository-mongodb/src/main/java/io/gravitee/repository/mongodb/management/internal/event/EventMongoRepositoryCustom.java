@@ -21,6 +21,7 @@ import io.gravitee.repository.management.api.search.EventCriteria;
 import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.repository.management.model.Event;
 import io.gravitee.repository.mongodb.management.internal.model.EventMongo;
+import java.time.Duration;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -37,4 +38,6 @@ public interface EventMongoRepositoryCustom {
     long deleteAllByApi(String apiId);
 
     Stream<EventRepository.EventToClean> findEventsToClean(String environmentId);
+
+    long cleanEvents(String environmentId, int nbEventsToKeep, Duration timeToLive);
 }
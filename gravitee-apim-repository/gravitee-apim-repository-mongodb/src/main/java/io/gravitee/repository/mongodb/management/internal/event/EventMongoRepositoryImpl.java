@@ -15,8 +15,26 @@
  */
 package io.gravitee.repository.mongodb.management.internal.event;
 
+import static com.mongodb.client.model.Aggregates.match;
+import static com.mongodb.client.model.Aggregates.project;
+import static com.mongodb.client.model.Aggregates.setWindowFields;
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Filters.gt;
+import static com.mongodb.client.model.Filters.in;
+import static com.mongodb.client.model.Filters.regex;
+import static com.mongodb.client.model.Projections.computed;
+import static com.mongodb.client.model.Projections.fields;
+import static com.mongodb.client.model.Projections.include;
+import static com.mongodb.client.model.Sorts.descending;
+import static com.mongodb.client.model.WindowOutputFields.documentNumber;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.management.api.EventRepository;
 import io.gravitee.repository.management.api.search.EventCriteria;
@@ -25,15 +43,20 @@ import io.gravitee.repository.management.model.Event;
 import io.gravitee.repository.management.model.EventType;
 import io.gravitee.repository.mongodb.management.internal.model.EventMongo;
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 import lombok.CustomLog;
+import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
@@ -56,6 +79,14 @@ public class EventMongoRepositoryImpl implements EventMongoRepositoryCustom {
     public static final String ENVIRONMENTS_FIELD = "environments";
     public static final String ORGANIZATIONS_FIELD = "organizations";
 
+    private static final String TYPE_FIELD = "type";
+    private static final String CREATED_AT_FIELD = "createdAt";
+    private static final String REFERENCE_ID_FIELD = "referenceId";
+    private static final String RANK_FIELD = "rank";
+    private static final int CLEAN_CHUNK_SIZE = 1000;
+    private static final int UNRECOGNIZED_PIPELINE_STAGE_ERROR_CODE = 40324;
+    private static final Document REFERENCE_ID_EXPRESSION = buildReferenceIdExpression();
+
     private String backupCollection = BACKUP_COLLECTION;
 
     @Autowired
@@ -207,4 +238,71 @@ public class EventMongoRepositoryImpl implements EventMongoRepositoryCustom {
             .filter(Objects::nonNull) // Filter out events that can't be grouped
             .filter(eventToClean -> eventToClean.group() != null); // Filter out events that can't be grouped
     }
+
+    @Override
+    public long cleanEvents(String environmentId, int nbEventsToKeep, Duration timeToLive) {
+        final long deadline = System.nanoTime() + timeToLive.toNanos();
+        final MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(EventMongo.class));
+
+        // Rank the events of each group from the most recent one and only return the ids of the events exceeding the number to keep
+        final List<Bson> pipeline = List.of(
+            match(eq(ENVIRONMENTS_FIELD, environmentId)),
+            project(fields(include(TYPE_FIELD, CREATED_AT_FIELD), computed(REFERENCE_ID_FIELD, REFERENCE_ID_EXPRESSION))),
+            // Events without reference id can't be grouped and are never cleaned
+            match(regex(REFERENCE_ID_FIELD, "\\S")),
+            setWindowFields(
+                new Document(TYPE_FIELD, "$" + TYPE_FIELD).append(REFERENCE_ID_FIELD, "$" + REFERENCE_ID_FIELD),
+                descending(CREATED_AT_FIELD),
+                documentNumber(RANK_FIELD)
+            ),
+            match(gt(RANK_FIELD, nbEventsToKeep)),
+            project(include("_id"))
+        );
+
+        long deleted = 0;
+        final List<String> chunk = new ArrayList<>(CLEAN_CHUNK_SIZE);
+        try (MongoCursor<Document> cursor = collection.aggregate(pipeline).allowDiskUse(true).batchSize(CLEAN_CHUNK_SIZE).iterator()) {
+            while (cursor.hasNext() && System.nanoTime() < deadline) {
+                chunk.add(cursor.next().getString("_id"));
+                if (chunk.size() == CLEAN_CHUNK_SIZE || !cursor.hasNext()) {
+                    deleted += collection.deleteMany(in("_id", chunk)).getDeletedCount();
+                    chunk.clear();
+                }
+            }
+        } catch (MongoCommandException e) {
+            if (e.getErrorCode() == UNRECOGNIZED_PIPELINE_STAGE_ERROR_CODE) {
+                // $setWindowFields is only available since MongoDB 5.0
+                throw new UnsupportedOperationException("Bulk events cleaning is not supported by this MongoDB version", e);
+            }
+            throw e;
+        }
+        return deleted;
+    }
+
+    /**
+     * Build a <code>$switch</code> expression resolving, for each event type, the property holding the reference id of the event.
+     */
+    private static Document buildReferenceIdExpression() {
+        final Map<String, List<String>> typesByProperty = Arrays.stream(EventType.values())
+            .collect(
+                groupingBy(
+                    type -> EventRepository.EventGroupKeyHelper.referenceProperty(type).getValue(),
+                    LinkedHashMap::new,
+                    mapping(EventType::name, toList())
+                )
+            );
+
+        final List<Document> branches = typesByProperty
+            .entrySet()
+            .stream()
+            .map(entry ->
+                new Document("case", new Document("$in", List.of("$" + TYPE_FIELD, entry.getValue()))).append(
+                    "then",
+                    "$properties." + entry.getKey()
+                )
+            )
+            .toList();
+
+        return new Document("$switch", new Document("branches", branches).append("default", null));
+    }
 }
@@ -15,8 +15,18 @@
  */
 package io.gravitee.repository.mongodb.management.internal.membership;
 
+import io.gravitee.repository.mongodb.management.internal.model.MembershipMongo;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 public interface MembershipMongoRepositoryCustom {
     Stream<String> findRefIdsByMemberIdAndMemberTypeAndReferenceType(String memberId, String memberType, String referenceType);
+
+    List<MembershipMongo> findByMemberIdAndMemberTypeAndReferences(
+        String memberId,
+        String memberType,
+        Map<String, ? extends Collection<String>> referenceIdsByType
+    );
 }
@@ -18,8 +18,12 @@ package io.gravitee.repository.mongodb.management.internal.membership;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 import io.gravitee.repository.mongodb.management.internal.model.MembershipMongo;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
 public class MembershipMongoRepositoryCustomImpl implements MembershipMongoRepositoryCustom {
@@ -39,4 +43,27 @@ public class MembershipMongoRepositoryCustomImpl implements MembershipMongoRepos
         query.addCriteria(where("referenceType").is(referenceType));
         return mongoTemplate.findDistinct(query, "referenceId", MembershipMongo.class, String.class).parallelStream();
     }
+
+    @Override
+    public List<MembershipMongo> findByMemberIdAndMemberTypeAndReferences(
+        String memberId,
+        String memberType,
+        Map<String, ? extends Collection<String>> referenceIdsByType
+    ) {
+        Criteria[] references = referenceIdsByType
+            .entrySet()
+            .stream()
+            .filter(entry -> !entry.getValue().isEmpty())
+            .map(entry -> where("referenceType").is(entry.getKey()).and("referenceId").in(entry.getValue()))
+            .toArray(Criteria[]::new);
+        if (references.length == 0) {
+            return List.of();
+        }
+
+        Query query = new Query();
+        query.addCriteria(where("memberId").is(memberId));
+        query.addCriteria(where("memberType").is(memberType));
+        query.addCriteria(new Criteria().orOperator(references));
+        return mongoTemplate.find(query, MembershipMongo.class);
+    }
 }
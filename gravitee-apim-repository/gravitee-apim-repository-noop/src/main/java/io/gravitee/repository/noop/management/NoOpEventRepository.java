@@ -20,6 +20,7 @@ import io.gravitee.repository.management.api.EventRepository;
 import io.gravitee.repository.management.api.search.EventCriteria;
 import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.repository.management.model.Event;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
@@ -67,4 +68,9 @@ public class NoOpEventRepository extends AbstractNoOpManagementRepository<Event,
 
     @Override
     public void delete(Collection<String> ids) {}
+
+    @Override
+    public long cleanEvents(String environmentId, int nbEventsToKeep, Duration timeToLive) {
+        return 0;
+    }
 }
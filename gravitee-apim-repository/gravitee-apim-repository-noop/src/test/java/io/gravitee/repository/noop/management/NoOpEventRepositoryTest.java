@@ -24,6 +24,7 @@ import io.gravitee.repository.management.api.search.EventCriteria;
 import io.gravitee.repository.management.api.search.builder.PageableBuilder;
 import io.gravitee.repository.management.model.Event;
 import io.gravitee.repository.noop.AbstractNoOpRepositoryTest;
+import java.time.Duration;
 import java.util.List;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,4 +61,11 @@ public class NoOpEventRepositoryTest extends AbstractNoOpRepositoryTest {
 
         assertNull(event);
     }
+
+    @Test
+    public void cleanEvents() {
+        long deleted = cut.cleanEvents("DEFAULT", 5, Duration.ofMinutes(1));
+
+        assertEquals(0, deleted);
+    }
 }
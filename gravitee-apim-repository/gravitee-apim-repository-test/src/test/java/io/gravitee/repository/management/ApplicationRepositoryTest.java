@@ -438,6 +438,22 @@ public class ApplicationRepositoryTest extends AbstractManagementRepositoryTest
         assertEquals(8, appsPage.getTotalElements());
     }
 
+    @Test
+    public void shouldSearchIdsWithPaginationAndSort() throws Exception {
+        Pageable pageable = new PageableBuilder().pageSize(3).pageNumber(2).build();
+        Sortable sortable = new SortableBuilder().field("updated_at").order(Order.ASC).build();
+        final Page<String> idsPage = applicationRepository.searchIds(
+            ApplicationCriteria.builder().environmentIds(Set.of("DEV", "TEST", "PROD")).build(),
+            pageable,
+            sortable
+        );
+
+        assertEquals(List.of("dbc12b15-e975-4fa1-812b-15e975bfa13c", "74e34cc3-000f-492e-a34c-c3000f192e32"), idsPage.getContent());
+        assertEquals(2, idsPage.getPageNumber());
+        assertEquals(2, idsPage.getPageElements());
+        assertEquals(8, idsPage.getTotalElements());
+    }
+
     @Test
     public void shouldSearchByGroups() throws Exception {
         final Page<Application> appsPage = applicationRepository.search(
@@ -73,6 +73,39 @@ public class AuditRepositoryTest extends AbstractManagementRepositoryTest {
         assertEquals("id", optionalAudit.get().getId(), audit.getId());
     }
 
+    @Test
+    public void shouldCreateAll() throws Exception {
+        final List<Audit> audits = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final Audit audit = new Audit();
+            audit.setId("bulkAudit" + i);
+            audit.setOrganizationId("DEFAULT");
+            audit.setEnvironmentId("DEFAULT");
+            audit.setReferenceType(Audit.AuditReferenceType.API);
+            audit.setReferenceId("bulk");
+            audit.setEvent(Plan.AuditEvent.PLAN_CREATED.name());
+            audit.setProperties(i % 2 == 0 ? Map.of(Audit.AuditProperties.PLAN.name(), "plan" + i) : null);
+            audit.setUser("JohnDoe");
+            audit.setPatch("diff" + i);
+            audit.setCreatedAt(new Date(1486771200000L + i));
+            audits.add(audit);
+        }
+
+        auditRepository.createAll(audits);
+
+        Page<Audit> auditPage = auditRepository.search(
+            new AuditCriteria.Builder().references(Audit.AuditReferenceType.API, List.of("bulk")).build(),
+            new PageableBuilder().pageNumber(0).pageSize(100).build()
+        );
+        assertEquals("total elements", 50, auditPage.getTotalElements());
+
+        Optional<Audit> optionalAudit = auditRepository.findById("bulkAudit10");
+        assertTrue("Audit saved not found", optionalAudit.isPresent());
+        assertEquals("patch", "diff10", optionalAudit.get().getPatch());
+        assertEquals("properties", Map.of(Audit.AuditProperties.PLAN.name(), "plan10"), optionalAudit.get().getProperties());
+        assertTrue("createdAt", compareDate(new Date(1486771200010L), optionalAudit.get().getCreatedAt()));
+    }
+
     @Test
     public void shouldFindById() throws TechnicalException {
         Optional<Audit> auditOptional = auditRepository.findById("new");
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.not;
 
 import io.gravitee.repository.management.api.EventRepository;
+import java.time.Duration;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -257,4 +258,49 @@ public class EventRepository_CleanEventsTest extends AbstractManagementRepositor
                 "DEPLOY_SHARED_POLICY_GROUP"
             );
     }
+
+    @Test
+    public void should_clean_events_exceeding_the_number_of_events_to_keep() throws Exception {
+        // when
+        long deleted = eventRepository.cleanEvents("DEFAULT", 1, Duration.ofMinutes(1));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        // only PUBLISH_API events of api-1 have more than one event, the most recent one is kept
+        assertThat(eventRepository.findById("event01")).isEmpty();
+        assertThat(eventRepository.findById("event03")).isPresent();
+        assertThat(eventRepository.findEventsToClean("DEFAULT").toList()).hasSize(14);
+    }
+
+    @Test
+    public void should_clean_all_grouped_events_when_keeping_none() {
+        // when
+        long deleted = eventRepository.cleanEvents("DEFAULT", 0, Duration.ofMinutes(1));
+
+        // then
+        assertThat(deleted).isEqualTo(15);
+        assertThat(eventRepository.findEventsToClean("DEFAULT").toList()).isEmpty();
+        assertThat(eventRepository.findEventsToClean("NOT-DEFAULT").toList()).hasSize(3);
+    }
+
+    @Test
+    public void should_only_clean_events_of_the_given_environment() {
+        // when
+        long deleted = eventRepository.cleanEvents("NOT-DEFAULT", 0, Duration.ofMinutes(1));
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(eventRepository.findEventsToClean("NOT-DEFAULT").toList()).isEmpty();
+        assertThat(eventRepository.findEventsToClean("DEFAULT").toList()).hasSize(15);
+    }
+
+    @Test
+    public void should_not_clean_events_once_time_to_live_is_elapsed() {
+        // when
+        long deleted = eventRepository.cleanEvents("DEFAULT", 0, Duration.ZERO);
+
+        // then
+        assertThat(deleted).isZero();
+        assertThat(eventRepository.findEventsToClean("DEFAULT").toList()).hasSize(15);
+    }
 }
@@ -266,6 +266,30 @@ public class MembershipRepositoryTest extends AbstractManagementRepositoryTest {
         assertThat(membership.getRoleId()).isEqualTo("11baec92-8823-4f8b-baec-9288238f8b5c");
     }
 
+    @Test
+    public void shouldFindByMemberIdAndMemberTypeAndReferences() throws TechnicalException {
+        var memberships = membershipRepository.findByMemberIdAndMemberTypeAndReferences(
+            "user_findByReferences",
+            MembershipMemberType.USER,
+            Map.of(API, List.of("api_findByReferences", "unknown"), MembershipReferenceType.GROUP, Set.of("group_findByReferences"))
+        );
+
+        assertThat(memberships)
+            .map(Membership::getId)
+            .containsExactlyInAnyOrder("api_user_findByReferences", "group_user_findByReferences");
+    }
+
+    @Test
+    public void shouldFindNothingByMemberIdAndMemberTypeAndEmptyReferences() throws TechnicalException {
+        var memberships = membershipRepository.findByMemberIdAndMemberTypeAndReferences(
+            "user_findByReferences",
+            MembershipMemberType.USER,
+            Map.of(API, List.of())
+        );
+
+        assertThat(memberships).isEmpty();
+    }
+
     @Test
     public void shouldFindByRoleId() throws TechnicalException {
         var memberships = membershipRepository.findByRoleId("APPLICATION_USER");
@@ -23,6 +23,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -129,6 +130,35 @@ public class WorkflowRepositoryTest extends AbstractManagementRepositoryTest {
         assertEquals("workflow", workflows.get(0).getId());
     }
 
+    @Test
+    public void shouldFindByReferencesAndType() throws Exception {
+        final List<Workflow> workflows = workflowRepository.findByReferencesAndType(
+            "APPLICATION",
+            List.of("application-id", "ToBeDeleted", "unknown"),
+            "REVIEW"
+        );
+        assertNotNull(workflows);
+        assertEquals(3, workflows.size());
+        assertEquals(
+            Set.of("workflow-app", "to_be_deleted_1", "to_be_deleted_2"),
+            workflows.stream().map(Workflow::getId).collect(Collectors.toSet())
+        );
+    }
+
+    @Test
+    public void shouldFindByReferencesAndTypeOrderedByMostRecentFirst() throws Exception {
+        final List<Workflow> workflows = workflowRepository.findByReferencesAndType("API", List.of("api-id"), "REVIEW");
+        assertNotNull(workflows);
+        assertEquals(List.of("workflow", "old-workflow", "workflow-api"), workflows.stream().map(Workflow::getId).toList());
+    }
+
+    @Test
+    public void shouldFindNothingByEmptyReferencesAndType() throws Exception {
+        final List<Workflow> workflows = workflowRepository.findByReferencesAndType("API", List.of(), "REVIEW");
+        assertNotNull(workflows);
+        assertTrue(workflows.isEmpty());
+    }
+
     @Test
     public void should_delete_by_reference_id_and_reference_type() throws Exception {
         final var nbBeforeDeletion = workflowRepository.findByReferenceAndType("APPLICATION", "ToBeDeleted", "REVIEW").size();
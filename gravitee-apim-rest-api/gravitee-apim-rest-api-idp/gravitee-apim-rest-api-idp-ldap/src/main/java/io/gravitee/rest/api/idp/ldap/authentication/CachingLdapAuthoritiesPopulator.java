@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.authentication;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.ldap.userdetails.LdapAuthoritiesPopulator;
+
+/**
+ * Keeps the authorities resolved from the LDAP groups of a user for a short period, so that consecutive logins of the same user
+ * do not search for its group membership each time.
+ *
+ * @author GraviteeSource Team
+ */
+public class CachingLdapAuthoritiesPopulator implements LdapAuthoritiesPopulator {
+
+    private final LdapAuthoritiesPopulator delegate;
+    private final Cache<String, Collection<? extends GrantedAuthority>> authorities;
+
+    public CachingLdapAuthoritiesPopulator(LdapAuthoritiesPopulator delegate, long ttlInSeconds, long maxSize) {
+        this.delegate = delegate;
+        this.authorities = CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(ttlInSeconds, TimeUnit.SECONDS).build();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getGrantedAuthorities(DirContextOperations userData, String username) {
+        String key = userData.getNameInNamespace();
+        Collection<? extends GrantedAuthority> cachedAuthorities = authorities.getIfPresent(key);
+        if (cachedAuthorities != null) {
+            return cachedAuthorities;
+        }
+
+        Collection<? extends GrantedAuthority> userAuthorities = delegate.getGrantedAuthorities(userData, username);
+        authorities.put(key, userAuthorities);
+        return userAuthorities;
+    }
+}
@@ -16,24 +16,30 @@
 package io.gravitee.rest.api.idp.ldap.authentication;
 
 import io.gravitee.rest.api.idp.api.authentication.AuthenticationProvider;
+import io.gravitee.rest.api.idp.ldap.utils.LdapPoolUtils;
 import lombok.CustomLog;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
+import org.springframework.ldap.core.ContextSource;
 import org.springframework.security.config.annotation.SecurityConfigurer;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.ldap.DefaultSpringSecurityContextSource;
 import org.springframework.security.ldap.userdetails.DefaultLdapAuthoritiesPopulator;
+import org.springframework.security.ldap.userdetails.LdapAuthoritiesPopulator;
 
 /**
  * @author David BRASSELY (david at gravitee.io)
  * @author GraviteeSource Team
  */
 @CustomLog
-public class LdapAuthenticationProvider implements AuthenticationProvider<SecurityConfigurer> {
+public class LdapAuthenticationProvider implements AuthenticationProvider<SecurityConfigurer>, DisposableBean {
 
     @Autowired
     private Environment environment;
 
+    private ContextSource groupContextSource;
+
     @Override
     public SecurityConfigurer configure() throws Exception {
         log.info("Configuring an LDAP Identity Provider");
@@ -57,15 +63,29 @@ public class LdapAuthenticationProvider implements AuthenticationProvider<Securi
             .groupRoleAttribute(environment.getProperty("authentication.group.role.attribute", "cn"))
             .rolePrefix("");
 
+        // Group searches are made with the manager credentials, they can reuse pooled contexts
+        // The pool of a previous configuration is closed, its populator is not used anymore
+        destroyGroupContextSource();
+        groupContextSource = LdapPoolUtils.pooled(contextSource, environment);
         DefaultLdapAuthoritiesPopulator populator = new DefaultLdapAuthoritiesPopulator(
-            contextSource,
+            groupContextSource,
             environment.getProperty("authentication.group.base", "")
         );
         populator.setRolePrefix("");
         populator.setGroupRoleAttribute(environment.getProperty("authentication.group.role.attribute", "cn"));
         populator.setGroupSearchFilter(environment.getProperty("authentication.group.filter", "(uniqueMember={0})"));
 
-        ldapAuthenticationProviderConfigurer.ldapAuthoritiesPopulator(populator).contextSource(contextSource);
+        LdapAuthoritiesPopulator authoritiesPopulator = populator;
+        long groupCacheTtl = environment.getProperty("authentication.group.cache.ttl", Long.class, 60L);
+        if (groupCacheTtl > 0) {
+            authoritiesPopulator = new CachingLdapAuthoritiesPopulator(
+                populator,
+                groupCacheTtl,
+                environment.getProperty("authentication.group.cache.max-size", Long.class, 1_000L)
+            );
+        }
+
+        ldapAuthenticationProviderConfigurer.ldapAuthoritiesPopulator(authoritiesPopulator).contextSource(contextSource);
 
         // set up LDAP mapper
         UserDetailsContextPropertiesMapper userDetailsContextPropertiesMapper = new UserDetailsContextPropertiesMapper();
@@ -75,4 +95,16 @@ public class LdapAuthenticationProvider implements AuthenticationProvider<Securi
 
         return ldapAuthenticationProviderConfigurer;
     }
+
+    @Override
+    public void destroy() throws Exception {
+        destroyGroupContextSource();
+    }
+
+    private void destroyGroupContextSource() throws Exception {
+        if (groupContextSource instanceof DisposableBean pooledContextSource) {
+            pooledContextSource.destroy();
+        }
+        groupContextSource = null;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.idp.ldap.lookup;
 
+import io.gravitee.rest.api.idp.ldap.utils.LdapPoolUtils;
 import java.io.IOException;
 import java.net.ServerSocket;
 import lombok.CustomLog;
@@ -62,6 +63,10 @@ public class LdapContextSourceFactory extends AbstractFactoryBean<LdapContextSou
         }
 
         ldapContextSource = contextSourceBuilder.build();
+        if (LdapPoolUtils.isPoolEnabled(environment)) {
+            // Contexts are pooled and validated by the LDAP template, JNDI connection pooling would only keep extra connections open
+            ldapContextSource.setPooled(false);
+        }
         return ldapContextSource;
     }
 
@@ -15,6 +15,8 @@
  */
 package io.gravitee.rest.api.idp.ldap.lookup;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.rest.api.idp.api.identity.IdentityLookup;
 import io.gravitee.rest.api.idp.api.identity.IdentityReference;
 import io.gravitee.rest.api.idp.api.identity.User;
@@ -23,8 +25,11 @@ import io.gravitee.rest.api.idp.ldap.lookup.spring.LdapIdentityLookupConfigurati
 import io.gravitee.rest.api.idp.ldap.utils.LdapUtils;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import javax.naming.ldap.LdapName;
 import lombok.CustomLog;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
@@ -49,7 +54,7 @@ import org.springframework.ldap.support.LdapNameBuilder;
  */
 @CustomLog
 @Import(LdapIdentityLookupConfiguration.class)
-public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
+public class LdapIdentityLookup implements IdentityLookup, InitializingBean, DisposableBean {
 
     private static final String LDAP_ATTRIBUTE_GIVENNAME = "givenName";
     private static final String LDAP_ATTRIBUTE_SURNAME = "sn";
@@ -69,6 +74,10 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
 
     private String[] userAttributes;
 
+    private Cache<String, Collection<User>> searchCache;
+
+    private Cache<String, Optional<User>> userCache;
+
     @Override
     public void afterPropertiesSet() throws Exception {
         String searchFilter = environment.getProperty("lookup.user.filter");
@@ -101,10 +110,28 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
             .build();
 
         log.info("User search is based on DN [{}]", baseDn);
+
+        // Console searches and user retrievals hit the directory each time, keep their results for a short period
+        long cacheTtl = environment.getProperty("lookup.cache.ttl", Long.class, 60L);
+        long cacheMaxSize = cacheTtl > 0 ? environment.getProperty("lookup.cache.max-size", Long.class, 1_000L) : 0;
+        searchCache = CacheBuilder.newBuilder().maximumSize(cacheMaxSize).expireAfterWrite(Math.max(cacheTtl, 0), TimeUnit.SECONDS).build();
+        userCache = CacheBuilder.newBuilder().maximumSize(cacheMaxSize).expireAfterWrite(Math.max(cacheTtl, 0), TimeUnit.SECONDS).build();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (ldapTemplate.getContextSource() instanceof DisposableBean pooledContextSource) {
+            pooledContextSource.destroy();
+        }
     }
 
     @Override
     public Collection<User> search(String query) {
+        Collection<User> cachedUsers = searchCache.getIfPresent(query);
+        if (cachedUsers != null) {
+            return cachedUsers;
+        }
+
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
@@ -119,7 +146,9 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
                 .attributes(LDAP_ATTRIBUTE_GIVENNAME, LDAP_ATTRIBUTE_SURNAME, LDAP_ATTRIBUTE_MAIL, LDAP_ATTRIBUTE_DISPLAYNAME)
                 .filter(new HardcodedFilter(hardcodedFilter));
 
-            return ldapTemplate.search(ldapQuery, USER_CONTEXT_MAPPER);
+            Collection<User> users = ldapTemplate.search(ldapQuery, USER_CONTEXT_MAPPER);
+            searchCache.put(query, users);
+            return users;
         } catch (LimitExceededException lee) {
             log.info("Too much results while searching for [{}]. Returns an empty list.", query);
             return Collections.emptyList();
@@ -138,11 +167,19 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
 
     @Override
     public User retrieve(IdentityReference identityReference) {
+        Optional<User> cachedUser = userCache.getIfPresent(identityReference.getReference());
+        if (cachedUser != null) {
+            return cachedUser.orElse(null);
+        }
+
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
-            return ldapTemplate.lookup(identityReference.getReference(), userAttributes, USER_CONTEXT_MAPPER);
+            User user = ldapTemplate.lookup(identityReference.getReference(), userAttributes, USER_CONTEXT_MAPPER);
+            userCache.put(identityReference.getReference(), Optional.ofNullable(user));
+            return user;
         } catch (final NameNotFoundException nnfe) {
+            userCache.put(identityReference.getReference(), Optional.empty());
             return null;
         } finally {
             Thread.currentThread().setContextClassLoader(classLoader);
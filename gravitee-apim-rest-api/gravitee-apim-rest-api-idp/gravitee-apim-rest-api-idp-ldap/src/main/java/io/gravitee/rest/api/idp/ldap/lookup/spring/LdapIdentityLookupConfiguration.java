@@ -16,8 +16,10 @@
 package io.gravitee.rest.api.idp.ldap.lookup.spring;
 
 import io.gravitee.rest.api.idp.ldap.lookup.LdapContextSourceFactory;
+import io.gravitee.rest.api.idp.ldap.utils.LdapPoolUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.ldap.core.LdapTemplate;
 import org.springframework.ldap.core.support.LdapContextSource;
 
@@ -34,7 +36,7 @@ public class LdapIdentityLookupConfiguration {
     }
 
     @Bean
-    public LdapTemplate ldapTemplate(LdapContextSource contextSource) {
-        return new LdapTemplate(contextSource);
+    public LdapTemplate ldapTemplate(LdapContextSource contextSource, Environment environment) {
+        return new LdapTemplate(LdapPoolUtils.pooled(contextSource, environment));
     }
 }
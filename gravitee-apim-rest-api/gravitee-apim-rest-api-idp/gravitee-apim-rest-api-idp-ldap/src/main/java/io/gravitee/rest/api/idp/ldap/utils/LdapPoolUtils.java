@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.utils;
+
+import org.springframework.core.env.Environment;
+import org.springframework.ldap.core.ContextSource;
+import org.springframework.ldap.pool2.factory.PoolConfig;
+import org.springframework.ldap.pool2.factory.PooledContextSource;
+import org.springframework.ldap.pool2.validation.DefaultDirContextValidator;
+
+/**
+ * Wraps the context source used with the manager credentials in a pool of validated LDAP contexts, so that user lookups and group
+ * searches reuse open connections instead of binding again to the directory.
+ *
+ * @author GraviteeSource Team
+ */
+public final class LdapPoolUtils {
+
+    private LdapPoolUtils() {}
+
+    public static boolean isPoolEnabled(Environment environment) {
+        return environment.getProperty("context.pool.enabled", Boolean.class, true);
+    }
+
+    /**
+     * Pool the read only contexts of the given context source if <code>context.pool.enabled</code> is not disabled.
+     * A pooled context source can not be used to authenticate users with their own credentials.
+     *
+     * @param contextSource the context source to pool.
+     * @param environment the identity provider configuration.
+     * @return a {@link PooledContextSource} or the given context source if pooling is disabled.
+     */
+    public static ContextSource pooled(ContextSource contextSource, Environment environment) {
+        if (!isPoolEnabled(environment)) {
+            return contextSource;
+        }
+
+        PoolConfig poolConfig = new PoolConfig();
+        poolConfig.setMaxTotalPerKey(environment.getProperty("context.pool.max-total", Integer.class, 8));
+        poolConfig.setMaxIdlePerKey(environment.getProperty("context.pool.max-idle", Integer.class, 8));
+        poolConfig.setMinIdlePerKey(environment.getProperty("context.pool.min-idle", Integer.class, 0));
+        poolConfig.setMaxWaitMillis(environment.getProperty("context.pool.max-wait", Long.class, 5_000L));
+        // Validate contexts before handing them out so that connections closed by the directory are replaced transparently
+        poolConfig.setTestOnBorrow(environment.getProperty("context.pool.validation.enabled", Boolean.class, true));
+        poolConfig.setTestWhileIdle(environment.getProperty("context.pool.validation.enabled", Boolean.class, true));
+        poolConfig.setTimeBetweenEvictionRunsMillis(environment.getProperty("context.pool.eviction-interval", Long.class, 60_000L));
+        poolConfig.setMinEvictableIdleTimeMillis(environment.getProperty("context.pool.idle-timeout", Long.class, 300_000L));
+
+        PooledContextSource pooledContextSource = new PooledContextSource(poolConfig);
+        pooledContextSource.setContextSource(contextSource);
+        pooledContextSource.setDirContextValidator(new DefaultDirContextValidator());
+        return pooledContextSource;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.authentication;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.ldap.userdetails.LdapAuthoritiesPopulator;
+import org.springframework.security.ldap.userdetails.LdapAuthority;
+
+public class CachingLdapAuthoritiesPopulatorTest {
+
+    private LdapAuthoritiesPopulator delegate;
+    private CachingLdapAuthoritiesPopulator cut;
+
+    @Before
+    public void setUp() {
+        delegate = mock(LdapAuthoritiesPopulator.class);
+        cut = new CachingLdapAuthoritiesPopulator(delegate, 60, 100);
+    }
+
+    @Test
+    public void shouldResolveGroupsOncePerUser() {
+        DirContextOperations user = user("cn=user1,ou=users,dc=gravitee,dc=io");
+        List<LdapAuthority> authorities = List.of(new LdapAuthority("GRAVITEE_USERS", "cn=GRAVITEE_USERS,ou=groups,dc=gravitee,dc=io"));
+        when(delegate.getGrantedAuthorities(user, "user1")).thenAnswer(invocation -> authorities);
+
+        Collection<? extends GrantedAuthority> first = cut.getGrantedAuthorities(user, "user1");
+        Collection<? extends GrantedAuthority> second = cut.getGrantedAuthorities(user, "user1");
+
+        assertEquals(authorities, first);
+        assertEquals(authorities, second);
+        verify(delegate, times(1)).getGrantedAuthorities(user, "user1");
+    }
+
+    @Test
+    public void shouldResolveGroupsOfEachUser() {
+        DirContextOperations user1 = user("cn=user1,ou=users,dc=gravitee,dc=io");
+        DirContextOperations user2 = user("cn=user2,ou=users,dc=gravitee,dc=io");
+        when(delegate.getGrantedAuthorities(user1, "user1")).thenAnswer(invocation -> List.of());
+        when(delegate.getGrantedAuthorities(user2, "user2")).thenAnswer(invocation -> List.of());
+
+        cut.getGrantedAuthorities(user1, "user1");
+        cut.getGrantedAuthorities(user2, "user2");
+
+        verify(delegate, times(1)).getGrantedAuthorities(user1, "user1");
+        verify(delegate, times(1)).getGrantedAuthorities(user2, "user2");
+    }
+
+    private static DirContextOperations user(String dn) {
+        DirContextOperations user = mock(DirContextOperations.class);
+        when(user.getNameInNamespace()).thenReturn(dn);
+        return user;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.authentication;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.commons.pool2.impl.GenericKeyedObjectPool;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.ldap.pool2.factory.PooledContextSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class LdapAuthenticationProviderTest {
+
+    private LdapAuthenticationProvider cut;
+
+    @Before
+    public void setUp() {
+        cut = new LdapAuthenticationProvider();
+        ReflectionTestUtils.setField(
+            cut,
+            "environment",
+            new MockEnvironment()
+                .withProperty("context.url", "ldap://localhost:389")
+                .withProperty("context.base", "dc=gravitee,dc=io")
+                .withProperty("authentication.user.filter", "uid={0}")
+        );
+    }
+
+    @Test
+    public void shouldCloseGroupContextPoolOnDestroy() throws Exception {
+        cut.configure();
+        PooledContextSource groupContextSource = groupContextSource();
+
+        cut.destroy();
+
+        assertTrue(pool(groupContextSource).isClosed());
+    }
+
+    @Test
+    public void shouldClosePreviousGroupContextPoolWhenReconfigured() throws Exception {
+        cut.configure();
+        PooledContextSource first = groupContextSource();
+
+        cut.configure();
+        PooledContextSource second = groupContextSource();
+
+        assertNotSame(first, second);
+        assertTrue(pool(first).isClosed());
+        assertFalse(pool(second).isClosed());
+        cut.destroy();
+    }
+
+    private PooledContextSource groupContextSource() {
+        return (PooledContextSource) ReflectionTestUtils.getField(cut, "groupContextSource");
+    }
+
+    private static GenericKeyedObjectPool<?, ?> pool(PooledContextSource contextSource) {
+        return (GenericKeyedObjectPool<?, ?>) ReflectionTestUtils.getField(contextSource, "keyedObjectPool");
+    }
+}
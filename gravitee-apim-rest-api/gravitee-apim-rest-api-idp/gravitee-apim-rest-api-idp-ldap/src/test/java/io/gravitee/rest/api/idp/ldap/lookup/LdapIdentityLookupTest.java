@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.idp.ldap.lookup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSearchRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryInterceptedSimpleBindRequest;
+import com.unboundid.ldap.listener.interceptor.InMemoryOperationInterceptor;
+import io.gravitee.rest.api.idp.api.identity.IdentityReference;
+import io.gravitee.rest.api.idp.api.identity.User;
+import io.gravitee.rest.api.idp.ldap.lookup.spring.LdapIdentityLookupConfiguration;
+import java.io.File;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class LdapIdentityLookupTest {
+
+    private static final String BASE_DN = "dc=gravitee,dc=io";
+    private static final String ADMIN_DN = "cn=ldap-admin,ou=users," + BASE_DN;
+
+    private final AtomicInteger binds = new AtomicInteger();
+    private final AtomicInteger userSearches = new AtomicInteger();
+
+    private InMemoryDirectoryServer server;
+    private MockEnvironment environment;
+    private LdapIdentityLookup cut;
+
+    @Before
+    public void setUp() throws Exception {
+        InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig(BASE_DN);
+        config.addAdditionalBindCredentials("cn=admin," + BASE_DN, "admin");
+        config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("default", 0));
+        config.setSchema(null);
+        config.addInMemoryOperationInterceptor(
+            new InMemoryOperationInterceptor() {
+                @Override
+                public void processSimpleBindRequest(InMemoryInterceptedSimpleBindRequest request) {
+                    binds.incrementAndGet();
+                }
+
+                @Override
+                public void processSearchRequest(InMemoryInterceptedSearchRequest request) {
+                    // Ignore the searches made to validate the pooled contexts
+                    if (request.getRequest().getBaseDN().endsWith("ou=users," + BASE_DN)) {
+                        userSearches.incrementAndGet();
+                    }
+                }
+            }
+        );
+
+        server = new InMemoryDirectoryServer(config);
+        server.add("dn: " + BASE_DN, "objectClass: top", "objectClass: domain", "dc: gravitee");
+        server.importFromLDIF(false, new File(getClass().getResource("/ldap/ldif/gravitee-io.ldif").toURI()).getAbsolutePath());
+        server.startListening();
+
+        environment = new MockEnvironment()
+            .withProperty("context.url", "ldap://localhost:" + server.getListenPort())
+            .withProperty("context.base", BASE_DN)
+            .withProperty("context.username", "cn=admin," + BASE_DN)
+            .withProperty("context.password", "admin")
+            .withProperty("lookup.user.base", "ou=users")
+            .withProperty("lookup.user.filter", "(&(objectClass=inetOrgPerson)(|(cn=*{0}*)(uid={0})))");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (cut != null) {
+            cut.destroy();
+        }
+        server.shutDown(true);
+    }
+
+    @Test
+    public void shouldSearchDirectoryOnceForSameQuery() throws Exception {
+        initLookup();
+
+        Collection<User> users = cut.search("ldap");
+        Collection<User> cachedUsers = cut.search("ldap");
+
+        assertEquals(4, users.size());
+        assertEquals(users, cachedUsers);
+        assertEquals(1, userSearches.get());
+    }
+
+    @Test
+    public void shouldRetrieveUserOnce() throws Exception {
+        initLookup();
+
+        User user = cut.retrieve(reference(ADMIN_DN));
+        cut.retrieve(reference(ADMIN_DN));
+
+        assertEquals("ldap-admin", user.getFirstname());
+        assertEquals(1, userSearches.get());
+    }
+
+    @Test
+    public void shouldRetrieveUnknownUserOnce() throws Exception {
+        initLookup();
+
+        assertNull(cut.retrieve(reference("cn=unknown,ou=users," + BASE_DN)));
+        assertNull(cut.retrieve(reference("cn=unknown,ou=users," + BASE_DN)));
+
+        assertEquals(1, userSearches.get());
+    }
+
+    @Test
+    public void shouldSearchDirectoryEachTimeWhenCacheIsDisabled() throws Exception {
+        environment.setProperty("lookup.cache.ttl", "0");
+        initLookup();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(4, cut.search("ldap").size());
+        }
+
+        assertEquals(10, userSearches.get());
+    }
+
+    @Test
+    public void shouldReusePooledContexts() throws Exception {
+        environment.setProperty("lookup.cache.ttl", "0");
+        initLookup();
+
+        for (int i = 0; i < 10; i++) {
+            cut.retrieve(reference(ADMIN_DN));
+        }
+
+        assertEquals(10, userSearches.get());
+        assertEquals(1, binds.get());
+    }
+
+    private void initLookup() throws Exception {
+        LdapContextSourceFactory contextSourceFactory = new LdapIdentityLookupConfiguration().contextSourceFactory();
+        ReflectionTestUtils.setField(contextSourceFactory, "environment", environment);
+        contextSourceFactory.afterPropertiesSet();
+
+        LdapIdentityLookup lookup = new LdapIdentityLookup();
+        ReflectionTestUtils.setField(lookup, "environment", environment);
+        ReflectionTestUtils.setField(
+            lookup,
+            "ldapTemplate",
+            new LdapIdentityLookupConfiguration().ldapTemplate(contextSourceFactory.getObject(), environment)
+        );
+        lookup.afterPropertiesSet();
+        cut = lookup;
+    }
+
+    private static IdentityReference reference(String dn) {
+        return new IdentityReference("ldap", dn);
+    }
+}
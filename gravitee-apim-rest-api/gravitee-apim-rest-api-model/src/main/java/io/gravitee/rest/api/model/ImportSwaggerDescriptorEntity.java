@@ -15,6 +15,7 @@
  */
 package io.gravitee.rest.api.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
@@ -58,6 +59,12 @@ public class ImportSwaggerDescriptorEntity {
     @JsonProperty("with_policies")
     private List<String> withPolicies;
 
+    /**
+     * Validation messages of the payload, known once it has been parsed by the import. Reset when the payload changes.
+     */
+    @JsonIgnore
+    private List<String> validationMessages;
+
     public Type getType() {
         return type;
     }
@@ -80,6 +87,7 @@ public class ImportSwaggerDescriptorEntity {
 
     public void setPayload(String payload) {
         this.payload = payload;
+        this.validationMessages = null;
     }
 
     public boolean isWithDocumentation() {
@@ -114,6 +122,16 @@ public class ImportSwaggerDescriptorEntity {
         this.withPolicies = withPolicies;
     }
 
+    @JsonIgnore
+    public List<String> getValidationMessages() {
+        return validationMessages;
+    }
+
+    @JsonIgnore
+    public void setValidationMessages(List<String> validationMessages) {
+        this.validationMessages = validationMessages;
+    }
+
     @Schema(enumAsRef = true)
     public enum Type {
         INLINE,
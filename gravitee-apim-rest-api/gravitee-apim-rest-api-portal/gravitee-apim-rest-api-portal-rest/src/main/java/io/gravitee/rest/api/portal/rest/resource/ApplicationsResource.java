@@ -176,14 +176,15 @@ public class ApplicationsResource extends AbstractResource<Application, String>
                 .user(getAuthenticatedUser())
                 .status(ApplicationStatus.ACTIVE.name())
                 .build();
-            Page<ApplicationListItem> applicationPage = applicationService.search(
+            // Only ids are needed here, the applications of the page are loaded by transformPageContent
+            Page<String> applicationPage = applicationService.searchIds(
                 executionContext,
                 applicationQuery,
                 applicationsOrderParam.toSortable(),
                 new PageableImpl(paginationParam.getPage(), paginationParam.getSize())
             );
 
-            applicationIds = applicationPage.getContent().stream().map(ApplicationListItem::getId).collect(Collectors.toList());
+            applicationIds = applicationPage.getContent();
 
             Map<String, Object> totalOnly = new HashMap<>();
             totalOnly.put("totalElements", applicationPage.getTotalElements());
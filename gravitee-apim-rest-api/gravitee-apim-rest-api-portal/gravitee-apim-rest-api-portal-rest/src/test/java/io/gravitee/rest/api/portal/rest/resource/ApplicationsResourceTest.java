@@ -99,13 +99,13 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
             .when(applicationService)
             .findByUser(eq(GraviteeContext.getExecutionContext()), anyString(), any());
 
-        io.gravitee.common.data.domain.Page<ApplicationListItem> defaultPage = new io.gravitee.common.data.domain.Page<>(
-            Arrays.asList(applicationA, applicationB),
+        io.gravitee.common.data.domain.Page<String> defaultPage = new io.gravitee.common.data.domain.Page<>(
+            Arrays.asList("A", "B"),
             1,
             2,
             2
         );
-        doReturn(defaultPage).when(applicationService).search(eq(GraviteeContext.getExecutionContext()), any(), any(), any());
+        doReturn(defaultPage).when(applicationService).searchIds(eq(GraviteeContext.getExecutionContext()), any(), any(), any());
 
         ApplicationEntity createdEntity = mock(ApplicationEntity.class);
         doReturn("NEW").when(createdEntity).getId();
@@ -191,15 +191,10 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
         applicationB.setId("B");
         Collection<String> mockFilteredApp = Arrays.asList(applicationB.getId(), applicationA.getId());
         doReturn(mockFilteredApp).when(filteringService).getApplicationsOrderByNumberOfSubscriptions(anyCollection(), eq(Order.DESC));
-        io.gravitee.common.data.domain.Page<ApplicationListItem> page = new io.gravitee.common.data.domain.Page<>(
-            Arrays.asList(applicationA, applicationB),
-            1,
-            2,
-            2
-        );
+        io.gravitee.common.data.domain.Page<String> page = new io.gravitee.common.data.domain.Page<>(Arrays.asList("A", "B"), 1, 2, 2);
         doReturn(page)
             .when(applicationService)
-            .search(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
+            .searchIds(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
 
         final Response response = target()
             .queryParam("order", "-nbSubscriptions")
@@ -225,15 +220,10 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
         applicationB.setId("B");
         Collection<String> mockFilteredApp = Arrays.asList(applicationA.getId(), applicationB.getId());
         doReturn(mockFilteredApp).when(filteringService).getApplicationsOrderByNumberOfSubscriptions(anyCollection(), eq(Order.ASC));
-        io.gravitee.common.data.domain.Page<ApplicationListItem> page = new io.gravitee.common.data.domain.Page<>(
-            Arrays.asList(applicationA, applicationB),
-            1,
-            2,
-            2
-        );
+        io.gravitee.common.data.domain.Page<String> page = new io.gravitee.common.data.domain.Page<>(Arrays.asList("A", "B"), 1, 2, 2);
         doReturn(page)
             .when(applicationService)
-            .search(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
+            .searchIds(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
 
         final Response response = target()
             .queryParam("order", "nbSubscriptions")
@@ -259,15 +249,15 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
         ApplicationListItem applicationB = new ApplicationListItem();
         applicationB.setId("B");
         applicationB.setName("B");
-        io.gravitee.common.data.domain.Page<ApplicationListItem> page = new io.gravitee.common.data.domain.Page<>(
-            Collections.singletonList(applicationB),
+        io.gravitee.common.data.domain.Page<String> page = new io.gravitee.common.data.domain.Page<>(
+            Collections.singletonList("B"),
             2,
             1,
             2
         );
         doReturn(page)
             .when(applicationService)
-            .search(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
+            .searchIds(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
 
         doReturn(new Application().id("A").name("A"))
             .when(applicationMapper)
@@ -384,13 +374,13 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
 
     @Test
     public void shouldGetNoApplication() {
-        io.gravitee.common.data.domain.Page<ApplicationListItem> emptyPage = new io.gravitee.common.data.domain.Page<>(
+        io.gravitee.common.data.domain.Page<String> emptyPage = new io.gravitee.common.data.domain.Page<>(
             Collections.emptyList(),
             10,
             1,
             0
         );
-        doReturn(emptyPage).when(applicationService).search(eq(GraviteeContext.getExecutionContext()), any(), any(), any());
+        doReturn(emptyPage).when(applicationService).searchIds(eq(GraviteeContext.getExecutionContext()), any(), any(), any());
         final Response response = target().queryParam("page", 10).queryParam("size", 1).request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
@@ -464,22 +454,17 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
 
     @Test
     public void shouldGetApplicationsWithPaginationUsingSearchBranch() {
-        // forSubscription=false with pagination should use applicationService.search and include paginateMetaData
+        // forSubscription=false with pagination should use applicationService.searchIds and include paginateMetaData
         ApplicationListItem applicationA = new ApplicationListItem();
         applicationA.setId("A");
         applicationA.setName("A");
         ApplicationListItem applicationB = new ApplicationListItem();
         applicationB.setId("B");
         applicationB.setName("B");
-        io.gravitee.common.data.domain.Page<ApplicationListItem> page = new io.gravitee.common.data.domain.Page<>(
-            Arrays.asList(applicationA, applicationB),
-            1,
-            2,
-            2
-        );
+        io.gravitee.common.data.domain.Page<String> page = new io.gravitee.common.data.domain.Page<>(Arrays.asList("A", "B"), 1, 2, 2);
         doReturn(page)
             .when(applicationService)
-            .search(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
+            .searchIds(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
 
         doReturn(new Application().id("A").name("A"))
             .when(applicationMapper)
@@ -491,7 +476,7 @@ public class ApplicationsResourceTest extends AbstractResourceTest {
         final Response response = target().queryParam("page", 1).queryParam("size", 2).request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
-        verify(applicationService).search(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
+        verify(applicationService).searchIds(eq(GraviteeContext.getExecutionContext()), any(), eq(new SortableImpl("name", true)), any());
 
         ApplicationsResponse applicationsResponse = response.readEntity(ApplicationsResponse.class);
         assertEquals(2, applicationsResponse.getData().size());
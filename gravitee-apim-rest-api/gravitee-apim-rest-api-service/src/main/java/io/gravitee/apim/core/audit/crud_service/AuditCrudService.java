@@ -20,5 +20,15 @@ import java.time.Duration;
 
 public interface AuditCrudService {
     void create(AuditEntity auditEntity);
+
+    /**
+     * Create the given audit. The audit may be stored later, out of the caller thread.
+     *
+     * @param auditEntity the audit to create.
+     */
+    default void createAsync(AuditEntity auditEntity) {
+        create(auditEntity);
+    }
+
     void deleteByEnvironmentIdAndAge(String environmentId, Duration maxAge);
 }
@@ -60,7 +60,7 @@ public class AuditDomainService {
                 .patch(jsonDiffProcessor.diff(audit.oldValue(), audit.newValue()))
                 .build();
 
-            auditCrudService.create(entity);
+            store(entity, audit.synchronous());
         } catch (TechnicalManagementException e) {
             log.error("Error occurs during the creation of an API Audit Log.", e);
         }
@@ -81,7 +81,7 @@ public class AuditDomainService {
                 .patch(jsonDiffProcessor.diff(audit.oldValue(), audit.newValue()))
                 .build();
 
-            auditCrudService.create(entity);
+            store(entity, audit.synchronous());
         } catch (TechnicalManagementException e) {
             log.error("Error occurs during the creation of an Application Audit Log.", e);
         }
@@ -102,12 +102,20 @@ public class AuditDomainService {
                 .patch(jsonDiffProcessor.diff(audit.oldValue(), audit.newValue()))
                 .build();
 
-            auditCrudService.create(entity);
+            store(entity, audit.synchronous());
         } catch (TechnicalManagementException e) {
             log.error("Error occurs during the creation of an Environment Audit Log.", e);
         }
     }
 
+    private void store(AuditEntity entity, boolean synchronous) {
+        if (synchronous) {
+            auditCrudService.create(entity);
+        } else {
+            auditCrudService.createAsync(entity);
+        }
+    }
+
     private String createActor(AuditActor actor) {
         String user = actor.userId();
         if ("token".equals(actor.userSource())) {
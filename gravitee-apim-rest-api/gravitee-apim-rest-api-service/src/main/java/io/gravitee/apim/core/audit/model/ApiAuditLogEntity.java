@@ -30,5 +30,7 @@ public record ApiAuditLogEntity(
     AuditEvent event,
     ZonedDateTime createdAt,
     Object oldValue,
-    Object newValue
+    Object newValue,
+    /* When true, the audit is stored before returning instead of being written asynchronously */
+    boolean synchronous
 ) {}
@@ -26,6 +26,7 @@ import io.gravitee.apim.core.environment.crud_service.EnvironmentCrudService;
 import io.gravitee.apim.core.subscription.domain_service.CloseSubscriptionDomainService;
 import io.gravitee.apim.core.subscription.model.SubscriptionEntity;
 import io.gravitee.apim.core.subscription.query_service.SubscriptionQueryService;
+import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -52,7 +53,7 @@ public class CloseExpiredSubscriptionsUseCase {
     public Output execute(Input input) {
         var toClose = subscriptionQueryService.findExpiredSubscriptions();
 
-        var apiIds = toClose.stream().map(SubscriptionEntity::getApiId).toList();
+        var apiIds = toClose.stream().map(SubscriptionEntity::getApiId).distinct().toList();
         var apis = apiQueryService
             .search(
                 ApiSearchCriteria.builder().ids(apiIds).build(),
@@ -61,16 +62,19 @@ public class CloseExpiredSubscriptionsUseCase {
             )
             .collect(Collectors.toMap(Api::getId, api -> api));
 
+        // Expired subscriptions usually belong to a few environments, resolve each of them only once
+        var auditInfos = new HashMap<String, AuditInfo>();
         var closed = toClose
             .stream()
             .map(subscription -> {
-                var environment = environmentCrudService.get(apis.get(subscription.getApiId()).getEnvironmentId());
-
-                var auditInfo = AuditInfo.builder()
-                    .organizationId(environment.getOrganizationId())
-                    .environmentId(environment.getId())
-                    .actor(input.auditActor)
-                    .build();
+                var auditInfo = auditInfos.computeIfAbsent(apis.get(subscription.getApiId()).getEnvironmentId(), environmentId -> {
+                    var environment = environmentCrudService.get(environmentId);
+                    return AuditInfo.builder()
+                        .organizationId(environment.getOrganizationId())
+                        .environmentId(environment.getId())
+                        .actor(input.auditActor)
+                        .build();
+                });
 
                 return closeSubscriptionDomainService.closeSubscription(subscription.getId(), auditInfo);
             })
@@ -24,6 +24,7 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.search.ApiCriteria;
 import io.gravitee.repository.management.api.search.ApiFieldFilter;
+import io.gravitee.rest.api.service.MembershipService;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -36,9 +37,11 @@ import org.springframework.stereotype.Component;
 public class ApiCrudServiceImpl implements ApiCrudService {
 
     private final ApiRepository apiRepository;
+    private final MembershipService membershipService;
 
-    public ApiCrudServiceImpl(@Lazy ApiRepository apiRepository) {
+    public ApiCrudServiceImpl(@Lazy ApiRepository apiRepository, @Lazy MembershipService membershipService) {
         this.apiRepository = apiRepository;
+        this.membershipService = membershipService;
     }
 
     @Override
@@ -96,7 +99,10 @@ public class ApiCrudServiceImpl implements ApiCrudService {
     @Override
     public Api update(Api api) {
         try {
-            return ApiAdapter.INSTANCE.toCoreModel(apiRepository.update(ApiAdapter.INSTANCE.toRepository(api)));
+            var updated = apiRepository.update(ApiAdapter.INSTANCE.toRepository(api));
+            // The groups of the API may have changed
+            membershipService.invalidatePermissionCaches();
+            return ApiAdapter.INSTANCE.toCoreModel(updated);
         } catch (TechnicalException e) {
             throw new TechnicalDomainException("An error occurs while trying to update the api: " + api.getId(), e);
         }
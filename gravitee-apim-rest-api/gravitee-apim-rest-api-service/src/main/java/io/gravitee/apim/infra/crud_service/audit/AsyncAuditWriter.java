@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.apim.infra.crud_service.audit;
+
+import io.gravitee.repository.management.api.AuditRepository;
+import io.gravitee.repository.management.model.Audit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes audit logs out of the caller thread.
+ *
+ * <p>
+ *     Audits are built by the caller and pushed to a bounded queue. A single background thread stores them in batches. When the
+ *     queue is full, the audit is written in the caller thread so that no audit is lost.
+ *     Pending audits are flushed when the application stops.
+ * </p>
+ *
+ * @author GraviteeSource Team
+ */
+@CustomLog
+@Component
+public class AsyncAuditWriter implements InitializingBean, DisposableBean {
+
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    private final AuditRepository auditRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<Audit> queue;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AsyncAuditWriter(
+        @Lazy AuditRepository auditRepository,
+        @Value("${audit.async.enabled:true}") boolean enabled,
+        @Value("${audit.async.queue-capacity:10000}") int queueCapacity,
+        @Value("${audit.async.batch-size:100}") int batchSize
+    ) {
+        this.auditRepository = auditRepository;
+        this.enabled = enabled && queueCapacity > 0;
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (enabled) {
+            running = true;
+            worker = new Thread(this::run, "gio.audit-writer");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(SHUTDOWN_TIMEOUT_MS);
+        }
+        flush();
+    }
+
+    /**
+     * Write the given audit, later and together with other audits when asynchronous writing is enabled.
+     * Errors are logged and never thrown to the caller.
+     *
+     * @param audit the audit to write, which must not be modified afterwards.
+     */
+    public void write(Audit audit) {
+        if (running && queue.offer(audit)) {
+            if (!running) {
+                // The writer has been stopped meanwhile, make sure the audit is not left in the queue
+                flush();
+            }
+            return;
+        }
+        create(audit);
+    }
+
+    /**
+     * Write all the pending audits in the caller thread.
+     */
+    public void flush() {
+        final List<Audit> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void run() {
+        final List<Audit> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final Audit first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Unexpected error while writing audit logs", e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Audit> audits) {
+        if (audits.size() == 1) {
+            create(audits.getFirst());
+        } else if (!audits.isEmpty()) {
+            try {
+                auditRepository.createAll(audits);
+            } catch (Exception e) {
+                log.warn("Unable to create {} audit logs at once, creating them one by one", audits.size(), e);
+                audits.forEach(this::create);
+            }
+        }
+    }
+
+    private void create(Audit audit) {
+        try {
+            auditRepository.create(audit);
+        } catch (Exception e) {
+            log.error("Error occurs during the creation of an Audit Log.", e);
+        }
+    }
+}
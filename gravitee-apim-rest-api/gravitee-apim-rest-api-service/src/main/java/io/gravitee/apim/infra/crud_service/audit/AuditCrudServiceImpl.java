@@ -30,14 +30,34 @@ import org.springframework.stereotype.Service;
 public class AuditCrudServiceImpl implements AuditCrudService {
 
     private final AuditRepository auditRepository;
+    private final AsyncAuditWriter asyncAuditWriter;
 
-    public AuditCrudServiceImpl(@Lazy AuditRepository auditRepository) {
+    public AuditCrudServiceImpl(@Lazy AuditRepository auditRepository, AsyncAuditWriter asyncAuditWriter) {
         this.auditRepository = auditRepository;
+        this.asyncAuditWriter = asyncAuditWriter;
     }
 
     @Override
     public void create(AuditEntity auditEntity) throws TechnicalManagementException {
-        var entity = Audit.builder()
+        try {
+            auditRepository.create(toAudit(auditEntity));
+        } catch (TechnicalException e) {
+            throw new TechnicalManagementException(e);
+        }
+    }
+
+    @Override
+    public void createAsync(AuditEntity auditEntity) {
+        asyncAuditWriter.write(toAudit(auditEntity));
+    }
+
+    @Override
+    public void deleteByEnvironmentIdAndAge(String environmentId, Duration maxAge) {
+        auditRepository.deleteByEnvironmentIdAndAge(environmentId, maxAge);
+    }
+
+    private static Audit toAudit(AuditEntity auditEntity) {
+        return Audit.builder()
             .id(auditEntity.getId())
             .organizationId(auditEntity.getOrganizationId())
             .environmentId(auditEntity.getEnvironmentId())
@@ -49,16 +69,5 @@ public class AuditCrudServiceImpl implements AuditCrudService {
             .event(auditEntity.getEvent())
             .patch(auditEntity.getPatch())
             .build();
-
-        try {
-            auditRepository.create(entity);
-        } catch (TechnicalException e) {
-            throw new TechnicalManagementException(e);
-        }
-    }
-
-    @Override
-    public void deleteByEnvironmentIdAndAge(String environmentId, Duration maxAge) {
-        auditRepository.deleteByEnvironmentIdAndAge(environmentId, maxAge);
     }
 }
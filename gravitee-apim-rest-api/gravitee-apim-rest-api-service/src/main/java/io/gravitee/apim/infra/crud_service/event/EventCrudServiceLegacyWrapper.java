@@ -73,8 +73,6 @@ public class EventCrudServiceLegacyWrapper implements EventCrudService {
 
     @Override
     public void cleanupEvents(String environmentId, int nbEventsToKeep, Duration timeToLive) {
-        var counters = AtomicLongMap.<EventRepository.EventToCleanGroup>create();
-
         log.info(
             "Starting cleanup for environment: {} (keep {} events per type, max duration: {}s)",
             environmentId,
@@ -83,6 +81,22 @@ public class EventCrudServiceLegacyWrapper implements EventCrudService {
         );
 
         long startTime = System.currentTimeMillis();
+        try {
+            long deletedCount = eventRepository.cleanEvents(environmentId, nbEventsToKeep, timeToLive);
+            log.info(
+                "Cleanup completed for environment: {}. Deleted: {} events, Duration: {}ms",
+                environmentId,
+                deletedCount,
+                System.currentTimeMillis() - startTime
+            );
+        } catch (UnsupportedOperationException e) {
+            log.debug("Bulk cleanup not supported by the repository, fallback to events streaming for environment: {}", environmentId, e);
+            cleanupEventsByStreaming(environmentId, nbEventsToKeep, timeToLive, startTime);
+        }
+    }
+
+    private void cleanupEventsByStreaming(String environmentId, int nbEventsToKeep, Duration timeToLive, long startTime) {
+        var counters = AtomicLongMap.<EventRepository.EventToCleanGroup>create();
         AtomicLong processedCount = new AtomicLong(0);
         AtomicLong deletedCount = new AtomicLong(0);
         AtomicLong skippedCount = new AtomicLong(0);
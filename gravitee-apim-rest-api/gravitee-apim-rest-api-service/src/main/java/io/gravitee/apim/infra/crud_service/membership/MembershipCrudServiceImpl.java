@@ -24,6 +24,7 @@ import io.gravitee.apim.infra.adapter.MembershipAdapter;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.MembershipRepository;
 import io.gravitee.repository.management.model.MembershipReferenceType;
+import io.gravitee.rest.api.service.MembershipService;
 import java.util.Collection;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
@@ -32,15 +33,18 @@ import org.springframework.stereotype.Service;
 public class MembershipCrudServiceImpl implements MembershipCrudService {
 
     private final MembershipRepository membershipRepository;
+    private final MembershipService membershipService;
 
-    public MembershipCrudServiceImpl(@Lazy MembershipRepository membershipRepository) {
+    public MembershipCrudServiceImpl(@Lazy MembershipRepository membershipRepository, @Lazy MembershipService membershipService) {
         this.membershipRepository = membershipRepository;
+        this.membershipService = membershipService;
     }
 
     @Override
     public Membership create(Membership membership) {
         try {
             var result = membershipRepository.create(MembershipAdapter.INSTANCE.toRepository(membership));
+            membershipService.invalidatePermissionCaches();
             return MembershipAdapter.INSTANCE.toEntity(result);
         } catch (TechnicalException e) {
             throw new TechnicalDomainException("An error occurs while trying to create the membership: " + membership.getId(), e);
@@ -51,6 +55,7 @@ public class MembershipCrudServiceImpl implements MembershipCrudService {
     public void delete(String id) {
         try {
             membershipRepository.delete(id);
+            membershipService.invalidatePermissionCaches();
         } catch (TechnicalException e) {
             throw new TechnicalDomainException("An error occurs while trying to delete the membership: " + id, e);
         }
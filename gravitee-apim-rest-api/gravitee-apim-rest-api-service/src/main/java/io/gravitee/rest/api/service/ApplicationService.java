@@ -106,5 +106,12 @@ public interface ApplicationService {
 
     Set<String> searchIds(final ExecutionContext executionContext, ApplicationQuery applicationQuery, Sortable sortable);
 
+    Page<String> searchIds(
+        final ExecutionContext executionContext,
+        ApplicationQuery applicationQuery,
+        Sortable sortable,
+        Pageable pageable
+    );
+
     Set<String> findUserApplicationsIds(ExecutionContext executionContext, String username, ApplicationStatus status);
 }
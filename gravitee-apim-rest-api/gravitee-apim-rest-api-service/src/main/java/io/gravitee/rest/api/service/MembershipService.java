@@ -268,6 +268,18 @@ public interface MembershipService {
 
     void invalidateRoleCache(String referenceType, String referenceId, String memberType, String memberId);
 
+    void invalidateRoleCaches();
+
+    /**
+     * Discards the permissions computed for the users, to be called when the groups of an API or an application change.
+     */
+    void invalidatePermissionCaches();
+
+    /**
+     * @return a version changing each time the permission caches are invalidated, to tag the data derived from the user permissions.
+     */
+    long getPermissionsVersion();
+
     class MembershipReference {
 
         private final MembershipReferenceType type;
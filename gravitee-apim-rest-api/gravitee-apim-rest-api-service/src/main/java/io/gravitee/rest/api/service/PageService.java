@@ -24,6 +24,7 @@ import io.gravitee.rest.api.service.common.ExecutionContext;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -74,6 +75,14 @@ public interface PageService {
 
     long execAutoFetch(ExecutionContext executionContext);
 
+    /**
+     * Same as {@link #execAutoFetch(ExecutionContext)}, but the page sources are fetched on the given executor.
+     * @param executionContext the execution context
+     * @param executor the executor used to fetch the page sources, the caller is responsible for bounding it
+     * @return the number of pages whose content has been fetched and updated
+     */
+    long execAutoFetch(ExecutionContext executionContext, Executor executor);
+
     PageEntity fetch(ExecutionContext executionContext, String pageId, String contributor);
 
     List<PageEntity> importFiles(ExecutionContext executionContext, ImportPageEntity pageEntity);
@@ -19,6 +19,7 @@ import io.gravitee.repository.management.model.Workflow;
 import io.gravitee.rest.api.model.WorkflowReferenceType;
 import io.gravitee.rest.api.model.WorkflowState;
 import io.gravitee.rest.api.model.WorkflowType;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -35,4 +36,5 @@ public interface WorkflowService {
         String comment
     );
     List<Workflow> findByReferenceAndType(WorkflowReferenceType referenceType, String referenceId, WorkflowType type);
+    List<Workflow> findByReferencesAndType(WorkflowReferenceType referenceType, Collection<String> referenceIds, WorkflowType type);
 }
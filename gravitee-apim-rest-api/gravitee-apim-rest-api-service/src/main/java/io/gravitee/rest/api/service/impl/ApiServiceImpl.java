@@ -1385,6 +1385,9 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
             }
 
             Api updatedApi = apiRepository.update(api);
+            if (!Objects.equals(apiToUpdate.getGroups(), updatedApi.getGroups())) {
+                membershipService.invalidatePermissionCaches();
+            }
 
             if (updatePlansAndFlows) {
                 // update API flows
@@ -32,6 +32,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Sets;
 import io.gravitee.apim.core.audit.model.AuditInfo;
 import io.gravitee.apim.core.subscription.domain_service.CloseSubscriptionDomainService;
@@ -149,9 +150,11 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.CustomLog;
 import org.apache.commons.lang3.StringUtils;
@@ -783,6 +786,9 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
             metadata.forEach((key, value) -> application.getMetadata().put(key, value));
 
             Application updatedApplication = applicationRepository.update(application);
+            if (!Objects.equals(applicationToUpdate.getGroups(), updatedApplication.getGroups())) {
+                membershipService.invalidatePermissionCaches();
+            }
 
             // Audit
             auditService.createApplicationAuditLog(
@@ -1239,10 +1245,15 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
                 .forEach(userEntity -> userIdToUserEntity.put(userEntity.getId(), userEntity));
         }
 
+        final Supplier<Boolean> renewClientSecretSupported = renewClientSecretSupported(executionContext);
         return applications
             .stream()
             .map(publicApplication ->
-                convert(executionContext, publicApplication, userIdToUserEntity.get(applicationToUser.get(publicApplication.getId())))
+                convert(
+                    publicApplication,
+                    userIdToUserEntity.get(applicationToUser.get(publicApplication.getId())),
+                    renewClientSecretSupported
+                )
             )
             .collect(Collectors.toCollection(LinkedHashSet::new));
     }
@@ -1313,19 +1324,17 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
                 item.setApiKeyMode(applicationEntity.getApiKeyMode());
                 item.setDisableMembershipNotifications(applicationEntity.isDisableMembershipNotifications());
                 item.setOrigin(applicationEntity.getOrigin());
-
-                final Application app = applications
-                    .stream()
-                    .filter(application -> application.getId().equals(applicationEntity.getId()))
-                    .findFirst()
-                    .get();
-                item.setSettings(getSettings(executionContext, app));
+                item.setSettings(applicationEntity.getSettings());
                 return item;
             })
             .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     private ApplicationEntity convert(final ExecutionContext executionContext, Application application, UserEntity primaryOwner) {
+        return convert(application, primaryOwner, renewClientSecretSupported(executionContext));
+    }
+
+    private ApplicationEntity convert(Application application, UserEntity primaryOwner, Supplier<Boolean> renewClientSecretSupported) {
         if (primaryOwner == null) {
             // add a default unknown user
             primaryOwner = new UserEntity();
@@ -1353,7 +1362,7 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         applicationEntity.setUpdatedAt(application.getUpdatedAt());
         applicationEntity.setPrimaryOwner(new PrimaryOwnerEntity(primaryOwner));
 
-        applicationEntity.setSettings(getSettings(executionContext, application));
+        applicationEntity.setSettings(getSettings(application, renewClientSecretSupported));
         applicationEntity.setDisableMembershipNotifications(application.isDisableMembershipNotifications());
         if (application.getApiKeyMode() != null) {
             applicationEntity.setApiKeyMode(ApiKeyMode.valueOf(application.getApiKeyMode().name()));
@@ -1362,7 +1371,19 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         return applicationEntity;
     }
 
-    private ApplicationSettings getSettings(final ExecutionContext executionContext, Application application) {
+    /**
+     * Client registration providers are only looked up once per batch of converted applications, and only if one of them is an OAuth one.
+     */
+    private Supplier<Boolean> renewClientSecretSupported(final ExecutionContext executionContext) {
+        return Suppliers.memoize(() -> {
+            Iterator<ClientRegistrationProviderEntity> clientRegistrationProviderIte = clientRegistrationService
+                .findAll(executionContext)
+                .iterator();
+            return clientRegistrationProviderIte.hasNext() && clientRegistrationProviderIte.next().isRenewClientSecretSupport();
+        });
+    }
+
+    private ApplicationSettings getSettings(Application application, Supplier<Boolean> renewClientSecretSupported) {
         final ApplicationSettings settings = new ApplicationSettings();
         if (application.getType() == ApplicationType.SIMPLE) {
             SimpleApplicationSettings simpleSettings = new SimpleApplicationSettings();
@@ -1400,12 +1421,7 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
                         clientSettings.setAdditionalClientMetadata(mapper.readValue(additionalClientMetadata, new TypeReference<>() {}));
                     }
 
-                    Iterator<ClientRegistrationProviderEntity> clientRegistrationProviderIte = clientRegistrationService
-                        .findAll(executionContext)
-                        .iterator();
-                    if (clientRegistrationProviderIte.hasNext()) {
-                        clientSettings.setRenewClientSecretSupported(clientRegistrationProviderIte.next().isRenewClientSecretSupport());
-                    }
+                    clientSettings.setRenewClientSecretSupported(renewClientSecretSupported.get());
                 } catch (IOException e) {
                     log.error("An error occurred while reading client settings");
                 }
@@ -1477,6 +1493,27 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         }
     }
 
+    @Override
+    public Page<String> searchIds(
+        ExecutionContext executionContext,
+        ApplicationQuery applicationQuery,
+        Sortable sortable,
+        Pageable pageable
+    ) {
+        try {
+            ApplicationCriteria searchCriteria = buildSearchCriteria(executionContext, applicationQuery);
+
+            if (searchCriteria == null) {
+                return new Page<>(Collections.emptyList(), 1, 0, 0);
+            }
+
+            return applicationRepository.searchIds(searchCriteria, convert(pageable), convert(sortable));
+        } catch (TechnicalException ex) {
+            log.error("An error occurs while trying to search applications for query {}", applicationQuery, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find applications for query " + applicationQuery, ex);
+        }
+    }
+
     @Override
     public Page<ApplicationListItem> search(
         ExecutionContext executionContext,
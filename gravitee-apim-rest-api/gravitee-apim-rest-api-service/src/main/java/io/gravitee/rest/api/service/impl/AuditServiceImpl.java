@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.fge.jsonpatch.diff.JsonDiff;
 import io.gravitee.apim.core.utils.CollectionUtils;
+import io.gravitee.apim.infra.crud_service.audit.AsyncAuditWriter;
 import io.gravitee.common.data.domain.MetadataPage;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -114,6 +115,10 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     @Autowired
     private ObjectMapper mapper;
 
+    @Autowired
+    @Lazy
+    private AsyncAuditWriter asyncAuditWriter;
+
     @Override
     public MetadataPage<AuditEntity> search(final ExecutionContext executionContext, AuditQuery query) {
         Builder criteria = new Builder().from(query.getFrom()).to(query.getTo());
@@ -343,11 +348,7 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
 
         audit.setPatch(diff.toString());
 
-        try {
-            auditRepository.create(audit);
-        } catch (TechnicalException e) {
-            log.error("Error occurs during the creation of an Audit Log {}.", e);
-        }
+        asyncAuditWriter.write(audit);
     }
 
     void anonymizeData(JsonNode diff, List<String> pathsToAnonymize) {
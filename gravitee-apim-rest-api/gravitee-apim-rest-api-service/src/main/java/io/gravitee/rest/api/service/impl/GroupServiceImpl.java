@@ -553,6 +553,7 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
                             runAndManageTechnicalException(() -> apiRepository.update(api));
                             triggerUpdateNotification(executionContext, api);
                         });
+                    membershipService.invalidatePermissionCaches();
                     break;
                 case "application":
                     applicationRepository
@@ -560,6 +561,7 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
                         .stream()
                         .filter(application -> application.addGroup(groupId))
                         .forEach(application -> runAndManageTechnicalException(() -> applicationRepository.update(application)));
+                    membershipService.invalidatePermissionCaches();
 
                     eventManager.publishEvent(
                         ApplicationAlertEventType.APPLICATION_MEMBERSHIP_UPDATE,
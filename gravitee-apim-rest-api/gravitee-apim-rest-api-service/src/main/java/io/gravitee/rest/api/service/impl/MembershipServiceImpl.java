@@ -116,6 +116,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.CustomLog;
 import org.jetbrains.annotations.NotNull;
@@ -134,6 +135,20 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     private static final String DEFAULT_SOURCE = "system";
     private final Cache<String, Set<RoleEntity>> cachedRoles = CacheBuilder.newBuilder().expireAfterWrite(10, TimeUnit.SECONDS).build();
 
+    /**
+     * Snapshots of the permissions computed for a user on a reference. Each snapshot is tagged with the value of {@link #rolesVersion}
+     * at the time it has been computed, bumping the version discards all of them at once, including those being computed concurrently.
+     */
+    private final Cache<String, PermissionsSnapshot> cachedPermissions = CacheBuilder.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(10, TimeUnit.SECONDS)
+        .build();
+    private final AtomicLong rolesVersion = new AtomicLong();
+
+    private record PermissionsSnapshot(long version, Map<String, char[]> permissions) {}
+
+    private record UserRoles(Set<RoleEntity> directRoles, Set<RoleEntity> allRoles) {}
+
     private final UserService userService;
 
     private final EmailService emailService;
@@ -414,6 +429,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     }
 
     private void sendInvalidateRoleCacheCommand(MembershipReference reference, MembershipMember member, ExecutionContext context) {
+        rolesVersion.incrementAndGet();
         Instant timestamp = Instant.now();
         Command command = Command.builder()
             .id(UUID.random().toString())
@@ -1483,8 +1499,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     )
                     .stream()
                     .map(io.gravitee.repository.management.model.Membership::getRoleId)
-                    .map(roleService::findById)
-                    .collect(Collectors.toSet())
+                    .collect(Collectors.collectingAndThen(Collectors.toSet(), roleIds -> new HashSet<>(findRoles(roleIds).values())))
             );
         } catch (Exception ex) {
             final String message =
@@ -1502,32 +1517,8 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         String userId
     ) {
         try {
-            Set<io.gravitee.repository.management.model.Membership> userMemberships =
-                membershipRepository.findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-                    userId,
-                    convert(MembershipMemberType.USER),
-                    convert(referenceType),
-                    referenceId
-                );
-
-            //Get entity groups
-            Set<String> entityGroups = switch (referenceType) {
-                case API -> apiRepository
-                    .findById(referenceId)
-                    .orElseThrow(() -> new ApiNotFoundException(referenceId))
-                    .getGroups();
-                case APPLICATION -> applicationRepository
-                    .findById(referenceId)
-                    .orElseThrow(() -> new ApplicationNotFoundException(referenceId))
-                    .getGroups();
-                case INTEGRATION -> integrationRepository
-                    .findByIntegrationId(referenceId)
-                    .orElseThrow(() -> new ApplicationNotFoundException(referenceId))
-                    .getGroups();
-                default -> Set.of();
-            };
-
-            if (userMemberships.isEmpty() && isEmpty(entityGroups)) {
+            UserRoles userRoles = findUserRoles(executionContext, referenceType, referenceId, userId);
+            if (userRoles == null) {
                 return null;
             }
 
@@ -1538,51 +1529,8 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             memberEntity.setEmail(userEntity.getEmail());
             memberEntity.setId(userEntity.getId());
             memberEntity.setUpdatedAt(userEntity.getUpdatedAt());
-
-            Set<RoleEntity> userRoles = new HashSet<>();
-
-            Set<RoleEntity> userDirectRoles = new HashSet<>();
-            if (!userMemberships.isEmpty()) {
-                userDirectRoles = userMemberships
-                    .stream()
-                    .map(io.gravitee.repository.management.model.Membership::getRoleId)
-                    .map(roleService::findById)
-                    .collect(Collectors.toSet());
-
-                userRoles.addAll(userDirectRoles);
-            }
-            memberEntity.setRoles(new ArrayList<>(userDirectRoles));
-
-            if (entityGroups != null && !entityGroups.isEmpty()) {
-                for (String group : entityGroups) {
-                    userRoles.addAll(
-                        membershipRepository
-                            .findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-                                userId,
-                                convert(MembershipMemberType.USER),
-                                convert(MembershipReferenceType.GROUP),
-                                group
-                            )
-                            .stream()
-                            .map(io.gravitee.repository.management.model.Membership::getRoleId)
-                            .map(roleService::findById)
-                            .filter(role -> role.getScope().name().equals(referenceType.name()))
-                            .map(role ->
-                                role.isApiPrimaryOwner()
-                                    ? mapApiPrimaryOwnerRoleToGroupRole(executionContext, referenceId, group, role)
-                                    : role
-                            )
-                            .filter(Objects::nonNull)
-                            .collect(Collectors.toSet())
-                    );
-                }
-            }
-
-            Map<String, char[]> permissions = new HashMap<>();
-            if (!userRoles.isEmpty()) {
-                permissions = computeGlobalPermissions(userRoles);
-            }
-            memberEntity.setPermissions(permissions);
+            memberEntity.setRoles(new ArrayList<>(userRoles.directRoles()));
+            memberEntity.setPermissions(computePermissions(userRoles));
 
             return memberEntity;
         } catch (TechnicalException ex) {
@@ -1594,6 +1542,94 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         }
     }
 
+    /**
+     * Resolve the roles of a user on a reference, either given directly or inherited from the groups of the reference.
+     * All the memberships are fetched with a single query and all their roles with another one.
+     *
+     * @return the roles of the user, or <code>null</code> if the user is not a member of the reference nor of one of its groups.
+     */
+    private UserRoles findUserRoles(
+        ExecutionContext executionContext,
+        MembershipReferenceType referenceType,
+        String referenceId,
+        String userId
+    ) throws TechnicalException {
+        //Get entity groups
+        Set<String> entityGroups = switch (referenceType) {
+            case API -> apiRepository.findById(referenceId).orElseThrow(() -> new ApiNotFoundException(referenceId)).getGroups();
+            case APPLICATION -> applicationRepository
+                .findById(referenceId)
+                .orElseThrow(() -> new ApplicationNotFoundException(referenceId))
+                .getGroups();
+            case INTEGRATION -> integrationRepository
+                .findByIntegrationId(referenceId)
+                .orElseThrow(() -> new ApplicationNotFoundException(referenceId))
+                .getGroups();
+            default -> Set.of();
+        };
+        if (entityGroups == null) {
+            entityGroups = Set.of();
+        }
+
+        Map<io.gravitee.repository.management.model.MembershipReferenceType, Collection<String>> references = new HashMap<>();
+        references.put(convert(referenceType), Set.of(referenceId));
+        if (!entityGroups.isEmpty()) {
+            references.put(io.gravitee.repository.management.model.MembershipReferenceType.GROUP, entityGroups);
+        }
+        Set<io.gravitee.repository.management.model.Membership> memberships = membershipRepository.findByMemberIdAndMemberTypeAndReferences(
+            userId,
+            convert(MembershipMemberType.USER),
+            references
+        );
+
+        List<io.gravitee.repository.management.model.Membership> directMemberships = new ArrayList<>();
+        List<io.gravitee.repository.management.model.Membership> groupMemberships = new ArrayList<>();
+        for (io.gravitee.repository.management.model.Membership membership : memberships) {
+            if (
+                membership.getReferenceType() == io.gravitee.repository.management.model.MembershipReferenceType.GROUP &&
+                entityGroups.contains(membership.getReferenceId())
+            ) {
+                groupMemberships.add(membership);
+            } else {
+                directMemberships.add(membership);
+            }
+        }
+
+        if (directMemberships.isEmpty() && entityGroups.isEmpty()) {
+            return null;
+        }
+
+        Map<String, RoleEntity> roles = findRoles(
+            memberships.stream().map(io.gravitee.repository.management.model.Membership::getRoleId).collect(Collectors.toSet())
+        );
+
+        Set<RoleEntity> directRoles = directMemberships.stream().map(membership -> roles.get(membership.getRoleId())).collect(toSet());
+
+        Set<RoleEntity> allRoles = new HashSet<>(directRoles);
+        for (io.gravitee.repository.management.model.Membership membership : groupMemberships) {
+            RoleEntity role = roles.get(membership.getRoleId());
+            if (role.getScope().name().equals(referenceType.name())) {
+                RoleEntity groupRole = role.isApiPrimaryOwner()
+                    ? mapApiPrimaryOwnerRoleToGroupRole(executionContext, referenceId, membership.getReferenceId(), role)
+                    : role;
+                if (groupRole != null) {
+                    allRoles.add(groupRole);
+                }
+            }
+        }
+
+        return new UserRoles(directRoles, allRoles);
+    }
+
+    private Map<String, RoleEntity> findRoles(Set<String> roleIds) {
+        roleIds.remove(null);
+        return roleIds.isEmpty() ? emptyMap() : roleService.findByIds(roleIds);
+    }
+
+    private Map<String, char[]> computePermissions(UserRoles userRoles) {
+        return userRoles.allRoles().isEmpty() ? new HashMap<>() : computeGlobalPermissions(userRoles.allRoles());
+    }
+
     private RoleEntity mapApiPrimaryOwnerRoleToGroupRole(ExecutionContext executionContext, String apiId, String groupId, RoleEntity role) {
         PrimaryOwnerEntity apiPrimaryOwner = primaryOwnerService.getPrimaryOwner(executionContext.getOrganizationId(), apiId);
         if (apiPrimaryOwner.getId().equals(groupId)) {
@@ -1645,11 +1681,25 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         String referenceId,
         String userId
     ) {
-        MemberEntity member = this.getUserMember(executionContext, referenceType, referenceId, userId);
-        if (member != null) {
-            return member.getPermissions();
+        String cachedPermissionsKey = computeCachedRoleKey(referenceType.name(), referenceId, MembershipMemberType.USER.name(), userId);
+        PermissionsSnapshot snapshot = cachedPermissions.getIfPresent(cachedPermissionsKey);
+        if (snapshot != null && snapshot.version() == rolesVersion.get()) {
+            return snapshot.permissions();
+        }
+
+        long version = rolesVersion.get();
+        try {
+            UserRoles userRoles = findUserRoles(executionContext, referenceType, referenceId, userId);
+            Map<String, char[]> permissions = userRoles == null ? emptyMap() : Collections.unmodifiableMap(computePermissions(userRoles));
+            cachedPermissions.put(cachedPermissionsKey, new PermissionsSnapshot(version, permissions));
+            return permissions;
+        } catch (TechnicalException ex) {
+            log.error("An error occurs while trying to get user member permissions for {} {} {}", referenceType, referenceId, userId, ex);
+            throw new TechnicalManagementException(
+                "An error occurs while trying to get permissions for " + referenceType + " " + referenceId + " " + userId,
+                ex
+            );
         }
-        return emptyMap();
     }
 
     @Override
@@ -2112,6 +2162,23 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     public void invalidateRoleCache(String referenceType, String referenceId, String memberType, String memberId) {
         String cachedRoleKey = computeCachedRoleKey(referenceType, referenceId, memberType, memberId);
         cachedRoles.invalidate(cachedRoleKey);
+        rolesVersion.incrementAndGet();
+    }
+
+    @Override
+    public void invalidateRoleCaches() {
+        cachedRoles.invalidateAll();
+        rolesVersion.incrementAndGet();
+    }
+
+    @Override
+    public void invalidatePermissionCaches() {
+        rolesVersion.incrementAndGet();
+    }
+
+    @Override
+    public long getPermissionsVersion() {
+        return rolesVersion.get();
     }
 
     private static String computeCachedRoleKey(String referenceType, String referenceId, String memberType, String memberId) {
@@ -84,6 +84,10 @@ import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AccessLevel;
@@ -193,6 +197,12 @@ public class PageServiceImpl extends AbstractService implements PageService, App
     @Autowired
     private ConfigService configService;
 
+    /**
+     * Last auto fetch of each page done by this node. As a page is no longer written when its source did not change,
+     * its updatedAt date can't be used alone to know when it has been fetched for the last time.
+     */
+    private final Map<String, Date> lastAutoFetchDates = new ConcurrentHashMap<>();
+
     private static Page convert(NewPageEntity newPageEntity) {
         Page page = new Page();
         page.setCrossId(newPageEntity.getCrossId());
@@ -836,6 +846,16 @@ public class PageServiceImpl extends AbstractService implements PageService, App
 
     @Override
     public PageEntity createPage(final ExecutionContext executionContext, String apiId, NewPageEntity newPageEntity, String newPageId) {
+        return this.createPage(executionContext, apiId, newPageEntity, newPageId, null);
+    }
+
+    private PageEntity createPage(
+        final ExecutionContext executionContext,
+        String apiId,
+        NewPageEntity newPageEntity,
+        String newPageId,
+        List<String> swaggerValidationMessages
+    ) {
         try {
             log.debug("Create page {} for API {}", newPageEntity, apiId);
 
@@ -938,7 +958,7 @@ public class PageServiceImpl extends AbstractService implements PageService, App
             page.setCreatedAt(new Date());
             page.setUpdatedAt(page.getCreatedAt());
 
-            List<String> messages = validateSafeContent(executionContext, page);
+            List<String> messages = validateSafeContent(executionContext, page, swaggerValidationMessages);
             Page createdPage = this.pageRepository.create(page);
 
             if (createRevision) {
@@ -1172,6 +1192,16 @@ public class PageServiceImpl extends AbstractService implements PageService, App
 
     @Override
     public PageEntity update(final ExecutionContext executionContext, String pageId, UpdatePageEntity updatePageEntity, boolean partial) {
+        return this.update(executionContext, pageId, updatePageEntity, partial, null);
+    }
+
+    private PageEntity update(
+        final ExecutionContext executionContext,
+        String pageId,
+        UpdatePageEntity updatePageEntity,
+        boolean partial,
+        List<String> swaggerValidationMessages
+    ) {
         try {
             log.debug("Update Page {}", pageId);
 
@@ -1375,7 +1405,7 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 reorderAndSavePages(page);
             }
 
-            List<String> messages = validateSafeContent(executionContext, page);
+            List<String> messages = validateSafeContent(executionContext, page, swaggerValidationMessages);
             Page updatedPage = pageRepository.update(page);
 
             if (
@@ -1685,16 +1715,28 @@ public class PageServiceImpl extends AbstractService implements PageService, App
 
     @Override
     public long execAutoFetch(ExecutionContext executionContext) {
+        return execAutoFetch(executionContext, Runnable::run);
+    }
+
+    @Override
+    public long execAutoFetch(ExecutionContext executionContext, Executor executor) {
         log.debug("Auto Fetch pages");
         try {
             List<Page> autoFetchPages = pageRepository.search(new PageCriteria.Builder().withAutoFetch().build());
-            long nbOfFetchedPages = autoFetchPages
+            // forget the pages that are no longer auto fetched
+            lastAutoFetchDates.keySet().retainAll(autoFetchPages.stream().map(Page::getId).collect(Collectors.toSet()));
+
+            List<CompletableFuture<Integer>> fetches = autoFetchPages
                 .stream()
                 .filter(pageListItem -> pageListItem.getSource() != null)
                 .filter(this::isFetchRequired)
-                .map(page -> executeAutoFetch(executionContext, page))
-                .flatMap(Collection::stream)
-                .count();
+                .map(page -> CompletableFuture.supplyAsync(() -> executeAutoFetch(executionContext, page).size(), executor))
+                .collect(toList());
+
+            long nbOfFetchedPages = 0;
+            for (CompletableFuture<Integer> fetch : fetches) {
+                nbOfFetchedPages += join(fetch);
+            }
 
             log.debug("{} pages fetched", nbOfFetchedPages);
             return nbOfFetchedPages;
@@ -1703,6 +1745,17 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         }
     }
 
+    private static int join(CompletableFuture<Integer> fetch) {
+        try {
+            return fetch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
     private boolean isFetchRequired(Page pageItem) {
         boolean fetchRequired = false;
         try {
@@ -1715,9 +1768,10 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 String cron = configuration.getFetchCron();
                 if (cron != null && !cron.isEmpty()) {
                     CronExpression cronExpression = CronExpression.parse(cron);
-                    if (pageItem.getUpdatedAt() != null) {
+                    Date lastFetchedAt = getLastFetchDate(pageItem);
+                    if (lastFetchedAt != null) {
                         LocalDateTime nextRun;
-                        LocalDateTime updatedAt = LocalDateTime.ofInstant(pageItem.getUpdatedAt().toInstant(), ZoneId.systemDefault());
+                        LocalDateTime updatedAt = LocalDateTime.ofInstant(lastFetchedAt.toInstant(), ZoneId.systemDefault());
                         if ((nextRun = cronExpression.next(updatedAt)) != null) {
                             fetchRequired = nextRun.isBefore(LocalDateTime.now());
                         }
@@ -1737,6 +1791,14 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         return fetchRequired;
     }
 
+    private Date getLastFetchDate(Page pageItem) {
+        Date lastAutoFetchDate = pageItem.getId() == null ? null : lastAutoFetchDates.get(pageItem.getId());
+        if (lastAutoFetchDate == null || (pageItem.getUpdatedAt() != null && pageItem.getUpdatedAt().after(lastAutoFetchDate))) {
+            return pageItem.getUpdatedAt();
+        }
+        return lastAutoFetchDate;
+    }
+
     private List<PageEntity> executeAutoFetch(ExecutionContext executionContext, Page page) {
         try {
             if (page.getType() != null && page.getType().equals("ROOT")) {
@@ -1751,7 +1813,11 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 pageEntity.setVisibility(Visibility.valueOf(page.getVisibility()));
                 return fetchPages(executionContext, page.getReferenceId(), pageEntity);
             } else {
-                PageEntity fetchedPage = fetch(executionContext, page, SYSTEM_CONTRIBUTOR);
+                Date fetchDate = new Date();
+                PageEntity fetchedPage = fetch(executionContext, page, SYSTEM_CONTRIBUTOR, true);
+                if (page.getId() != null) {
+                    lastAutoFetchDates.put(page.getId(), fetchDate);
+                }
                 if (fetchedPage != null) {
                     return List.of(fetchedPage);
                 }
@@ -2295,18 +2361,26 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                 throw new NoFetcherDefinedException(pageId);
             }
 
-            return fetch(executionContext, pageToUpdate, contributor);
+            return fetch(executionContext, pageToUpdate, contributor, false);
         } catch (TechnicalException ex) {
             throw onUpdateFail(pageId, ex);
         }
     }
 
-    private PageEntity fetch(final ExecutionContext executionContext, Page page, String contributor) throws TechnicalException {
+    /**
+     * Fetch the content of a page from its source.
+     * When <code>onlyIfChanged</code> is set, the page is not written (nor audited) if the fetched content is the same as the stored one,
+     * and <code>null</code> is returned.
+     */
+    private PageEntity fetch(final ExecutionContext executionContext, Page page, String contributor, boolean onlyIfChanged)
+        throws TechnicalException {
         // preserve content & name before the fetch
         // to detect if there are some changes
         Page previousPage = new Page();
         previousPage.setContent(page.getContent());
         previousPage.setName(page.getName());
+        previousPage.setMetadata(page.getMetadata() == null ? Map.of() : new HashMap<>(page.getMetadata()));
+        previousPage.setUseAutoFetch(page.getUseAutoFetch());
 
         UpdatePageEntity updatePageEntity = convertToUpdateEntity(page, false);
         try {
@@ -2318,6 +2392,10 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         } catch (FetcherException e) {
             throw onUpdateFail(page.getId(), e);
         }
+        if (onlyIfChanged && !fetchedContentHasChanged(previousPage, updatePageEntity)) {
+            log.debug("page [{}] has not changed in the source, it will not be updated", page.getId());
+            return null;
+        }
         page.setContent(updatePageEntity.getContent());
         page.setMetadata(updatePageEntity.getMetadata());
         page.setUseAutoFetch(updatePageEntity.getUseAutoFetch());
@@ -2343,6 +2421,14 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         return pageEntity;
     }
 
+    private boolean fetchedContentHasChanged(Page previousPage, UpdatePageEntity fetchedPage) {
+        return (
+            !Objects.equals(previousPage.getContent(), fetchedPage.getContent()) ||
+            !Objects.equals(previousPage.getUseAutoFetch(), fetchedPage.getUseAutoFetch()) ||
+            !previousPage.getMetadata().equals(fetchedPage.getMetadata() == null ? Map.of() : fetchedPage.getMetadata())
+        );
+    }
+
     private List<PageEntity> fetchPages(final ExecutionContext executionContext, final String apiId, ImportPageEntity pageEntity) {
         try {
             Fetcher _fetcher = this.getFetcher(convert(pageEntity.getSource()));
@@ -2566,6 +2652,16 @@ public class PageServiceImpl extends AbstractService implements PageService, App
         this.applicationContext = applicationContext;
     }
 
+    /**
+     * Validate the content of the page, unless it is a swagger page whose content has already been parsed, as for an import.
+     */
+    private List<String> validateSafeContent(ExecutionContext executionContext, Page page, List<String> swaggerValidationMessages) {
+        if (swaggerValidationMessages != null && SWAGGER.name().equals(page.getType())) {
+            return swaggerValidateSafeContent ? new ArrayList<>(swaggerValidationMessages) : new ArrayList<>();
+        }
+        return validateSafeContent(executionContext, page);
+    }
+
     private List<String> validateSafeContent(ExecutionContext executionContext, Page page) {
         String apiId = null;
         if (PageReferenceType.API.equals(page.getReferenceType())) {
@@ -2852,7 +2948,7 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                     source.setType("http-fetcher");
                     source.setConfiguration(objectMapper.convertValue(singletonMap("url", swaggerDescriptor.getPayload()), JsonNode.class));
                 }
-                this.createPage(executionContext, apiId, page);
+                this.createPage(executionContext, apiId, page, null, swaggerValidationMessages(swaggerDescriptor));
             } else if (apiDocs.size() == 1) {
                 PageEntity pageToUpdate = apiDocs.get(0);
                 final UpdatePageEntity page = new UpdatePageEntity();
@@ -2871,11 +2967,15 @@ public class PageServiceImpl extends AbstractService implements PageService, App
                     source.setType("http-fetcher");
                     source.setConfiguration(objectMapper.convertValue(singletonMap("url", swaggerDescriptor.getPayload()), JsonNode.class));
                 }
-                this.update(executionContext, pageToUpdate.getId(), page);
+                this.update(executionContext, pageToUpdate.getId(), page, false, swaggerValidationMessages(swaggerDescriptor));
             }
         }
     }
 
+    private static List<String> swaggerValidationMessages(ImportSwaggerDescriptorEntity swaggerDescriptor) {
+        return INLINE.equals(swaggerDescriptor.getType()) ? swaggerDescriptor.getValidationMessages() : null;
+    }
+
     private NewPageEntity convertToEntity(String pageDefinition) throws JsonProcessingException {
         return objectMapper
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
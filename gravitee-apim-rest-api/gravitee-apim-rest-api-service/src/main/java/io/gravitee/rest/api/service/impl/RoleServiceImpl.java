@@ -76,13 +76,16 @@ import io.gravitee.rest.api.service.exceptions.RoleReservedNameException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import lombok.CustomLog;
@@ -149,6 +152,42 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
         });
     }
 
+    @Override
+    public Map<String, RoleEntity> findByIds(final Collection<String> roleIds) {
+        final Map<String, RoleEntity> currentRoles = GraviteeContext.getCurrentRoles();
+        final Map<String, RoleEntity> roles = new HashMap<>();
+        final Set<String> missingRoleIds = new HashSet<>();
+        for (String roleId : roleIds) {
+            RoleEntity role = currentRoles.get(roleId);
+            if (role != null) {
+                roles.put(roleId, role);
+            } else {
+                missingRoleIds.add(roleId);
+            }
+        }
+        if (missingRoleIds.isEmpty()) {
+            return roles;
+        }
+
+        try {
+            log.debug("Find Roles by ids");
+            for (Role role : roleRepository.findAllByIdIn(missingRoleIds)) {
+                RoleEntity roleEntity = convert(role);
+                currentRoles.put(roleEntity.getId(), roleEntity);
+                roles.put(roleEntity.getId(), roleEntity);
+            }
+        } catch (TechnicalException ex) {
+            log.error("An error occurs while trying to find roles : {}", missingRoleIds, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find roles : " + missingRoleIds, ex);
+        }
+
+        missingRoleIds.removeAll(roles.keySet());
+        if (!missingRoleIds.isEmpty()) {
+            throw new RoleNotFoundException(missingRoleIds.iterator().next());
+        }
+        return roles;
+    }
+
     @Override
     public Optional<RoleEntity> findByIdAndOrganizationId(String roleId, String organizationId) {
         try {
@@ -241,6 +280,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             updatedRole.setReferenceId(role.getReferenceId());
             updatedRole.setReferenceType(role.getReferenceType());
             RoleEntity entity = convert(roleRepository.update(updatedRole));
+            membershipService.invalidateRoleCaches();
             auditService.createOrganizationAuditLog(
                 executionContext,
                 AuditService.AuditLogData.builder()
@@ -277,6 +317,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             membershipService.removeRoleUsage(roleId, defaultRoleByScopes.get(0).getId());
 
             roleRepository.delete(roleId);
+            membershipService.invalidateRoleCaches();
 
             auditService.createOrganizationAuditLog(
                 executionContext,
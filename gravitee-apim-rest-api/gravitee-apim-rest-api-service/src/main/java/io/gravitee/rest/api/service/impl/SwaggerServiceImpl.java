@@ -41,6 +41,7 @@ import io.swagger.v3.parser.core.models.ParseOptions;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collection;
+import java.util.List;
 import lombok.CustomLog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -58,6 +59,9 @@ public class SwaggerServiceImpl implements SwaggerService {
     @Value("${swagger.scheme:https}")
     private String defaultScheme;
 
+    @Value("${imports.max-descriptor-size:-1}")
+    private long maxDescriptorSize;
+
     @Autowired
     private PolicyOperationVisitorManager policyOperationVisitorManager;
 
@@ -90,6 +94,10 @@ public class SwaggerServiceImpl implements SwaggerService {
 
         boolean wsdlImport = Format.WSDL.equals(swaggerDescriptor.getFormat());
         SwaggerDescriptor descriptor = parse(swaggerDescriptor.getPayload(), wsdlImport, options);
+        if (descriptor instanceof OAIDescriptor oaiDescriptor && ImportSwaggerDescriptorEntity.Type.INLINE == swaggerDescriptor.getType()) {
+            // Keep the validation of the payload, so that the swagger page created from it does not parse it again
+            swaggerDescriptor.setValidationMessages(oaiDescriptor.getMessages() != null ? oaiDescriptor.getMessages() : List.of());
+        }
         if (wsdlImport) {
             overridePayload(swaggerDescriptor, descriptor);
             populateXmlToJsonPolicy(swaggerDescriptor);
@@ -166,6 +174,8 @@ public class SwaggerServiceImpl implements SwaggerService {
                 importConfiguration.getImportWhitelist(),
                 importConfiguration.isAllowImportFromPrivate()
             );
+        } else if (maxDescriptorSize > 0 && content != null && content.length() > maxDescriptorSize) {
+            throw new SwaggerDescriptorException("Descriptor is too large, maximum size is " + maxDescriptorSize + " characters");
         }
 
         if (wsdl) {
@@ -23,12 +23,15 @@ import static io.gravitee.rest.api.model.permissions.ApiPermission.SUBSCRIPTION;
 import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toList;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.ApplicationRepository;
 import io.gravitee.repository.management.api.PlanRepository;
 import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldFilter;
 import io.gravitee.repository.management.api.search.UserCriteria;
 import io.gravitee.repository.management.model.Api;
 import io.gravitee.repository.management.model.Application;
@@ -61,11 +64,13 @@ import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.exceptions.UnauthorizedAccessException;
 import io.gravitee.rest.api.service.promotion.PromotionTasksService;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import lombok.CustomLog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
@@ -81,6 +86,16 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
 
     private static final int NUMBER_OF_PENDING_USERS_TO_SEARCH = 100;
 
+    /**
+     * Ids of the APIs on which a user can handle tasks, tagged with the version of the permissions they have been computed from.
+     */
+    private final Cache<String, UserApiIdsSnapshot> cachedUserApiIds = CacheBuilder.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(10, TimeUnit.SECONDS)
+        .build();
+
+    private record UserApiIdsSnapshot(long version, Map<String, Set<String>> apiIdsByPermission) {}
+
     @Autowired
     private SubscriptionService subscriptionService;
 
@@ -121,13 +136,13 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
         }
 
         try {
-            List<MembershipAndPermissions> userMembershipsAndPermissions = getUserMembershipsAndPermissions(userId);
+            final Map<String, Set<String>> userApiIds = getUserApiIdsByPermission(executionContext, userId);
 
             // because Tasks only consists on subscriptions, we can optimize the search by only look for apis where
             // the user has a SUBSCRIPTION_UPDATE permission
 
             // search for PENDING subscriptions
-            Set<String> apiIds = getApisForAPermission(executionContext, userMembershipsAndPermissions, SUBSCRIPTION.getName());
+            Set<String> apiIds = userApiIds.get(SUBSCRIPTION.getName());
             final List<TaskEntity> tasks;
             if (apiIds.isEmpty()) {
                 tasks = new ArrayList<>();
@@ -150,33 +165,12 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
                 }
             }
 
-            // search for IN_REVIEW apis
-            apiIds = getApisForAPermission(executionContext, userMembershipsAndPermissions, REVIEWS.getName());
-            if (!apiIds.isEmpty()) {
-                apiIds.forEach(apiId -> {
-                    final List<Workflow> workflows = workflowService.findByReferenceAndType(API, apiId, WorkflowType.REVIEW);
-                    if (workflows != null && !workflows.isEmpty()) {
-                        final Workflow currentWorkflow = workflows.get(0);
-                        if (WorkflowState.IN_REVIEW.name().equals(currentWorkflow.getState())) {
-                            tasks.add(convert(currentWorkflow));
-                        }
-                    }
-                });
-            }
-
-            // search for REQUEST_FOR_CHANGES apis
-            apiIds = getApisForAPermission(executionContext, userMembershipsAndPermissions, DEFINITION.getName());
-            if (!apiIds.isEmpty()) {
-                apiIds.forEach(apiId -> {
-                    final List<Workflow> workflows = workflowService.findByReferenceAndType(API, apiId, WorkflowType.REVIEW);
-                    if (workflows != null && !workflows.isEmpty()) {
-                        final Workflow currentWorkflow = workflows.get(0);
-                        if (WorkflowState.REQUEST_FOR_CHANGES.name().equals(currentWorkflow.getState())) {
-                            tasks.add(convert(currentWorkflow));
-                        }
-                    }
-                });
-            }
+            // search for IN_REVIEW and REQUEST_FOR_CHANGES apis, the current review workflows are loaded at once for both states
+            final Set<String> reviewApiIds = userApiIds.get(REVIEWS.getName());
+            final Set<String> definitionApiIds = userApiIds.get(DEFINITION.getName());
+            final Map<String, Workflow> currentReviewWorkflows = findCurrentReviewWorkflows(reviewApiIds, definitionApiIds);
+            reviewApiIds.forEach(apiId -> addWorkflowTask(tasks, currentReviewWorkflows.get(apiId), WorkflowState.IN_REVIEW));
+            definitionApiIds.forEach(apiId -> addWorkflowTask(tasks, currentReviewWorkflows.get(apiId), WorkflowState.REQUEST_FOR_CHANGES));
 
             // search for TO_BE_VALIDATED promotions
             tasks.addAll(promotionTasksService.getPromotionTasks(executionContext));
@@ -188,6 +182,31 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
         }
     }
 
+    /**
+     * Resolves the ids of the APIs on which the user can handle each kind of task. They only depend on the user memberships and roles,
+     * so they are reused until the permissions change, while the tasks themselves are searched on each call.
+     */
+    private Map<String, Set<String>> getUserApiIdsByPermission(ExecutionContext executionContext, String userId) throws TechnicalException {
+        final String cachedApiIdsKey = executionContext.getEnvironmentId() + userId + isEnvironmentAdmin();
+        final UserApiIdsSnapshot snapshot = cachedUserApiIds.getIfPresent(cachedApiIdsKey);
+        if (snapshot != null && snapshot.version() == membershipService.getPermissionsVersion()) {
+            return snapshot.apiIdsByPermission();
+        }
+
+        final long version = membershipService.getPermissionsVersion();
+        final List<MembershipAndPermissions> userMembershipsAndPermissions = getUserMembershipsAndPermissions(userId);
+        final ApiIdsSearch apiIdsSearch = new ApiIdsSearch(executionContext);
+        final Map<String, Set<String>> apiIdsByPermission = new HashMap<>();
+        for (String permission : List.of(SUBSCRIPTION.getName(), REVIEWS.getName(), DEFINITION.getName())) {
+            apiIdsByPermission.put(
+                permission,
+                Collections.unmodifiableSet(apiIdsSearch.getApisForAPermission(userMembershipsAndPermissions, permission))
+            );
+        }
+        cachedUserApiIds.put(cachedApiIdsKey, new UserApiIdsSnapshot(version, apiIdsByPermission));
+        return apiIdsByPermission;
+    }
+
     private List<MembershipAndPermissions> getUserMembershipsAndPermissions(final String userId) {
         // 1. find apis and group memberships
 
@@ -206,10 +225,11 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
         );
 
         List<MembershipAndPermissions> userMembershipAndPermissions = new ArrayList<>();
+        Map<String, RoleEntity> roles = new HashMap<>();
 
         for (MembershipEntity membership : memberships) {
             // 2. get API roles in each memberships and search for roleEntity only once
-            RoleEntity role = roleService.findById(membership.getRoleId());
+            RoleEntity role = roles.computeIfAbsent(membership.getRoleId(), roleService::findById);
             if (role.getScope() == RoleScope.API) {
                 userMembershipAndPermissions.add(new MembershipAndPermissions(membership, role.getPermissions()));
             }
@@ -218,132 +238,92 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
         return userMembershipAndPermissions;
     }
 
-    private Set<String> getApisForAPermission(
-        ExecutionContext executionContext,
-        List<MembershipAndPermissions> membershipsAndPermissions,
-        final String permission
-    ) throws TechnicalException {
-        Set<String> apiIds = new HashSet<>();
-        List<String> groupIds = new ArrayList<>();
-
-        for (MembershipAndPermissions membershipAndPermissions : membershipsAndPermissions) {
-            if (membershipAndPermissions != null) {
-                // 3. get apiId or groupId only if the role has a given permission
-                final char[] rights = membershipAndPermissions.permission.get(permission);
-                if (rights != null) {
-                    for (char c : rights) {
-                        if (c == 'U') {
-                            switch (membershipAndPermissions.membership.getReferenceType()) {
-                                case GROUP:
-                                    groupIds.add(membershipAndPermissions.membership.getReferenceId());
-                                    break;
-                                case API:
-                                    apiIds.add(membershipAndPermissions.membership.getReferenceId());
-                                    break;
-                                default:
-                                    break;
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        List<ApiCriteria> apiCriteriaList = new ArrayList<>();
-        // 54. add apiId that comes from group
-        if (!groupIds.isEmpty()) {
-            ApiCriteria criteria = new ApiCriteria.Builder().groups(groupIds).build();
-
-            apiCriteriaList.add(criteria);
+    private Map<String, Workflow> findCurrentReviewWorkflows(Set<String> reviewApiIds, Set<String> definitionApiIds) {
+        final Set<String> apiIds = new HashSet<>(reviewApiIds);
+        apiIds.addAll(definitionApiIds);
+        if (apiIds.isEmpty()) {
+            return Map.of();
         }
-        if (isEnvironmentAdmin()) {
-            List<String> environmentIds = environmentService
-                .findByOrganization(executionContext.getOrganizationId())
-                .stream()
-                .map(EnvironmentEntity::getId)
-                .collect(toList());
-
-            ApiCriteria criteria = new ApiCriteria.Builder().environments(environmentIds).build();
 
-            apiCriteriaList.add(criteria);
+        // workflows are sorted from the most recent to the oldest, so the first one found for an API is its current workflow
+        final Map<String, Workflow> currentWorkflows = new HashMap<>();
+        for (Workflow workflow : workflowService.findByReferencesAndType(API, apiIds, WorkflowType.REVIEW)) {
+            currentWorkflows.putIfAbsent(workflow.getReferenceId(), workflow);
         }
+        return currentWorkflows;
+    }
 
-        // NOTE: Explicitly set the page size to MAX
-        // If we want to improve performance, we need to change the way we retrieve tasks
-        // ex: use a dedicated repository & collection to retrieve tasks
-        if (!apiCriteriaList.isEmpty()) {
-            apiIds.addAll(apiRepository.searchIds(apiCriteriaList, convert(new PageableImpl(1, Integer.MAX_VALUE)), null).getContent());
+    private void addWorkflowTask(List<TaskEntity> tasks, Workflow currentWorkflow, WorkflowState state) {
+        if (currentWorkflow != null && state.name().equals(currentWorkflow.getState())) {
+            tasks.add(convert(currentWorkflow));
         }
-
-        return apiIds;
     }
 
     @Override
     public Metadata getMetadata(ExecutionContext executionContext, List<TaskEntity> tasks) {
         final Metadata metadata = new Metadata();
+        final Set<String> applicationIds = new HashSet<>();
+        final Set<String> planIds = new HashSet<>();
+        final Set<String> apiIds = new HashSet<>();
+
         tasks.forEach(task -> {
             final Object data = task.getData();
-            if (data instanceof SubscriptionEntity) {
-                addSubscriptionMetadata(metadata, (SubscriptionEntity) data);
-            } else if (data instanceof Workflow) {
-                addWorkflowMetadata(metadata, (Workflow) data);
+            if (data instanceof SubscriptionEntity subscription) {
+                applicationIds.add(subscription.getApplication());
+                planIds.add(subscription.getPlan());
+            } else if (data instanceof Workflow workflow && API.name().equals(workflow.getReferenceType())) {
+                apiIds.add(workflow.getReferenceId());
             }
         });
+
+        addApplicationsMetadata(metadata, applicationIds);
+        apiIds.addAll(addPlansMetadata(metadata, planIds));
+        addApisMetadata(metadata, apiIds);
         return metadata;
     }
 
-    private void addSubscriptionMetadata(Metadata metadata, SubscriptionEntity subscription) {
-        if (!metadata.containsKey(subscription.getApplication())) {
-            addApplicationMetadata(metadata, subscription);
-        }
-        if (!metadata.containsKey(subscription.getPlan())) {
-            addPlanMetadata(metadata, subscription);
+    private void addApplicationsMetadata(Metadata metadata, Set<String> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return;
         }
-    }
-
-    private void addWorkflowMetadata(Metadata metadata, Workflow workflow) {
-        if (API.name().equals(workflow.getReferenceType()) && !metadata.containsKey(workflow.getReferenceId())) {
-            try {
-                Optional<Api> optionalApi = apiRepository.findById(workflow.getReferenceId());
-                optionalApi.ifPresent(api -> {
-                    metadata.put(workflow.getReferenceId(), "name", api.getName());
-                    metadata.put(workflow.getReferenceId(), "environmentId", api.getEnvironmentId());
-                });
-            } catch (TechnicalException e) {
-                log.error("Error retrieving api task metadata {}", e.getMessage());
-            }
-        }
-    }
-
-    private void addApplicationMetadata(Metadata metadata, SubscriptionEntity subscription) {
         try {
-            Optional<Application> application = applicationRepository.findById(subscription.getApplication());
-
-            application.ifPresent(value -> {
-                metadata.put(subscription.getApplication(), "name", value.getName());
-                metadata.put(subscription.getApplication(), "environmentId", value.getEnvironmentId());
-            });
+            for (Application application : applicationRepository.findByIds(applicationIds)) {
+                metadata.put(application.getId(), "name", application.getName());
+                metadata.put(application.getId(), "environmentId", application.getEnvironmentId());
+            }
         } catch (TechnicalException e) {
             log.error("Error retrieving application task metadata {}", e.getMessage());
         }
     }
 
-    private void addPlanMetadata(Metadata metadata, SubscriptionEntity subscription) {
+    /**
+     * @return the ids of the APIs the plans belong to.
+     */
+    private Set<String> addPlansMetadata(Metadata metadata, Set<String> planIds) {
+        final Set<String> apiIds = new HashSet<>();
+        if (planIds.isEmpty()) {
+            return apiIds;
+        }
         try {
-            Optional<Plan> optPlan = planRepository.findById(subscription.getPlan());
-
-            if (optPlan.isPresent()) {
-                String apiId = optPlan.get().getApi();
-                metadata.put(subscription.getPlan(), "name", optPlan.get().getName());
-                metadata.put(subscription.getPlan(), "api", apiId);
-
-                Optional<Api> optionalApi = apiRepository.findById(apiId);
-                optionalApi.ifPresent(api -> metadata.put(apiId, "name", api.getName()));
-                optionalApi.ifPresent(api -> metadata.put(apiId, "environmentId", api.getEnvironmentId()));
+            for (Plan plan : planRepository.findByIdIn(planIds)) {
+                metadata.put(plan.getId(), "name", plan.getName());
+                metadata.put(plan.getId(), "api", plan.getApi());
+                apiIds.add(plan.getApi());
             }
         } catch (TechnicalException e) {
             log.error("Error retrieving plan task metadata {}", e.getMessage());
         }
+        return apiIds;
+    }
+
+    private void addApisMetadata(Metadata metadata, Set<String> apiIds) {
+        if (apiIds.isEmpty()) {
+            return;
+        }
+        for (Api api : apiRepository.search(new ApiCriteria.Builder().ids(apiIds).build(), ApiFieldFilter.defaultFields())) {
+            metadata.put(api.getId(), "name", api.getName());
+            metadata.put(api.getId(), "environmentId", api.getEnvironmentId());
+        }
     }
 
     private TaskEntity convert(UserEntity user) {
@@ -386,6 +366,91 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
         return taskEntity;
     }
 
+    /**
+     * Resolves the ids of the APIs on which the user memberships grant a permission.
+     * The repository search is run once for each distinct set of criteria, as the permissions looked up for the tasks usually
+     * resolve to the same groups.
+     */
+    private class ApiIdsSearch {
+
+        private final ExecutionContext executionContext;
+        private final Map<List<ApiCriteria>, List<String>> apiIdsByCriteria = new HashMap<>();
+        private List<String> environmentIds;
+
+        ApiIdsSearch(ExecutionContext executionContext) {
+            this.executionContext = executionContext;
+        }
+
+        Set<String> getApisForAPermission(List<MembershipAndPermissions> membershipsAndPermissions, final String permission)
+            throws TechnicalException {
+            Set<String> apiIds = new HashSet<>();
+            List<String> groupIds = new ArrayList<>();
+
+            for (MembershipAndPermissions membershipAndPermissions : membershipsAndPermissions) {
+                if (membershipAndPermissions != null) {
+                    // 3. get apiId or groupId only if the role has a given permission
+                    final char[] rights = membershipAndPermissions.permission.get(permission);
+                    if (rights != null) {
+                        for (char c : rights) {
+                            if (c == 'U') {
+                                switch (membershipAndPermissions.membership.getReferenceType()) {
+                                    case GROUP:
+                                        groupIds.add(membershipAndPermissions.membership.getReferenceId());
+                                        break;
+                                    case API:
+                                        apiIds.add(membershipAndPermissions.membership.getReferenceId());
+                                        break;
+                                    default:
+                                        break;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            List<ApiCriteria> apiCriteriaList = new ArrayList<>();
+            // 4. add apiId that comes from group
+            if (!groupIds.isEmpty()) {
+                ApiCriteria criteria = new ApiCriteria.Builder().groups(groupIds).build();
+
+                apiCriteriaList.add(criteria);
+            }
+            if (isEnvironmentAdmin()) {
+                ApiCriteria criteria = new ApiCriteria.Builder().environments(getEnvironmentIds()).build();
+
+                apiCriteriaList.add(criteria);
+            }
+
+            if (!apiCriteriaList.isEmpty()) {
+                apiIds.addAll(searchIds(apiCriteriaList));
+            }
+
+            return apiIds;
+        }
+
+        private List<String> searchIds(List<ApiCriteria> apiCriteriaList) throws TechnicalException {
+            List<String> apiIds = apiIdsByCriteria.get(apiCriteriaList);
+            if (apiIds == null) {
+                // NOTE: Explicitly set the page size to MAX
+                apiIds = apiRepository.searchIds(apiCriteriaList, convert(new PageableImpl(1, Integer.MAX_VALUE)), null).getContent();
+                apiIdsByCriteria.put(apiCriteriaList, apiIds);
+            }
+            return apiIds;
+        }
+
+        private List<String> getEnvironmentIds() {
+            if (environmentIds == null) {
+                environmentIds = environmentService
+                    .findByOrganization(executionContext.getOrganizationId())
+                    .stream()
+                    .map(EnvironmentEntity::getId)
+                    .collect(toList());
+            }
+            return environmentIds;
+        }
+    }
+
     private class MembershipAndPermissions {
 
         public MembershipEntity membership;
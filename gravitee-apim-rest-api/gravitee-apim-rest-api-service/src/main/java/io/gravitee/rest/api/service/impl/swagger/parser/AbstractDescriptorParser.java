@@ -24,7 +24,8 @@ import java.io.File;
 abstract class AbstractDescriptorParser<T> implements DescriptorParser<T> {
 
     static boolean isLocationUrl(String content) {
-        content = content.toLowerCase().replaceAll("\\\\", "/");
-        return content.startsWith("http") || content.startsWith("file") || content.startsWith(File.separator);
+        // Only the beginning of the content is relevant, avoid copying a whole descriptor
+        String start = content.substring(0, Math.min(content.length(), 8)).toLowerCase().replace('\\', '/');
+        return start.startsWith("http") || start.startsWith("file") || start.startsWith(File.separator);
     }
 }
@@ -392,12 +392,20 @@ public class ApiAuthorizationServiceImpl extends AbstractService implements ApiA
     }
 
     private Set<String> findUserApiIdsFromMemberships(String userId, boolean manageOnly) {
-        return membershipService
+        final List<MembershipEntity> memberships = membershipService
             .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.API)
             .stream()
             .filter(membership -> membership.getRoleId() != null)
+            .toList();
+        if (memberships.isEmpty()) {
+            return Set.of();
+        }
+
+        final Map<String, RoleEntity> roles = roleService.findByIds(memberships.stream().map(MembershipEntity::getRoleId).collect(toSet()));
+        return memberships
+            .stream()
             .filter(membership -> {
-                final RoleEntity role = roleService.findById(membership.getRoleId());
+                final RoleEntity role = roles.get(membership.getRoleId());
                 if (manageOnly) {
                     return canManageApi(role);
                 }
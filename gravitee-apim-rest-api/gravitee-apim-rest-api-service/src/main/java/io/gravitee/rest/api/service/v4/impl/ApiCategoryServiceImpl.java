@@ -20,6 +20,7 @@ import static io.gravitee.repository.management.model.Visibility.PUBLIC;
 import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -296,13 +297,19 @@ public class ApiCategoryServiceImpl implements ApiCategoryService {
     }
 
     private List<String> getUserGroupIdsWithApiRole(String userId) {
-        return membershipService
+        final List<MembershipEntity> memberships = membershipService
             .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.GROUP)
             .stream()
-            .filter(m -> {
-                final RoleEntity roleInGroup = roleService.findById(m.getRoleId());
-                return m.getRoleId() != null && roleInGroup.getScope().equals(RoleScope.API);
-            })
+            .filter(m -> m.getRoleId() != null)
+            .toList();
+        if (memberships.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<String, RoleEntity> roles = roleService.findByIds(memberships.stream().map(MembershipEntity::getRoleId).collect(toSet()));
+        return memberships
+            .stream()
+            .filter(m -> roles.get(m.getRoleId()).getScope().equals(RoleScope.API))
             .map(MembershipEntity::getReferenceId)
             .collect(toList());
     }
@@ -101,6 +101,7 @@ public class ApiGroupServiceImpl implements ApiGroupService {
             groups.add(group);
 
             apiRepository.update(api);
+            membershipService.invalidatePermissionCaches();
             apiNotificationService.triggerUpdateNotification(executionContext, api);
         } catch (TechnicalException ex) {
             log.error("An error occurs while trying to add group {} to API {}: {}", group, apiId, ex);
@@ -122,6 +123,7 @@ public class ApiGroupServiceImpl implements ApiGroupService {
             Api api = optApi.orElseThrow(() -> new ApiNotFoundException(apiId));
             if (api.getGroups() != null && api.getGroups().remove(group)) {
                 apiRepository.update(api);
+                membershipService.invalidatePermissionCaches();
                 apiNotificationService.triggerUpdateNotification(executionContext, api);
             }
         } catch (TechnicalException ex) {
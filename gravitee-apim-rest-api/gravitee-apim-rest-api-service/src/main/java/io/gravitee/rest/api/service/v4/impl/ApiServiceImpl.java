@@ -518,6 +518,9 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
             }
 
             Api updatedApi = apiRepository.update(api);
+            if (!Objects.equals(apiToUpdate.getGroups(), updatedApi.getGroups())) {
+                membershipService.invalidatePermissionCaches();
+            }
 
             // update API flows
             flowCrudService.saveApiFlows(api.getId(), updateApiEntity.getFlows());
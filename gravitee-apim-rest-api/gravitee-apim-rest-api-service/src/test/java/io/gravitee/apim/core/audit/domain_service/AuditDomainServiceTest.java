@@ -32,6 +32,7 @@ import io.gravitee.apim.infra.json.jackson.JacksonJsonDiffProcessor;
 import io.gravitee.rest.api.service.common.UuidString;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -100,6 +101,71 @@ public class AuditDomainServiceTest {
             Assertions.assertThat(auditCrudService.storage()).containsOnly(expectedAudit);
         }
 
+        @Test
+        void should_build_the_audit_before_returning() {
+            List<AuditEntity> created = new ArrayList<>();
+            var asyncCrudService = new AuditCrudServiceInMemory() {
+                @Override
+                public void createAsync(AuditEntity auditEntity) {
+                    created.add(auditEntity);
+                }
+            };
+            var asyncService = new AuditDomainService(asyncCrudService, userCrudService, new JacksonJsonDiffProcessor());
+            SubscriptionEntity originalSubscription = SubscriptionEntity.builder()
+                .id("sub-id")
+                .status(SubscriptionEntity.Status.PENDING)
+                .build();
+            SubscriptionEntity updatedSubscription = originalSubscription.toBuilder().status(SubscriptionEntity.Status.ACCEPTED).build();
+
+            asyncService.createApiAuditLog(
+                ApiAuditLogEntity.builder()
+                    .apiId("api-id")
+                    .organizationId("organization-id")
+                    .environmentId("environment-id")
+                    .actor(AuditActor.builder().userId("system").build())
+                    .event(SubscriptionAuditEvent.SUBSCRIPTION_UPDATED)
+                    .properties(Map.of(AuditProperties.API, "api-id"))
+                    .oldValue(originalSubscription)
+                    .newValue(updatedSubscription)
+                    .createdAt(Instant.parse("2020-02-02T20:22:02.00Z").atZone(ZoneId.of("UTC")))
+                    .build()
+            );
+            // The caller keeps on using its objects once the audit is created
+            updatedSubscription.setStatus(SubscriptionEntity.Status.REJECTED);
+
+            Assertions.assertThat(created)
+                .extracting(AuditEntity::getPatch)
+                .containsExactly("[{\"op\":\"replace\",\"path\":\"/status\",\"value\":\"ACCEPTED\"}]");
+        }
+
+        @Test
+        void should_store_a_synchronous_audit_before_returning() {
+            List<AuditEntity> createdAsync = new ArrayList<>();
+            var asyncCrudService = new AuditCrudServiceInMemory() {
+                @Override
+                public void createAsync(AuditEntity auditEntity) {
+                    createdAsync.add(auditEntity);
+                }
+            };
+            var asyncService = new AuditDomainService(asyncCrudService, userCrudService, new JacksonJsonDiffProcessor());
+
+            asyncService.createApiAuditLog(
+                ApiAuditLogEntity.builder()
+                    .apiId("api-id")
+                    .organizationId("organization-id")
+                    .environmentId("environment-id")
+                    .actor(AuditActor.builder().userId("system").build())
+                    .event(SubscriptionAuditEvent.SUBSCRIPTION_CLOSED)
+                    .properties(Map.of(AuditProperties.API, "api-id"))
+                    .createdAt(Instant.parse("2020-02-02T20:22:02.00Z").atZone(ZoneId.of("UTC")))
+                    .synchronous(true)
+                    .build()
+            );
+
+            Assertions.assertThat(createdAsync).isEmpty();
+            Assertions.assertThat(asyncCrudService.storage()).extracting(AuditEntity::getReferenceId).containsExactly("api-id");
+        }
+
         @Test
         void should_calculate_json_patch() {
             SubscriptionEntity originalSubscription = SubscriptionEntity.builder()
@@ -57,6 +57,8 @@ import io.gravitee.rest.api.service.common.UuidString;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -70,7 +72,14 @@ class CloseExpiredSubscriptionsUseCaseTest {
 
     private final ApiCrudServiceInMemory apiCrudService = new ApiCrudServiceInMemory();
     private final ApiQueryServiceInMemory apiQueryService = new ApiQueryServiceInMemory(apiCrudService);
-    private final EnvironmentCrudServiceInMemory environmentCrudService = new EnvironmentCrudServiceInMemory();
+    private final AtomicInteger environmentLookups = new AtomicInteger();
+    private final EnvironmentCrudServiceInMemory environmentCrudService = new EnvironmentCrudServiceInMemory() {
+        @Override
+        public Environment get(String environmentId) {
+            environmentLookups.incrementAndGet();
+            return super.get(environmentId);
+        }
+    };
     private final SubscriptionCrudServiceInMemory subscriptionCrudService = new SubscriptionCrudServiceInMemory();
     private final SubscriptionQueryServiceInMemory subscriptionQueryService = new SubscriptionQueryServiceInMemory(subscriptionCrudService);
     private final AuditCrudServiceInMemory auditCrudServiceInMemory = new AuditCrudServiceInMemory();
@@ -254,6 +263,37 @@ class CloseExpiredSubscriptionsUseCaseTest {
             );
     }
 
+    @Test
+    void should_resolve_each_environment_once_when_closing_many_subscriptions() {
+        // Given
+        var now = Instant.now();
+        givenExistingSubscriptions(
+            IntStream.range(0, 5_000)
+                .mapToObj(i ->
+                    SubscriptionFixtures.aSubscription()
+                        .toBuilder()
+                        .id("s" + i)
+                        .apiId(i % 2 == 0 ? "api1" : "api2")
+                        .planId(i % 2 == 0 ? "plan1" : "plan2")
+                        .applicationId(i % 2 == 0 ? "app1" : "app2")
+                        .status(SubscriptionEntity.Status.ACCEPTED)
+                        .endingAt(now.minusSeconds(30).atZone(ZoneId.systemDefault()))
+                        .build()
+                )
+                .toList()
+        );
+
+        // When
+        var result = usecase.execute(new CloseExpiredSubscriptionsUseCase.Input(AUDIT_ACTOR));
+
+        // Then
+        assertThat(result.closedSubscriptions())
+            .hasSize(5_000)
+            .extracting(SubscriptionEntity::getStatus)
+            .containsOnly(SubscriptionEntity.Status.CLOSED);
+        assertThat(environmentLookups).hasValue(2);
+    }
+
     @Test
     void should_do_nothing_when_no_subscription_to_close() {
         // Given
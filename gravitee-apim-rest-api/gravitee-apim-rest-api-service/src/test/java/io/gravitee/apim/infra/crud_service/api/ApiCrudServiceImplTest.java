@@ -36,6 +36,7 @@ import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.model.ApiLifecycleState;
 import io.gravitee.repository.management.model.LifecycleState;
 import io.gravitee.repository.management.model.Visibility;
+import io.gravitee.rest.api.service.MembershipService;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.Date;
@@ -61,7 +62,7 @@ public class ApiCrudServiceImplTest {
     void setUp() {
         apiRepository = mock(ApiRepository.class);
 
-        service = new ApiCrudServiceImpl(apiRepository);
+        service = new ApiCrudServiceImpl(apiRepository, mock(MembershipService.class));
     }
 
     @Nested
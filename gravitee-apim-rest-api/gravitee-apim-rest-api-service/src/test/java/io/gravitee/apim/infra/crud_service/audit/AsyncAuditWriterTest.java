@@ -0,0 +1,198 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.apim.infra.crud_service.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.AuditRepository;
+import io.gravitee.repository.management.model.Audit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AsyncAuditWriterTest {
+
+    @Mock
+    AuditRepository auditRepository;
+
+    AsyncAuditWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    @Test
+    void should_write_audits_in_caller_thread_when_disabled() throws TechnicalException {
+        AtomicReference<Thread> writingThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            writingThread.set(Thread.currentThread());
+            return null;
+        })
+            .when(auditRepository)
+            .create(any());
+        writer = new AsyncAuditWriter(auditRepository, false, 100, 10);
+        writer.afterPropertiesSet();
+
+        writer.write(audit("audit-1"));
+
+        assertThat(writingThread.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void should_write_audits_in_batches_out_of_caller_thread() throws Exception {
+        Set<String> written = ConcurrentHashMap.newKeySet();
+        Set<Thread> writingThreads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            List<Audit> audits = invocation.getArgument(0);
+            assertThat(audits).hasSizeLessThanOrEqualTo(50);
+            audits.forEach(audit -> written.add(audit.getId()));
+            writingThreads.add(Thread.currentThread());
+            return null;
+        })
+            .when(auditRepository)
+            .createAll(anyList());
+        // Audits polled alone are created one by one
+        lenient()
+            .doAnswer(invocation -> {
+                writingThreads.add(Thread.currentThread());
+                return written.add(invocation.<Audit>getArgument(0).getId());
+            })
+            .when(auditRepository)
+            .create(any());
+        writer = new AsyncAuditWriter(auditRepository, true, 10_000, 50);
+        writer.afterPropertiesSet();
+
+        for (int i = 0; i < 1_000; i++) {
+            writer.write(audit("audit-" + i));
+        }
+        writer.destroy();
+
+        assertThat(written).hasSize(1_000);
+        assertThat(writingThreads).doesNotContain(Thread.currentThread());
+        verify(auditRepository, atLeastOnce()).createAll(anyList());
+    }
+
+    @Test
+    void should_write_in_caller_thread_when_queue_is_full() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, Thread> writingThreads = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            Audit audit = invocation.getArgument(0);
+            writingThreads.put(audit.getId(), Thread.currentThread());
+            if ("blocking".equals(audit.getId())) {
+                writing.countDown();
+                await(release);
+            }
+            return null;
+        })
+            .when(auditRepository)
+            .create(any());
+        writer = new AsyncAuditWriter(auditRepository, true, 1, 10);
+        writer.afterPropertiesSet();
+
+        // Keep the background thread busy, then fill the queue
+        writer.write(audit("blocking"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.write(audit("queued"));
+
+        writer.write(audit("overflow"));
+
+        assertThat(writingThreads.get("overflow")).isSameAs(Thread.currentThread());
+        release.countDown();
+    }
+
+    @Test
+    void should_flush_pending_audits_when_destroyed() throws Exception {
+        writer = new AsyncAuditWriter(auditRepository, true, 100, 10);
+        writer.afterPropertiesSet();
+
+        writer.write(audit("audit-1"));
+        writer.destroy();
+
+        verify(auditRepository).create(any());
+        writer = null;
+    }
+
+    @Test
+    void should_create_audits_one_by_one_when_batch_fails() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doThrow(new TechnicalException("batch failure")).when(auditRepository).createAll(anyList());
+        doAnswer(invocation -> {
+            if ("first".equals(invocation.<Audit>getArgument(0).getId())) {
+                writing.countDown();
+                await(release);
+            }
+            return null;
+        })
+            .when(auditRepository)
+            .create(any());
+        writer = new AsyncAuditWriter(auditRepository, true, 100, 10);
+        writer.afterPropertiesSet();
+
+        // Block the background thread to make sure the next audits are written as a batch
+        writer.write(audit("first"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.write(audit("second"));
+        writer.write(audit("third"));
+        release.countDown();
+        writer.destroy();
+
+        verify(auditRepository).createAll(anyList());
+        verify(auditRepository, times(3)).create(any());
+        writer = null;
+    }
+
+    private static Audit audit(String id) {
+        Audit audit = new Audit();
+        audit.setId(id);
+        return audit;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.gravitee.apim.core.audit.crud_service.AuditCrudService;
@@ -62,7 +63,7 @@ public class AuditCrudServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        service = new AuditCrudServiceImpl(auditRepository);
+        service = new AuditCrudServiceImpl(auditRepository, new AsyncAuditWriter(auditRepository, false, 0, 1));
     }
 
     @Nested
@@ -124,5 +125,70 @@ public class AuditCrudServiceImplTest {
             // Then
             assertThat(throwable).isInstanceOf(TechnicalManagementException.class).hasMessageContaining("technical exception");
         }
+
+        @Test
+        void should_store_the_audit_without_the_async_writer() throws TechnicalException {
+            // Given
+            var asyncAuditWriter = mock(AsyncAuditWriter.class);
+            var syncService = new AuditCrudServiceImpl(auditRepository, asyncAuditWriter);
+
+            // When
+            syncService.create(
+                AuditEntity.builder()
+                    .id("audit-id")
+                    .referenceType(AuditEntity.AuditReferenceType.API)
+                    .createdAt(Instant.parse("2020-02-02T20:22:02.00Z").atZone(ZoneOffset.UTC))
+                    .build()
+            );
+
+            // Then
+            verify(auditRepository).create(auditCaptor.capture());
+            assertThat(auditCaptor.getValue().getId()).isEqualTo("audit-id");
+            verifyNoInteractions(asyncAuditWriter);
+        }
+    }
+
+    @Nested
+    class CreateAsync {
+
+        @Test
+        void should_create_the_audit() throws TechnicalException {
+            // When
+            service.createAsync(
+                AuditEntity.builder()
+                    .id("audit-id")
+                    .referenceId("reference-id")
+                    .referenceType(AuditEntity.AuditReferenceType.API)
+                    .event("event")
+                    .createdAt(Instant.parse("2020-02-02T20:22:02.00Z").atZone(ZoneOffset.UTC))
+                    .patch("[]")
+                    .build()
+            );
+
+            // Then
+            verify(auditRepository).create(auditCaptor.capture());
+            assertThat(auditCaptor.getValue().getId()).isEqualTo("audit-id");
+            assertThat(auditCaptor.getValue().getReferenceType()).isEqualTo(Audit.AuditReferenceType.API);
+            assertThat(auditCaptor.getValue().getPatch()).isEqualTo("[]");
+        }
+
+        @Test
+        void should_not_throw_when_create_fails() throws TechnicalException {
+            // Given
+            when(auditRepository.create(any())).thenThrow(new TechnicalException("technical exception"));
+
+            // When
+            Throwable throwable = catchThrowable(() ->
+                service.createAsync(
+                    AuditEntity.builder()
+                        .referenceType(AuditEntity.AuditReferenceType.API)
+                        .createdAt(Instant.parse("2020-02-02T20:22:02.00Z").atZone(ZoneOffset.UTC))
+                        .build()
+                )
+            );
+
+            // Then
+            assertThat(throwable).isNull();
+        }
     }
 }
@@ -16,9 +16,13 @@
 package io.gravitee.apim.infra.crud_service.event;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -55,6 +59,45 @@ class EventCrudServiceLegacyWrapperTest {
     @Captor
     ArgumentCaptor<Collection<String>> deletedEvents;
 
+    @BeforeEach
+    void setUp() {
+        // By default, the bulk cleanup is not supported and events are cleaned by streaming them
+        lenient().when(eventRepository.cleanEvents(anyString(), anyInt(), any())).thenThrow(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void should_use_bulk_cleanup_when_supported_by_repository() {
+        // Given
+        doReturn(6L).when(eventRepository).cleanEvents("env", 2, Duration.ofDays(1));
+
+        // When
+        sut.cleanupEvents("env", 2, Duration.ofDays(1));
+
+        // Then
+        verify(eventRepository).cleanEvents("env", 2, Duration.ofDays(1));
+        verify(eventRepository, never()).findEventsToClean(anyString());
+        verify(eventRepository, never()).delete(anyCollection());
+    }
+
+    @Test
+    void should_fallback_to_streaming_when_bulk_cleanup_not_supported() {
+        // Given
+        when(eventRepository.findEventsToClean("env")).thenReturn(
+            Stream.of(
+                new EventRepository.EventToClean("1", new EventRepository.EventToCleanGroup("PUBLISH_API", "api1")),
+                new EventRepository.EventToClean("2", new EventRepository.EventToCleanGroup("PUBLISH_API", "api1"))
+            )
+        );
+
+        // When
+        sut.cleanupEvents("env", 1, Duration.ofDays(1));
+
+        // Then
+        verify(eventRepository).cleanEvents("env", 1, Duration.ofDays(1));
+        verify(eventRepository).delete(deletedEvents.capture());
+        assertThat(deletedEvents.getValue()).containsExactly("2");
+    }
+
     @Test
     void should_remove_old_events() {
         // Given
@@ -170,6 +213,7 @@ class EventCrudServiceLegacyWrapperTest {
         @BeforeEach
         void setUp() {
             // Setup common mocks
+            when(eventRepository.cleanEvents(anyString(), anyInt(), any())).thenThrow(UnsupportedOperationException.class);
         }
 
         @Test
@@ -28,6 +28,7 @@ import fixtures.core.model.MembershipFixtures;
 import io.gravitee.apim.core.exception.TechnicalDomainException;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.rest.api.service.MembershipService;
 import java.time.Instant;
 import java.util.Date;
 import lombok.SneakyThrows;
@@ -40,13 +41,16 @@ class MembershipCrudServiceImplTest {
 
     MembershipRepository membershipRepository;
 
+    MembershipService membershipService;
+
     MembershipCrudServiceImpl service;
 
     @BeforeEach
     void setUp() {
         membershipRepository = mock(MembershipRepository.class);
+        membershipService = mock(MembershipService.class);
 
-        service = new MembershipCrudServiceImpl(membershipRepository);
+        service = new MembershipCrudServiceImpl(membershipRepository, membershipService);
     }
 
     @Nested
@@ -111,6 +115,7 @@ class MembershipCrudServiceImplTest {
         void should_delete_membership() throws TechnicalException {
             service.delete("membership-id");
             verify(membershipRepository).delete("membership-id");
+            verify(membershipService).invalidatePermissionCaches();
         }
 
         @Test
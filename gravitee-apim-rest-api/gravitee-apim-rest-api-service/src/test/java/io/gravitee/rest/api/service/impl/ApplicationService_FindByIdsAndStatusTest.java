@@ -176,6 +176,31 @@ public class ApplicationService_FindByIdsAndStatusTest {
         assertEquals(APPLICATION_IDS, applications.stream().map(ApplicationListItem::getId).collect(Collectors.toList()));
     }
 
+    @Test
+    public void shouldLookUpClientRegistrationProvidersOnceForAllApplications() throws TechnicalException {
+        ExecutionContext executionContext = GraviteeContext.getExecutionContext();
+        ApplicationCriteria criteria = ApplicationCriteria.builder()
+            .restrictedToIds(Sets.newHashSet(APPLICATION_IDS))
+            .status(ApplicationStatus.ACTIVE)
+            .environmentIds(Set.of(executionContext.getEnvironmentId()))
+            .build();
+        doReturn(new Page<>(Arrays.asList(app1, app2), 1, 2, 2)).when(applicationRepository).search(criteria, null);
+        doReturn(2).when(primaryOwners).size();
+        when(app1.getMetadata()).thenReturn(Map.of());
+        when(app2.getMetadata()).thenReturn(Map.of());
+        when(clientRegistrationService.findAll(executionContext)).thenReturn(Set.of());
+
+        final Set<ApplicationListItem> applications = applicationService.findByIdsAndStatus(
+            executionContext,
+            APPLICATION_IDS,
+            ApplicationStatus.ACTIVE
+        );
+
+        assertEquals(APPLICATION_IDS, applications.stream().map(ApplicationListItem::getId).collect(Collectors.toList()));
+        applications.forEach(application -> assertNotNull(application.getSettings().getOauth()));
+        verify(clientRegistrationService, times(1)).findAll(executionContext);
+    }
+
     @Test
     public void shouldFindByIdsAndStatusWithEmptySet() throws TechnicalException {
         ExecutionContext executionContext = GraviteeContext.getExecutionContext();
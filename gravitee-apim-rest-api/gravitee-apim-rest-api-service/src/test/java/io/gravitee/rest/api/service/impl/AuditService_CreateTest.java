@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.apim.infra.crud_service.audit.AsyncAuditWriter;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.AuditRepository;
@@ -31,12 +32,14 @@ import io.gravitee.rest.api.service.common.ExecutionContext;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import java.util.Collections;
 import java.util.Date;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(MockitoJUnitRunner.class)
 public class AuditService_CreateTest {
@@ -50,6 +53,11 @@ public class AuditService_CreateTest {
     @Mock
     private AuditRepository auditRepository;
 
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(auditService, "asyncAuditWriter", new AsyncAuditWriter(auditRepository, false, 0, 1));
+    }
+
     @Test
     public void should_createApiAuditLog() throws TechnicalException {
         ExecutionContext executionContext = GraviteeContext.getExecutionContext();
@@ -75,6 +75,9 @@ public class GroupService_AssociateTest extends TestCase {
     @Mock
     private EventManager eventManager;
 
+    @Mock
+    private MembershipService membershipService;
+
     @Test(expected = GroupNotFoundException.class)
     public void shouldThrowGroupNotFoundException() throws TechnicalException {
         when(groupRepository.findById(GROUP_ID)).thenReturn(Optional.empty());
@@ -111,6 +114,7 @@ public class GroupService_AssociateTest extends TestCase {
 
         verify(apiRepository, times(1)).update(api1);
         verify(notifierService, times(1)).trigger(eq(executionContext), eq(ApiHook.API_UPDATED), eq(api1.getId()), any());
+        verify(membershipService).invalidatePermissionCaches();
     }
 
     @Test
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -130,6 +131,7 @@ public class MembershipService_AddRoleToMemberOnReferenceTest {
             null,
             null
         );
+        lenient().when(membershipRepository.findByMemberIdAndMemberTypeAndReferences(any(), any(), any())).thenCallRealMethod();
     }
 
     @Test
@@ -21,6 +21,7 @@ import static io.gravitee.rest.api.model.permissions.RolePermissionAction.READ;
 import static io.gravitee.rest.api.model.permissions.RolePermissionAction.UPDATE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
@@ -127,6 +128,8 @@ public class MembershipService_CreateNewMembershipForApiTest {
             null
         );
 
+        lenient().when(membershipRepository.findByMemberIdAndMemberTypeAndReferences(any(), any(), any())).thenCallRealMethod();
+
         mockRole();
         mockApi();
     }
@@ -246,7 +249,7 @@ public class MembershipService_CreateNewMembershipForApiTest {
         lenient()
             .when(roleService.findByScopeAndName(RoleScope.API, "OWNER", GraviteeContext.getCurrentOrganization()))
             .thenReturn(Optional.of(role));
-        when(roleService.findById("API_OWNER")).thenReturn(role);
+        when(roleService.findByIds(Set.of("API_OWNER"))).thenReturn(Map.of("API_OWNER", role));
     }
 
     private void mockApi() throws TechnicalException {
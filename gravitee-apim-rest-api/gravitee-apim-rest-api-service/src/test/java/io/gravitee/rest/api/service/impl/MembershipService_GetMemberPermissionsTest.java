@@ -16,11 +16,13 @@
 package io.gravitee.rest.api.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.gravitee.repository.management.api.ApiRepository;
@@ -30,7 +32,6 @@ import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipMemberType;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.rest.api.model.RoleEntity;
-import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.ApiPermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
@@ -39,14 +40,17 @@ import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.RoleService;
 import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.v4.ApiNotificationService;
+import io.gravitee.rest.api.service.v4.impl.ApiGroupServiceImpl;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -114,30 +118,24 @@ public class MembershipService_GetMemberPermissionsTest {
         api.setGroups(Collections.emptySet());
         when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
 
-        doReturn(Collections.emptySet())
-            .when(membershipRepository)
-            .findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
+        when(
+            membershipRepository.findByMemberIdAndMemberTypeAndReferences(
                 USERNAME,
                 MembershipMemberType.USER,
-                MembershipReferenceType.API,
-                API_ID
-            );
-        ApiEntity apiEntity = new ApiEntity();
-        apiEntity.setId(API_ID);
+                Map.of(MembershipReferenceType.API, Set.of(API_ID))
+            )
+        ).thenReturn(Collections.emptySet());
+
         Map<String, char[]> permissions = membershipService.getUserMemberPermissions(
             GraviteeContext.getExecutionContext(),
-            apiEntity,
+            apiEntity(),
             USERNAME
         );
 
         assertThat(permissions).isEmpty();
-        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-            USERNAME,
-            MembershipMemberType.USER,
-            MembershipReferenceType.API,
-            API_ID
-        );
+        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferences(any(), any(), any());
         verify(apiRepository, times(1)).findById(API_ID);
+        verifyNoInteractions(roleService, userService);
     }
 
     @Test
@@ -146,54 +144,36 @@ public class MembershipService_GetMemberPermissionsTest {
         api.setGroups(Collections.emptySet());
         when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
 
-        Membership membership = mock(Membership.class);
-        doReturn("API_" + ROLENAME).when(membership).getRoleId();
-        doReturn(new HashSet<>(List.of(membership)))
-            .when(membershipRepository)
-            .findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
+        when(
+            membershipRepository.findByMemberIdAndMemberTypeAndReferences(
                 USERNAME,
                 MembershipMemberType.USER,
-                MembershipReferenceType.API,
-                API_ID
-            );
-
-        UserEntity userEntity = mock(UserEntity.class);
-        doReturn(userEntity).when(userService).findById(GraviteeContext.getExecutionContext(), USERNAME);
+                Map.of(MembershipReferenceType.API, Set.of(API_ID))
+            )
+        ).thenReturn(Set.of(apiMembership("API_" + ROLENAME)));
 
-        RoleEntity roleEntity = mock(RoleEntity.class);
         Map<String, char[]> rolePerms = new HashMap<>();
         rolePerms.put(
             ApiPermission.DOCUMENTATION.getName(),
             new char[] { RolePermissionAction.UPDATE.getId(), RolePermissionAction.CREATE.getId() }
         );
-        doReturn(rolePerms).when(roleEntity).getPermissions();
-        doReturn(roleEntity).when(roleService).findById("API_" + ROLENAME);
+        RoleEntity roleEntity = role("API_" + ROLENAME, rolePerms);
+        when(roleService.findByIds(Set.of("API_" + ROLENAME))).thenReturn(Map.of("API_" + ROLENAME, roleEntity));
 
-        ApiEntity apiEntity = new ApiEntity();
-        apiEntity.setId(API_ID);
         Map<String, char[]> permissions = membershipService.getUserMemberPermissions(
             GraviteeContext.getExecutionContext(),
-            apiEntity,
+            apiEntity(),
             USERNAME
         );
 
         assertThat(permissions).isNotNull();
         assertPermissions(rolePerms, permissions);
-        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-            USERNAME,
-            MembershipMemberType.USER,
-            MembershipReferenceType.API,
-            API_ID
-        );
-        verify(membershipRepository, never()).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-            USERNAME,
-            MembershipMemberType.USER,
-            MembershipReferenceType.GROUP,
-            GROUP_ID1
-        );
+        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferences(any(), any(), any());
+        verify(membershipRepository, never()).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(any(), any(), any(), any());
         verify(apiRepository, times(1)).findById(API_ID);
-        verify(userService, times(1)).findById(GraviteeContext.getExecutionContext(), USERNAME);
-        verify(roleService, times(1)).findById("API_" + ROLENAME);
+        verify(roleService, times(1)).findByIds(any());
+        verify(roleService, never()).findById(anyString());
+        verifyNoInteractions(userService);
     }
 
     @Test
@@ -202,64 +182,34 @@ public class MembershipService_GetMemberPermissionsTest {
         api.setGroups(Set.of(GROUP_ID1));
         when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
 
-        doReturn(Collections.emptySet())
-            .when(membershipRepository)
-            .findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-                USERNAME,
-                MembershipMemberType.USER,
-                MembershipReferenceType.API,
-                API_ID
-            );
-
-        Membership membership = mock(Membership.class);
-        doReturn("API_" + ROLENAME).when(membership).getRoleId();
-        doReturn(new HashSet<>(List.of(membership)))
-            .when(membershipRepository)
-            .findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
+        when(
+            membershipRepository.findByMemberIdAndMemberTypeAndReferences(
                 USERNAME,
                 MembershipMemberType.USER,
-                MembershipReferenceType.GROUP,
-                GROUP_ID1
-            );
-
-        UserEntity userEntity = mock(UserEntity.class);
-        doReturn(userEntity).when(userService).findById(GraviteeContext.getExecutionContext(), USERNAME);
+                Map.of(MembershipReferenceType.API, Set.of(API_ID), MembershipReferenceType.GROUP, Set.of(GROUP_ID1))
+            )
+        ).thenReturn(Set.of(groupMembership(GROUP_ID1, "API_" + ROLENAME)));
 
-        RoleEntity roleEntity = mock(RoleEntity.class);
         Map<String, char[]> rolePerms = new HashMap<>();
         rolePerms.put(
             ApiPermission.DOCUMENTATION.getName(),
             new char[] { RolePermissionAction.UPDATE.getId(), RolePermissionAction.CREATE.getId() }
         );
-        doReturn(rolePerms).when(roleEntity).getPermissions();
-        doReturn(RoleScope.API).when(roleEntity).getScope();
-        doReturn(roleEntity).when(roleService).findById("API_" + ROLENAME);
+        RoleEntity roleEntity = role("API_" + ROLENAME, rolePerms);
+        when(roleService.findByIds(Set.of("API_" + ROLENAME))).thenReturn(Map.of("API_" + ROLENAME, roleEntity));
 
-        ApiEntity apiEntity = new ApiEntity();
-        apiEntity.setId(API_ID);
         Map<String, char[]> permissions = membershipService.getUserMemberPermissions(
             GraviteeContext.getExecutionContext(),
-            apiEntity,
+            apiEntity(),
             USERNAME
         );
 
         assertThat(permissions).isNotNull();
         assertPermissions(rolePerms, permissions);
-        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-            USERNAME,
-            MembershipMemberType.USER,
-            MembershipReferenceType.API,
-            API_ID
-        );
-        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-            USERNAME,
-            MembershipMemberType.USER,
-            MembershipReferenceType.GROUP,
-            GROUP_ID1
-        );
+        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferences(any(), any(), any());
         verify(apiRepository, times(1)).findById(API_ID);
-        verify(userService, times(1)).findById(GraviteeContext.getExecutionContext(), USERNAME);
-        verify(roleService, times(1)).findById("API_" + ROLENAME);
+        verify(roleService, times(1)).findByIds(any());
+        verifyNoInteractions(userService);
     }
 
     @Test
@@ -268,56 +218,36 @@ public class MembershipService_GetMemberPermissionsTest {
         api.setGroups(Set.of(GROUP_ID1));
         when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
 
-        Membership membershipUser = mock(Membership.class);
-        doReturn("API_" + ROLENAME).when(membershipUser).getRoleId();
-        doReturn(new HashSet<>(List.of(membershipUser)))
-            .when(membershipRepository)
-            .findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-                USERNAME,
-                MembershipMemberType.USER,
-                MembershipReferenceType.API,
-                API_ID
-            );
-
-        Membership membershipGroup = mock(Membership.class);
-        doReturn("API_" + ROLENAME2).when(membershipGroup).getRoleId();
-        doReturn(new HashSet<>(List.of(membershipGroup)))
-            .when(membershipRepository)
-            .findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
+        when(
+            membershipRepository.findByMemberIdAndMemberTypeAndReferences(
                 USERNAME,
                 MembershipMemberType.USER,
-                MembershipReferenceType.GROUP,
-                GROUP_ID1
-            );
+                Map.of(MembershipReferenceType.API, Set.of(API_ID), MembershipReferenceType.GROUP, Set.of(GROUP_ID1))
+            )
+        ).thenReturn(Set.of(apiMembership("API_" + ROLENAME), groupMembership(GROUP_ID1, "API_" + ROLENAME2)));
 
-        UserEntity userEntity = mock(UserEntity.class);
-        doReturn(userEntity).when(userService).findById(GraviteeContext.getExecutionContext(), USERNAME);
-
-        RoleEntity roleEntity = mock(RoleEntity.class);
         Map<String, char[]> rolePerms = new HashMap<>();
         rolePerms.put(
             ApiPermission.DOCUMENTATION.getName(),
             new char[] { RolePermissionAction.UPDATE.getId(), RolePermissionAction.CREATE.getId() }
         );
-        doReturn(rolePerms).when(roleEntity).getPermissions();
-        doReturn(roleEntity).when(roleService).findById("API_" + ROLENAME);
+        RoleEntity roleEntity = role("API_" + ROLENAME, rolePerms);
 
-        RoleEntity roleEntity2 = mock(RoleEntity.class);
         Map<String, char[]> rolePerms2 = new HashMap<>();
         rolePerms2.put(
             ApiPermission.DOCUMENTATION.getName(),
             new char[] { RolePermissionAction.READ.getId(), RolePermissionAction.DELETE.getId() }
         );
         rolePerms2.put(ApiPermission.PLAN.getName(), new char[] { RolePermissionAction.READ.getId() });
-        doReturn(rolePerms2).when(roleEntity2).getPermissions();
-        doReturn(RoleScope.API).when(roleEntity2).getScope();
-        doReturn(roleEntity2).when(roleService).findById("API_" + ROLENAME2);
+        RoleEntity roleEntity2 = role("API_" + ROLENAME2, rolePerms2);
+
+        when(roleService.findByIds(Set.of("API_" + ROLENAME, "API_" + ROLENAME2))).thenReturn(
+            Map.of("API_" + ROLENAME, roleEntity, "API_" + ROLENAME2, roleEntity2)
+        );
 
-        ApiEntity apiEntity = new ApiEntity();
-        apiEntity.setId(API_ID);
         Map<String, char[]> permissions = membershipService.getUserMemberPermissions(
             GraviteeContext.getExecutionContext(),
-            apiEntity,
+            apiEntity(),
             USERNAME
         );
 
@@ -334,22 +264,139 @@ public class MembershipService_GetMemberPermissionsTest {
         );
         expectedPermissions.put(ApiPermission.PLAN.getName(), new char[] { RolePermissionAction.READ.getId() });
         assertPermissions(expectedPermissions, permissions);
-        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-            USERNAME,
-            MembershipMemberType.USER,
-            MembershipReferenceType.API,
-            API_ID
+        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferences(any(), any(), any());
+        verify(apiRepository, times(1)).findById(API_ID);
+        verify(roleService, times(1)).findByIds(any());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    public void shouldResolveManyGroupsWithOneMembershipQueryAndOneRoleQuery() throws Exception {
+        Set<String> groups = IntStream.range(0, 30).mapToObj(i -> "GROUP_" + i).collect(Collectors.toSet());
+        Api api = new Api();
+        api.setGroups(groups);
+        when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
+
+        Set<Membership> memberships = new HashSet<>();
+        memberships.add(apiMembership("API_" + ROLENAME));
+        groups.forEach(group -> memberships.add(groupMembership(group, "API_" + ROLENAME2)));
+        when(
+            membershipRepository.findByMemberIdAndMemberTypeAndReferences(
+                USERNAME,
+                MembershipMemberType.USER,
+                Map.of(MembershipReferenceType.API, Set.of(API_ID), MembershipReferenceType.GROUP, groups)
+            )
+        ).thenReturn(memberships);
+
+        RoleEntity roleEntity = role("API_" + ROLENAME, Map.of(ApiPermission.DOCUMENTATION.getName(), "R".toCharArray()));
+        RoleEntity roleEntity2 = role("API_" + ROLENAME2, Map.of(ApiPermission.PLAN.getName(), "R".toCharArray()));
+        when(roleService.findByIds(Set.of("API_" + ROLENAME, "API_" + ROLENAME2))).thenReturn(
+            Map.of("API_" + ROLENAME, roleEntity, "API_" + ROLENAME2, roleEntity2)
         );
-        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(
-            USERNAME,
-            MembershipMemberType.USER,
-            MembershipReferenceType.GROUP,
-            GROUP_ID1
+
+        Map<String, char[]> permissions = membershipService.getUserMemberPermissions(
+            GraviteeContext.getExecutionContext(),
+            apiEntity(),
+            USERNAME
         );
+
+        assertThat(permissions).containsOnlyKeys(ApiPermission.DOCUMENTATION.getName(), ApiPermission.PLAN.getName());
+        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferences(any(), any(), any());
+        verify(membershipRepository, never()).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(any(), any(), any(), any());
+        verify(roleService, times(1)).findByIds(any());
+        verify(roleService, never()).findById(anyString());
+    }
+
+    @Test
+    public void shouldReusePermissionsSnapshotUntilRolesAreInvalidated() throws Exception {
+        Api api = new Api();
+        api.setGroups(Collections.emptySet());
+        when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
+        when(membershipRepository.findByMemberIdAndMemberTypeAndReferences(any(), any(), any())).thenReturn(
+            Set.of(apiMembership("API_" + ROLENAME))
+        );
+        RoleEntity roleEntity = role("API_" + ROLENAME, Map.of(ApiPermission.DOCUMENTATION.getName(), "R".toCharArray()));
+        when(roleService.findByIds(any())).thenReturn(Map.of("API_" + ROLENAME, roleEntity));
+
+        for (int i = 0; i < 5; i++) {
+            membershipService.getUserMemberPermissions(GraviteeContext.getExecutionContext(), apiEntity(), USERNAME);
+        }
+
         verify(apiRepository, times(1)).findById(API_ID);
-        verify(userService, times(1)).findById(GraviteeContext.getExecutionContext(), USERNAME);
-        verify(roleService, times(1)).findById("API_" + ROLENAME);
-        verify(roleService, times(1)).findById("API_" + ROLENAME2);
+        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferences(any(), any(), any());
+        verify(roleService, times(1)).findByIds(any());
+
+        membershipService.invalidateRoleCache("GROUP", null, "USER", "another-user");
+        membershipService.getUserMemberPermissions(GraviteeContext.getExecutionContext(), apiEntity(), USERNAME);
+        membershipService.getUserMemberPermissions(GraviteeContext.getExecutionContext(), apiEntity(), USERNAME);
+
+        verify(apiRepository, times(2)).findById(API_ID);
+        verify(membershipRepository, times(2)).findByMemberIdAndMemberTypeAndReferences(any(), any(), any());
+        verify(roleService, times(2)).findByIds(any());
+
+        membershipService.invalidateRoleCaches();
+        membershipService.getUserMemberPermissions(GraviteeContext.getExecutionContext(), apiEntity(), USERNAME);
+
+        verify(membershipRepository, times(3)).findByMemberIdAndMemberTypeAndReferences(any(), any(), any());
+        verify(roleService, times(3)).findByIds(any());
+    }
+
+    @Test
+    public void shouldNotServePermissionsRevokedByRemovingTheApiGroup() throws Exception {
+        Api api = new Api();
+        api.setId(API_ID);
+        api.setEnvironmentId(GraviteeContext.getExecutionContext().getEnvironmentId());
+        api.setGroups(new HashSet<>(Set.of(GROUP_ID1)));
+        when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
+        when(membershipRepository.findByMemberIdAndMemberTypeAndReferences(any(), any(), any())).thenAnswer(invocation ->
+            invocation.<Map<MembershipReferenceType, ?>>getArgument(2).containsKey(MembershipReferenceType.GROUP)
+                ? Set.of(groupMembership(GROUP_ID1, "API_" + ROLENAME))
+                : Set.of()
+        );
+        RoleEntity roleEntity = role("API_" + ROLENAME, Map.of(ApiPermission.DOCUMENTATION.getName(), "R".toCharArray()));
+        when(roleService.findByIds(any())).thenReturn(Map.of("API_" + ROLENAME, roleEntity));
+        ApiGroupServiceImpl apiGroupService = new ApiGroupServiceImpl(
+            apiRepository,
+            mock(ApiNotificationService.class),
+            null,
+            membershipService,
+            null,
+            roleService
+        );
+
+        Map<String, char[]> permissions = membershipService.getUserMemberPermissions(
+            GraviteeContext.getExecutionContext(),
+            apiEntity(),
+            USERNAME
+        );
+        assertThat(permissions).containsOnlyKeys(ApiPermission.DOCUMENTATION.getName());
+
+        apiGroupService.removeGroup(GraviteeContext.getExecutionContext(), API_ID, GROUP_ID1);
+
+        permissions = membershipService.getUserMemberPermissions(GraviteeContext.getExecutionContext(), apiEntity(), USERNAME);
+        assertThat(permissions).isEmpty();
+    }
+
+    private static ApiEntity apiEntity() {
+        ApiEntity apiEntity = new ApiEntity();
+        apiEntity.setId(API_ID);
+        return apiEntity;
+    }
+
+    private static Membership apiMembership(String roleId) {
+        return new Membership("api-" + roleId, USERNAME, MembershipMemberType.USER, API_ID, MembershipReferenceType.API, roleId);
+    }
+
+    private static Membership groupMembership(String groupId, String roleId) {
+        return new Membership(groupId + "-" + roleId, USERNAME, MembershipMemberType.USER, groupId, MembershipReferenceType.GROUP, roleId);
+    }
+
+    private static RoleEntity role(String id, Map<String, char[]> permissions) {
+        RoleEntity role = new RoleEntity();
+        role.setId(id);
+        role.setScope(RoleScope.API);
+        role.setPermissions(permissions);
+        return role;
     }
 
     private void assertPermissions(Map<String, char[]> expected, Map<String, char[]> actual) {
@@ -358,8 +405,9 @@ public class MembershipService_GetMemberPermissionsTest {
             assertThat(actual).as("must contains perm:" + expectedEntry.getKey()).containsKey(expectedEntry.getKey());
             Arrays.sort(expectedEntry.getValue());
             String expectedCRUD = new String(expectedEntry.getValue());
-            Arrays.sort(actual.get(expectedEntry.getKey()));
-            String actualCRUD = new String(actual.get(expectedEntry.getKey()));
+            char[] actualValue = actual.get(expectedEntry.getKey()).clone();
+            Arrays.sort(actualValue);
+            String actualCRUD = new String(actualValue);
             assertThat(actualCRUD).as("CRUD is OK").isEqualTo(expectedCRUD);
         }
     }
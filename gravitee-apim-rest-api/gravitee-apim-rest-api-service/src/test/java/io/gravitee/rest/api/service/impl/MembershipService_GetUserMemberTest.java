@@ -15,19 +15,33 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.ApplicationRepository;
 import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.MembershipMemberType;
+import io.gravitee.rest.api.model.MemberEntity;
 import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.RoleEntity;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.service.MembershipService;
+import io.gravitee.rest.api.service.RoleService;
+import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.ApiNotFoundException;
 import io.gravitee.rest.api.service.exceptions.ApplicationNotFoundException;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,17 +68,23 @@ public class MembershipService_GetUserMemberTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RoleService roleService;
+
     @BeforeEach
     public void setUp() throws Exception {
         cut = new MembershipServiceImpl(
             null,
-            null,
+            userService,
             applicationRepository,
             null,
             null,
             null,
             membershipRepository,
-            null,
+            roleService,
             null,
             null,
             null,
@@ -84,25 +104,84 @@ public class MembershipService_GetUserMemberTest {
 
     @Test
     public void should_throw_if_no_api_found() throws TechnicalException {
-        when(membershipRepository.findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(any(), any(), any(), any())).thenReturn(
-            Set.of()
-        );
         when(apiRepository.findById("reference-id")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() ->
             cut.getUserMember(GraviteeContext.getExecutionContext(), MembershipReferenceType.API, "reference-id", "user-id")
         ).isInstanceOf(ApiNotFoundException.class);
+        verifyNoInteractions(membershipRepository);
     }
 
     @Test
     public void should_throw_if_no_app_found() throws TechnicalException {
-        when(membershipRepository.findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(any(), any(), any(), any())).thenReturn(
-            Set.of()
-        );
         when(applicationRepository.findById("reference-id")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() ->
             cut.getUserMember(GraviteeContext.getExecutionContext(), MembershipReferenceType.APPLICATION, "reference-id", "user-id")
         ).isInstanceOf(ApplicationNotFoundException.class);
+        verifyNoInteractions(membershipRepository);
+    }
+
+    @Test
+    public void should_resolve_direct_and_group_roles_with_one_membership_query_and_one_role_query() throws TechnicalException {
+        Api api = new Api();
+        api.setGroups(Set.of("group-1", "group-2"));
+        when(apiRepository.findById("reference-id")).thenReturn(Optional.of(api));
+        when(
+            membershipRepository.findByMemberIdAndMemberTypeAndReferences(
+                "user-id",
+                MembershipMemberType.USER,
+                Map.of(
+                    io.gravitee.repository.management.model.MembershipReferenceType.API,
+                    Set.of("reference-id"),
+                    io.gravitee.repository.management.model.MembershipReferenceType.GROUP,
+                    Set.of("group-1", "group-2")
+                )
+            )
+        ).thenReturn(
+            Set.of(
+                membership("reference-id", io.gravitee.repository.management.model.MembershipReferenceType.API, "api-user"),
+                membership("group-1", io.gravitee.repository.management.model.MembershipReferenceType.GROUP, "api-reviewer"),
+                membership("group-2", io.gravitee.repository.management.model.MembershipReferenceType.GROUP, "application-user")
+            )
+        );
+        RoleEntity apiUser = role("api-user", RoleScope.API, "DEFINITION");
+        RoleEntity apiReviewer = role("api-reviewer", RoleScope.API, "REVIEWS");
+        RoleEntity applicationUser = role("application-user", RoleScope.APPLICATION, "SUBSCRIPTION");
+        when(roleService.findByIds(Set.of("api-user", "api-reviewer", "application-user"))).thenReturn(
+            Map.of("api-user", apiUser, "api-reviewer", apiReviewer, "application-user", applicationUser)
+        );
+        UserEntity user = new UserEntity();
+        user.setId("user-id");
+        when(userService.findById(GraviteeContext.getExecutionContext(), "user-id")).thenReturn(user);
+
+        MemberEntity member = cut.getUserMember(
+            GraviteeContext.getExecutionContext(),
+            MembershipReferenceType.API,
+            "reference-id",
+            "user-id"
+        );
+
+        assertThat(member.getId()).isEqualTo("user-id");
+        assertThat(member.getRoles()).containsExactly(apiUser);
+        assertThat(member.getPermissions()).containsOnlyKeys("DEFINITION", "REVIEWS");
+        verify(membershipRepository, times(1)).findByMemberIdAndMemberTypeAndReferences(any(), any(), any());
+        verify(roleService, times(1)).findByIds(any());
+    }
+
+    private static Membership membership(
+        String referenceId,
+        io.gravitee.repository.management.model.MembershipReferenceType referenceType,
+        String roleId
+    ) {
+        return new Membership(referenceId + roleId, "user-id", MembershipMemberType.USER, referenceId, referenceType, roleId);
+    }
+
+    private static RoleEntity role(String id, RoleScope scope, String permission) {
+        RoleEntity role = new RoleEntity();
+        role.setId(id);
+        role.setScope(scope);
+        role.setPermissions(Map.of(permission, new char[] { 'R' }));
+        return role;
     }
 }
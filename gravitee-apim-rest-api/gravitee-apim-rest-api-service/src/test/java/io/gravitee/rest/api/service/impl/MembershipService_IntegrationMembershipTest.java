@@ -22,6 +22,7 @@ import static io.gravitee.rest.api.model.permissions.RolePermissionAction.UPDATE
 import static io.gravitee.rest.api.model.permissions.SystemRole.PRIMARY_OWNER;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
@@ -124,6 +125,8 @@ public class MembershipService_IntegrationMembershipTest {
             apiRepository,
             integrationRepository
         );
+        // Memberships across references are resolved with the per reference lookups stubbed by each test
+        lenient().when(membershipRepository.findByMemberIdAndMemberTypeAndReferences(any(), any(), any())).thenCallRealMethod();
 
         membershipService = new MembershipServiceImpl(
             identityService,
@@ -433,7 +436,7 @@ public class MembershipService_IntegrationMembershipTest {
         lenient()
             .when(roleService.findByScopeAndName(RoleScope.INTEGRATION, roleId, GraviteeContext.getCurrentOrganization()))
             .thenReturn(Optional.of(role));
-        when(roleService.findById(roleId)).thenReturn(role);
+        when(roleService.findByIds(Set.of(roleId))).thenReturn(Map.of(roleId, role));
     }
 
     private static RoleEntity role(String roleId) {
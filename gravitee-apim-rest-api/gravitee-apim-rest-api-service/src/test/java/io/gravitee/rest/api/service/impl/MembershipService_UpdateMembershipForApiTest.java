@@ -21,6 +21,7 @@ import static io.gravitee.rest.api.model.permissions.RolePermissionAction.READ;
 import static io.gravitee.rest.api.model.permissions.RolePermissionAction.UPDATE;
 import static io.gravitee.rest.api.model.permissions.SystemRole.PRIMARY_OWNER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
@@ -118,6 +119,7 @@ public class MembershipService_UpdateMembershipForApiTest {
             null,
             null
         );
+        lenient().when(membershipRepository.findByMemberIdAndMemberTypeAndReferences(any(), any(), any())).thenCallRealMethod();
         mockApi();
     }
 
@@ -212,7 +214,7 @@ public class MembershipService_UpdateMembershipForApiTest {
         lenient()
             .when(roleService.findByScopeAndName(RoleScope.API, roleId, GraviteeContext.getCurrentOrganization()))
             .thenReturn(Optional.of(role));
-        when(roleService.findById(roleId)).thenReturn(role);
+        when(roleService.findByIds(Set.of(roleId))).thenReturn(Map.of(roleId, role));
     }
 
     private void mockApi() throws TechnicalException {
@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -50,7 +51,11 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -188,6 +193,43 @@ public class PageService_AutoFetchTest {
         verify(pageRepository, times(0)).create(any());
     }
 
+    @Test
+    public void shouldNotUpdate_SourcePage_AutoFetch_ContentUnchanged() throws Exception {
+        Page page = autoFetchPage("Sample\n");
+        when(pageRepository.search(any())).thenReturn(List.of(page));
+        mockSinglePageFetcher("0 0 * * * *");
+
+        assertEquals(0, pageService.execAutoFetch(GraviteeContext.getExecutionContext()));
+        verify(pageRepository, times(0)).update(any());
+
+        // the page has not been written, but it must not be fetched again before the next cron execution
+        clearInvocations(fetcherPluginManager);
+        assertEquals(0, pageService.execAutoFetch(GraviteeContext.getExecutionContext()));
+        verify(fetcherPluginManager, times(1)).get(any());
+
+        verify(pageRepository, times(0)).update(any());
+        verify(pageRepository, times(0)).create(any());
+    }
+
+    @Test
+    public void shouldUpdate_SourcePage_AutoFetch_ContentChanged_WithExecutor() throws Exception {
+        Page page = autoFetchPage("Previous sample");
+        when(pageRepository.search(any())).thenReturn(List.of(page));
+        when(pageRepository.update(any())).thenAnswer(returnsFirstArg());
+        mockSinglePageFetcher("0 0 * * * *");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertEquals(1, pageService.execAutoFetch(GraviteeContext.getExecutionContext(), executor));
+            assertEquals(0, pageService.execAutoFetch(GraviteeContext.getExecutionContext(), executor));
+        } finally {
+            executor.shutdown();
+        }
+
+        verify(pageRepository, times(1)).update(argThat(updated -> "Sample\n".equals(updated.getContent())));
+        verify(pageRepository, times(0)).create(any());
+    }
+
     @Test
     public void shouldNotFetch_SourcePage_AutoFetch_NotRequiredYet() throws Exception {
         PageSource pageSource = new PageSource();
@@ -365,4 +407,37 @@ public class PageService_AutoFetchTest {
         pageService.update(GraviteeContext.getExecutionContext(), PAGE_ID, updatePageEntity);
         verify(pageRepository).update(argThat(page -> page.getUseAutoFetch() == null));
     }
+
+    private Page autoFetchPage(String content) {
+        PageSource pageSource = new PageSource();
+        pageSource.setType("type");
+        pageSource.setConfiguration("{\"autoFetch\": true, \"fetchCron\" : \"0 0 * * * *\"}");
+
+        Page page = new Page();
+        page.setId(PAGE_ID);
+        page.setName("poc");
+        page.setReferenceType(PageReferenceType.ENVIRONMENT);
+        page.setReferenceId("envId");
+        page.setVisibility(Visibility.PUBLIC.name());
+        page.setSource(pageSource);
+        page.setContent(content);
+        page.setMetadata(new HashMap<>());
+        page.setUseAutoFetch(true);
+        page.setUpdatedAt(new Date(Instant.now().minus(2, ChronoUnit.DAYS).toEpochMilli()));
+        return page;
+    }
+
+    private void mockSinglePageFetcher(String cron) throws Exception {
+        FetcherPlugin fetcherPlugin = mock(FetcherPlugin.class);
+        when(fetcherPlugin.clazz()).thenReturn("io.gravitee.rest.api.service.impl.PageService_ImportSimplePageMockFetcher");
+        when(fetcherPlugin.configuration()).thenReturn(PageService_MockSinglePageFetcherConfiguration.class);
+        when(fetcherPluginManager.get(any())).thenReturn(fetcherPlugin);
+        when(fetcherPlugin.fetcher()).thenReturn(PageService_ImportSimplePageMockFetcher.class);
+        when(fetcherConfigurationFactory.create(eq(PageService_MockSinglePageFetcherConfiguration.class), anyString())).thenReturn(
+            new PageService_MockSinglePageFetcherConfiguration()
+        );
+        when(applicationContext.getAutowireCapableBeanFactory()).thenReturn(mock(AutowireCapableBeanFactory.class));
+        PageService_MockSinglePageFetcherConfiguration.forceCronValue(cron);
+        PageService_MockSinglePageFetcherConfiguration.forceAutoFetchValue(true);
+    }
 }
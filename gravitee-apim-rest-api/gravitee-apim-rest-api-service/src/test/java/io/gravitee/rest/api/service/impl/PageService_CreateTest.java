@@ -189,6 +189,29 @@ public class PageService_CreateTest {
         verify(pageRevisionService).create(page1);
     }
 
+    @Test
+    public void shouldCreateSwaggerPageWithValidationMessagesOfImport() throws TechnicalException {
+        setField(pageService, "swaggerValidateSafeContent", true);
+        when(pageRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImportSwaggerDescriptorEntity swaggerDescriptor = new ImportSwaggerDescriptorEntity();
+        swaggerDescriptor.setType(ImportSwaggerDescriptorEntity.Type.INLINE);
+        swaggerDescriptor.setWithDocumentation(true);
+        // Not a valid descriptor: the page must rely on the validation of the import instead of parsing its content again
+        swaggerDescriptor.setPayload("already parsed by the import");
+        swaggerDescriptor.setValidationMessages(List.of("attribute unexpected is unexpected"));
+
+        pageService.createOrUpdateSwaggerPage(new ExecutionContext("DEFAULT", "envId"), API_ID, swaggerDescriptor, true);
+
+        verify(pageRepository).create(
+            argThat(
+                pageToCreate ->
+                    PageType.SWAGGER.name().equals(pageToCreate.getType()) &&
+                    "already parsed by the import".equals(pageToCreate.getContent())
+            )
+        );
+    }
+
     @Test(expected = TechnicalManagementException.class)
     public void shouldNotCreateBecauseTechnicalException() throws TechnicalException, IOException {
         final String name = "PAGE_NAME";
@@ -20,6 +20,7 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -35,6 +36,7 @@ import io.gravitee.rest.api.model.settings.Enabled;
 import io.gravitee.rest.api.model.settings.Management;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.ConfigService;
+import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.exceptions.RoleNotFoundException;
 import java.util.Collections;
@@ -64,6 +66,9 @@ public class RoleService_UpdateTest {
     @Mock
     private ConfigService configService;
 
+    @Mock
+    private MembershipService membershipService;
+
     @Test
     public void shouldUpdate() throws TechnicalException {
         UpdateRoleEntity updateRoleEntityMock = mock(UpdateRoleEntity.class);
@@ -109,6 +114,7 @@ public class RoleService_UpdateTest {
         char[] perms = entity.getPermissions().get(DOCUMENTATION.getName());
         assertEquals("not enough permissions", 1, perms.length);
         assertEquals("not the good permission", RolePermissionAction.CREATE.getId(), perms[0]);
+        verify(membershipService).invalidateRoleCaches();
     }
 
     @Test(expected = RoleNotFoundException.class)
@@ -579,6 +579,33 @@ public class SwaggerService_CreateAPITest {
         validatePolicies(swaggerApiEntity, 1, 0, this.getDefinitionVersion().equals(DefinitionVersion.V1) ? asList("/") : asList());
     }
 
+    @Test
+    public void shouldKeepValidationMessagesOfInlinePayload() {
+        ImportSwaggerDescriptorEntity swaggerDescriptor = new ImportSwaggerDescriptorEntity();
+        swaggerDescriptor.setType(ImportSwaggerDescriptorEntity.Type.INLINE);
+        swaggerDescriptor.setPayload(
+            "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Unexpected\",\"version\":\"1.0\"},\"paths\":{},\"unexpected\":true}"
+        );
+
+        this.createAPI(swaggerDescriptor);
+
+        assertEquals(List.of("attribute unexpected is unexpected"), swaggerDescriptor.getValidationMessages());
+
+        swaggerDescriptor.setPayload("{}");
+        assertNull(swaggerDescriptor.getValidationMessages());
+    }
+
+    @Test
+    public void shouldNotKeepValidationMessagesOfUrlPayload() throws URISyntaxException {
+        ImportSwaggerDescriptorEntity swaggerDescriptor = new ImportSwaggerDescriptorEntity();
+        swaggerDescriptor.setType(ImportSwaggerDescriptorEntity.Type.URL);
+        swaggerDescriptor.setPayload(Resources.getResource("io/gravitee/rest/api/management/service/openapi.yaml").toURI().getPath());
+
+        this.createAPI(swaggerDescriptor);
+
+        assertNull(swaggerDescriptor.getValidationMessages());
+    }
+
     protected void validatePathMappings(SwaggerApiEntity api, List<String> expectedPaths) {
         assertTrue(api.getPathMappings().containsAll(expectedPaths));
     }
@@ -37,6 +37,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -190,6 +191,30 @@ public class SwaggerService_ParseTest {
         swaggerService.parse(pageEntity.getContent(), false);
     }
 
+    @Test(expected = SwaggerDescriptorException.class)
+    public void shouldRejectDescriptorLargerThanMaxSize() {
+        ReflectionTestUtils.setField(swaggerService, "maxDescriptorSize", 1_000L);
+
+        swaggerService.parse(generateOpenApi(100), false);
+    }
+
+    private static String generateOpenApi(int paths) {
+        StringBuilder builder = new StringBuilder("{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Large\",\"version\":\"1.0\"},\"paths\":{");
+        for (int i = 0; i < paths; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder
+                .append("\"/resources-")
+                .append(i)
+                .append("/{id}\":{\"get\":{\"operationId\":\"get")
+                .append(i)
+                .append("\",\"parameters\":[{\"name\":\"id\",\"in\":\"path\",\"required\":true,\"schema\":{\"type\":\"string\"}}],")
+                .append("\"responses\":{\"200\":{\"description\":\"OK\"}}}}");
+        }
+        return builder.append("}}").toString();
+    }
+
     private void validateV3(JsonNode node) {
         validateV3(node, true);
     }
@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.service.impl;
 
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toSet;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -27,6 +28,7 @@ import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.ApplicationRepository;
 import io.gravitee.repository.management.api.PlanRepository;
 import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldFilter;
 import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.repository.management.api.search.Sortable;
 import io.gravitee.repository.management.api.search.UserCriteria;
@@ -99,6 +101,9 @@ public class TaskServiceTest {
     @Mock
     private EnvironmentService environmentService;
 
+    @Mock
+    private WorkflowService workflowService;
+
     @Before
     public void setUp() {
         MembershipEntity m1 = new MembershipEntity();
@@ -229,6 +234,100 @@ public class TaskServiceTest {
         verify(userService, times(1)).search(eq(GraviteeContext.getExecutionContext()), any(UserCriteria.class), any());
     }
 
+    @Test
+    public void shouldSearchApisAndReviewWorkflowsOnceForUserWithThousandsOfApis() throws TechnicalException {
+        final Authentication authentication = mock(Authentication.class);
+        SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+
+        Map<String, char[]> allPerms = new HashMap<>();
+        allPerms.put("SUBSCRIPTION", new char[] { 'C', 'R', 'U', 'D' });
+        allPerms.put("REVIEWS", new char[] { 'C', 'R', 'U', 'D' });
+        allPerms.put("DEFINITION", new char[] { 'C', 'R', 'U', 'D' });
+        RoleEntity owner = new RoleEntity();
+        owner.setId("API_OWNER");
+        owner.setPermissions(allPerms);
+        owner.setScope(io.gravitee.rest.api.model.permissions.RoleScope.API);
+        when(roleService.findById("API_OWNER")).thenReturn(owner);
+
+        Set<MembershipEntity> memberships = new HashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            MembershipEntity membership = new MembershipEntity();
+            membership.setId("api-membership-" + i);
+            membership.setReferenceId("api-" + i);
+            membership.setReferenceType(MembershipReferenceType.API);
+            membership.setRoleId(i % 2 == 0 ? "API_OWNER" : "API_PO");
+            memberships.add(membership);
+        }
+        MembershipEntity groupMembership = new MembershipEntity();
+        groupMembership.setId("group-membership");
+        groupMembership.setReferenceId("group");
+        groupMembership.setReferenceType(MembershipReferenceType.GROUP);
+        groupMembership.setRoleId("API_OWNER");
+        memberships.add(groupMembership);
+        when(membershipService.getMembershipsByMemberAndReference(any(), any(), any())).thenReturn(memberships);
+
+        when(apiRepository.searchIds(eq(List.of(new ApiCriteria.Builder().groups("group").build())), any(), isNull())).thenReturn(
+            new Page<>(List.of("group-api"), 1, 1, 1)
+        );
+        when(subscriptionService.search(eq(GraviteeContext.getExecutionContext()), any())).thenReturn(emptyList());
+
+        Workflow inReview = new Workflow();
+        inReview.setReferenceType("API");
+        inReview.setReferenceId("api-0");
+        inReview.setState(WorkflowState.IN_REVIEW.name());
+        Workflow requestForChanges = new Workflow();
+        requestForChanges.setReferenceType("API");
+        requestForChanges.setReferenceId("group-api");
+        requestForChanges.setState(WorkflowState.REQUEST_FOR_CHANGES.name());
+        Workflow previousReview = new Workflow();
+        previousReview.setReferenceType("API");
+        previousReview.setReferenceId("group-api");
+        previousReview.setState(WorkflowState.IN_REVIEW.name());
+        when(workflowService.findByReferencesAndType(eq(WorkflowReferenceType.API), any(), eq(WorkflowType.REVIEW))).thenReturn(
+            List.of(inReview, requestForChanges, previousReview)
+        );
+
+        List<TaskEntity> tasks = taskService.findAll(GraviteeContext.getExecutionContext(), "user");
+
+        assertEquals(2, tasks.size());
+        assertEquals(Set.of(TaskType.IN_REVIEW, TaskType.REQUEST_FOR_CHANGES), tasks.stream().map(TaskEntity::getType).collect(toSet()));
+        verify(roleService, times(1)).findById("API_OWNER");
+        verify(roleService, times(1)).findById("API_PO");
+        verify(apiRepository, times(1)).searchIds(any(), any(), any());
+        verify(workflowService, times(1)).findByReferencesAndType(
+            eq(WorkflowReferenceType.API),
+            argThat(apiIds -> apiIds.size() == 2501 && apiIds.contains("group-api")),
+            eq(WorkflowType.REVIEW)
+        );
+        verify(workflowService, never()).findByReferenceAndType(any(), any(), any());
+        verify(subscriptionService, times(1)).search(
+            eq(GraviteeContext.getExecutionContext()),
+            argThat(subscriptionQuery -> subscriptionQuery.getApis().size() == 5001)
+        );
+    }
+
+    @Test
+    public void shouldReuseUserApisUntilPermissionsChange() {
+        final Authentication authentication = mock(Authentication.class);
+        SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+
+        taskService.findAll(GraviteeContext.getExecutionContext(), "user");
+        taskService.findAll(GraviteeContext.getExecutionContext(), "user");
+
+        verify(membershipService, times(2)).getMembershipsByMemberAndReference(any(), any(), any());
+        verify(subscriptionService, times(2)).search(
+            eq(GraviteeContext.getExecutionContext()),
+            argThat(subscriptionQuery -> subscriptionQuery.getApis().size() == 2)
+        );
+
+        // A membership, role or group change bumps the version of the permissions
+        when(membershipService.getPermissionsVersion()).thenReturn(1L);
+        taskService.findAll(GraviteeContext.getExecutionContext(), "user");
+
+        verify(membershipService, times(4)).getMembershipsByMemberAndReference(any(), any(), any());
+        verify(subscriptionService, times(3)).search(eq(GraviteeContext.getExecutionContext()), any());
+    }
+
     @Test
     public void shouldGetMetadata() throws TechnicalException {
         final Authentication authentication = mock(Authentication.class);
@@ -243,18 +342,20 @@ public class TaskServiceTest {
         subscriptionEntity.setPlan("planId");
 
         Application application = new Application();
+        application.setId("appId");
         application.setName("App Name");
         application.setEnvironmentId("envId");
-        when(applicationRepository.findById(eq("appId"))).thenReturn(Optional.of(application));
+        when(applicationRepository.findByIds(Set.of("appId"))).thenReturn(Set.of(application));
 
         Plan plan = new Plan();
+        plan.setId("planId");
         plan.setName("Plan Name");
         plan.setApi("planApiId");
-        when(planRepository.findById(eq("planId"))).thenReturn(Optional.of(plan));
+        when(planRepository.findByIdIn(Set.of("planId"))).thenReturn(Set.of(plan));
         Api planApi = new Api();
+        planApi.setId("planApiId");
         planApi.setName("Plan Api Name");
         planApi.setEnvironmentId("envId");
-        when(apiRepository.findById(eq("planApiId"))).thenReturn(Optional.of(planApi));
 
         // Task Workflow
         TaskEntity taskWorkflow = new TaskEntity();
@@ -263,9 +364,15 @@ public class TaskServiceTest {
         workflow.setReferenceType("API");
         workflow.setReferenceId("workflowApiId");
         Api workflowApi = new Api();
+        workflowApi.setId("workflowApiId");
         workflowApi.setName("Workflow Api Name");
         workflowApi.setEnvironmentId("envId");
-        when(apiRepository.findById(eq("workflowApiId"))).thenReturn(Optional.of(workflowApi));
+        when(
+            apiRepository.search(
+                new ApiCriteria.Builder().ids(Set.of("planApiId", "workflowApiId")).build(),
+                ApiFieldFilter.defaultFields()
+            )
+        ).thenReturn(List.of(planApi, workflowApi));
 
         Metadata metadata = taskService.getMetadata(GraviteeContext.getExecutionContext(), Arrays.asList(taskSubscription, taskWorkflow));
 
@@ -296,9 +403,9 @@ public class TaskServiceTest {
         subscriptionEntity.setApplication("appId");
         subscriptionEntity.setPlan("planId");
 
-        when(applicationRepository.findById(eq("appId"))).thenThrow(new TechnicalException());
+        when(applicationRepository.findByIds(Set.of("appId"))).thenThrow(new TechnicalException());
 
-        when(planRepository.findById(eq("planId"))).thenThrow(new TechnicalException());
+        when(planRepository.findByIdIn(Set.of("planId"))).thenThrow(new TechnicalException());
 
         // Task Workflow
         TaskEntity taskWorkflow = new TaskEntity();
@@ -306,7 +413,6 @@ public class TaskServiceTest {
         taskWorkflow.setData(workflow);
         workflow.setReferenceType("API");
         workflow.setReferenceId("workflowApiId");
-        when(apiRepository.findById(eq("workflowApiId"))).thenThrow(new TechnicalException());
 
         Metadata metadata = taskService.getMetadata(GraviteeContext.getExecutionContext(), Arrays.asList(taskSubscription, taskWorkflow));
 
@@ -137,7 +137,7 @@ public class ApiAuthorizationServiceImplTest {
         userRole.setPermissions(userPermissions);
         userRole.setScope(RoleScope.API);
 
-        when(roleService.findById(userRoleId)).thenReturn(userRole);
+        when(roleService.findByIds(Set.of(userRoleId))).thenReturn(Map.of(userRoleId, userRole));
         when(api.getId()).thenReturn("api-1");
         List<ApiCriteria> apiCriteriaList = new ArrayList<>();
         apiCriteriaList.add(new ApiCriteria.Builder().environmentId("DEFAULT").ids("api-1").build());
@@ -181,7 +181,7 @@ public class ApiAuthorizationServiceImplTest {
         userRole.setPermissions(Map.of());
         userRole.setScope(RoleScope.API);
 
-        when(roleService.findById(userRoleId)).thenReturn(userRole);
+        when(roleService.findByIds(Set.of(userRoleId))).thenReturn(Map.of(userRoleId, userRole));
         when(api.getId()).thenReturn("api-1");
         List<ApiCriteria> apiCriteriaList = new ArrayList<>();
         apiCriteriaList.add(new ApiCriteria.Builder().environmentId("DEFAULT").ids("api-1").build());
@@ -255,7 +255,7 @@ public class ApiAuthorizationServiceImplTest {
         poRole.setPermissions(ImmutableMap.of("MEMBER", "CRUD".toCharArray()));
         poRole.setScope(RoleScope.API);
         poRole.setName("PRIMARY_OWNER");
-        when(roleService.findById(poRoleId)).thenReturn(poRole);
+        when(roleService.findByIds(Set.of(poRoleId))).thenReturn(Map.of(poRoleId, poRole));
 
         when(roleService.findByScope(RoleScope.API, GraviteeContext.getCurrentOrganization())).thenReturn(List.of(poRole));
 
@@ -287,7 +287,7 @@ public class ApiAuthorizationServiceImplTest {
         userRole.setPermissions(ImmutableMap.of("MEMBER", "R".toCharArray()));
         userRole.setScope(RoleScope.API);
         userRole.setName("USER");
-        when(roleService.findById(userRoleId)).thenReturn(userRole);
+        when(roleService.findByIds(Set.of(userRoleId))).thenReturn(Map.of(userRoleId, userRole));
         RoleEntity poRole = new RoleEntity();
         poRole.setId(poRoleId);
         poRole.setPermissions(ImmutableMap.of("MEMBER", "CRUD".toCharArray()));
@@ -319,7 +319,7 @@ public class ApiAuthorizationServiceImplTest {
         userRole.setPermissions(userPermissions);
         userRole.setScope(RoleScope.API);
 
-        when(roleService.findById(userRoleId)).thenReturn(userRole);
+        when(roleService.findByIds(Set.of(userRoleId))).thenReturn(Map.of(userRoleId, userRole));
         when(api.getId()).thenReturn("api-1");
         List<ApiCriteria> apiCriteriaList = new ArrayList<>();
         apiCriteriaList.add(
@@ -450,7 +450,7 @@ public class ApiAuthorizationServiceImplTest {
         userRole.setPermissions(userPermissions);
         userRole.setScope(RoleScope.API);
 
-        when(roleService.findById(userRoleId)).thenReturn(userRole);
+        when(roleService.findByIds(Set.of(userRoleId))).thenReturn(Map.of(userRoleId, userRole));
         when(api.getId()).thenReturn("api-1");
         List<ApiCriteria> apiCriteriaList = new ArrayList<>();
         apiCriteriaList.add(
@@ -500,7 +500,7 @@ public class ApiAuthorizationServiceImplTest {
         userRole.setPermissions(userPermissions);
         userRole.setScope(RoleScope.API);
 
-        when(roleService.findById(userRoleId)).thenReturn(userRole);
+        when(roleService.findByIds(Set.of(userRoleId))).thenReturn(Map.of(userRoleId, userRole));
         when(api.getId()).thenReturn("api-1");
         List<ApiCriteria> apiCriteriaList = new ArrayList<>();
         apiCriteriaList.add(
@@ -554,7 +554,7 @@ public class ApiAuthorizationServiceImplTest {
         userRole.setPermissions(userPermissions);
         userRole.setScope(RoleScope.API);
 
-        when(roleService.findById(userRoleId)).thenReturn(userRole);
+        when(roleService.findByIds(Set.of(userRoleId))).thenReturn(Map.of(userRoleId, userRole));
         when(api.getId()).thenReturn("api-1");
         List<ApiCriteria> apiCriteriaList = new ArrayList<>();
         apiCriteriaList.add(
@@ -20,11 +20,14 @@ import io.gravitee.rest.api.service.PageService;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.services.fetcher.spring.AutoFetchConfiguration;
 import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.CustomLog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.support.CronTrigger;
 
 /**
@@ -46,6 +49,8 @@ public class ScheduledAutoFetchService extends AbstractService implements Runnab
 
     private final AtomicLong counter = new AtomicLong(0);
 
+    private volatile ExecutorService executor;
+
     @Override
     protected String name() {
         return "Auto Fetch Service";
@@ -55,6 +60,10 @@ public class ScheduledAutoFetchService extends AbstractService implements Runnab
     protected void doStart() throws Exception {
         if (configuration.isEnabled()) {
             super.doStart();
+            if (configuration.getConcurrency() > 1) {
+                // sources are fetched in parallel, with a bounded pool, so that one slow source does not delay all the others
+                executor = Executors.newFixedThreadPool(configuration.getConcurrency(), new CustomizableThreadFactory("auto-fetch-page-"));
+            }
             log.info("Auto Fetch service has been initialized with cron [{}]", configuration.getCronTrigger());
             scheduler.schedule(this, new CronTrigger(configuration.getCronTrigger()));
         } else {
@@ -62,10 +71,24 @@ public class ScheduledAutoFetchService extends AbstractService implements Runnab
         }
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
     @Override
     public void run() {
         log.debug("Auto Fetch #{} started at {}", counter.incrementAndGet(), Instant.now());
-        pageService.execAutoFetch(GraviteeContext.getExecutionContext());
+        final ExecutorService fetchExecutor = executor;
+        if (fetchExecutor == null) {
+            pageService.execAutoFetch(GraviteeContext.getExecutionContext());
+        } else {
+            pageService.execAutoFetch(GraviteeContext.getExecutionContext(), fetchExecutor);
+        }
         log.debug("Auto Fetch #{} ended at {}", counter.get(), Instant.now());
     }
 }
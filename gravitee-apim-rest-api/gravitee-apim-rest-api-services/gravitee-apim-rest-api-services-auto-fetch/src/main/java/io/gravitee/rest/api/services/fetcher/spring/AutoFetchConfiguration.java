@@ -35,6 +35,9 @@ public class AutoFetchConfiguration {
     @Value("${services.auto_fetch.enabled:true}")
     private boolean enabled;
 
+    @Value("${services.auto_fetch.concurrency:2}")
+    private int concurrency;
+
     @Bean
     @Qualifier("autoFetchTaskScheduler")
     public TaskScheduler taskScheduler() {
@@ -50,4 +53,8 @@ public class AutoFetchConfiguration {
     public boolean isEnabled() {
         return enabled;
     }
+
+    public int getConcurrency() {
+        return Math.max(1, concurrency);
+    }
 }
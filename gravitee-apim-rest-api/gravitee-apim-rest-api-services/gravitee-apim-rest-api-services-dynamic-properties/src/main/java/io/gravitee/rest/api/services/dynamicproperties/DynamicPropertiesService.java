@@ -36,6 +36,7 @@ import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.converter.ApiConverter;
 import io.gravitee.rest.api.service.event.ApiEvent;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.HttpProvider;
+import io.gravitee.rest.api.services.dynamicproperties.provider.http.SharedHttpResponseCache;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -47,6 +48,8 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
 
     final Map<ApiEntity, DynamicPropertyScheduler> schedulers = new HashMap<>();
 
+    private final SharedHttpResponseCache responseCache = new SharedHttpResponseCache();
+
     @Autowired
     private ClusterManager clusterManager;
 
@@ -128,6 +131,9 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
                     // Configuration has changed. Need to stop the current timer before restarting it.
                     stopDynamicProperties(api);
                     startDynamicProperties(api);
+                } else {
+                    // The API has been deployed with the same configuration, its properties may have been changed by hand.
+                    schedulers.get(currentApi).invalidate();
                 }
             } else {
                 startDynamicProperties(api);
@@ -157,7 +163,7 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
             .executionContext(executionContext)
             .build();
         if (DynamicPropertyProvider.HTTP == dynamicPropertyService.getProvider()) {
-            HttpProvider provider = new HttpProvider(dynamicPropertyService.getConfiguration(), httpClientService, node);
+            HttpProvider provider = new HttpProvider(dynamicPropertyService.getConfiguration(), httpClientService, node, responseCache);
             log.info("{} Add a scheduled task to poll dynamic properties each {}", api.getId(), dynamicPropertyService.getSchedule());
 
             // Force the first refresh, and then run it periodically
@@ -62,6 +62,7 @@ public class DynamicPropertyScheduler {
     private final ApiEntity api;
     private final ExecutionContext executionContext;
     private Disposable disposable;
+    private volatile List<DynamicProperty> lastDynamicProperties;
 
     @Builder
     public DynamicPropertyScheduler(
@@ -92,9 +93,14 @@ public class DynamicPropertyScheduler {
                     .get()
                     .flatMapCompletable(dynamicProperties ->
                         Completable.fromRunnable(() -> {
+                            if (dynamicProperties.equals(lastDynamicProperties)) {
+                                log.debug("[{}] Dynamic properties are unchanged since the last update", api.getId());
+                                return;
+                            }
                             log.debug("[{}] Got {} dynamic properties to update", api.getId(), dynamicProperties.size());
                             authenticateAsAdmin();
                             update(dynamicProperties);
+                            lastDynamicProperties = dynamicProperties;
                         })
                     )
                     .doOnComplete(() -> log.debug("[{}] Dynamic properties updated", api.getId()))
@@ -112,6 +118,14 @@ public class DynamicPropertyScheduler {
             .subscribe(() -> {}, throwable -> log.error("Unable to run Dynamic Properties for Api: {}", api.getId()));
     }
 
+    /**
+     * Forget the last applied dynamic properties so that the next values fetched from the provider are compared again to the API
+     * properties, even if they did not change. To be called when the API has been modified by another way than this scheduler.
+     */
+    public void invalidate() {
+        lastDynamicProperties = null;
+    }
+
     public void cancel() {
         if (disposable != null && !disposable.isDisposed()) {
             disposable.dispose();
@@ -31,6 +31,7 @@ import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
+import io.vertx.rxjava3.core.buffer.Buffer;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
@@ -50,20 +51,38 @@ public class HttpProvider implements Provider {
     private final JoltMapper mapper;
     private final HttpClientService httpClientService;
     private final Node node;
+    private final SharedHttpResponseCache responseCache;
 
     public HttpProvider(
         final DynamicPropertyProviderConfiguration dpConfiguration,
         final HttpClientService httpClientService,
         final Node node
+    ) {
+        this(dpConfiguration, httpClientService, node, new SharedHttpResponseCache());
+    }
+
+    public HttpProvider(
+        final DynamicPropertyProviderConfiguration dpConfiguration,
+        final HttpClientService httpClientService,
+        final Node node,
+        final SharedHttpResponseCache responseCache
     ) {
         this.dpConfiguration = (HttpDynamicPropertyProviderConfiguration) dpConfiguration;
         this.mapper = new JoltMapper(this.dpConfiguration.getSpecification());
         this.httpClientService = httpClientService;
         this.node = node;
+        this.responseCache = responseCache;
     }
 
     @Override
     public Maybe<List<DynamicProperty>> get() {
+        return responseCache
+            .get(dpConfiguration, this::fetch)
+            .observeOn(Schedulers.computation())
+            .map(buffer -> mapper.map(buffer.toString()));
+    }
+
+    private Maybe<Buffer> fetch() {
         return Maybe.defer(() -> {
             URL requestUrl;
             try {
@@ -114,8 +133,6 @@ public class HttpProvider implements Provider {
                 })
                 .filter(response -> response.statusCode() == HttpStatusCode.OK_200)
                 .flatMap(response -> response.rxBody().toMaybe())
-                .observeOn(Schedulers.computation())
-                .map(buffer -> mapper.map(buffer.toString()))
                 .doFinally(httpClient::close);
         });
     }
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties.provider.http;
+
+import io.gravitee.common.http.HttpHeader;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.definition.model.services.dynamicproperty.http.HttpDynamicPropertyProviderConfiguration;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.vertx.rxjava3.core.buffer.Buffer;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Shares the response of a dynamic properties source between all the {@link HttpProvider}s sending the same request.
+ *
+ * <p>
+ *     APIs polling the same source with the same schedule are triggered at the same time. The first provider sends the request and
+ *     the others subscribe to the same in-flight response, which is kept for a short retention after its completion.
+ *     Each provider then applies its own Jolt specification to the shared response.
+ * </p>
+ *
+ * @author GraviteeSource Team
+ */
+public class SharedHttpResponseCache {
+
+    static final long DEFAULT_RETENTION_MILLIS = 500;
+
+    private final ConcurrentMap<RequestKey, SharedResponse> responses = new ConcurrentHashMap<>();
+    private final long retentionMillis;
+
+    public SharedHttpResponseCache() {
+        this(DEFAULT_RETENTION_MILLIS);
+    }
+
+    SharedHttpResponseCache(long retentionMillis) {
+        this.retentionMillis = retentionMillis;
+    }
+
+    /**
+     * Get the response of the request described by the given configuration, sending it only if no identical request is in flight or
+     * has just completed.
+     *
+     * @param configuration the configuration describing the request.
+     * @param request the supplier sending the request, invoked only when the response can't be shared.
+     * @return the shared response, empty if the source did not answer with a usable response.
+     */
+    public Maybe<Buffer> get(HttpDynamicPropertyProviderConfiguration configuration, Supplier<Maybe<Buffer>> request) {
+        return Maybe.defer(() -> {
+            final RequestKey key = RequestKey.of(configuration);
+            return responses.computeIfAbsent(key, k -> new SharedResponse(k, request.get())).response;
+        });
+    }
+
+    int size() {
+        return responses.size();
+    }
+
+    private final class SharedResponse {
+
+        private final Maybe<Buffer> response;
+
+        SharedResponse(RequestKey key, Maybe<Buffer> request) {
+            this.response = request.doFinally(() -> evictAfterRetention(key, this)).cache();
+        }
+    }
+
+    private void evictAfterRetention(RequestKey key, SharedResponse sharedResponse) {
+        Completable.timer(retentionMillis, TimeUnit.MILLISECONDS).subscribe(() -> responses.remove(key, sharedResponse));
+    }
+
+    private record RequestKey(String url, HttpMethod method, List<HttpHeader> headers, String body, boolean useSystemProxy) {
+        static RequestKey of(HttpDynamicPropertyProviderConfiguration configuration) {
+            return new RequestKey(
+                configuration.getUrl(),
+                configuration.getMethod(),
+                configuration.getHeaders() == null ? List.of() : List.copyOf(configuration.getHeaders()),
+                configuration.getBody(),
+                configuration.isUseSystemProxy()
+            );
+        }
+    }
+}
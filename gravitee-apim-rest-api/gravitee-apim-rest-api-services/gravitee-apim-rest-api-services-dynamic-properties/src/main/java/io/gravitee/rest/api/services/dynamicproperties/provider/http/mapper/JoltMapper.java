@@ -43,19 +43,14 @@ public class JoltMapper {
             return List.of();
         }
 
+        final Object json = source.charAt(0) == '[' ? JsonUtils.jsonToList(source) : JsonUtils.jsonToMap(source);
+
         //Default value is equal to the input json value (in case empty jolt specs)
-        String jsonProperties = source;
-        if (chainr != null) {
-            List<?> transformed;
-            if (source.charAt(0) == '[') {
-                transformed = (List<?>) chainr.transform(JsonUtils.jsonToList(source));
-            } else {
-                transformed = (List<?>) chainr.transform(JsonUtils.jsonToMap(source));
-            }
-            jsonProperties = JsonUtils.toJsonString(transformed);
+        final Object transformed = chainr != null ? chainr.transform(json) : json;
+        if (!(transformed instanceof List<?> items)) {
+            throw new IllegalArgumentException("Dynamic properties must be an array of key / value objects");
         }
 
-        List<Object> items = JsonUtils.jsonToList(jsonProperties);
         return items
             .stream()
             .map(item -> {
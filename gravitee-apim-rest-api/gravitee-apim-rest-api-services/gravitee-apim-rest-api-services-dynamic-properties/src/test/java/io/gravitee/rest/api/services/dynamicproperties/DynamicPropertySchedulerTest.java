@@ -17,6 +17,7 @@ package io.gravitee.rest.api.services.dynamicproperties;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
@@ -176,6 +177,34 @@ public class DynamicPropertySchedulerTest {
         verify(apiService, never()).deploy(any(), any(), any(), any(), any());
     }
 
+    @Test
+    public void should_not_reload_api_when_dynamic_properties_are_unchanged() {
+        when(apiService.findById(eq(executionContext), any())).thenReturn(existingApi);
+        when(apiService.isSynchronized(eq(executionContext), any())).thenReturn(true);
+
+        when(provider.get()).thenReturn(Maybe.just(dynamicProperties));
+        dynamicPropertyScheduler.schedule(provider);
+        testScheduler.advanceTimeBy(3000, TimeUnit.MILLISECONDS);
+
+        verify(provider, atLeast(2)).get();
+        verify(apiService, times(1)).findById(eq(executionContext), any());
+        verify(apiService, times(1)).update(eq(executionContext), eq(existingApi.getId()), any(), eq(false), eq(false));
+    }
+
+    @Test
+    public void should_reload_api_when_dynamic_properties_are_unchanged_but_scheduler_invalidated() {
+        when(apiService.findById(eq(executionContext), any())).thenReturn(existingApi);
+        when(apiService.isSynchronized(eq(executionContext), any())).thenReturn(true);
+
+        when(provider.get()).thenReturn(Maybe.just(dynamicProperties));
+        dynamicPropertyScheduler.schedule(provider);
+        testScheduler.advanceTimeBy(1000, TimeUnit.MILLISECONDS);
+        dynamicPropertyScheduler.invalidate();
+        testScheduler.advanceTimeBy(1000, TimeUnit.MILLISECONDS);
+
+        verify(apiService, times(2)).findById(eq(executionContext), any());
+    }
+
     @Test
     public void should_not_update_properties_or_deploy_api_on_secondary_member() {
         Member secondary = spy(new StandaloneMember());
@@ -15,6 +15,8 @@
  */
 package io.gravitee.rest.api.services.dynamicproperties.provider.http;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyString;
@@ -29,6 +31,7 @@ import io.gravitee.definition.model.services.dynamicproperty.DynamicPropertyServ
 import io.gravitee.definition.model.services.dynamicproperty.http.HttpDynamicPropertyProviderConfiguration;
 import io.gravitee.rest.api.service.HttpClientService;
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.VertxExtension;
@@ -70,7 +73,7 @@ public class HttpProviderTest {
     @BeforeEach
     public void setUp(Vertx vertx) {
         providerConfiguration = new HttpDynamicPropertyProviderConfiguration();
-        when(httpClientService.createHttpClient(anyString(), anyBoolean())).thenReturn(vertx.createHttpClient());
+        when(httpClientService.createHttpClient(anyString(), anyBoolean())).thenAnswer(invocation -> vertx.createHttpClient());
     }
 
     @Test
@@ -133,10 +136,65 @@ public class HttpProviderTest {
         provider.get().subscribeOn(Schedulers.io()).test().awaitDone(5, TimeUnit.SECONDS).assertError(UnknownHostException.class);
     }
 
+    @Test
+    public void should_request_source_once_for_providers_sharing_the_same_request() throws IOException {
+        providerConfiguration.setUrl("http://localhost:" + wiremock.getPort() + "/success");
+        providerConfiguration.setSpecification(getSimpleJoltSpecification());
+        providerConfiguration.setMethod(HttpMethod.GET);
+        HttpDynamicPropertyProviderConfiguration otherConfiguration = new HttpDynamicPropertyProviderConfiguration();
+        otherConfiguration.setUrl(providerConfiguration.getUrl());
+        otherConfiguration.setSpecification(getValueAsKeyJoltSpecification());
+        otherConfiguration.setMethod(HttpMethod.GET);
+
+        SharedHttpResponseCache responseCache = new SharedHttpResponseCache();
+        HttpProvider provider = new HttpProvider(providerConfiguration, httpClientService, null, responseCache);
+        HttpProvider otherProvider = new HttpProvider(otherConfiguration, httpClientService, null, responseCache);
+
+        Maybe.zip(provider.get(), otherProvider.get(), List::of)
+            .subscribeOn(Schedulers.io())
+            .test()
+            .awaitDone(5, TimeUnit.SECONDS)
+            .assertValue(results -> {
+                assertThat(results.get(0)).contains(new DynamicProperty("name", "Elysee"));
+                assertThat(results.get(1)).contains(new DynamicProperty("Elysee", "name"));
+                return true;
+            });
+
+        wiremock.verify(1, getRequestedFor(urlEqualTo("/success")));
+    }
+
+    @Test
+    public void should_not_share_response_between_different_requests() throws IOException {
+        providerConfiguration.setUrl("http://localhost:" + wiremock.getPort() + "/success");
+        providerConfiguration.setSpecification(getSimpleJoltSpecification());
+        providerConfiguration.setMethod(HttpMethod.GET);
+        HttpDynamicPropertyProviderConfiguration otherConfiguration = new HttpDynamicPropertyProviderConfiguration();
+        otherConfiguration.setUrl(providerConfiguration.getUrl());
+        otherConfiguration.setSpecification(getSimpleJoltSpecification());
+        otherConfiguration.setMethod(HttpMethod.GET);
+        otherConfiguration.setHeaders(List.of(new HttpHeader("X-Gravitee-Header", "value")));
+
+        SharedHttpResponseCache responseCache = new SharedHttpResponseCache();
+        HttpProvider provider = new HttpProvider(providerConfiguration, httpClientService, null, responseCache);
+        HttpProvider otherProvider = new HttpProvider(otherConfiguration, httpClientService, null, responseCache);
+
+        Maybe.zip(provider.get(), otherProvider.get(), List::of)
+            .subscribeOn(Schedulers.io())
+            .test()
+            .awaitDone(5, TimeUnit.SECONDS)
+            .assertValueCount(1);
+
+        wiremock.verify(2, getRequestedFor(urlEqualTo("/success")));
+    }
+
     private String getSimpleJoltSpecification() throws IOException {
         return IOUtils.toString(this.getClass().getResourceAsStream("/jolt/specification-key-value-simple.json"), Charset.defaultCharset());
     }
 
+    private String getValueAsKeyJoltSpecification() throws IOException {
+        return IOUtils.toString(this.getClass().getResourceAsStream("/jolt/specification-value-as-key.json"), Charset.defaultCharset());
+    }
+
     private void setUpProvider() {
         DynamicPropertyService dynamicPropertyService = new DynamicPropertyService();
         dynamicPropertyService.setProvider(DynamicPropertyProvider.HTTP);
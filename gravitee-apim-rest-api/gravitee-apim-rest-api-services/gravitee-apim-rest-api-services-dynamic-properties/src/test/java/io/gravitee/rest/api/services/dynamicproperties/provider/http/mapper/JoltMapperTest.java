@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.services.dynamicproperties.provider.http.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.gravitee.rest.api.services.dynamicproperties.model.DynamicProperty;
 import java.io.IOException;
@@ -74,6 +75,13 @@ public class JoltMapperTest {
         assertThat(properties).contains(new DynamicProperty("stores_id", "1"));
     }
 
+    @Test
+    public void should_throw_when_properties_are_not_an_array() {
+        mapper = new JoltMapper(null);
+
+        assertThatThrownBy(() -> mapper.map("{\"key\": \"stores_id\", \"value\": \"1\"}")).isInstanceOf(IllegalArgumentException.class);
+    }
+
     private String read(String resource) throws IOException {
         return IOUtils.toString(this.getClass().getResourceAsStream(resource), Charset.defaultCharset());
     }
@@ -20,14 +20,19 @@ import static io.gravitee.apim.core.utils.CollectionUtils.stream;
 import io.gravitee.apim.core.event.use_case.CleanupEventsUseCase;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.node.api.cluster.ClusterManager;
+import io.gravitee.rest.api.model.EnvironmentEntity;
 import io.gravitee.rest.api.service.EnvironmentService;
 import io.gravitee.rest.api.service.OrganizationService;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.CustomLog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.support.CronTrigger;
 
 @CustomLog
@@ -43,6 +48,34 @@ public class ScheduledEventsCleaningService extends AbstractService implements R
     private final int eventsKeep;
     private final boolean enabled;
     private final Duration timeToLive;
+    private final int concurrency;
+
+    private volatile ExecutorService executor;
+
+    public ScheduledEventsCleaningService(
+        CleanupEventsUseCase cleanupEventsUseCase,
+        OrganizationService organizationService,
+        EnvironmentService environmentService,
+        TaskScheduler scheduler,
+        ClusterManager clusterManager,
+        String cronTrigger,
+        int eventsKeep,
+        boolean enabled,
+        long timeToLive
+    ) {
+        this(
+            cleanupEventsUseCase,
+            organizationService,
+            environmentService,
+            scheduler,
+            clusterManager,
+            cronTrigger,
+            eventsKeep,
+            enabled,
+            timeToLive,
+            1
+        );
+    }
 
     @Autowired
     public ScheduledEventsCleaningService(
@@ -54,7 +87,8 @@ public class ScheduledEventsCleaningService extends AbstractService implements R
         @Value("${services.events.cron:@daily}") String cronTrigger,
         @Value("${services.events.keep:5}") int eventsKeep,
         @Value("${services.events.enabled:false}") boolean enabled,
-        @Value("${services.events.timeToLive:30}") long timeToLive
+        @Value("${services.events.timeToLive:30}") long timeToLive,
+        @Value("${services.events.concurrency:2}") int concurrency
     ) {
         this.cleanupEventsUseCase = cleanupEventsUseCase;
         this.organizationService = organizationService;
@@ -65,6 +99,7 @@ public class ScheduledEventsCleaningService extends AbstractService implements R
         this.eventsKeep = eventsKeep;
         this.enabled = enabled;
         this.timeToLive = Duration.ofMinutes(timeToLive);
+        this.concurrency = Math.max(1, concurrency);
     }
 
     @Override
@@ -72,6 +107,10 @@ public class ScheduledEventsCleaningService extends AbstractService implements R
         if (clusterManager.self().primary()) {
             if (enabled) {
                 super.doStart();
+                if (concurrency > 1) {
+                    // Environments are independent from each other, clean them in parallel while bounding the load put on the database
+                    executor = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("events-cleaning-env-"));
+                }
                 log.info("Event cleaner service has been initialized with cron [{}]", cronTrigger);
                 scheduler.schedule(this, new CronTrigger(cronTrigger));
             } else {
@@ -80,19 +119,46 @@ public class ScheduledEventsCleaningService extends AbstractService implements R
         }
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
     @Override
     public void run() {
         var environments = stream(organizationService.findAll())
             .flatMap(o -> stream(environmentService.findByOrganization(o.getId())))
             .toList();
-        for (var environment : environments) {
-            log.info(
-                "Start cleanup environment: {} ({}) from organisation {}",
-                environment.getName(),
-                environment.getId(),
-                environment.getOrganizationId()
-            );
+
+        final ExecutorService cleaningExecutor = executor;
+        if (cleaningExecutor == null || environments.size() <= 1) {
+            environments.forEach(this::cleanup);
+            return;
+        }
+
+        CompletableFuture.allOf(
+            environments
+                .stream()
+                .map(environment -> CompletableFuture.runAsync(() -> cleanup(environment), cleaningExecutor))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+    }
+
+    private void cleanup(EnvironmentEntity environment) {
+        log.info(
+            "Start cleanup environment: {} ({}) from organisation {}",
+            environment.getName(),
+            environment.getId(),
+            environment.getOrganizationId()
+        );
+        try {
             cleanupEventsUseCase.execute(new CleanupEventsUseCase.Input(environment.getId(), eventsKeep, timeToLive));
+        } catch (Exception e) {
+            log.error("Unable to cleanup events of environment: {} ({})", environment.getName(), environment.getId(), e);
         }
     }
 }
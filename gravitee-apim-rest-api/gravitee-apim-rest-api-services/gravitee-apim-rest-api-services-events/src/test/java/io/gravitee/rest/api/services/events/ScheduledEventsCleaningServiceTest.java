@@ -18,15 +18,25 @@ package io.gravitee.rest.api.services.events;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.gravitee.apim.core.event.use_case.CleanupEventsUseCase;
 import io.gravitee.node.api.cluster.ClusterManager;
 import io.gravitee.node.api.cluster.Member;
+import io.gravitee.rest.api.model.EnvironmentEntity;
+import io.gravitee.rest.api.model.OrganizationEntity;
 import io.gravitee.rest.api.service.EnvironmentService;
 import io.gravitee.rest.api.service.OrganizationService;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -341,4 +351,103 @@ class ScheduledEventsCleaningServiceTest {
         // This is verified by the fact that the service starts without throwing exceptions
         assertThat(scheduledEventsCleaningService).isNotNull();
     }
+
+    @Test
+    void should_cleanup_all_environments_in_parallel() throws Exception {
+        // Given
+        givenPrimaryNode();
+        givenEnvironments("env1", "env2", "env3");
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> threads.add(Thread.currentThread().getName())).when(cleanupEventsUseCase).execute(any());
+        scheduledEventsCleaningService = new ScheduledEventsCleaningService(
+            cleanupEventsUseCase,
+            organizationService,
+            environmentService,
+            scheduler,
+            clusterManager,
+            "@daily",
+            5,
+            true,
+            30,
+            2
+        );
+        scheduledEventsCleaningService.doStart();
+
+        // When
+        try {
+            scheduledEventsCleaningService.run();
+        } finally {
+            scheduledEventsCleaningService.doStop();
+        }
+
+        // Then
+        verify(cleanupEventsUseCase).execute(new CleanupEventsUseCase.Input("env1", 5, Duration.ofMinutes(30)));
+        verify(cleanupEventsUseCase).execute(new CleanupEventsUseCase.Input("env2", 5, Duration.ofMinutes(30)));
+        verify(cleanupEventsUseCase).execute(new CleanupEventsUseCase.Input("env3", 5, Duration.ofMinutes(30)));
+        assertThat(threads).isNotEmpty().allMatch(name -> name.startsWith("events-cleaning-env-"));
+    }
+
+    @Test
+    void should_reuse_the_cleaning_pool_across_runs_and_shut_it_down_when_stopped() throws Exception {
+        // Given
+        givenPrimaryNode();
+        givenEnvironments("env1", "env2");
+        scheduledEventsCleaningService = new ScheduledEventsCleaningService(
+            cleanupEventsUseCase,
+            organizationService,
+            environmentService,
+            scheduler,
+            clusterManager,
+            "@daily",
+            5,
+            true,
+            30,
+            2
+        );
+        scheduledEventsCleaningService.doStart();
+        ExecutorService executor = (ExecutorService) ReflectionTestUtils.getField(scheduledEventsCleaningService, "executor");
+
+        // When
+        scheduledEventsCleaningService.run();
+        scheduledEventsCleaningService.run();
+        scheduledEventsCleaningService.doStop();
+
+        // Then
+        verify(cleanupEventsUseCase, times(4)).execute(any());
+        assertThat(executor).isNotNull();
+        assertThat(executor.isShutdown()).isTrue();
+        assertThat(ReflectionTestUtils.getField(scheduledEventsCleaningService, "executor")).isNull();
+    }
+
+    @Test
+    void should_keep_cleaning_other_environments_when_one_fails() {
+        // Given
+        givenEnvironments("env1", "env2", "env3");
+        doThrow(new RuntimeException("error"))
+            .when(cleanupEventsUseCase)
+            .execute(new CleanupEventsUseCase.Input("env1", 5, Duration.ofMinutes(30)));
+
+        // When
+        scheduledEventsCleaningService.run();
+
+        // Then
+        verify(cleanupEventsUseCase, times(3)).execute(any());
+    }
+
+    private void givenPrimaryNode() {
+        Member member = org.mockito.Mockito.mock(Member.class);
+        when(member.primary()).thenReturn(true);
+        when(clusterManager.self()).thenReturn(member);
+    }
+
+    private void givenEnvironments(String... environmentIds) {
+        OrganizationEntity organization = new OrganizationEntity();
+        organization.setId("DEFAULT");
+        when(organizationService.findAll()).thenReturn(List.of(organization));
+        when(environmentService.findByOrganization("DEFAULT")).thenReturn(
+            Arrays.stream(environmentIds)
+                .map(id -> EnvironmentEntity.builder().id(id).name(id).organizationId("DEFAULT").build())
+                .toList()
+        );
+    }
 }
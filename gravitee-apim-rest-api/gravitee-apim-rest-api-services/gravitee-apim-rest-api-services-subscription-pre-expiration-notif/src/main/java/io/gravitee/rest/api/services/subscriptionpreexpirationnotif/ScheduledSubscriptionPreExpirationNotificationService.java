@@ -34,6 +34,7 @@ import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.builder.EmailNotificationBuilder;
 import io.gravitee.rest.api.service.common.GraviteeContext;
 import io.gravitee.rest.api.service.common.ReferenceContext;
+import io.gravitee.rest.api.service.exceptions.UserNotFoundException;
 import io.gravitee.rest.api.service.notification.NotificationParamsBuilder;
 import io.gravitee.rest.api.service.v4.ApiSearchService;
 import io.gravitee.rest.api.service.v4.PlanSearchService;
@@ -42,8 +43,10 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -119,18 +122,23 @@ public class ScheduledSubscriptionPreExpirationNotificationService extends Abstr
         log.debug("Subscription Pre Expiration Notification #{} started at {}", counter.incrementAndGet(), Instant.now().toString());
 
         Instant now = Instant.now();
+        NotificationContext context = new NotificationContext();
 
         notificationDays.forEach(daysToExpiration -> {
-            Set<String> notifiedSubscriptionIds = notifySubscriptionsExpirations(now, daysToExpiration);
-            notifyApiKeysExpirations(now, daysToExpiration, notifiedSubscriptionIds);
+            Set<String> notifiedSubscriptionIds = notifySubscriptionsExpirations(context, now, daysToExpiration);
+            notifyApiKeysExpirations(context, now, daysToExpiration, notifiedSubscriptionIds);
         });
 
         log.debug("Subscription Pre Expiration Notification #{} ended at {}", counter.get(), Instant.now().toString());
     }
 
-    private void notifyApiKeysExpirations(Instant now, Integer daysToExpiration, Set<String> notifiedSubscriptionIds) {
-        Collection<ApiKeyEntity> apiKeyExpirationsToNotify = findApiKeyExpirationsToNotify(now, daysToExpiration);
-        apiKeyExpirationsToNotify
+    private void notifyApiKeysExpirations(
+        NotificationContext context,
+        Instant now,
+        Integer daysToExpiration,
+        Set<String> notifiedSubscriptionIds
+    ) {
+        List<ApiKeyEntity> apiKeysToNotify = findApiKeyExpirationsToNotify(now, daysToExpiration)
             .stream()
             // Remove the ones for which an email has already been sent (could happen in case of restart or concurrent processing with multiple instance of APIM)
             .filter(
@@ -138,10 +146,24 @@ public class ScheduledSubscriptionPreExpirationNotificationService extends Abstr
                     apiKey.getDaysToExpirationOnLastNotification() == null ||
                     apiKey.getDaysToExpirationOnLastNotification() > daysToExpiration
             )
-            .forEach(apiKey -> notifyApiKeyExpiration(daysToExpiration, apiKey, notifiedSubscriptionIds));
+            .toList();
+
+        context.prefetch(
+            apiKeysToNotify
+                .stream()
+                .flatMap(apiKey -> apiKey.getSubscriptions().stream())
+                .filter(subscription -> !notifiedSubscriptionIds.contains(subscription.getId()))
+                .toList()
+        );
+        apiKeysToNotify.forEach(apiKey -> notifyApiKeyExpiration(context, daysToExpiration, apiKey, notifiedSubscriptionIds));
     }
 
-    private void notifyApiKeyExpiration(Integer daysToExpiration, ApiKeyEntity apiKey, Set<String> notifiedSubscriptionIds) {
+    private void notifyApiKeyExpiration(
+        NotificationContext context,
+        Integer daysToExpiration,
+        ApiKeyEntity apiKey,
+        Set<String> notifiedSubscriptionIds
+    ) {
         ApplicationEntity application = apiKey.getApplication();
 
         apiKey
@@ -149,10 +171,10 @@ public class ScheduledSubscriptionPreExpirationNotificationService extends Abstr
             .stream()
             .filter(subscription -> !notifiedSubscriptionIds.contains(subscription.getId()))
             .forEach(subscription -> {
-                GenericApiEntity api = apiSearchService.findGenericById(GraviteeContext.getExecutionContext(), subscription.getApi());
-                GenericPlanEntity plan = planSearchService.findById(GraviteeContext.getExecutionContext(), subscription.getPlan());
+                GenericApiEntity api = context.genericApi(subscription.getApi());
+                GenericPlanEntity plan = context.plan(subscription.getPlan());
 
-                findEmailsToNotify(subscription, application).forEach(email ->
+                findEmailsToNotify(context.subscriberEmail(subscription.getSubscribedBy()), application).forEach(email ->
                     this.sendEmail(email, daysToExpiration, api, plan, application, apiKey)
                 );
             });
@@ -160,28 +182,30 @@ public class ScheduledSubscriptionPreExpirationNotificationService extends Abstr
         apiKeyService.updateDaysToExpirationOnLastNotification(GraviteeContext.getExecutionContext(), apiKey, daysToExpiration);
     }
 
-    private Set<String> notifySubscriptionsExpirations(Instant now, Integer daysToExpiration) {
+    private Set<String> notifySubscriptionsExpirations(NotificationContext context, Instant now, Integer daysToExpiration) {
         Collection<SubscriptionEntity> subscriptionExpirationsToNotify = findSubscriptionExpirationsToNotify(now, daysToExpiration);
 
-        findSubscriptionExpirationsToNotify(now, daysToExpiration)
+        List<SubscriptionEntity> subscriptionsToNotify = subscriptionExpirationsToNotify
             .stream()
             .filter(
                 subscription -> // Remove the ones for which an email has already been sent (could happen in case of restart or concurrent processing with multiple instance of APIM)
                     subscription.getDaysToExpirationOnLastNotification() == null ||
                     subscription.getDaysToExpirationOnLastNotification() > daysToExpiration
             )
-            .forEach(subscription -> notifySubscriptionExpiration(daysToExpiration, subscription));
+            .toList();
+
+        context.prefetch(subscriptionsToNotify);
+        subscriptionsToNotify.forEach(subscription -> notifySubscriptionExpiration(context, daysToExpiration, subscription));
 
         return subscriptionExpirationsToNotify.stream().map(SubscriptionEntity::getId).collect(Collectors.toSet());
     }
 
-    private void notifySubscriptionExpiration(Integer daysToExpiration, SubscriptionEntity subscription) {
-        GenericApiEntity api = apiSearchService.findById(GraviteeContext.getExecutionContext(), subscription.getApi());
-        GenericPlanEntity plan = planSearchService.findById(GraviteeContext.getExecutionContext(), subscription.getPlan());
-
-        ApplicationEntity application = applicationService.findById(GraviteeContext.getExecutionContext(), subscription.getApplication());
+    private void notifySubscriptionExpiration(NotificationContext context, Integer daysToExpiration, SubscriptionEntity subscription) {
+        GenericApiEntity api = context.api(subscription.getApi());
+        GenericPlanEntity plan = context.plan(subscription.getPlan());
+        ApplicationEntity application = context.application(subscription.getApplication());
 
-        findEmailsToNotify(subscription, application).forEach(email ->
+        findEmailsToNotify(context.subscriberEmail(subscription.getSubscribedBy()), application).forEach(email ->
             this.sendEmail(email, daysToExpiration, api, plan, application, null)
         );
 
@@ -239,8 +263,15 @@ public class ScheduledSubscriptionPreExpirationNotificationService extends Abstr
 
     @VisibleForTesting
     Set<String> findEmailsToNotify(SubscriptionEntity subscription, ApplicationEntity application) {
+        return findEmailsToNotify(
+            userService.findById(GraviteeContext.getExecutionContext(), subscription.getSubscribedBy()).getEmail(),
+            application
+        );
+    }
+
+    private Set<String> findEmailsToNotify(String subscriberEmail, ApplicationEntity application) {
         Set<String> emails = new HashSet<>();
-        emails.add(userService.findById(GraviteeContext.getExecutionContext(), subscription.getSubscribedBy()).getEmail());
+        emails.add(subscriberEmail);
         emails.add(application.getPrimaryOwner().getEmail());
 
         // Email can be null, in that case we can't send a notification so just remove it
@@ -268,4 +299,71 @@ public class ScheduledSubscriptionPreExpirationNotificationService extends Abstr
 
         emailService.sendAsyncEmailNotification(GraviteeContext.getExecutionContext(), emailNotification);
     }
+
+    /**
+     * Keeps the APIs, plans, applications and subscriber emails resolved during a run, as they are shared by many of the
+     * subscriptions and API keys to notify, whatever the number of days before their expiration.
+     * Plans and subscribers of a batch of subscriptions are loaded with a single query before the notifications are sent.
+     */
+    private class NotificationContext {
+
+        private final Map<String, GenericApiEntity> apis = new HashMap<>();
+        private final Map<String, GenericApiEntity> genericApis = new HashMap<>();
+        private final Map<String, GenericPlanEntity> plans = new HashMap<>();
+        private final Map<String, ApplicationEntity> applications = new HashMap<>();
+        private final Map<String, String> subscriberEmails = new HashMap<>();
+
+        void prefetch(Collection<SubscriptionEntity> subscriptions) {
+            Set<String> planIds = subscriptions
+                .stream()
+                .map(SubscriptionEntity::getPlan)
+                .filter(planId -> !plans.containsKey(planId))
+                .collect(Collectors.toSet());
+            if (!planIds.isEmpty()) {
+                planSearchService
+                    .findByIdIn(GraviteeContext.getExecutionContext(), planIds)
+                    .forEach(plan -> plans.put(plan.getId(), plan));
+            }
+
+            Set<String> subscriberIds = subscriptions
+                .stream()
+                .map(SubscriptionEntity::getSubscribedBy)
+                .filter(userId -> userId != null && !subscriberEmails.containsKey(userId))
+                .collect(Collectors.toSet());
+            if (!subscriberIds.isEmpty()) {
+                try {
+                    userService
+                        .findByIds(GraviteeContext.getExecutionContext(), subscriberIds, false)
+                        .forEach(user -> subscriberEmails.put(user.getId(), user.getEmail()));
+                } catch (UserNotFoundException e) {
+                    // None of the subscribers exists anymore, they will be looked up one by one
+                }
+            }
+        }
+
+        GenericApiEntity api(String apiId) {
+            return apis.computeIfAbsent(apiId, id -> apiSearchService.findById(GraviteeContext.getExecutionContext(), id));
+        }
+
+        GenericApiEntity genericApi(String apiId) {
+            return genericApis.computeIfAbsent(apiId, id -> apiSearchService.findGenericById(GraviteeContext.getExecutionContext(), id));
+        }
+
+        GenericPlanEntity plan(String planId) {
+            return plans.computeIfAbsent(planId, id -> planSearchService.findById(GraviteeContext.getExecutionContext(), id));
+        }
+
+        ApplicationEntity application(String applicationId) {
+            return applications.computeIfAbsent(applicationId, id ->
+                applicationService.findById(GraviteeContext.getExecutionContext(), id)
+            );
+        }
+
+        String subscriberEmail(String userId) {
+            if (!subscriberEmails.containsKey(userId)) {
+                subscriberEmails.put(userId, userService.findById(GraviteeContext.getExecutionContext(), userId).getEmail());
+            }
+            return subscriberEmails.get(userId);
+        }
+    }
 }
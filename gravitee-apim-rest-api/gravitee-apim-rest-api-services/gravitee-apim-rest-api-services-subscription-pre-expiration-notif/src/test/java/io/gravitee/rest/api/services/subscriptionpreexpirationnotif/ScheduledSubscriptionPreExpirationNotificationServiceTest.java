@@ -22,16 +22,22 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.key.ApiKeyQuery;
 import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
+import io.gravitee.rest.api.model.v4.plan.GenericPlanEntity;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.builder.EmailNotificationBuilder;
 import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.v4.ApiSearchService;
+import io.gravitee.rest.api.service.v4.PlanSearchService;
 import java.time.Instant;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ScheduledSubscriptionPreExpirationNotificationServiceTest {
@@ -51,6 +57,15 @@ public class ScheduledSubscriptionPreExpirationNotificationServiceTest {
     @Mock
     EmailService emailService;
 
+    @Mock
+    ApiSearchService apiSearchService;
+
+    @Mock
+    PlanSearchService planSearchService;
+
+    @Mock
+    ApplicationService applicationService;
+
     @Test
     public void shouldCleanNotificationDays() {
         List<Integer> inputNotificationDays = Arrays.asList(-1, 150, 75, 10, 30, 400, 45);
@@ -193,4 +208,60 @@ public class ScheduledSubscriptionPreExpirationNotificationServiceTest {
             )
         );
     }
+
+    @Test
+    public void shouldLookupSharedEntitiesOnceWhenNotifyingManySubscriptions() {
+        ReflectionTestUtils.setField(service, "notificationDays", List.of(30, 10));
+
+        List<SubscriptionEntity> subscriptions = IntStream.range(0, 5_000)
+            .mapToObj(i -> {
+                SubscriptionEntity subscription = new SubscriptionEntity();
+                subscription.setId("subscription-" + i);
+                subscription.setApi("api");
+                subscription.setPlan("plan");
+                subscription.setApplication("application");
+                subscription.setSubscribedBy("user-" + (i % 10));
+                return subscription;
+            })
+            .toList();
+        when(subscriptionService.search(eq(GraviteeContext.getExecutionContext()), any(SubscriptionQuery.class))).thenReturn(
+            subscriptions
+        );
+        when(apiKeyService.search(eq(GraviteeContext.getExecutionContext()), any(ApiKeyQuery.class))).thenReturn(List.of());
+
+        when(apiSearchService.findById(GraviteeContext.getExecutionContext(), "api")).thenReturn(
+            mock(io.gravitee.rest.api.model.v4.api.ApiEntity.class)
+        );
+        GenericPlanEntity plan = mock(GenericPlanEntity.class);
+        when(plan.getId()).thenReturn("plan");
+        when(planSearchService.findByIdIn(GraviteeContext.getExecutionContext(), Set.of("plan"))).thenReturn(Set.of(plan));
+
+        PrimaryOwnerEntity primaryOwner = mock(PrimaryOwnerEntity.class);
+        when(primaryOwner.getEmail()).thenReturn("primary_owner@gravitee.io");
+        ApplicationEntity application = mock(ApplicationEntity.class);
+        when(application.getPrimaryOwner()).thenReturn(primaryOwner);
+        when(applicationService.findById(GraviteeContext.getExecutionContext(), "application")).thenReturn(application);
+
+        Set<UserEntity> subscribers = IntStream.range(0, 10)
+            .mapToObj(i -> {
+                UserEntity user = new UserEntity();
+                user.setId("user-" + i);
+                user.setEmail("user-" + i + "@gravitee.io");
+                return user;
+            })
+            .collect(Collectors.toSet());
+        when(userService.findByIds(eq(GraviteeContext.getExecutionContext()), anyCollection(), eq(false))).thenReturn(subscribers);
+
+        service.run();
+
+        verify(apiSearchService, times(1)).findById(any(), any());
+        verify(planSearchService, times(1)).findByIdIn(any(), any());
+        verify(planSearchService, never()).findById(any(), any());
+        verify(applicationService, times(1)).findById(any(), any());
+        verify(userService, times(1)).findByIds(any(), anyCollection(), anyBoolean());
+        verify(userService, never()).findById(any(), any());
+        verify(emailService, times(2 * 2 * 5_000)).sendAsyncEmailNotification(eq(GraviteeContext.getExecutionContext()), any());
+        verify(subscriptionService, times(5_000)).updateDaysToExpirationOnLastNotification(any(), eq(30));
+        verify(subscriptionService, times(5_000)).updateDaysToExpirationOnLastNotification(any(), eq(10));
+    }
 }
@@ -38,7 +38,9 @@ import io.gravitee.rest.api.service.converter.ApiConverter;
 import io.gravitee.rest.api.service.v4.PrimaryOwnerService;
 import io.gravitee.rest.api.service.v4.mapper.ApiMapper;
 import java.time.Instant;
+import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ForkJoinPool;
@@ -96,6 +98,14 @@ public class SyncManager {
 
     private long lastRefreshAt = -1;
 
+    /**
+     * Version of the last event applied for each API and dictionary, and last license registered for each organization.
+     * The search window overlaps the previous refresh, these checkpoints allow to skip what has already been processed.
+     */
+    private final Map<String, EventVersion> appliedApiEvents = new ConcurrentHashMap<>();
+    private final Map<String, EventVersion> appliedDictionaryEvents = new ConcurrentHashMap<>();
+    private final Map<String, String> registeredLicenses = new ConcurrentHashMap<>();
+
     public void refresh() {
         log.debug("Synchronization #{} started at {}", counter.incrementAndGet(), Instant.now());
         log.debug("Refreshing state...");
@@ -136,6 +146,9 @@ public class SyncManager {
             .stream()
             .collect(toMap(event -> event.getProperties().get(Event.EventProperties.API_ID.getValue()), event -> event));
 
+        // Ignore the events already applied during a previous refresh
+        apiEvents.entrySet().removeIf(entry -> isAlreadyApplied(appliedApiEvents, entry.getKey(), entry.getValue()));
+
         // Then, compute events
         computeApiEvents(apiEvents);
     }
@@ -152,6 +165,8 @@ public class SyncManager {
             .stream()
             .collect(toMap(event -> event.getProperties().get(Event.EventProperties.DICTIONARY_ID.getValue()), event -> event));
 
+        dictionaryEvents.entrySet().removeIf(entry -> isAlreadyApplied(appliedDictionaryEvents, entry.getKey(), entry.getValue()));
+
         computeDictionaryEvents(dictionaryEvents);
     }
 
@@ -166,10 +181,15 @@ public class SyncManager {
         Page<License> licenses = licenseRepository.findByCriteria(licenseCriteria, null);
         licenses
             .getContent()
+            .stream()
+            .filter(license -> !Objects.equals(license.getLicense(), registeredLicenses.get(license.getReferenceId())))
             .forEach(license -> {
                 try {
                     var orgLicense = licenseFactory.create("ORGANIZATION", license.getReferenceId(), license.getLicense());
                     licenseManager.registerOrganizationLicense(license.getReferenceId(), orgLicense);
+                    if (license.getLicense() != null) {
+                        registeredLicenses.put(license.getReferenceId(), license.getLicense());
+                    }
                 } catch (Exception e) {
                     log.warn("Organization license cannot be registered for [{}].", license.getReferenceId(), e);
                 }
@@ -188,6 +208,7 @@ public class SyncManager {
                 default:
                     break;
             }
+            appliedDictionaryEvents.put(id, EventVersion.of(event));
         });
     }
 
@@ -218,6 +239,7 @@ public class SyncManager {
         switch (apiEvent.getType()) {
             case UNPUBLISH_API, STOP_API: {
                 apiManager.undeploy(apiId);
+                appliedApiEvents.put(apiId, EventVersion.of(apiEvent));
                 break;
             }
             case START_API, PUBLISH_API:
@@ -238,6 +260,7 @@ public class SyncManager {
                             }
                         }
                     }
+                    appliedApiEvents.put(apiId, EventVersion.of(apiEvent));
                 } catch (Exception e) {
                     log.error("Unable to handle event [" + apiEvent.getType() + "]  for API [" + apiId + "]", e);
                 }
@@ -246,4 +269,24 @@ public class SyncManager {
                 break;
         }
     }
+
+    private static boolean isAlreadyApplied(Map<String, EventVersion> appliedEvents, String id, Event event) {
+        EventVersion version = EventVersion.of(event);
+        return version.isIdentified() && version.equals(appliedEvents.get(id));
+    }
+
+    /**
+     * Identifies the version of a latest event. The latest event is keyed by the API or dictionary id, the id of the original event
+     * it has been copied from is kept in its properties and changes each time the API or the dictionary is deployed again.
+     */
+    private record EventVersion(String eventId, EventType type, Date updatedAt) {
+        static EventVersion of(Event event) {
+            String eventId = event.getProperties() != null ? event.getProperties().get(Event.EventProperties.ID.getValue()) : null;
+            return new EventVersion(eventId, event.getType(), event.getUpdatedAt() != null ? event.getUpdatedAt() : event.getCreatedAt());
+        }
+
+        boolean isIdentified() {
+            return eventId != null || updatedAt != null;
+        }
+    }
 }
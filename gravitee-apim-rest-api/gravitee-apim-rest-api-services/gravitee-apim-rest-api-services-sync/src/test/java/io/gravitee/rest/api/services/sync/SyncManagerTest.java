@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.sync;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.node.api.license.License;
+import io.gravitee.node.api.license.LicenseFactory;
+import io.gravitee.node.api.license.LicenseManager;
+import io.gravitee.repository.management.api.EventLatestRepository;
+import io.gravitee.repository.management.api.LicenseRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.EventType;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SyncManagerTest {
+
+    private static final String API_ID = "api#1";
+    private static final String DICTIONARY_ID = "dictionary#1";
+    private static final String ORGANIZATION_ID = "DEFAULT";
+
+    @Mock
+    private EventLatestRepository eventLatestRepository;
+
+    @Mock
+    private LicenseRepository licenseRepository;
+
+    @Mock
+    private ApiManager apiManager;
+
+    @Mock
+    private DictionaryManager dictionaryManager;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private LicenseManager licenseManager;
+
+    @Mock
+    private LicenseFactory licenseFactory;
+
+    @InjectMocks
+    private SyncManager cut;
+
+    @Before
+    public void before() throws Exception {
+        when(licenseRepository.findByCriteria(any(), isNull())).thenReturn(new Page<>(List.of(), 0, 0, 0));
+    }
+
+    @Test
+    public void shouldNotComputeApiEventAlreadyApplied() throws Exception {
+        Event event = apiEvent("event#1", new Date(1000));
+        Api api = api(new Date(1000));
+        when(eventLatestRepository.search(any(), eq(Event.EventProperties.API_ID), isNull(), isNull())).thenReturn(List.of(event));
+        when(objectMapper.readValue(event.getPayload(), Api.class)).thenReturn(api);
+
+        cut.refresh();
+        cut.refresh();
+        cut.refresh();
+
+        verify(objectMapper, times(1)).readValue(event.getPayload(), Api.class);
+        verify(apiManager, times(1)).get(API_ID);
+        verify(apiManager, times(1)).deploy(api);
+    }
+
+    @Test
+    public void shouldComputeNewApiEvent() throws Exception {
+        Event firstEvent = apiEvent("event#1", new Date(1000));
+        Event secondEvent = apiEvent("event#2", new Date(2000));
+        Api firstApi = api(new Date(1000));
+        Api secondApi = api(new Date(2000));
+        when(eventLatestRepository.search(any(), eq(Event.EventProperties.API_ID), isNull(), isNull()))
+            .thenReturn(List.of(firstEvent))
+            .thenReturn(List.of(firstEvent))
+            .thenReturn(List.of(secondEvent));
+        when(objectMapper.readValue(firstEvent.getPayload(), Api.class)).thenReturn(firstApi);
+        when(objectMapper.readValue(secondEvent.getPayload(), Api.class)).thenReturn(secondApi);
+        when(apiManager.get(API_ID)).thenReturn(null).thenReturn(firstApi);
+
+        cut.refresh();
+        cut.refresh();
+        cut.refresh();
+
+        verify(apiManager, times(1)).deploy(firstApi);
+        verify(apiManager, times(1)).update(secondApi);
+    }
+
+    @Test
+    public void shouldRetryApiEventFailedToBeApplied() throws Exception {
+        Event event = apiEvent("event#1", new Date(1000));
+        Api api = api(new Date(1000));
+        when(eventLatestRepository.search(any(), eq(Event.EventProperties.API_ID), isNull(), isNull())).thenReturn(List.of(event));
+        when(objectMapper.readValue(event.getPayload(), Api.class)).thenReturn(api);
+        doThrow(new RuntimeException("error")).doNothing().when(apiManager).deploy(api);
+
+        cut.refresh();
+        cut.refresh();
+        cut.refresh();
+
+        verify(apiManager, times(2)).deploy(api);
+    }
+
+    @Test
+    public void shouldNotComputeDictionaryEventAlreadyApplied() {
+        Event event = new Event();
+        event.setId(DICTIONARY_ID);
+        event.setType(EventType.START_DICTIONARY);
+        event.setUpdatedAt(new Date(1000));
+        event.setProperties(
+            Map.of(Event.EventProperties.DICTIONARY_ID.getValue(), DICTIONARY_ID, Event.EventProperties.ID.getValue(), "event#1")
+        );
+        when(eventLatestRepository.search(any(), eq(Event.EventProperties.DICTIONARY_ID), isNull(), isNull())).thenReturn(List.of(event));
+
+        cut.refresh();
+        cut.refresh();
+
+        verify(dictionaryManager, times(1)).start(DICTIONARY_ID);
+    }
+
+    @Test
+    public void shouldNotRegisterSameLicenseTwice() throws Exception {
+        io.gravitee.repository.management.model.License license = new io.gravitee.repository.management.model.License();
+        license.setReferenceId(ORGANIZATION_ID);
+        license.setReferenceType(io.gravitee.repository.management.model.License.ReferenceType.ORGANIZATION);
+        license.setLicense("license-key");
+        when(licenseRepository.findByCriteria(any(), isNull())).thenReturn(new Page<>(List.of(license), 0, 1, 1));
+        License orgLicense = mock(License.class);
+        when(licenseFactory.create("ORGANIZATION", ORGANIZATION_ID, "license-key")).thenReturn(orgLicense);
+
+        cut.refresh();
+        cut.refresh();
+
+        verify(licenseFactory, times(1)).create("ORGANIZATION", ORGANIZATION_ID, "license-key");
+        verify(licenseManager, times(1)).registerOrganizationLicense(ORGANIZATION_ID, orgLicense);
+    }
+
+    private static Event apiEvent(String eventId, Date updatedAt) {
+        Event event = new Event();
+        event.setId(API_ID);
+        event.setType(EventType.PUBLISH_API);
+        event.setPayload("{\"id\":\"" + API_ID + "\",\"event\":\"" + eventId + "\"}");
+        event.setUpdatedAt(updatedAt);
+        event.setProperties(Map.of(Event.EventProperties.API_ID.getValue(), API_ID, Event.EventProperties.ID.getValue(), eventId));
+        return event;
+    }
+
+    private static Api api(Date deployedAt) {
+        Api api = new Api();
+        api.setId(API_ID);
+        api.setDeployedAt(deployedAt);
+        return api;
+    }
+}
@@ -31,8 +31,8 @@ import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.oas.models.servers.Server;
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.util.*;
 import java.util.Map.Entry;
 import javax.wsdl.*;
@@ -59,13 +59,19 @@ public class WSDLToOpenAPIConverter implements OpenAPIConverter {
 
     @Override
     public OpenAPI toOpenAPI(String content) {
-        return toOpenAPI(new ByteArrayInputStream(content.getBytes()));
+        Objects.requireNonNull(content, "WSDL input source is required");
+        // Read the characters directly instead of encoding a copy of the whole content
+        return toOpenAPI(new InputSource(new StringReader(content)));
     }
 
     @Override
     public OpenAPI toOpenAPI(InputStream stream) {
         Objects.requireNonNull(stream, "WSDL input source is required");
-        this.wsdlDefinition = loadWSDL(stream);
+        return toOpenAPI(new InputSource(stream));
+    }
+
+    private OpenAPI toOpenAPI(InputSource source) {
+        this.wsdlDefinition = loadWSDL(source);
         // create the SoapBuilder with namespaces declared in the Definition element
         // this allows Apache XmlBeans to load additional Namespaces if required to parse the XSDs
         this.soapBuilder = new SoapMessageBuilder(wsdlDefinition.getNamespaces());
@@ -78,11 +84,11 @@ public class WSDLToOpenAPIConverter implements OpenAPIConverter {
         return openAPI;
     }
 
-    private Definition loadWSDL(InputStream stream) {
+    private Definition loadWSDL(InputSource source) {
         try {
             WSDLReaderImpl reader = new GraviteeWSDLReaderImpl();
             reader.setFeature("javax.wsdl.importDocuments", true);
-            return reader.readWSDL(null, new InputSource(stream));
+            return reader.readWSDL(null, source);
         } catch (WSDLException e) {
             log.error("Unable to read WSDL from input stream.", e);
             throw new WsdlDescriptorException("Unable to read WSDL");
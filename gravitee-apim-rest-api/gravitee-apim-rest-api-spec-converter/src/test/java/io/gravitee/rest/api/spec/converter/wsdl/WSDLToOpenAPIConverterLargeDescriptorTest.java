@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.spec.converter.wsdl;
+
+import static org.junit.Assert.*;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class WSDLToOpenAPIConverterLargeDescriptorTest {
+
+    private static final int OPERATIONS = 2_000;
+
+    @Test
+    public void shouldConvertLargeWsdlFromString() {
+        OpenAPI openApi = new WSDLToOpenAPIConverter().toOpenAPI(generateWsdl(OPERATIONS));
+
+        assertNotNull(openApi);
+        assertEquals(OPERATIONS, openApi.getPaths().size());
+        assertNotNull(openApi.getPaths().get("/LargeService/Operation0"));
+        assertNotNull(openApi.getPaths().get("/LargeService/Operation" + (OPERATIONS - 1)));
+    }
+
+    @Test
+    public void shouldKeepNonAsciiCharactersWhenConvertingFromString() {
+        OpenAPI openApi = new WSDLToOpenAPIConverter().toOpenAPI(generateWsdl(1));
+
+        assertEquals("Opération numéro 0", openApi.getPaths().get("/LargeService/Operation0").getPost().getDescription());
+    }
+
+    private static String generateWsdl(int operations) {
+        StringBuilder messages = new StringBuilder();
+        StringBuilder portType = new StringBuilder();
+        StringBuilder binding = new StringBuilder();
+
+        for (int i = 0; i < operations; i++) {
+            messages
+                .append("<message name=\"Operation")
+                .append(i)
+                .append("Input\"><part name=\"value\" type=\"xsd:string\"/></message>")
+                .append("<message name=\"Operation")
+                .append(i)
+                .append("Output\"><part name=\"result\" type=\"xsd:string\"/></message>");
+            portType
+                .append("<operation name=\"Operation")
+                .append(i)
+                .append("\"><documentation>Opération numéro ")
+                .append(i)
+                .append("</documentation><input message=\"tns:Operation")
+                .append(i)
+                .append("Input\"/><output message=\"tns:Operation")
+                .append(i)
+                .append("Output\"/></operation>");
+            binding
+                .append("<operation name=\"Operation")
+                .append(i)
+                .append("\"><soap:operation soapAction=\"http://example.com/Operation")
+                .append(i)
+                .append("\"/><input><soap:body use=\"literal\" namespace=\"http://example.com/large.wsdl\"/></input>")
+                .append("<output><soap:body use=\"literal\" namespace=\"http://example.com/large.wsdl\"/></output></operation>");
+        }
+
+        return (
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+            "<definitions name=\"Large\" targetNamespace=\"http://example.com/large.wsdl\" xmlns:tns=\"http://example.com/large.wsdl\"" +
+            " xmlns:soap=\"http://schemas.xmlsoap.org/wsdl/soap/\" xmlns=\"http://schemas.xmlsoap.org/wsdl/\"" +
+            " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\">" +
+            messages +
+            "<portType name=\"LargePortType\">" +
+            portType +
+            "</portType>" +
+            "<binding name=\"LargeBinding\" type=\"tns:LargePortType\">" +
+            "<soap:binding style=\"rpc\" transport=\"http://schemas.xmlsoap.org/soap/http\"/>" +
+            binding +
+            "</binding>" +
+            "<service name=\"LargeService\"><port name=\"LargePort\" binding=\"tns:LargeBinding\">" +
+            "<soap:address location=\"http://example.com/large\"/></port></service>" +
+            "</definitions>"
+        );
+    }
+}